@@ -31,9 +31,11 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.ElementValueTypeInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
@@ -46,12 +48,25 @@ public class JsonFormat implements Format {
 
     public static final String KEY = "JSON";
     private static final String MIME_TYPE = "application/json";
+    private static final Configuration JSON_PATH_CONFIGURATION = Configuration.defaultConfiguration().addOptions(Option.ALWAYS_RETURN_LIST);
     private final JsonApiSerializer serializer;
     private final JsonApiDeserializer deserializer;
+    private final Map<String, JsonPath> compiledQueries;
 
     public JsonFormat() {
         this.serializer = new JsonApiSerializer();
         this.deserializer = new JsonApiDeserializer();
+        this.compiledQueries = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Gets the compiled JSONPath queries cached by this instance. Only intended for testing.
+     *
+     * @return unmodifiable view of the cached queries
+     */
+    Map<String, JsonPath> getCompiledQueries() {
+        return Collections.unmodifiableMap(compiledQueries);
     }
 
 
@@ -71,49 +86,56 @@ public class JsonFormat implements Format {
         }
         return elements.entrySet().stream().collect(Collectors.toMap(
                 Entry::getKey,
-                LambdaExceptionHelper.rethrowFunction(x -> {
-                    String query = x.getValue().getQuery();
-                    String actualValue = value;
-                    if (!StringUtils.isBlank(query)) {
-                        try {
-                            List<Object> jsonPathResult = JsonPath
-                                    .using(Configuration.defaultConfiguration().addOptions(Option.ALWAYS_RETURN_LIST))
-                                    .parse(value)
-                                    .read(query);
-                            if (jsonPathResult.isEmpty()) {
-                                throw new AssetConnectionException(String.format("JSONPath expression did not return any value (JSON path: %s, JSON: %s)", query, value));
-                            }
-                            if (jsonPathResult.size() > 1) {
-                                throw new AssetConnectionException(String.format("JSONPath expression returned more than one value (JSON path: %s, JSON: %s)", query, value));
-                            }
-                            actualValue = jsonPathResult.get(0).toString();
-                        }
-                        catch (PathNotFoundException e) {
-                            throw new AssetConnectionException(String.format("value addressed by JSONPath not found (JSON path: %s, JSON: %s)", query, value), e);
-                        }
-                        catch (InvalidPathException e) {
-                            throw new AssetConnectionException(String.format("invalid JSONPath (JSON path: %s)", query), e);
-                        }
-                        catch (JsonPathException e) {
-                            throw new AssetConnectionException(String.format("error resolving JSONPath (JSON path: %s, JSON: %s)", query, value), e);
-                        }
-                    }
-                    try {
-                        TypeInfo<?> typeInfo = x.getValue().getTypeInfo();
-                        // if datatype is string, we need to wrap it with additional quotes
-                        if (typeInfo != null
-                                && ElementValueTypeInfo.class.isAssignableFrom(typeInfo.getClass())
-                                && ((ElementValueTypeInfo) typeInfo).getDatatype() == Datatype.STRING
-                                && !actualValue.startsWith("\"")
-                                && !actualValue.endsWith("\"")) {
-                            actualValue = String.format("\"%s\"", actualValue);
-                        }
-                        return deserializer.readValue(actualValue, x.getValue().getTypeInfo());
-                    }
-                    catch (DeserializationException e) {
-                        throw new AssetConnectionException(String.format("JSON deserialization failed (json: %S)", actualValue), e);
-                    }
-                })));
+                LambdaExceptionHelper.rethrowFunction(x -> read(value, x.getValue()))));
+    }
+
+
+    @Override
+    public DataElementValue read(String value, ElementInfo elementInfo) throws AssetConnectionException {
+        if (value == null) {
+            return null;
+        }
+        String query = elementInfo.getQuery();
+        String actualValue = value;
+        if (!StringUtils.isBlank(query)) {
+            try {
+                List<Object> jsonPathResult = JsonPath
+                        .using(JSON_PATH_CONFIGURATION)
+                        .parse(value)
+                        .read(compiledQueries.computeIfAbsent(query, JsonPath::compile));
+                if (jsonPathResult.isEmpty()) {
+                    throw new AssetConnectionException(String.format("JSONPath expression did not return any value (JSON path: %s, JSON: %s)", query, value));
+                }
+                if (jsonPathResult.size() > 1) {
+                    throw new AssetConnectionException(String.format("JSONPath expression returned more than one value (JSON path: %s, JSON: %s)", query, value));
+                }
+                actualValue = jsonPathResult.get(0).toString();
+            }
+            catch (PathNotFoundException e) {
+                throw new AssetConnectionException(String.format("value addressed by JSONPath not found (JSON path: %s, JSON: %s)", query, value), e);
+            }
+            catch (InvalidPathException e) {
+                throw new AssetConnectionException(String.format("invalid JSONPath (JSON path: %s)", query), e);
+            }
+            catch (JsonPathException e) {
+                throw new AssetConnectionException(String.format("error resolving JSONPath (JSON path: %s, JSON: %s)", query, value), e);
+            }
+        }
+        try {
+            TypeInfo<?> typeInfo = elementInfo.getTypeInfo();
+            // if datatype is string, we need to wrap it with additional quotes
+            if (typeInfo != null
+                    && ElementValueTypeInfo.class.isAssignableFrom(typeInfo.getClass())
+                    && ((ElementValueTypeInfo) typeInfo).getDatatype() == Datatype.STRING
+                    && !actualValue.startsWith("\"")
+                    && !actualValue.endsWith("\"")) {
+                actualValue = String.format("\"%s\"", actualValue);
+            }
+            return deserializer.readValue(actualValue, typeInfo);
+        }
+        catch (DeserializationException e) {
+            throw new AssetConnectionException(String.format("JSON deserialization failed (json: %S)", actualValue), e);
+        }
     }
 
 
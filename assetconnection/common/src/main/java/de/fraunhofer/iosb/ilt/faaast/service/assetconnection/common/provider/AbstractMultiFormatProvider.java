@@ -14,6 +14,8 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider;
 
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.Format;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.FormatFactory;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatProviderConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import java.util.Objects;
@@ -27,6 +29,7 @@ import java.util.Objects;
 public abstract class AbstractMultiFormatProvider<T extends MultiFormatProviderConfig> {
 
     protected final T config;
+    private volatile Format format;
 
     protected AbstractMultiFormatProvider(T config) {
         Ensure.requireNonNull(config, "config must be non-null");
@@ -34,6 +37,28 @@ public abstract class AbstractMultiFormatProvider<T extends MultiFormatProviderC
     }
 
 
+    /**
+     * Gets the format used by this provider. The format is instantiated once upon first access and then re-used for
+     * all subsequent values as instantiating a format is expensive, e.g. because it creates new (de-)serializers.
+     *
+     * @return the format
+     * @throws IllegalArgumentException if no matching format can be found for the configured format key
+     */
+    protected Format getFormat() {
+        Format result = format;
+        if (result == null) {
+            synchronized (this) {
+                result = format;
+                if (result == null) {
+                    result = FormatFactory.create(config.getFormat());
+                    format = result;
+                }
+            }
+        }
+        return result;
+    }
+
+
     @Override
     public int hashCode() {
         return Objects.hash(config);
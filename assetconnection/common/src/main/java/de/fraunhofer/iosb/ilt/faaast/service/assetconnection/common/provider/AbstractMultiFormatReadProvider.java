@@ -35,7 +35,7 @@ public abstract class AbstractMultiFormatReadProvider<T extends MultiFormatReadP
 
     @Override
     public DataElementValue getValue() throws AssetConnectionException {
-        return MultiFormatReadWriteHelper.convertForRead(config, getRawValue(), getTypeInfo());
+        return MultiFormatReadWriteHelper.convertForRead(getFormat(), config.getQuery(), getRawValue(), getTypeInfo());
     }
 
 
@@ -16,6 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider;
 
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatReadWriteProviderConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.CompiledTemplate;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.MultiFormatReadWriteHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 
@@ -28,13 +29,16 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 public abstract class AbstractMultiFormatReadWriteProvider<T extends MultiFormatReadWriteProviderConfig> extends AbstractMultiFormatReadProvider<T>
         implements MultiFormatReadWriteProvider {
 
+    private final CompiledTemplate template;
+
     protected AbstractMultiFormatReadWriteProvider(T config) {
         super(config);
+        this.template = MultiFormatReadWriteHelper.compileTemplate(config.getTemplate());
     }
 
 
     @Override
     public void setValue(DataElementValue value) throws AssetConnectionException {
-        setRawValue(MultiFormatReadWriteHelper.convertForWrite(config, value));
+        setRawValue(MultiFormatReadWriteHelper.convertForWrite(getFormat(), template, value));
     }
 }
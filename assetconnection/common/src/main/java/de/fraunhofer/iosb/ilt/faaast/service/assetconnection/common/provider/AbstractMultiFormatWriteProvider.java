@@ -16,6 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider;
 
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatWriteProviderConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.CompiledTemplate;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.MultiFormatReadWriteHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 
@@ -27,13 +28,16 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
  */
 public abstract class AbstractMultiFormatWriteProvider<T extends MultiFormatWriteProviderConfig> extends AbstractMultiFormatProvider<T> implements MultiFormatWriteProvider {
 
+    private final CompiledTemplate template;
+
     protected AbstractMultiFormatWriteProvider(T config) {
         super(config);
+        this.template = MultiFormatReadWriteHelper.compileTemplate(config.getTemplate());
     }
 
 
     @Override
     public void setValue(DataElementValue value) throws AssetConnectionException {
-        setRawValue(MultiFormatReadWriteHelper.convertForWrite(config, value));
+        setRawValue(MultiFormatReadWriteHelper.convertForWrite(getFormat(), template, value));
     }
 }
@@ -18,9 +18,8 @@ import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionExce
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetOperationProvider;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.ElementInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.Format;
-import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.FormatFactory;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatOperationProviderConfig;
-import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.TemplateHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.CompiledTemplate;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
@@ -31,6 +30,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,8 +46,14 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
  */
 public abstract class MultiFormatOperationProvider<T extends MultiFormatOperationProviderConfig> extends AbstractMultiFormatProvider<T> implements AssetOperationProvider {
 
+    private final Map<String, CompiledTemplate> templates;
+
     protected MultiFormatOperationProvider(T config) {
         super(config);
+        this.templates = new ConcurrentHashMap<>();
+        if (config.getTemplate() != null) {
+            templates.put(config.getTemplate(), CompiledTemplate.compile(config.getTemplate()));
+        }
     }
 
 
@@ -62,13 +68,15 @@ public abstract class MultiFormatOperationProvider<T extends MultiFormatOperatio
             throw new AssetConnectionException(String.format("duplicate input/inoutput parameter(s) found - must be either input or inoutput parameter but not both(%s)",
                     String.join(",", duplicateInputParameters)));
         }
-        Format format = FormatFactory.create(config.getFormat());
+        Format format = getFormat();
         // handle inoutput
         Map<String, Object> variableReplacements = Stream.concat(inputParameter.entrySet().stream(), inoutputParameter.entrySet().stream())
                 .collect(Collectors.toMap(
                         Entry::getKey,
                         LambdaExceptionHelper.rethrowFunction(x -> format.write(x.getValue()))));
-        UnaryOperator<String> variableReplacer = x -> TemplateHelper.replace(x, variableReplacements);
+        UnaryOperator<String> variableReplacer = x -> x != null
+                ? templates.computeIfAbsent(x, CompiledTemplate::compile).render(variableReplacements)
+                : null;
         String request = variableReplacer.apply(config.getTemplate());
         String response = new String(invoke(request != null ? request.getBytes() : new byte[0], variableReplacer));
         Map<String, ElementInfo> mapping = Stream.concat(Stream.of(getOutputParameters()), Stream.of(inoutput))
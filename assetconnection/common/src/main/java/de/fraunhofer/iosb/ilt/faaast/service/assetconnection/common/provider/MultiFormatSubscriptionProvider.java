@@ -61,17 +61,7 @@ public abstract class MultiFormatSubscriptionProvider<T extends MultiFormatSubsc
      */
     protected void fireNewDataReceived(byte[] value) {
         try {
-            DataElementValue newValue = MultiFormatReadWriteHelper.convertForRead(config, value, getTypeInfo());
-            synchronized (listeners) {
-                listeners.forEach(x -> {
-                    try {
-                        x.newDataReceived(newValue);
-                    }
-                    catch (Exception e) {
-                        LOGGER.warn("error while calling newDataReceived handler", e);
-                    }
-                });
-            }
+            fireNewDataReceived(convertForRead(value));
         }
         catch (AssetConnectionException e) {
             LOGGER.error("error deserializing message (received message: {})",
@@ -81,6 +71,37 @@ public abstract class MultiFormatSubscriptionProvider<T extends MultiFormatSubsc
     }
 
 
+    /**
+     * Notifies all listeners about new, already deserialized event.
+     *
+     * @param value new data to notify about
+     */
+    protected void fireNewDataReceived(DataElementValue value) {
+        synchronized (listeners) {
+            listeners.forEach(x -> {
+                try {
+                    x.newDataReceived(value);
+                }
+                catch (Exception e) {
+                    LOGGER.warn("error while calling newDataReceived handler", e);
+                }
+            });
+        }
+    }
+
+
+    /**
+     * Converts a raw value received via the underlying protocol to a value of the AAS data model.
+     *
+     * @param value the raw value
+     * @return the converted value
+     * @throws AssetConnectionException if conversion fails
+     */
+    protected DataElementValue convertForRead(byte[] value) throws AssetConnectionException {
+        return MultiFormatReadWriteHelper.convertForRead(getFormat(), config.getQuery(), value, getTypeInfo());
+    }
+
+
     @Override
     public void removeNewDataListener(NewDataListener listener) throws AssetConnectionException {
         listeners.remove(listener);
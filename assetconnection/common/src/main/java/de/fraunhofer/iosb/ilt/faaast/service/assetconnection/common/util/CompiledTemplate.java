@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * A string template containing variables of type ${...} that has been parsed once into a list of literal and variable
+ * segments so that it can be rendered repeatedly in a single pass without using regular expressions.
+ *
+ * <p>Values are inserted literally, i.e. they may contain any character including <i>$</i> and <i>\</i>, and
+ * variables contained in inserted values are not replaced again. Variables for which no value is provided remain
+ * unchanged. Variables with a {@code null} value are replaced by an empty string. An unterminated <i>${</i> is treated
+ * as literal text.
+ */
+public class CompiledTemplate {
+
+    private static final String VARIABLE_START = "${";
+    private static final String VARIABLE_END = "}";
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+    private static final Object MISSING = new Object();
+    private final String source;
+    private final String[] segments;
+    private final boolean[] isVariable;
+    private final int literalLength;
+    private final int variableCount;
+
+    private CompiledTemplate(String source, String[] segments, boolean[] isVariable, int literalLength, int variableCount) {
+        this.source = source;
+        this.segments = segments;
+        this.isVariable = isVariable;
+        this.literalLength = literalLength;
+        this.variableCount = variableCount;
+    }
+
+
+    /**
+     * Parses a template.
+     *
+     * @param template the template to parse
+     * @return the compiled template
+     * @throws IllegalArgumentException if template is null
+     */
+    public static CompiledTemplate compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("template must be non-null");
+        }
+        List<String> segments = new ArrayList<>();
+        List<Boolean> isVariable = new ArrayList<>();
+        int literalLength = 0;
+        int position = 0;
+        while (position < template.length()) {
+            int start = template.indexOf(VARIABLE_START, position);
+            int end = start < 0 ? -1 : template.indexOf(VARIABLE_END, start + VARIABLE_START.length());
+            if (end < 0) {
+                break;
+            }
+            if (start > position) {
+                segments.add(template.substring(position, start));
+                isVariable.add(false);
+                literalLength += start - position;
+            }
+            segments.add(template.substring(start + VARIABLE_START.length(), end));
+            isVariable.add(true);
+            position = end + VARIABLE_END.length();
+        }
+        if (position < template.length()) {
+            segments.add(template.substring(position));
+            isVariable.add(false);
+            literalLength += template.length() - position;
+        }
+        boolean[] variableFlags = new boolean[isVariable.size()];
+        int variableCount = 0;
+        for (int i = 0; i < variableFlags.length; i++) {
+            variableFlags[i] = isVariable.get(i);
+            if (variableFlags[i]) {
+                variableCount++;
+            }
+        }
+        return new CompiledTemplate(template, segments.toArray(String[]::new), variableFlags, literalLength, variableCount);
+    }
+
+
+    /**
+     * Renders the template by replacing all variables with the corresponding values.
+     *
+     * @param values the values to insert, the key being the variable name without ${...}
+     * @return the rendered template
+     */
+    public String render(Map<String, ?> values) {
+        if (values == null || values.isEmpty()) {
+            return source;
+        }
+        return render(x -> values.containsKey(x) ? values.get(x) : MISSING);
+    }
+
+
+    /**
+     * Renders the template by replacing a single variable. This avoids creating a map when there is only one value.
+     *
+     * @param name the name of the variable without ${...}
+     * @param value the value to insert
+     * @return the rendered template
+     */
+    public String render(String name, Object value) {
+        return render(x -> Objects.equals(name, x) ? value : MISSING);
+    }
+
+
+    private String render(Function<String, Object> resolver) {
+        if (variableCount == 0) {
+            return source;
+        }
+        if (segments.length == 1) {
+            Object value = resolver.apply(segments[0]);
+            return value != MISSING ? Objects.toString(value, "") : source;
+        }
+        StringBuilder result = new StringBuilder(literalLength + variableCount * ESTIMATED_VALUE_LENGTH);
+        for (int i = 0; i < segments.length; i++) {
+            if (!isVariable[i]) {
+                result.append(segments[i]);
+                continue;
+            }
+            Object value = resolver.apply(segments[i]);
+            if (value == MISSING) {
+                result.append(VARIABLE_START).append(segments[i]).append(VARIABLE_END);
+            }
+            else if (value != null) {
+                result.append(value);
+            }
+        }
+        return result.toString();
+    }
+
+
+    public String getSource() {
+        return source;
+    }
+
+
+    /**
+     * Checks if the template contains any variables.
+     *
+     * @return true if the template contains at least one variable, otherwise false
+     */
+    public boolean hasVariables() {
+        return variableCount > 0;
+    }
+}
@@ -15,13 +15,13 @@
 package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util;
 
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.Format;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.FormatFactory;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatReadProviderConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatWriteProviderConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
-import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 
 
@@ -31,6 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 public class MultiFormatReadWriteHelper {
 
     public static final String DEFAULT_TEMPLATE = "${value}";
+    private static final String VARIABLE_VALUE = "value";
 
     private MultiFormatReadWriteHelper() {}
 
@@ -45,9 +46,24 @@ public class MultiFormatReadWriteHelper {
      * @throws AssetConnectionException if conversion fails
      */
     public static DataElementValue convertForRead(MultiFormatReadProviderConfig config, byte[] value, TypeInfo<?> typeinfo) throws AssetConnectionException {
-        return FormatFactory
-                .create(config.getFormat())
-                .read(new String(value), config.getQuery(), typeinfo);
+        return convertForRead(FormatFactory.create(config.getFormat()), config.getQuery(), value, typeinfo);
+    }
+
+
+    /**
+     * Converts byte[] value to AAS data model using an already instantiated format. This should be preferred over
+     * {@link #convertForRead(MultiFormatReadProviderConfig, byte[], TypeInfo)} when converting multiple values as the
+     * format is not re-created for each value.
+     *
+     * @param format the format to use
+     * @param query the query to apply, may be null
+     * @param value the value, typically raw payload received by transport protocol
+     * @param typeinfo type information about target AAS type
+     * @return value converted to AAS value
+     * @throws AssetConnectionException if conversion fails
+     */
+    public static DataElementValue convertForRead(Format format, String query, byte[] value, TypeInfo<?> typeinfo) throws AssetConnectionException {
+        return format.read(new String(value), query, typeinfo);
     }
 
 
@@ -60,17 +76,58 @@ public class MultiFormatReadWriteHelper {
      * @throws AssetConnectionException if conversion fails
      */
     public static byte[] convertForWrite(MultiFormatWriteProviderConfig config, DataElementValue value) throws AssetConnectionException {
+        return convertForWrite(FormatFactory.create(config.getFormat()), config.getTemplate(), value);
+    }
+
+
+    /**
+     * Converts AAS value to byte[] using an already instantiated format. This should be preferred over
+     * {@link #convertForWrite(MultiFormatWriteProviderConfig, DataElementValue)} when converting multiple values as the
+     * format is not re-created for each value.
+     *
+     * @param format the format to use
+     * @param template the template to embed the value in, if blank {@link #DEFAULT_TEMPLATE} is used
+     * @param value the value to convert
+     * @return value as byte[]
+     * @throws AssetConnectionException if conversion fails
+     */
+    public static byte[] convertForWrite(Format format, String template, DataElementValue value) throws AssetConnectionException {
+        return convertForWrite(format, compileTemplate(template), value);
+    }
+
+
+    /**
+     * Converts AAS value to byte[] using an already instantiated format and an already compiled template. This should
+     * be preferred when converting multiple values as the template is not parsed again for each value.
+     *
+     * @param format the format to use
+     * @param template the compiled template to embed the value in, if null {@link #DEFAULT_TEMPLATE} is used
+     * @param value the value to convert
+     * @return value as byte[]
+     * @throws AssetConnectionException if conversion fails
+     */
+    public static byte[] convertForWrite(Format format, CompiledTemplate template, DataElementValue value) throws AssetConnectionException {
         if (!(value instanceof PropertyValue)) {
             throw new AssetConnectionException(String.format("unsupported value (%s)", value.getClass().getSimpleName()));
         }
-        return TemplateHelper.replace(
-                StringUtils.isBlank(config.getTemplate())
-                        ? DEFAULT_TEMPLATE
-                        : config.getTemplate(),
-                Map.of("value",
-                        FormatFactory
-                                .create(config.getFormat())
-                                .write(value)))
-                .getBytes();
+        String serializedValue = format.write(value);
+        if (template == null) {
+            return serializedValue.getBytes();
+        }
+        return template.render(VARIABLE_VALUE, serializedValue).getBytes();
+    }
+
+
+    /**
+     * Compiles a template used for writing values.
+     *
+     * @param template the template
+     * @return the compiled template, or null if template is blank or equal to {@link #DEFAULT_TEMPLATE}
+     */
+    public static CompiledTemplate compileTemplate(String template) {
+        if (StringUtils.isBlank(template) || DEFAULT_TEMPLATE.equals(template)) {
+            return null;
+        }
+        return CompiledTemplate.compile(template);
     }
 }
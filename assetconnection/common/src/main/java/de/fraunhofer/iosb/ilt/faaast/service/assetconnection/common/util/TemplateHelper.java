@@ -15,16 +15,14 @@
 package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util;
 
 import java.util.Map;
-import java.util.Objects;
 
 
 /**
- * Helper to replace variables of type ${...} in strings.
+ * Helper to replace variables of type ${...} in strings. When the same template is used repeatedly, it should be
+ * compiled once using {@link CompiledTemplate#compile(String)} instead.
  */
 public class TemplateHelper {
 
-    private static final String KEY_TEMPLATE = "\\$\\{%s\\}";
-
     private TemplateHelper() {}
 
 
@@ -34,14 +32,12 @@ public class TemplateHelper {
      *
      * @param template the template to replace values in
      * @param values the values to replace
-     * @return {@code template} with replaced values
+     * @return {@code template} with replaced values, or null if {@code template} is null
      */
     public static String replace(String template, Map<String, Object> values) {
-        return values.entrySet().stream()
-                .reduce(template,
-                        (temp, element) -> temp.replaceAll(
-                                String.format(KEY_TEMPLATE, element.getKey()),
-                                Objects.toString(element.getValue())),
-                        (x, y) -> y);
+        if (template == null) {
+            return null;
+        }
+        return CompiledTemplate.compile(template).render(values);
     }
 }
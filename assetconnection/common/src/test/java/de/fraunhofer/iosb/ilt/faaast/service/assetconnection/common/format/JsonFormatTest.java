@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format;
+
+import com.jayway.jsonpath.JsonPath;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.ElementInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.StringValue;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.ElementValueTypeInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class JsonFormatTest {
+
+    private static final TypeInfo<?> TYPE_INT = ElementValueTypeInfo.builder()
+            .datatype(Datatype.INT)
+            .type(PropertyValue.class)
+            .build();
+
+    private static final TypeInfo<?> TYPE_STRING = ElementValueTypeInfo.builder()
+            .datatype(Datatype.STRING)
+            .type(PropertyValue.class)
+            .build();
+
+    @Test
+    public void testCompiledQueryReusedAcrossValues() throws AssetConnectionException {
+        JsonFormat format = new JsonFormat();
+        Assert.assertEquals(new PropertyValue(new IntValue(1)), format.read("{\"a\": 1}", ElementInfo.of("$.a", TYPE_INT)));
+        JsonPath compiled = format.getCompiledQueries().get("$.a");
+        Assert.assertNotNull(compiled);
+        Assert.assertEquals(new PropertyValue(new IntValue(2)), format.read("{\"a\": 2}", ElementInfo.of("$.a", TYPE_INT)));
+        Assert.assertSame(compiled, format.getCompiledQueries().get("$.a"));
+        Assert.assertEquals(1, format.getCompiledQueries().size());
+    }
+
+
+    @Test
+    public void testCompiledQueriesDistinctPerQuery() throws AssetConnectionException {
+        JsonFormat format = new JsonFormat();
+        String json = "{\"a\": 1, \"b\": {\"c\": \"foo\"}}";
+        Map<String, PropertyValue> expected = Map.of(
+                "a", new PropertyValue(new IntValue(1)),
+                "c", new PropertyValue(new StringValue("foo")));
+        Map<String, ElementInfo> elements = Map.of(
+                "a", ElementInfo.of("$.a", TYPE_INT),
+                "c", ElementInfo.of("$.b.c", TYPE_STRING));
+        Assert.assertEquals(expected, format.read(json, elements));
+        Assert.assertEquals(expected, format.read(json, elements));
+        Assert.assertEquals(2, format.getCompiledQueries().size());
+        Assert.assertNotSame(format.getCompiledQueries().get("$.a"), format.getCompiledQueries().get("$.b.c"));
+        Assert.assertEquals(new PropertyValue(new StringValue("foo")), format.read(json, ElementInfo.of("$.b.c", TYPE_STRING)));
+        Assert.assertEquals(new PropertyValue(new IntValue(1)), format.read(json, ElementInfo.of("$.a", TYPE_INT)));
+    }
+
+
+    @Test
+    public void testInvalidQueryNotCached() {
+        JsonFormat format = new JsonFormat();
+        Assert.assertThrows(AssetConnectionException.class, () -> format.read("{\"a\": 1}", ElementInfo.of("$.[", TYPE_INT)));
+        Assert.assertTrue(format.getCompiledQueries().isEmpty());
+    }
+}
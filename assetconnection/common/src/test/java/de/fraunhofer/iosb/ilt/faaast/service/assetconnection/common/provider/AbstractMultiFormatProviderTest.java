@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider;
+
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.Format;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.JsonFormat;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.config.MultiFormatProviderConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class AbstractMultiFormatProviderTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testFormatCreatedOnce() {
+        TestProvider provider = new TestProvider(JsonFormat.KEY);
+        Format format = provider.getFormat();
+        Assert.assertTrue(format instanceof JsonFormat);
+        Assert.assertSame(format, provider.getFormat());
+    }
+
+
+    @Test
+    public void testFormatNotSharedBetweenProviders() {
+        Assert.assertNotSame(new TestProvider(JsonFormat.KEY).getFormat(), new TestProvider(JsonFormat.KEY).getFormat());
+    }
+
+
+    @Test
+    public void testFormatCreatedOnceWhenAccessedConcurrently() throws Exception {
+        TestProvider provider = new TestProvider(JsonFormat.KEY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Format>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                start.await();
+                return provider.getFormat();
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Format>> futures = new ArrayList<>();
+            for (Callable<Format> task: tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            Format expected = futures.get(0).get();
+            for (Future<Format> future: futures) {
+                Assert.assertSame(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testUnsupportedFormatNotCached() {
+        TestProvider provider = new TestProvider("unsupported");
+        Assert.assertThrows(IllegalArgumentException.class, provider::getFormat);
+        provider.config.setFormat(JsonFormat.KEY);
+        Assert.assertTrue(provider.getFormat() instanceof JsonFormat);
+    }
+
+    private static class TestProvider extends AbstractMultiFormatProvider<TestConfig> {
+
+        private TestProvider(String format) {
+            super(new TestConfig(format));
+        }
+    }
+
+    private static class TestConfig implements MultiFormatProviderConfig {
+
+        private String format;
+
+        private TestConfig(String format) {
+            this.format = format;
+        }
+
+
+        @Override
+        public String getFormat() {
+            return format;
+        }
+
+
+        @Override
+        public void setFormat(String format) {
+            this.format = format;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testMultipleVariables() {
+        CompiledTemplate template = CompiledTemplate.compile("{\"a\": ${a}, \"b\": \"${b}\"}");
+        Assert.assertTrue(template.hasVariables());
+        Assert.assertEquals("{\"a\": 1, \"b\": \"foo\"}", template.render(Map.of("a", 1, "b", "foo")));
+    }
+
+
+    @Test
+    public void testValueWithDollarAndBackslash() {
+        CompiledTemplate template = CompiledTemplate.compile("before ${value} after");
+        Assert.assertEquals("before $1 \\ \\$ $ after", template.render("value", "$1 \\ \\$ $"));
+        Assert.assertEquals("before $1 \\ \\$ $ after", template.render(Map.of("value", "$1 \\ \\$ $")));
+    }
+
+
+    @Test
+    public void testUnknownVariableLeftIntact() {
+        CompiledTemplate template = CompiledTemplate.compile("${known}-${unknown}");
+        Assert.assertEquals("1-${unknown}", template.render(Map.of("known", 1)));
+        Assert.assertEquals("1-${unknown}", template.render("known", 1));
+        Assert.assertEquals("${known}-${unknown}", template.render("other", 1));
+    }
+
+
+    @Test
+    public void testUnterminatedVariable() {
+        Assert.assertEquals("foo ${bar", CompiledTemplate.compile("foo ${bar").render("bar", 1));
+        Assert.assertEquals("1 ${bar", CompiledTemplate.compile("${foo} ${bar").render(Map.of("foo", 1, "bar", 2)));
+        Assert.assertFalse(CompiledTemplate.compile("${").hasVariables());
+    }
+
+
+    @Test
+    public void testValueContainingVariableNotReplacedAgain() {
+        CompiledTemplate template = CompiledTemplate.compile("${a}|${b}");
+        Assert.assertEquals("${b}|x", template.render(Map.of("a", "${b}", "b", "x")));
+        Assert.assertEquals("${a}|${b}", template.render("a", "${a}"));
+    }
+
+
+    @Test
+    public void testSingleVariableOnly() {
+        CompiledTemplate template = CompiledTemplate.compile("${value}");
+        Assert.assertTrue(template.hasVariables());
+        Assert.assertEquals("42", template.render("value", 42));
+        Assert.assertEquals("42", template.render(Map.of("value", 42)));
+        Assert.assertEquals("${value}", template.render("other", 42));
+        Assert.assertEquals("${value}", template.render(Map.of()));
+    }
+
+
+    @Test
+    public void testNullValueRenderedAsEmpty() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("value", null);
+        Assert.assertEquals("[]", CompiledTemplate.compile("[${value}]").render(values));
+        Assert.assertEquals("[]", CompiledTemplate.compile("[${value}]").render("value", null));
+        Assert.assertEquals("", CompiledTemplate.compile("${value}").render(values));
+        Assert.assertEquals("", CompiledTemplate.compile("${value}").render("value", null));
+    }
+
+
+    @Test
+    public void testWithoutVariables() {
+        CompiledTemplate template = CompiledTemplate.compile("no variables here");
+        Assert.assertFalse(template.hasVariables());
+        Assert.assertEquals("no variables here", template.render(Map.of("value", 1)));
+        Assert.assertEquals("no variables here", template.getSource());
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTemplate() {
+        CompiledTemplate.compile(null);
+    }
+}
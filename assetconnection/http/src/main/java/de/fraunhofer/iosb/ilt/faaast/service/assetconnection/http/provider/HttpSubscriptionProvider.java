@@ -17,7 +17,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.assetconnection.http.provider;
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.provider.MultiFormatSubscriptionProvider;
-import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.util.MultiFormatReadWriteHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.http.HttpAssetConnectionConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.http.provider.config.HttpSubscriptionProviderConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.http.util.HttpHelper;
@@ -123,10 +122,10 @@ public class HttpSubscriptionProvider extends MultiFormatSubscriptionProvider<Ht
     @Override
     protected void fireNewDataReceived(byte[] value) {
         try {
-            DataElementValue newValue = MultiFormatReadWriteHelper.convertForRead(config, value, getTypeInfo());
+            DataElementValue newValue = convertForRead(value);
             if (lastValue.isEmpty() || !Objects.equals(lastValue.get(), newValue)) {
                 lastValue = Optional.ofNullable(newValue);
-                super.fireNewDataReceived(value);
+                fireNewDataReceived(newValue);
             }
         }
         catch (AssetConnectionException e) {
@@ -26,6 +26,7 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +37,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class HttpHelper {
 
+    private static final Map<String, String> MIME_TYPES = new ConcurrentHashMap<>();
+
     private HttpHelper() {}
 
 
@@ -99,7 +102,7 @@ public class HttpHelper {
         Ensure.requireNonNull(method, "method must be non-null");
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(new URL(baseUrl, path).toURI());
-        String mimeType = FormatFactory.create(format).getMimeType();
+        String mimeType = MIME_TYPES.computeIfAbsent(format, x -> Objects.toString(FormatFactory.create(x).getMimeType(), ""));
         if (!StringUtils.isBlank(mimeType)) {
             builder = builder.header(HttpConstants.CONTENT_TYPE, mimeType);
         }
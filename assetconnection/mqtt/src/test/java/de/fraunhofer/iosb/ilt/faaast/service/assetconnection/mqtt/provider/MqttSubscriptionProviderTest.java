@@ -30,6 +30,7 @@ public class MqttSubscriptionProviderTest {
         MqttClient client2 = new MqttClient("tcp://bar.org", UUID.randomUUID().toString(), new MemoryPersistence());
         EqualsVerifier.simple().forClass(MqttSubscriptionProvider.class)
                 .withPrefabValues(MqttClient.class, client1, client2)
+                .withIgnoredFields("format")
                 .verify();
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.benchmark;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt.CborEventCodec;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt.EventCodec;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt.JsonEventCodec;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks encoding and decoding of message bus events with the available {@link EventCodec}s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    @Param({
+            "JSON",
+            "CBOR"
+    })
+    private String codecName;
+    private EventCodec codec;
+    private ValueChangeEventMessage message;
+    private byte[] encoded;
+
+    /**
+     * Creates the codec and the event used by the benchmarks.
+     *
+     * @throws SerializationException if encoding the event fails
+     */
+    @Setup
+    public void setup() throws SerializationException {
+        codec = "CBOR".equals(codecName)
+                ? new CborEventCodec()
+                : new JsonEventCodec();
+        message = ValueChangeEventMessage.builder()
+                .element(ReferenceBuilder.forSubmodel("http://example.org/submodel", "collection", "property"))
+                .oldValue(new PropertyValue(new IntValue(41)))
+                .newValue(new PropertyValue(new IntValue(42)))
+                .build();
+        encoded = codec.encode(message);
+    }
+
+
+    /**
+     * Encodes an event.
+     *
+     * @return the encoded event
+     * @throws SerializationException if encoding the event fails
+     */
+    @Benchmark
+    public byte[] encode() throws SerializationException {
+        return codec.encode(message);
+    }
+
+
+    /**
+     * Decodes an event.
+     *
+     * @return the decoded event
+     * @throws DeserializationException if decoding the event fails
+     */
+    @Benchmark
+    public ValueChangeEventMessage decode() throws DeserializationException {
+        return codec.decode(encoded, ValueChangeEventMessage.class);
+    }
+}
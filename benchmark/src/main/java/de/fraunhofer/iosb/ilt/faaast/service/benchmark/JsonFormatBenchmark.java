@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.benchmark;
+
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.ElementInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.common.format.JsonFormat;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.ElementValueTypeInfo;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks reading values from JSON payloads of asset connections using JSONPath queries. The format instance is
+ * re-used as done by the providers, i.e. compiled queries are cached.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonFormatBenchmark {
+
+    private static final String PAYLOAD = "{\"sensor\": {\"temperature\": 21.5, \"humidity\": 40, \"name\": \"foo\"}}";
+    private JsonFormat format;
+    private ElementInfo singleElement;
+    private Map<String, ElementInfo> multipleElements;
+
+    /**
+     * Creates the format and the element infos used by the benchmarks.
+     */
+    @Setup
+    public void setup() {
+        format = new JsonFormat();
+        singleElement = ElementInfo.of("$.sensor.temperature", typeInfo(Datatype.DOUBLE));
+        multipleElements = Map.of(
+                "temperature", ElementInfo.of("$.sensor.temperature", typeInfo(Datatype.DOUBLE)),
+                "humidity", ElementInfo.of("$.sensor.humidity", typeInfo(Datatype.INT)),
+                "name", ElementInfo.of("$.sensor.name", typeInfo(Datatype.STRING)));
+    }
+
+
+    private static ElementValueTypeInfo typeInfo(Datatype datatype) {
+        return ElementValueTypeInfo.builder()
+                .type(PropertyValue.class)
+                .datatype(datatype)
+                .build();
+    }
+
+
+    /**
+     * Reads a single value from a JSON payload.
+     *
+     * @return the value
+     * @throws AssetConnectionException if reading the value fails
+     */
+    @Benchmark
+    public DataElementValue readSingleValue() throws AssetConnectionException {
+        return format.read(PAYLOAD, singleElement);
+    }
+
+
+    /**
+     * Reads multiple values from a JSON payload.
+     *
+     * @return the values
+     * @throws AssetConnectionException if reading the values fails
+     */
+    @Benchmark
+    public Map<String, DataElementValue> readMultipleValues() throws AssetConnectionException {
+        return format.read(PAYLOAD, multipleElements);
+    }
+}
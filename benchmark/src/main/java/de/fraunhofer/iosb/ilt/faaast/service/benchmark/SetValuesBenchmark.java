@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.benchmark;
+
+import de.fraunhofer.iosb.ilt.faaast.service.Service;
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.config.ServiceConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.EndpointException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
+import de.fraunhofer.iosb.ilt.faaast.service.filestorage.memory.FileStorageInMemoryConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.internal.MessageBusInternalConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.SetSubmodelElementValueByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.memory.PersistenceInMemoryConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks applying values received from assets, i.e. setting the values of many properties at once. Compares
+ * {@link Service#setValues(Map)} used by asset subscriptions with executing a
+ * {@link SetSubmodelElementValueByPathRequest} per property as a batch. Scores are value updates per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetValuesBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String SUBMODEL_ID = "http://example.org/submodel/benchmark";
+    private Service service;
+    private Map<Reference, ElementValue> values;
+    private List<Request<? extends Response>> requests;
+
+    /**
+     * Starts a service with a submodel containing {@link #BATCH_SIZE} properties and creates the values to set.
+     *
+     * @throws ConfigurationException if configuring the service fails
+     * @throws AssetConnectionException if configuring the service fails
+     * @throws MessageBusException if starting the service fails
+     * @throws EndpointException if starting the service fails
+     */
+    @Setup
+    public void setup() throws ConfigurationException, AssetConnectionException, MessageBusException, EndpointException {
+        Submodel submodel = new DefaultSubmodel.Builder()
+                .id(SUBMODEL_ID)
+                .idShort("benchmark")
+                .build();
+        values = new LinkedHashMap<>();
+        requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String idShort = "property" + i;
+            submodel.getSubmodelElements().add(new DefaultProperty.Builder()
+                    .idShort(idShort)
+                    .valueType(DataTypeDefXsd.INT)
+                    .value("0")
+                    .build());
+            Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, idShort);
+            PropertyValue value = new PropertyValue(new IntValue(i));
+            values.put(reference, value);
+            requests.add(SetSubmodelElementValueByPathRequest.builder()
+                    .submodelId(SUBMODEL_ID)
+                    .path(ReferenceHelper.toPath(reference))
+                    .disableSyncWithAsset()
+                    .value(value)
+                    .build());
+        }
+        service = new Service(ServiceConfig.builder()
+                .core(CoreConfig.DEFAULT)
+                .persistence(PersistenceInMemoryConfig.builder()
+                        .initialModel(new DefaultEnvironment.Builder()
+                                .submodels(submodel)
+                                .build())
+                        .build())
+                .fileStorage(new FileStorageInMemoryConfig())
+                .messageBus(new MessageBusInternalConfig())
+                .build());
+        service.start();
+    }
+
+
+    /**
+     * Stops the service.
+     */
+    @TearDown
+    public void tearDown() {
+        service.stop();
+    }
+
+
+    /**
+     * Sets all values at once via {@link Service#setValues(Map)}.
+     *
+     * @return the elements that could not be updated
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<Reference, Result> setValues() {
+        return service.setValues(values);
+    }
+
+
+    /**
+     * Sets all values by executing a request per value as a batch.
+     *
+     * @return the responses
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Response> executeBatch() {
+        return service.executeBatch(requests, false);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.benchmark;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValueFactory;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.StringValue;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks creating, converting and comparing values of {@code model.value.primitive}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypedValueBenchmark {
+
+    private static final Map<Datatype, String> VALUES = Map.of(
+            Datatype.INT, "42",
+            Datatype.LONG, "1234567890123",
+            Datatype.DOUBLE, "3.14159",
+            Datatype.BOOLEAN, "true",
+            Datatype.STRING, "foo");
+
+    @Param({
+            "INT",
+            "LONG",
+            "DOUBLE",
+            "BOOLEAN",
+            "STRING"
+    })
+    private Datatype datatype;
+    private String value;
+    private TypedValue<?> typedValue;
+    private TypedValue<?> otherTypedValue;
+
+    /**
+     * Creates the values used by the benchmarks for the current datatype.
+     *
+     * @throws ValueFormatException if parsing the value fails
+     */
+    @Setup
+    public void setup() throws ValueFormatException {
+        value = VALUES.get(datatype);
+        typedValue = TypedValueFactory.create(datatype, value);
+        otherTypedValue = TypedValueFactory.create(datatype, value);
+    }
+
+
+    /**
+     * Parses a typed value from its string representation.
+     *
+     * @return the typed value
+     * @throws ValueFormatException if parsing the value fails
+     */
+    @Benchmark
+    public TypedValue<?> createFromString() throws ValueFormatException {
+        return TypedValueFactory.create(datatype, value);
+    }
+
+
+    /**
+     * Creates a property value from datatype and string representation.
+     *
+     * @return the property value
+     * @throws ValueFormatException if parsing the value fails
+     */
+    @Benchmark
+    public PropertyValue createPropertyValue() throws ValueFormatException {
+        return PropertyValue.of(datatype, value);
+    }
+
+
+    /**
+     * Converts a typed value to its string representation.
+     *
+     * @return the string representation
+     */
+    @Benchmark
+    public String asString() {
+        return typedValue.asString();
+    }
+
+
+    /**
+     * Compares two equal typed values.
+     *
+     * @return true if both values are equal
+     */
+    @Benchmark
+    public boolean equalsAndHashCode() {
+        return typedValue.equals(otherTypedValue) && typedValue.hashCode() == otherTypedValue.hashCode();
+    }
+
+
+    /**
+     * Reads and writes an int value via the non-boxing accessors.
+     *
+     * @return the updated value
+     */
+    @Benchmark
+    public int intValuePrimitive() {
+        IntValue result = new IntValue(42);
+        result.setIntValue(result.getIntValue() + 1);
+        return result.getIntValue();
+    }
+
+
+    /**
+     * Creates a string value.
+     *
+     * @return the string value
+     */
+    @Benchmark
+    public StringValue stringValue() {
+        return new StringValue(value);
+    }
+}
@@ -20,33 +20,54 @@ import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionExce
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionManager;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.config.ServiceConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerializationManager;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.Endpoint;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.EndpointConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.EndpointException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.InternalErrorResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementCreateEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementDeleteEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementUpdateEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.AssetAdministrationShellSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.ConceptDescriptionSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.request.RequestHandlerManager;
 import de.fraunhofer.iosb.ilt.faaast.service.request.handler.RequestExecutionContext;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeExtractor;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfoCache;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
@@ -71,6 +92,8 @@ public class Service implements ServiceContext {
     private Persistence persistence;
     private FileStorage fileStorage;
     private RequestHandlerManager requestHandler;
+    private final TypeInfoCache typeInfoCache = new TypeInfoCache();
+    private final List<SubscriptionId> typeInfoCacheSubscriptions = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new instance of {@link Service}.
@@ -142,6 +165,58 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public List<Response> executeBatch(List<? extends Request<? extends Response>> requests, boolean parallel) {
+        persistence.beginBatch();
+        try {
+            return requestHandler.executeAll(requests, parallel);
+        }
+        finally {
+            persistence.endBatch();
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Values are set via {@link Persistence#updateValues(Map)} and all resulting events are published at once. If
+     * this fails, e.g. because an element does not exist, values are set by executing a request per element instead to
+     * determine which elements could not be updated.
+     */
+    @Override
+    public Map<Reference, Result> setValues(Map<Reference, ? extends ElementValue> values) {
+        Ensure.requireNonNull(values, "values must be non-null");
+        if (values.isEmpty()) {
+            return Map.of();
+        }
+        Map<Reference, ElementValue> oldValues;
+        try {
+            oldValues = persistence.updateValues(values);
+        }
+        catch (ResourceNotFoundException | ValueMappingException e) {
+            LOGGER.debug("setting values at once failed, falling back to setting values one by one (reason: {})", e.getMessage());
+            return ServiceContext.super.setValues(values);
+        }
+        finally {
+            values.keySet().forEach(typeInfoCache::invalidate);
+        }
+        List<ValueChangeEventMessage> messages = new ArrayList<>(oldValues.size());
+        oldValues.forEach((reference, oldValue) -> messages.add(ValueChangeEventMessage.builder()
+                .element(reference)
+                .oldValue(oldValue)
+                .newValue(values.get(reference))
+                .build()));
+        try {
+            messageBus.publishAll(messages);
+        }
+        catch (MessageBusException e) {
+            LOGGER.warn("publishing value change events failed (number of events: {})", messages.size(), e);
+        }
+        return Map.of();
+    }
+
+
     @Override
     public OperationVariable[] getOperationOutputVariables(Reference reference) throws ResourceNotFoundException {
         if (reference == null) {
@@ -162,6 +237,14 @@ public class Service implements ServiceContext {
 
     @Override
     public TypeInfo getTypeInfo(Reference reference) throws ResourceNotFoundException {
+        if (typeInfoCacheSubscriptions.isEmpty()) {
+            return loadTypeInfo(reference);
+        }
+        return typeInfoCache.get(reference, this::loadTypeInfo);
+    }
+
+
+    private TypeInfo<?> loadTypeInfo(Reference reference) throws ResourceNotFoundException {
         return TypeExtractor.extractTypeInfo(persistence.getSubmodelElement(reference, QueryModifier.DEFAULT));
     }
 
@@ -172,6 +255,15 @@ public class Service implements ServiceContext {
     }
 
 
+    @Override
+    public Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException {
+        if (assetConnectionManager.hasValueProviderWithin(reference)) {
+            return Optional.empty();
+        }
+        return persistence.getVersion(reference);
+    }
+
+
     @Override
     public Environment getAASEnvironment() {
         return new DefaultEnvironment.Builder()
@@ -233,6 +325,7 @@ public class Service implements ServiceContext {
     public void start() throws MessageBusException, EndpointException {
         LOGGER.debug("Get command for starting FA³ST Service");
         messageBus.start();
+        subscribeTypeInfoCache();
         if (!endpoints.isEmpty()) {
             LOGGER.info("Starting endpoints...");
         }
@@ -250,17 +343,59 @@ public class Service implements ServiceContext {
      */
     public void stop() {
         LOGGER.debug("Get command for stopping FA³ST Service");
+        unsubscribeTypeInfoCache();
         messageBus.stop();
         assetConnectionManager.stop();
         endpoints.forEach(Endpoint::stop);
     }
 
 
+    /**
+     * Subscribes to changes of elements to keep the type information cache up-to-date. The cache is only used while
+     * these subscriptions are active. Changes executed via requests additionally invalidate the cache synchronously,
+     * see {@link TypeInfoCacheInvalidatingPersistence}, so that lost events cannot lead to outdated type information.
+     *
+     * @throws MessageBusException if subscribing fails
+     */
+    private void subscribeTypeInfoCache() throws MessageBusException {
+        Consumer<ElementChangeEventMessage> handler = x -> typeInfoCache.invalidate(x.getElement());
+        List<SubscriptionId> subscriptions = Arrays.asList(
+                messageBus.subscribe(SubscriptionInfo.create(ElementCreateEventMessage.class, handler::accept)),
+                messageBus.subscribe(SubscriptionInfo.create(ElementUpdateEventMessage.class, handler::accept)),
+                messageBus.subscribe(SubscriptionInfo.create(ElementDeleteEventMessage.class, handler::accept)));
+        typeInfoCache.clear();
+        typeInfoCacheSubscriptions.addAll(subscriptions);
+    }
+
+
+    private void unsubscribeTypeInfoCache() {
+        List<SubscriptionId> subscriptions = new ArrayList<>(typeInfoCacheSubscriptions);
+        typeInfoCacheSubscriptions.clear();
+        typeInfoCache.clear();
+        for (SubscriptionId subscription: subscriptions) {
+            try {
+                messageBus.unsubscribe(subscription);
+            }
+            catch (MessageBusException e) {
+                LOGGER.debug("unsubscribing type info cache from message bus failed", e);
+            }
+        }
+    }
+
+
     private void init() throws ConfigurationException {
         Ensure.requireNonNull(config.getPersistence(), new InvalidConfigurationException("config.persistence must be non-null"));
-        persistence = (Persistence) config.getPersistence().newInstance(config.getCore(), this);
         Ensure.requireNonNull(config.getFileStorage(), new InvalidConfigurationException("config.filestorage must be non-null"));
-        fileStorage = (FileStorage) config.getFileStorage().newInstance(config.getCore(), this);
+        shareInitialModel();
+        try {
+            // file storage is created first as it may read files lazily from the initial model file which the
+            // persistence might overwrite, e.g. PersistenceFile with keepInitial=false
+            fileStorage = (FileStorage) config.getFileStorage().newInstance(config.getCore(), this);
+            persistence = (Persistence) config.getPersistence().newInstance(config.getCore(), this);
+        }
+        finally {
+            releaseInitialModel();
+        }
         Ensure.requireNonNull(config.getMessageBus(), new InvalidConfigurationException("config.messagebus must be non-null"));
         messageBus = (MessageBus) config.getMessageBus().newInstance(config.getCore(), this);
         if (config.getAssetConnections() != null) {
@@ -282,9 +417,52 @@ public class Service implements ServiceContext {
         }
         this.requestHandler = new RequestHandlerManager(new RequestExecutionContext(
                 this.config.getCore(),
-                this.persistence,
+                new TypeInfoCacheInvalidatingPersistence(this.persistence, typeInfoCache),
                 this.fileStorage,
                 this.messageBus,
                 this.assetConnectionManager));
     }
+
+
+    /**
+     * If persistence and file storage use the same initial model file, the file is parsed only once and the result is
+     * provided to both of them. For AASX files, related files are not loaded into memory but streamed to the file
+     * storage.
+     *
+     * @throws ConfigurationInitializationException if loading the initial model fails
+     */
+    private void shareInitialModel() throws ConfigurationInitializationException {
+        File initialModelFile = config.getPersistence().getInitialModelFile();
+        if (Objects.isNull(initialModelFile)
+                || Objects.nonNull(config.getPersistence().getInitialModel())
+                || Objects.nonNull(config.getFileStorage().getInitialModel())
+                || !Objects.equals(initialModelFile, config.getFileStorage().getInitialModelFile())
+                || !initialModelFile.isFile()) {
+            return;
+        }
+        try {
+            EnvironmentContext initialModel = EnvironmentSerializationManager.deserialize(initialModelFile);
+            config.getPersistence().setInitialModel(initialModel.getEnvironment());
+            config.getFileStorage().setInitialModel(initialModel);
+        }
+        catch (DeserializationException e) {
+            throw new ConfigurationInitializationException(String.format("error loading initial model (file: %s)", initialModelFile), e);
+        }
+    }
+
+
+    /**
+     * Removes initial models that have been parsed from an initial model file from the configuration once persistence
+     * and file storage are initialized so that they can be garbage collected. This applies to models parsed by
+     * {@link #shareInitialModel()} as well as to models parsed upfront, e.g. by the starter. Initial models that have
+     * been provided without an initial model file are kept.
+     */
+    private void releaseInitialModel() {
+        if (Objects.nonNull(config.getPersistence().getInitialModelFile())) {
+            config.getPersistence().setInitialModel(null);
+        }
+        if (Objects.nonNull(config.getFileStorage().getInitialModelFile())) {
+            config.getFileStorage().setInitialModel(null);
+        }
+    }
 }
@@ -17,8 +17,19 @@ package de.fraunhofer.iosb.ilt.faaast.service;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.SetSubmodelElementValueByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
@@ -51,6 +62,50 @@ public interface ServiceContext {
     public <T extends Response> T execute(Request<T> request);
 
 
+    /**
+     * Executes multiple requests as a batch. Modifications made by the requests are persisted at once after all
+     * requests have been executed.
+     *
+     * @param requests the requests to execute
+     * @param parallel if true, requests are executed in parallel, otherwise sequentially in the given order
+     * @return the responses in the same order as the requests
+     */
+    public List<Response> executeBatch(List<? extends Request<? extends Response>> requests, boolean parallel);
+
+
+    /**
+     * Sets the values of multiple elements at once without synchronizing them with assets, e.g. for values received
+     * from assets. Modifications are persisted at once and a
+     * {@link de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage} is published
+     * for each element. The default implementation executes a
+     * {@link SetSubmodelElementValueByPathRequest} per element as a batch.
+     *
+     * @param values the new values by reference of the element
+     * @return the results of all elements whose value could not be set, empty if all values have been set
+     */
+    public default Map<Reference, Result> setValues(Map<Reference, ? extends ElementValue> values) {
+        Ensure.requireNonNull(values, "values must be non-null");
+        List<Reference> references = new ArrayList<>(values.keySet());
+        List<Request<? extends Response>> requests = new ArrayList<>(references.size());
+        for (Reference reference: references) {
+            requests.add(SetSubmodelElementValueByPathRequest.builder()
+                    .submodelId(reference.getKeys().get(0).getValue())
+                    .path(ReferenceHelper.toPath(reference))
+                    .disableSyncWithAsset()
+                    .value(values.get(reference))
+                    .build());
+        }
+        List<Response> responses = executeBatch(requests, false);
+        Map<Reference, Result> result = new LinkedHashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            if (!responses.get(i).getStatusCode().isSuccess()) {
+                result.put(references.get(i), responses.get(i).getResult());
+            }
+        }
+        return result;
+    }
+
+
     /**
      * Get a copied version of the Environment instance of the service.
      *
@@ -88,4 +143,18 @@ public interface ServiceContext {
      *         {@link de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetValueProvider}, otherwise false
      */
     public boolean hasValueProvider(Reference reference);
+
+
+    /**
+     * Gets the current version of an element identified by reference. The version changes whenever the element or any
+     * of its child elements is modified and can therefore be used for caching, e.g. to support conditional requests. If
+     * the element or any of its child elements is backed by an
+     * {@link de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetValueProvider} no version is available as the
+     * value may change without the service noticing.
+     *
+     * @param reference the reference to the element
+     * @return the version of the element if available, otherwise empty
+     * @throws ResourceNotFoundException if reference can not be resolved on AAS environment of the service
+     */
+    public Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException;
 }
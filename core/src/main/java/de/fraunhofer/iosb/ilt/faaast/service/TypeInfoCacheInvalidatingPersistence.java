@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service;
+
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationHandle;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationResult;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.Page;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.AssetAdministrationShellSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.ConceptDescriptionSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.PersistenceConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelElementSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfoCache;
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+
+
+/**
+ * Wraps a {@link Persistence} and synchronously invalidates the {@link TypeInfoCache} whenever a submodel or submodel
+ * element is modified. This way, the cache does not depend on change events from the message bus which might get lost,
+ * e.g. when using MQTT with QoS 0. All other calls are delegated unchanged.
+ */
+class TypeInfoCacheInvalidatingPersistence implements Persistence<PersistenceConfig> {
+
+    private final Persistence<PersistenceConfig> persistence;
+    private final TypeInfoCache typeInfoCache;
+
+    TypeInfoCacheInvalidatingPersistence(Persistence<PersistenceConfig> persistence, TypeInfoCache typeInfoCache) {
+        Ensure.requireNonNull(persistence, "persistence must be non-null");
+        Ensure.requireNonNull(typeInfoCache, "typeInfoCache must be non-null");
+        this.persistence = persistence;
+        this.typeInfoCache = typeInfoCache;
+    }
+
+
+    @Override
+    public void init(CoreConfig coreConfig, PersistenceConfig config, ServiceContext serviceContext) throws ConfigurationInitializationException {
+        persistence.init(coreConfig, config, serviceContext);
+    }
+
+
+    @Override
+    public PersistenceConfig asConfig() {
+        return persistence.asConfig();
+    }
+
+
+    @Override
+    public AssetAdministrationShell getAssetAdministrationShell(String id, QueryModifier modifier) throws ResourceNotFoundException {
+        return persistence.getAssetAdministrationShell(id, modifier);
+    }
+
+
+    @Override
+    public Page<Reference> getSubmodelRefs(String aasId, PagingInfo paging) throws ResourceNotFoundException {
+        return persistence.getSubmodelRefs(aasId, paging);
+    }
+
+
+    @Override
+    public Submodel getSubmodel(String id, QueryModifier modifier) throws ResourceNotFoundException {
+        return persistence.getSubmodel(id, modifier);
+    }
+
+
+    @Override
+    public ConceptDescription getConceptDescription(String id, QueryModifier modifier) throws ResourceNotFoundException {
+        return persistence.getConceptDescription(id, modifier);
+    }
+
+
+    @Override
+    public SubmodelElement getSubmodelElement(SubmodelElementIdentifier identifier, QueryModifier modifier) throws ResourceNotFoundException {
+        return persistence.getSubmodelElement(identifier, modifier);
+    }
+
+
+    @Override
+    public Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException {
+        return persistence.getVersion(reference);
+    }
+
+
+    @Override
+    public OperationResult getOperationResult(OperationHandle handle) throws ResourceNotFoundException {
+        return persistence.getOperationResult(handle);
+    }
+
+
+    @Override
+    public Page<AssetAdministrationShell> findAssetAdministrationShells(AssetAdministrationShellSearchCriteria criteria, QueryModifier modifier, PagingInfo paging) {
+        return persistence.findAssetAdministrationShells(criteria, modifier, paging);
+    }
+
+
+    @Override
+    public Page<Submodel> findSubmodels(SubmodelSearchCriteria criteria, QueryModifier modifier, PagingInfo paging) {
+        return persistence.findSubmodels(criteria, modifier, paging);
+    }
+
+
+    @Override
+    public Page<SubmodelElement> findSubmodelElements(SubmodelElementSearchCriteria criteria, QueryModifier modifier, PagingInfo paging) throws ResourceNotFoundException {
+        return persistence.findSubmodelElements(criteria, modifier, paging);
+    }
+
+
+    @Override
+    public Page<ConceptDescription> findConceptDescriptions(ConceptDescriptionSearchCriteria criteria, QueryModifier modifier, PagingInfo paging) {
+        return persistence.findConceptDescriptions(criteria, modifier, paging);
+    }
+
+
+    @Override
+    public void save(AssetAdministrationShell assetAdministrationShell) {
+        persistence.save(assetAdministrationShell);
+    }
+
+
+    @Override
+    public void save(ConceptDescription conceptDescription) {
+        persistence.save(conceptDescription);
+    }
+
+
+    @Override
+    public void save(Submodel submodel) {
+        try {
+            persistence.save(submodel);
+        }
+        finally {
+            typeInfoCache.invalidateSubmodel(submodel.getId());
+        }
+    }
+
+
+    @Override
+    public void insert(SubmodelElementIdentifier parentIdentifier, SubmodelElement submodelElement) throws ResourceNotFoundException, ResourceNotAContainerElementException {
+        try {
+            persistence.insert(parentIdentifier, submodelElement);
+        }
+        finally {
+            typeInfoCache.invalidate(parentIdentifier);
+        }
+    }
+
+
+    @Override
+    public void update(SubmodelElementIdentifier identifier, SubmodelElement submodelElement) throws ResourceNotFoundException {
+        try {
+            persistence.update(identifier, submodelElement);
+        }
+        finally {
+            typeInfoCache.invalidate(identifier);
+        }
+    }
+
+
+    @Override
+    public Map<Reference, ElementValue> updateValues(Map<Reference, ? extends ElementValue> values) throws ResourceNotFoundException, ValueMappingException {
+        try {
+            return persistence.updateValues(values);
+        }
+        finally {
+            values.keySet().forEach(typeInfoCache::invalidate);
+        }
+    }
+
+
+    @Override
+    public void save(OperationHandle handle, OperationResult result) {
+        persistence.save(handle, result);
+    }
+
+
+    @Override
+    public void deleteAssetAdministrationShell(String id) throws ResourceNotFoundException {
+        persistence.deleteAssetAdministrationShell(id);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String id) throws ResourceNotFoundException {
+        try {
+            persistence.deleteSubmodel(id);
+        }
+        finally {
+            typeInfoCache.invalidateSubmodel(id);
+        }
+    }
+
+
+    @Override
+    public void deleteConceptDescription(String id) throws ResourceNotFoundException {
+        persistence.deleteConceptDescription(id);
+    }
+
+
+    @Override
+    public void deleteSubmodelElement(SubmodelElementIdentifier identifier) throws ResourceNotFoundException {
+        try {
+            persistence.deleteSubmodelElement(identifier);
+        }
+        finally {
+            typeInfoCache.invalidate(identifier);
+        }
+    }
+
+
+    @Override
+    public void beginBatch() {
+        persistence.beginBatch();
+    }
+
+
+    @Override
+    public void endBatch() {
+        persistence.endBatch();
+    }
+
+
+    @Override
+    public <T> Supplier<T> bindToCurrentBatch(Supplier<T> task) {
+        return persistence.bindToCurrentBatch(task);
+    }
+}
@@ -18,8 +18,6 @@ import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
-import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
-import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.SetSubmodelElementValueByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ElementValueHelper;
@@ -30,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -51,6 +50,7 @@ public class AssetConnectionManager {
     private final CoreConfig coreConfig;
     private final ServiceContext serviceContext;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final Map<AssetConnection, AssetSubscriptionIngester> ingesters;
     private volatile boolean active;
 
     public AssetConnectionManager(CoreConfig coreConfig, List<AssetConnection> connections, ServiceContext context) throws ConfigurationException {
@@ -58,6 +58,7 @@ public class AssetConnectionManager {
         this.coreConfig = coreConfig;
         this.connections = connections != null ? connections : new ArrayList<>();
         this.serviceContext = context;
+        this.ingesters = new ConcurrentHashMap<>();
         validateConnections();
         ThreadFactory threadFactory = new ThreadFactory() {
             AtomicLong count = new AtomicLong(0);
@@ -129,23 +130,16 @@ public class AssetConnectionManager {
             return;
         }
         final Map<Reference, AssetSubscriptionProvider> subscriptionProviders = connection.getSubscriptionProviders();
+        if (subscriptionProviders.isEmpty()) {
+            return;
+        }
+        AssetSubscriptionIngester ingester = ingesters.computeIfAbsent(connection, x -> new AssetSubscriptionIngester(
+                serviceContext,
+                String.format("asset subscription ingester - %d", ingesters.size())));
+        ingester.start();
         for (var subscriptionInfo: subscriptionProviders.entrySet()) {
             try {
-                subscriptionInfo.getValue().addNewDataListener((DataElementValue data) -> {
-                    Response response = serviceContext.execute(SetSubmodelElementValueByPathRequest.builder()
-                            .submodelId(subscriptionInfo.getKey().getKeys().get(0).getValue())
-                            .path(ReferenceHelper.toPath(subscriptionInfo.getKey()))
-                            .disableSyncWithAsset()
-                            .value(data)
-                            .build());
-                    if (!response.getStatusCode().isSuccess()) {
-                        LOGGER.atInfo().log("Error updating value from asset connection subscription (reference: {})",
-                                ReferenceHelper.toString(subscriptionInfo.getKey()));
-                        LOGGER.debug("Error updating value from asset connection subscription (reference: {}, reason: {})",
-                                ReferenceHelper.toString(subscriptionInfo.getKey()),
-                                response.getResult().getMessages());
-                    }
-                });
+                subscriptionInfo.getValue().addNewDataListener((DataElementValue data) -> ingester.offer(subscriptionInfo.getKey(), data));
             }
             catch (AssetConnectionException e) {
                 LOGGER.warn("Subscribing to asset connection failed (reference: {})",
@@ -218,6 +212,7 @@ public class AssetConnectionManager {
             scheduledExecutorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        ingesters.values().forEach(AssetSubscriptionIngester::stop);
         connections.stream()
                 .filter(AssetConnection::isConnected)
                 .forEach(x -> {
@@ -355,6 +350,21 @@ public class AssetConnectionManager {
     }
 
 
+    /**
+     * Returns whether there is a value provider defined for the provided AAS element or any of its (direct or indirect)
+     * child elements.
+     *
+     * @param reference AAS element
+     * @return true if there is a value provider defined for the provided AAS element or any of its child elements,
+     *         otherwise false
+     */
+    public boolean hasValueProviderWithin(Reference reference) {
+        return connections.stream()
+                .flatMap(x -> (Stream<Reference>) x.getValueProviders().keySet().stream())
+                .anyMatch(x -> ReferenceHelper.startsWith(x, reference));
+    }
+
+
     private void validateConnections() throws ConfigurationException {
         Optional<Map.Entry<Reference, List<AssetValueProvider>>> valueProviders = connections.stream()
                 .flatMap(x -> (Stream<Map.Entry<Reference, AssetValueProvider>>) x.getValueProviders().entrySet().stream())
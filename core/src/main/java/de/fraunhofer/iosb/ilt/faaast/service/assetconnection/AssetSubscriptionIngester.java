@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.DataElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Applies values received via {@link AssetSubscriptionProvider}s of a single asset connection to the service.
+ *
+ * <p>Received values are queued and applied asynchronously by a dedicated thread. All values queued at that time are
+ * applied as a single batch, i.e. modifications are persisted at once. If multiple values for the same element are
+ * received before they are applied, only the latest one is applied. Therefore, the queue holds at most one value per
+ * subscribed element. Batches are applied via {@link ServiceContext#setValues(Map)}, i.e. values are written to the
+ * persistence directly and all resulting events are published at once instead of executing a request per value.
+ */
+public class AssetSubscriptionIngester {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetSubscriptionIngester.class);
+    private static final long STOP_TIMEOUT = 2000;
+    private final ServiceContext serviceContext;
+    private final String name;
+    private final Map<Reference, DataElementValue> pending;
+    private Thread worker;
+    private volatile boolean running;
+
+    public AssetSubscriptionIngester(ServiceContext serviceContext, String name) {
+        Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
+        this.serviceContext = serviceContext;
+        this.name = name;
+        this.pending = new LinkedHashMap<>();
+    }
+
+
+    /**
+     * Starts applying queued values. Calling this method on an already started instance has no effect.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+
+    /**
+     * Stops applying queued values. Values that have been queued before calling this method are still applied.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (pending) {
+            pending.notifyAll();
+        }
+        try {
+            worker.join(STOP_TIMEOUT);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+
+    /**
+     * Queues a new value received for an element. If there already is a queued value for the element that has not yet
+     * been applied, that value is replaced.
+     *
+     * @param reference the reference to the element
+     * @param value the new value
+     */
+    public void offer(Reference reference, DataElementValue value) {
+        synchronized (pending) {
+            pending.put(reference, value);
+            pending.notifyAll();
+        }
+    }
+
+
+    private void run() {
+        while (true) {
+            Map<Reference, DataElementValue> batch;
+            synchronized (pending) {
+                while (running && pending.isEmpty()) {
+                    try {
+                        pending.wait();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+            }
+            apply(batch);
+        }
+    }
+
+
+    private void apply(Map<Reference, DataElementValue> batch) {
+        Map<Reference, Result> failed;
+        try {
+            failed = serviceContext.setValues(batch);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Error updating values from asset connection subscriptions (number of values: {})", batch.size(), e);
+            return;
+        }
+        failed.forEach((reference, result) -> {
+            LOGGER.atInfo().log("Error updating value from asset connection subscription (reference: {})",
+                    ReferenceHelper.toString(reference));
+            LOGGER.debug("Error updating value from asset connection subscription (reference: {}, reason: {})",
+                    ReferenceHelper.toString(reference),
+                    Objects.nonNull(result) ? result.getMessages() : null);
+        });
+    }
+}
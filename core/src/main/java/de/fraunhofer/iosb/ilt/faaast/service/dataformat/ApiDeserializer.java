@@ -153,7 +153,7 @@ public interface ApiDeserializer {
      * @throws DeserializationException if deserialization fails
      */
     public default <T> T read(InputStream src, Charset charset, Class<T> type) throws DeserializationException {
-        return read(readStream(src, charset), type);
+        return read(src, charset, TypeFactory.defaultInstance().constructType(type));
     }
 
 
@@ -168,7 +168,7 @@ public interface ApiDeserializer {
      * @throws DeserializationException if deserialization fails
      */
     public default <T> T read(InputStream src, Charset charset, TypeReference<T> type) throws DeserializationException {
-        return read(readStream(src, charset), type);
+        return read(src, charset, TypeFactory.defaultInstance().constructType(type));
     }
 
 
@@ -373,7 +373,7 @@ public interface ApiDeserializer {
      * @throws DeserializationException if deserialization fails
      */
     public default <T> List<T> readList(InputStream src, Charset charset, Class<T> type) throws DeserializationException {
-        return readList(readStream(src, charset), type);
+        return readList(src, charset, TypeFactory.defaultInstance().constructType(type));
     }
 
 
@@ -388,7 +388,7 @@ public interface ApiDeserializer {
      * @throws DeserializationException if deserialization fails
      */
     public default <T> List<T> readList(InputStream src, Charset charset, TypeReference<T> type) throws DeserializationException {
-        return readList(readStream(src, charset), type);
+        return readList(src, charset, TypeFactory.defaultInstance().constructType(type));
     }
 
 
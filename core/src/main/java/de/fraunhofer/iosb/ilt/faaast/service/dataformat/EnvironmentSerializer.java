@@ -15,14 +15,17 @@
 package de.fraunhofer.iosb.ilt.faaast.service.dataformat;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 
@@ -54,7 +57,7 @@ public interface EnvironmentSerializer {
      * @throws SerializationException if serialization fails
      */
     public default byte[] write(EnvironmentContext context) throws SerializationException {
-        return write(context.getEnvironment(), context.getFiles());
+        return write(context.getEnvironment(), getFiles(context));
     }
 
 
@@ -68,7 +71,7 @@ public interface EnvironmentSerializer {
      * @throws java.io.IOException if writing on the stream fails
      */
     public default void write(OutputStream out, EnvironmentContext context) throws SerializationException, IOException {
-        write(out, context.getEnvironment(), context.getFiles());
+        write(out, context.getEnvironment(), getFiles(context));
     }
 
 
@@ -82,7 +85,7 @@ public interface EnvironmentSerializer {
      * @throws java.io.IOException if writing on the stream fails
      */
     public default void write(File file, EnvironmentContext context) throws SerializationException, IOException {
-        write(file, context.getEnvironment(), context.getFiles());
+        write(file, context.getEnvironment(), getFiles(context));
     }
 
 
@@ -178,7 +181,7 @@ public interface EnvironmentSerializer {
      * @throws SerializationException if serialization fails
      */
     public default byte[] write(Charset charset, EnvironmentContext context) throws SerializationException {
-        return write(charset, context.getEnvironment(), context.getFiles());
+        return write(charset, context.getEnvironment(), getFiles(context));
     }
 
 
@@ -193,7 +196,7 @@ public interface EnvironmentSerializer {
      * @throws java.io.IOException if writing on the stream fails
      */
     public default void write(OutputStream out, Charset charset, EnvironmentContext context) throws SerializationException, IOException {
-        write(out, charset, context.getEnvironment(), context.getFiles());
+        write(out, charset, context.getEnvironment(), getFiles(context));
     }
 
 
@@ -208,7 +211,7 @@ public interface EnvironmentSerializer {
      * @throws java.io.IOException if writing on the stream fails
      */
     public default void write(File file, Charset charset, EnvironmentContext context) throws SerializationException, IOException {
-        write(file, charset, context.getEnvironment(), context.getFiles());
+        write(file, charset, context.getEnvironment(), getFiles(context));
     }
 
 
@@ -288,4 +291,29 @@ public interface EnvironmentSerializer {
         write(file, charset, environment, List.of());
     }
 
+
+    /**
+     * Gets all files of a context as {@link InMemoryFile}, i.e. reads all files provided as
+     * {@link EnvironmentContext#getFileContents()} into memory. Serializers that are able to process
+     * {@link FileContent} directly should override the methods accepting an {@link EnvironmentContext} to avoid this.
+     *
+     * @param context the context
+     * @return all files of the context
+     * @throws SerializationException if reading a file fails
+     */
+    private static Collection<InMemoryFile> getFiles(EnvironmentContext context) throws SerializationException {
+        if (Objects.isNull(context.getFileContents()) || context.getFileContents().isEmpty()) {
+            return context.getFiles();
+        }
+        List<InMemoryFile> result = new ArrayList<>(context.getFiles());
+        for (FileContent file: context.getFileContents()) {
+            try {
+                result.add(new InMemoryFile(file.readAllBytes(), file.getPath()));
+            }
+            catch (IOException e) {
+                throw new SerializationException(String.format("error reading file (path: %s)", file.getPath()), e);
+            }
+        }
+        return result;
+    }
 }
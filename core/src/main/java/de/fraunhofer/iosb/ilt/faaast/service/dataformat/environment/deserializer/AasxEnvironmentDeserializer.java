@@ -19,6 +19,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentDeserializer;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SupportedDataformat;
 import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
 import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
@@ -27,11 +28,20 @@ import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
 
 
 /**
- * AASX deserializer for {@link org.eclipse.digitaltwin.aas4j.v3.model.Environment}s and related files.
+ * AASX deserializer for {@link org.eclipse.digitaltwin.aas4j.v3.model.Environment}s and related files. When reading
+ * from a file, related files are not loaded into memory but provided as
+ * {@link de.fraunhofer.iosb.ilt.faaast.service.model.FileContent} that is read from the file on demand.
  */
 @SupportedDataformat(DataFormat.AASX)
 public class AasxEnvironmentDeserializer implements EnvironmentDeserializer {
 
+    private final AasxPackageReader reader;
+
+    public AasxEnvironmentDeserializer() {
+        this.reader = new AasxPackageReader();
+    }
+
+
     @Override
     public EnvironmentContext read(InputStream in, Charset charset) throws DeserializationException {
         try {
@@ -42,7 +52,13 @@ public class AasxEnvironmentDeserializer implements EnvironmentDeserializer {
                     .build();
         }
         catch (org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException | InvalidFormatException | IOException e) {
-            throw new DeserializationException("JSON deserialization failed", e);
+            throw new DeserializationException("AASX deserialization failed", e);
         }
     }
+
+
+    @Override
+    public EnvironmentContext read(File file, Charset charset) throws DeserializationException {
+        return reader.read(file, charset);
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.deserializer;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.AssetAdministrationShellElementWalker;
+import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementVisitor;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Reads AASX packages from a file without loading the whole package into memory. In contrast to AAS4J's
+ * AASXDeserializer, which reads all parts of the package into memory, only the environment is parsed while related
+ * files are returned as {@link FileContent} that is read from the package file on demand.
+ */
+class AasxPackageReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AasxPackageReader.class);
+    private static final String ORIGIN_RELTYPE = "http://admin-shell.io/aasx/relationships/aasx-origin";
+    private static final String AASSPEC_RELTYPE = "http://admin-shell.io/aasx/relationships/aas-spec";
+    private static final String AASSPEC_RELTYPE_BACKWARDS_COMPATIBLE = "http://www.admin-shell.io/aasx/relationships/aas-spec";
+    private static final String EXTENSION_JSON = ".json";
+    private static final String PREFIX_FILE_URI = "file://";
+    private static final String PREFIX_FILE = "file:";
+    private static final String PATH_SEPARATOR = "/";
+
+    private final XmlDeserializer xmlDeserializer;
+    private final JsonDeserializer jsonDeserializer;
+
+    AasxPackageReader() {
+        this.xmlDeserializer = new XmlDeserializer();
+        this.jsonDeserializer = new JsonDeserializer();
+    }
+
+
+    /**
+     * Reads an AASX package from a file. Only the environment is read immediately, the related files are read from the
+     * package file each time their content is accessed.
+     *
+     * @param file the AASX file
+     * @param charset the charset to use for the environment
+     * @return the environment and the related files
+     * @throws DeserializationException if reading the package fails
+     */
+    EnvironmentContext read(File file, Charset charset) throws DeserializationException {
+        OPCPackage aasx = null;
+        try {
+            aasx = OPCPackage.open(file, PackageAccess.READ);
+            PackagePart specPart = getSpecPart(aasx);
+            Environment environment;
+            try (InputStream in = specPart.getInputStream()) {
+                environment = specPart.getPartName().getName().toLowerCase().endsWith(EXTENSION_JSON)
+                        ? jsonDeserializer.read(in, charset, Environment.class)
+                        : xmlDeserializer.read(in, charset);
+            }
+            EnvironmentContext result = EnvironmentContext.builder()
+                    .environment(environment)
+                    .build();
+            for (Map.Entry<String, PackagePart> relatedFile: getRelatedFiles(aasx, environment).entrySet()) {
+                result.getFileContents().add(FileContent.builder()
+                        .path(relatedFile.getKey())
+                        .contentType(relatedFile.getValue().getContentType())
+                        .size(relatedFile.getValue().getSize())
+                        .contentProvider(new ZipEntryContentProvider(file, relatedFile.getValue().getPartName().getName().substring(1)))
+                        .build());
+            }
+            return result;
+        }
+        catch (InvalidFormatException | IOException | org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException e) {
+            throw new DeserializationException("AASX deserialization failed", e);
+        }
+        finally {
+            if (Objects.nonNull(aasx)) {
+                aasx.revert();
+            }
+        }
+    }
+
+
+    private static PackagePart getSpecPart(OPCPackage aasx) throws InvalidFormatException {
+        PackageRelationshipCollection originRelationships = aasx.getRelationshipsByType(ORIGIN_RELTYPE);
+        if (originRelationships.size() == 0) {
+            throw new InvalidFormatException("AASX package does not contain an origin part");
+        }
+        PackagePart originPart = aasx.getPart(originRelationships.getRelationship(0));
+        if (Objects.isNull(originPart)) {
+            throw new InvalidFormatException("AASX origin part not found");
+        }
+        PackageRelationshipCollection specRelationships = originPart.getRelationshipsByType(AASSPEC_RELTYPE);
+        if (specRelationships.size() == 0) {
+            specRelationships = originPart.getRelationshipsByType(AASSPEC_RELTYPE_BACKWARDS_COMPATIBLE);
+        }
+        if (specRelationships.size() != 1) {
+            throw new InvalidFormatException(String.format(
+                    "AASX package must contain exactly one aas-spec part (found: %d)",
+                    specRelationships.size()));
+        }
+        PackagePart result = originPart.getRelatedPart(specRelationships.getRelationship(0));
+        if (Objects.isNull(result)) {
+            throw new InvalidFormatException("AASX aas-spec part not found");
+        }
+        return result;
+    }
+
+
+    private static Map<String, PackagePart> getRelatedFiles(OPCPackage aasx, Environment environment) {
+        Map<String, PackagePart> result = new LinkedHashMap<>();
+        AssetAdministrationShellElementWalker.builder()
+                .visitor(new DefaultAssetAdministrationShellElementVisitor() {
+                    @Override
+                    public void visit(org.eclipse.digitaltwin.aas4j.v3.model.File file) {
+                        addRelatedFile(aasx, file.getValue(), result);
+                    }
+
+
+                    @Override
+                    public void visit(AssetInformation assetInformation) {
+                        if (Objects.nonNull(assetInformation.getDefaultThumbnail())) {
+                            addRelatedFile(aasx, assetInformation.getDefaultThumbnail().getPath(), result);
+                        }
+                    }
+                })
+                .build()
+                .walk(environment);
+        return result;
+    }
+
+
+    private static void addRelatedFile(OPCPackage aasx, String path, Map<String, PackagePart> files) {
+        if (Objects.isNull(path) || files.containsKey(path)) {
+            return;
+        }
+        String partName = path;
+        if (partName.startsWith(PREFIX_FILE_URI)) {
+            partName = partName.substring(PREFIX_FILE_URI.length());
+        }
+        else if (partName.startsWith(PREFIX_FILE)) {
+            partName = partName.substring(PREFIX_FILE.length());
+        }
+        if (!partName.startsWith(PATH_SEPARATOR)) {
+            partName = PATH_SEPARATOR + partName;
+        }
+        try {
+            PackagePartName packagePartName = PackagingURIHelper.createPartName(partName);
+            PackagePart part = aasx.getPart(packagePartName);
+            if (Objects.isNull(part)) {
+                LOGGER.debug("file referenced in AASX package not found (path: {})", path);
+                return;
+            }
+            files.put(path, part);
+        }
+        catch (InvalidFormatException e) {
+            LOGGER.warn("file referenced in AASX package has invalid path and is ignored (path: {})", path);
+        }
+    }
+
+    /**
+     * Provides the content of an entry of a ZIP file. A new {@link ZipFile} is opened for each call and closed together
+     * with the returned channel so that no resources are held while the content is not accessed. Fails if the file has
+     * been modified since the package has been read, e.g. because it has been overwritten by the persistence.
+     */
+    private static class ZipEntryContentProvider implements FileContent.ContentProvider {
+
+        private final File file;
+        private final String entryName;
+        private final long lastModified;
+
+        private ZipEntryContentProvider(File file, String entryName) {
+            this.file = file;
+            this.entryName = entryName;
+            this.lastModified = file.lastModified();
+        }
+
+
+        @Override
+        public ReadableByteChannel open() throws IOException {
+            if (file.lastModified() != lastModified) {
+                throw new IOException(String.format("AASX package has been modified since it was read (file: %s, entry: %s)", file, entryName));
+            }
+            ZipFile zip = new ZipFile(file);
+            try {
+                ZipEntry entry = zip.getEntry(entryName);
+                if (Objects.isNull(entry)) {
+                    throw new IOException(String.format("entry not found in AASX package (entry: %s)", entryName));
+                }
+                return Channels.newChannel(new FilterInputStream(zip.getInputStream(entry)) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        }
+                        finally {
+                            zip.close();
+                        }
+                    }
+                });
+            }
+            catch (IOException | RuntimeException e) {
+                zip.close();
+                throw e;
+            }
+        }
+    }
+}
@@ -17,37 +17,96 @@ package de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.serializer;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerializer;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SupportedDataformat;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
+import java.util.List;
+import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 
 
 /**
- * AASX serializer for {@link org.eclipse.digitaltwin.aas4j.v3.model.Environment}s and related files.
+ * AASX serializer for {@link org.eclipse.digitaltwin.aas4j.v3.model.Environment}s and related files. The AASX package is
+ * written directly to the output, files provided as {@link FileContent} are only read when they are written to the
+ * package.
  */
 @SupportedDataformat(DataFormat.AASX)
 public class AasxEnvironmentSerializer implements EnvironmentSerializer {
 
-    private final AASXSerializer serializer;
+    private final AasxPackageWriter writer;
 
     public AasxEnvironmentSerializer() {
-        this.serializer = new AASXSerializer();
+        this.writer = new AasxPackageWriter();
     }
 
 
     @Override
     public byte[] write(Charset charset, Environment environment, Collection<InMemoryFile> files) throws SerializationException {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            serializer.write(environment, files, out);
+            write(out, charset, environment, files);
             return out.toByteArray();
         }
-        catch (org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException | IOException e) {
+        catch (IOException e) {
             throw new SerializationException("AASX serialization failed", e);
         }
     }
+
+
+    @Override
+    public void write(OutputStream out, Charset charset, Environment environment, Collection<InMemoryFile> files) throws SerializationException, IOException {
+        writer.write(out, environment, toFileContents(files, List.of()));
+    }
+
+
+    @Override
+    public void write(OutputStream out, Charset charset, EnvironmentContext context) throws SerializationException, IOException {
+        writer.write(out, context.getEnvironment(), toFileContents(context.getFiles(), context.getFileContents()));
+    }
+
+
+    @Override
+    public void write(OutputStream out, EnvironmentContext context) throws SerializationException, IOException {
+        write(out, DEFAULT_CHARSET, context);
+    }
+
+
+    @Override
+    public void write(File file, Charset charset, EnvironmentContext context) throws SerializationException, IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(out, charset, context);
+        }
+    }
+
+
+    @Override
+    public void write(File file, EnvironmentContext context) throws SerializationException, IOException {
+        write(file, DEFAULT_CHARSET, context);
+    }
+
+
+    private static List<FileContent> toFileContents(Collection<InMemoryFile> files, Collection<FileContent> fileContents) {
+        List<FileContent> result = new ArrayList<>();
+        if (Objects.nonNull(files)) {
+            files.stream()
+                    .map(x -> FileContent.builder()
+                            .path(x.getPath())
+                            .content(x.getFileContent())
+                            .build())
+                    .forEach(result::add);
+        }
+        if (Objects.nonNull(fileContents)) {
+            result.addAll(fileContents);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.serializer;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.AssetAdministrationShellElementWalker;
+import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementVisitor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Writes AASX packages directly to an {@link OutputStream}. In contrast to AAS4J's AASXSerializer, which builds the
+ * complete package in memory, parts are written one after another and the content of each related file is only read
+ * when the corresponding part is written. Therefore, memory consumption does not depend on the size of the related
+ * files.
+ *
+ * <p>The package structure is the same as created by AAS4J, i.e. paths of embedded files are rewritten to
+ * {@code file://} URIs in the environment so that they can be resolved when reading the package.
+ */
+class AasxPackageWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AasxPackageWriter.class);
+    private static final String ORIGIN_RELTYPE = "http://admin-shell.io/aasx/relationships/aasx-origin";
+    private static final String AASSPEC_RELTYPE = "http://admin-shell.io/aasx/relationships/aas-spec";
+    private static final String AASSUPPL_RELTYPE = "http://admin-shell.io/aasx/relationships/aas-suppl";
+    private static final String ORIGIN_PATH = "/aasx/aasx-origin";
+    private static final String ORIGIN_RELS_PATH = "/aasx/_rels/aasx-origin.rels";
+    private static final String ORIGIN_CONTENT = "Intentionally empty.";
+    private static final String XML_PATH = "/aasx/xml/content.xml";
+    private static final String XML_RELS_PATH = "/aasx/xml/_rels/content.xml.rels";
+    private static final String CONTENT_TYPES_PATH = "/[Content_Types].xml";
+    private static final String PACKAGE_RELS_PATH = "/_rels/.rels";
+    private static final String CONTENT_TYPE_RELATIONSHIPS = "application/vnd.openxmlformats-package.relationships+xml";
+    private static final String CONTENT_TYPE_XML = "application/xml";
+    private static final String CONTENT_TYPE_TEXT = "text/plain";
+    private static final String CONTENT_TYPE_DEFAULT = "application/octet-stream";
+    private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("^[A-Za-z0-9!#$&^_.+-]+/[A-Za-z0-9!#$&^_.+-]+$");
+    private static final String NAMESPACE_CONTENT_TYPES = "http://schemas.openxmlformats.org/package/2006/content-types";
+    private static final String NAMESPACE_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String PREFIX_FILE_URI = "file://";
+    private static final String PREFIX_FILE = "file:";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String RELATIONSHIP_ID_PREFIX = "R";
+    private static final Set<String> RESERVED_PATHS = Set.of(
+            ORIGIN_PATH,
+            ORIGIN_RELS_PATH,
+            XML_PATH,
+            XML_RELS_PATH,
+            CONTENT_TYPES_PATH,
+            PACKAGE_RELS_PATH);
+
+    private final XmlSerializer xmlSerializer;
+
+    AasxPackageWriter() {
+        this.xmlSerializer = new XmlSerializer();
+    }
+
+
+    /**
+     * Writes an AASX package to the given stream. Files that are not referenced by the environment are ignored. The
+     * stream is not closed.
+     *
+     * @param out the stream to write to
+     * @param environment the environment to write; paths of embedded files are rewritten to {@code file://} URIs
+     * @param files the related files
+     * @throws SerializationException if serializing the environment fails
+     * @throws IOException if reading a file or writing to the stream fails
+     */
+    void write(OutputStream out, Environment environment, Collection<FileContent> files) throws SerializationException, IOException {
+        Map<String, FileContent> filesByPartName = new LinkedHashMap<>();
+        for (FileContent file: files) {
+            String partName = toPartName(file.getPath());
+            if (Objects.isNull(partName) || RESERVED_PATHS.contains(partName)) {
+                LOGGER.warn("file can not be included in AASX package because of invalid path (path: {})", file.getPath());
+                continue;
+            }
+            filesByPartName.putIfAbsent(partName, file);
+        }
+        Map<String, String> parts = new LinkedHashMap<>();
+        visitFileReferences(environment, (path, contentType, update) -> {
+            String partName = toPartName(path);
+            if (Objects.nonNull(partName) && filesByPartName.containsKey(partName) && !parts.containsKey(partName)) {
+                parts.put(partName, getContentType(contentType, filesByPartName.get(partName)));
+            }
+            if (Objects.nonNull(partName) && filesByPartName.containsKey(partName) && !path.startsWith(PREFIX_FILE)) {
+                update.accept(PREFIX_FILE_URI + partName);
+            }
+        });
+        byte[] xml = serializeXml(environment);
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        writeEntry(zip, CONTENT_TYPES_PATH, contentTypes(parts));
+        writeEntry(zip, PACKAGE_RELS_PATH, relationships(Map.of(ORIGIN_PATH, ORIGIN_RELTYPE)));
+        writeEntry(zip, ORIGIN_PATH, ORIGIN_CONTENT.getBytes(StandardCharsets.UTF_8));
+        writeEntry(zip, ORIGIN_RELS_PATH, relationships(Map.of(XML_PATH, AASSPEC_RELTYPE)));
+        writeEntry(zip, XML_PATH, xml);
+        if (!parts.isEmpty()) {
+            Map<String, String> supplementaryRelationships = new LinkedHashMap<>();
+            parts.keySet().forEach(x -> supplementaryRelationships.put(x, AASSUPPL_RELTYPE));
+            writeEntry(zip, XML_RELS_PATH, relationships(supplementaryRelationships));
+        }
+        for (String partName: parts.keySet()) {
+            zip.putNextEntry(new ZipEntry(partName.substring(1)));
+            try (InputStream content = filesByPartName.get(partName).openStream()) {
+                content.transferTo(zip);
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+
+    private byte[] serializeXml(Environment environment) throws SerializationException {
+        try {
+            return xmlSerializer.write(environment).getBytes(StandardCharsets.UTF_8);
+        }
+        catch (org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException e) {
+            throw new SerializationException("AASX serialization failed", e);
+        }
+    }
+
+
+    private static void visitFileReferences(Environment environment, FileReferenceVisitor visitor) {
+        AssetAdministrationShellElementWalker.builder()
+                .visitor(new DefaultAssetAdministrationShellElementVisitor() {
+                    @Override
+                    public void visit(File file) {
+                        if (Objects.nonNull(file.getValue())) {
+                            visitor.visit(file.getValue(), file.getContentType(), file::setValue);
+                        }
+                    }
+
+
+                    @Override
+                    public void visit(AssetInformation assetInformation) {
+                        if (Objects.nonNull(assetInformation.getDefaultThumbnail())
+                                && Objects.nonNull(assetInformation.getDefaultThumbnail().getPath())) {
+                            visitor.visit(
+                                    assetInformation.getDefaultThumbnail().getPath(),
+                                    assetInformation.getDefaultThumbnail().getContentType(),
+                                    assetInformation.getDefaultThumbnail()::setPath);
+                        }
+                    }
+                })
+                .build()
+                .walk(environment);
+    }
+
+
+    private static void writeEntry(ZipOutputStream zip, String partName, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(partName.substring(1)));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+
+    private static byte[] contentTypes(Map<String, String> parts) {
+        StringBuilder result = new StringBuilder()
+                .append(XML_HEADER)
+                .append("<Types xmlns=\"").append(NAMESPACE_CONTENT_TYPES).append("\">")
+                .append("<Default Extension=\"rels\" ContentType=\"").append(CONTENT_TYPE_RELATIONSHIPS).append("\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"").append(CONTENT_TYPE_XML).append("\"/>")
+                .append("<Override PartName=\"").append(ORIGIN_PATH).append("\" ContentType=\"").append(CONTENT_TYPE_TEXT).append("\"/>");
+        parts.forEach((partName, contentType) -> result
+                .append("<Override PartName=\"").append(escapeXml(partName))
+                .append("\" ContentType=\"").append(escapeXml(contentType)).append("\"/>"));
+        return result.append("</Types>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    private static byte[] relationships(Map<String, String> targets) {
+        StringBuilder result = new StringBuilder()
+                .append(XML_HEADER)
+                .append("<Relationships xmlns=\"").append(NAMESPACE_RELATIONSHIPS).append("\">");
+        int id = 1;
+        for (Map.Entry<String, String> target: targets.entrySet()) {
+            result.append("<Relationship Id=\"").append(RELATIONSHIP_ID_PREFIX).append(id++)
+                    .append("\" Type=\"").append(target.getValue())
+                    .append("\" Target=\"").append(escapeXml(target.getKey())).append("\"/>");
+        }
+        return result.append("</Relationships>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    private static String getContentType(String contentType, FileContent file) {
+        String result = Objects.nonNull(contentType) ? contentType : file.getContentType();
+        if (Objects.isNull(result)) {
+            result = URLConnection.guessContentTypeFromName(file.getPath());
+        }
+        if (Objects.isNull(result)) {
+            return CONTENT_TYPE_DEFAULT;
+        }
+        // OPC does not allow parameters in content types of parts
+        result = result.split(";")[0].trim();
+        return CONTENT_TYPE_PATTERN.matcher(result).matches()
+                ? result
+                : CONTENT_TYPE_DEFAULT;
+    }
+
+
+    /**
+     * Converts a file path as used in the environment to the name of the part in the package, i.e. removes the file URI
+     * scheme and ensures the path is absolute.
+     *
+     * @param path the path
+     * @return the part name or null if the path can not be converted to a valid part name
+     */
+    private static String toPartName(String path) {
+        if (Objects.isNull(path)) {
+            return null;
+        }
+        String result = path;
+        if (result.startsWith(PREFIX_FILE_URI)) {
+            result = result.substring(PREFIX_FILE_URI.length());
+        }
+        else if (result.startsWith(PREFIX_FILE)) {
+            result = result.substring(PREFIX_FILE.length());
+        }
+        if (!result.startsWith(PATH_SEPARATOR)) {
+            result = PATH_SEPARATOR + result;
+        }
+        if (result.endsWith(PATH_SEPARATOR) || result.contains("//") || result.contains("/../") || result.contains("/./")) {
+            return null;
+        }
+        // part names requiring percent-encoding can not be resolved when reading the package
+        try {
+            if (!Objects.equals(new URI(null, null, result, null).toASCIIString(), result)) {
+                return null;
+            }
+        }
+        catch (URISyntaxException e) {
+            return null;
+        }
+        return result;
+    }
+
+
+    private static String escapeXml(String value) {
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&apos;");
+    }
+
+    @FunctionalInterface
+    private interface FileReferenceVisitor {
+
+        public void visit(String path, String contentType, Consumer<String> update);
+    }
+}
@@ -15,9 +15,13 @@
 package de.fraunhofer.iosb.ilt.faaast.service.filestorage;
 
 import de.fraunhofer.iosb.ilt.faaast.service.config.Configurable;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.InMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
 
 
 /**
@@ -37,6 +41,26 @@ public interface FileStorage<C extends FileStorageConfig> extends Configurable<C
     public byte[] get(String path) throws ResourceNotFoundException;
 
 
+    /**
+     * Opens a file for reading without loading its content into memory. The content type is guessed based on the
+     * file name and may be null.
+     *
+     * <p>The default implementation is based on {@link #get(String)} and therefore loads the file into memory.
+     * Implementations should override this method if they are able to provide the content as stream.
+     *
+     * @param path the path to the file
+     * @return the file content
+     * @throws ResourceNotFoundException if the path does not exist
+     */
+    public default FileContent openRead(String path) throws ResourceNotFoundException {
+        return FileContent.builder()
+                .path(path)
+                .contentType(URLConnection.guessContentTypeFromName(path))
+                .content(get(path))
+                .build();
+    }
+
+
     /**
      * Returns a boolean for a file existing in the storage.
      *
@@ -56,6 +80,21 @@ public interface FileStorage<C extends FileStorageConfig> extends Configurable<C
     public void save(String path, byte[] content) throws IOException;
 
 
+    /**
+     * Saves the file to given path by reading the content from a stream. The stream is not closed by this method.
+     *
+     * <p>The default implementation reads the stream into memory and calls {@link #save(String, byte[])}.
+     * Implementations should override this method if they are able to store the content without buffering it.
+     *
+     * @param path the path to save the file under
+     * @param content the file content to save
+     * @throws java.io.IOException if reading the stream or saving fails
+     */
+    public default void save(String path, InputStream content) throws IOException {
+        save(path, content.readAllBytes());
+    }
+
+
     /**
      * Deletes the file under given path.
      *
@@ -75,4 +114,35 @@ public interface FileStorage<C extends FileStorageConfig> extends Configurable<C
     public default void save(InMemoryFile file) throws IOException {
         save(file.getPath(), file.getContent());
     }
+
+
+    /**
+     * Saves the file to given path by streaming its content.
+     *
+     * @param file the file to save
+     * @throws java.io.IOException if reading the content or saving fails
+     */
+    public default void save(FileContent file) throws IOException {
+        try (InputStream content = file.openStream()) {
+            save(file.getPath(), content);
+        }
+    }
+
+
+    /**
+     * Saves all files related to an environment, i.e. in-memory files as well as files provided as
+     * {@link FileContent}. The latter are streamed to the storage without loading them into memory first, as long as
+     * the implementation supports this via {@link #save(String, InputStream)}.
+     *
+     * @param context the environment context containing the files
+     * @throws java.io.IOException if saving any file fails
+     */
+    public default void saveAll(EnvironmentContext context) throws IOException {
+        for (org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile file: context.getFiles()) {
+            save(file.getPath(), file.getFileContent());
+        }
+        for (FileContent file: context.getFileContents()) {
+            save(file);
+        }
+    }
 }
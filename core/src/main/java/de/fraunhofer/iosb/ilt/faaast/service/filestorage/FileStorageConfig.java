@@ -14,6 +14,7 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.filestorage;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import de.fraunhofer.iosb.ilt.faaast.service.config.Config;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerializationManager;
@@ -34,12 +35,24 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 public abstract class FileStorageConfig<T extends FileStorage> extends Config<T> {
 
     protected File initialModelFile;
+    @JsonIgnore
+    protected EnvironmentContext initialModel;
 
     public File getInitialModelFile() {
         return initialModelFile;
     }
 
 
+    public EnvironmentContext getInitialModel() {
+        return initialModel;
+    }
+
+
+    public void setInitialModel(EnvironmentContext initialModel) {
+        this.initialModel = initialModel;
+    }
+
+
     public void setInitialModelFile(File initialModelFile) {
         this.initialModelFile = initialModelFile;
     }
@@ -55,6 +68,9 @@ public abstract class FileStorageConfig<T extends FileStorage> extends Config<T>
      * @throws DeserializationException if deserialization fails
      */
     public EnvironmentContext loadInitialModelAndFiles() throws InvalidConfigurationException, DeserializationException {
+        if (Objects.nonNull(initialModel)) {
+            return initialModel;
+        }
         if (Objects.nonNull(initialModelFile)) {
             if (!initialModelFile.exists()) {
                 throw new InvalidConfigurationException(String.format("model file not found (file: %s)", initialModelFile));
@@ -97,5 +113,15 @@ public abstract class FileStorageConfig<T extends FileStorage> extends Config<T>
      */
     public abstract static class AbstractBuilder<T extends FileStorage, C extends FileStorageConfig<T>, B extends AbstractBuilder<T, C, B>> extends ExtendableBuilder<C, B> {
 
+        public B initialModelFile(File value) {
+            getBuildingInstance().setInitialModelFile(value);
+            return getSelf();
+        }
+
+
+        public B initialModel(EnvironmentContext value) {
+            getBuildingInstance().setInitialModel(value);
+            return getSelf();
+        }
     }
 }
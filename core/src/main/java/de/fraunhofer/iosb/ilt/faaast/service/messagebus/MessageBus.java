@@ -19,6 +19,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
+import java.util.List;
 
 
 /**
@@ -38,6 +39,23 @@ public interface MessageBus<T extends MessageBusConfig> extends Configurable<T>
     public void publish(EventMessage message) throws MessageBusException;
 
 
+    /**
+     * Publishes multiple EventMessages to the message bus preserving their order. Implementations may override this to
+     * enqueue all messages at once instead of one by one.
+     *
+     * @param messages the messages which should be published
+     * @throws de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException if publish fails
+     */
+    public default void publishAll(List<? extends EventMessage> messages) throws MessageBusException {
+        if (messages == null) {
+            return;
+        }
+        for (EventMessage message: messages) {
+            publish(message);
+        }
+    }
+
+
     /**
      * Subscribe to event messages published in the message bus. The Subscription Info determines which event messages
      * are considered in detail.
@@ -16,6 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.persistence;
 
 import de.fraunhofer.iosb.ilt.faaast.service.config.Configurable;
 import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Extent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationHandle;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationResult;
@@ -23,9 +24,16 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.Page;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
@@ -183,6 +191,57 @@ public interface Persistence<C extends PersistenceConfig> extends Configurable<C
     }
 
 
+    /**
+     * Signals the start of a batch of modifications. Implementations may use this to defer expensive operations, e.g.
+     * writing the model to disk, until the batch is finished via {@link #endBatch()}. Batches are bound to the calling
+     * thread, i.e. modifications made by other threads are not deferred, and may be nested, i.e. only the outermost
+     * call to {@link #endBatch()} finishes the batch. Every call to this method must be followed by a call to
+     * {@link #endBatch()} on the same thread.
+     */
+    public default void beginBatch() {
+        // intentionally empty
+    }
+
+
+    /**
+     * Signals the end of a batch of modifications started via {@link #beginBatch()}.
+     */
+    public default void endBatch() {
+        // intentionally empty
+    }
+
+
+    /**
+     * Binds a task to the batch of the calling thread so that modifications made by the task become part of that
+     * batch even when the task is executed on another thread. The caller must wait for the task to finish before
+     * calling {@link #endBatch()}. If the calling thread is not inside a batch, the task is not modified.
+     *
+     * @param <T> the result type of the task
+     * @param task the task to bind
+     * @return a task that executes the given task as part of the batch of the calling thread
+     */
+    public default <T> Supplier<T> bindToCurrentBatch(Supplier<T> task) {
+        return task;
+    }
+
+
+    /**
+     * Gets version information for an {@code org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell},
+     * {@code org.eclipse.digitaltwin.aas4j.v3.model.Submodel},
+     * {@code org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription} or
+     * {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}. The version changes whenever the element itself
+     * or any of its child elements is modified via this persistence. Implementations that do not track versions return
+     * an empty optional.
+     *
+     * @param reference the reference to the element
+     * @return the version information if supported, otherwise empty optional
+     * @throws ResourceNotFoundException if the element does not exist
+     */
+    public default Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException {
+        return Optional.empty();
+    }
+
+
     /**
      * Gets an {@code de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationResult} by its handle.
      *
@@ -403,6 +462,48 @@ public interface Persistence<C extends PersistenceConfig> extends Configurable<C
     }
 
 
+    /**
+     * Sets the values of multiple {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement}s at once, e.g. values
+     * received from assets. All elements are resolved and checked before any value is set, i.e. if an element cannot be
+     * found or the type of its new value does not match, no value is updated. Modifications are made as a single batch.
+     * Implementations may override this to update the values in place instead of fetching and replacing each element.
+     *
+     * @param values the new values by reference of the element
+     * @return the previous values by reference of the element in the same order as the new values
+     * @throws ResourceNotFoundException if any of the elements cannot be found
+     * @throws ValueMappingException if the type of any of the new values does not match the type of its element
+     */
+    public default Map<Reference, ElementValue> updateValues(Map<Reference, ? extends ElementValue> values) throws ResourceNotFoundException, ValueMappingException {
+        Ensure.requireNonNull(values, "values must be non-null");
+        QueryModifier modifier = new QueryModifier.Builder()
+                .extend(Extent.WITH_BLOB_VALUE)
+                .build();
+        Map<Reference, SubmodelElement> elements = new LinkedHashMap<>();
+        Map<Reference, ElementValue> result = new LinkedHashMap<>();
+        for (Map.Entry<Reference, ? extends ElementValue> entry: values.entrySet()) {
+            SubmodelElement element = getSubmodelElement(entry.getKey(), modifier);
+            ElementValue oldValue = ElementValueMapper.toValue(element);
+            if (Objects.isNull(entry.getValue()) || !oldValue.getClass().isAssignableFrom(entry.getValue().getClass())) {
+                throw new ValueMappingException(String.format("value type does not match element (reference: %s, expected type: %s)",
+                        ReferenceHelper.toString(entry.getKey()),
+                        oldValue.getClass().getSimpleName()));
+            }
+            elements.put(entry.getKey(), element);
+            result.put(entry.getKey(), oldValue);
+        }
+        beginBatch();
+        try {
+            for (Map.Entry<Reference, SubmodelElement> entry: elements.entrySet()) {
+                update(entry.getKey(), ElementValueMapper.setValue(entry.getValue(), values.get(entry.getKey())));
+            }
+        }
+        finally {
+            endBatch();
+        }
+        return result;
+    }
+
+
     /**
      * Gets a {@code org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement} by idShort path.
      *
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.persistence;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
+
+
+/**
+ * Version information of an element stored in a persistence. The version is a monotonically increasing number that
+ * changes whenever the element itself or any of its child elements is modified.
+ */
+public class VersionInfo {
+
+    private long version;
+    private Instant lastModified;
+
+    public long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        VersionInfo other = (VersionInfo) o;
+        return Objects.equals(version, other.version)
+                && Objects.equals(lastModified, other.lastModified);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, lastModified);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public abstract static class AbstractBuilder<T extends VersionInfo, B extends AbstractBuilder<T, B>> extends ExtendableBuilder<T, B> {
+
+        public B version(long value) {
+            getBuildingInstance().setVersion(value);
+            return getSelf();
+        }
+
+
+        public B lastModified(Instant value) {
+            getBuildingInstance().setLastModified(value);
+            return getSelf();
+        }
+    }
+
+    public static class Builder extends AbstractBuilder<VersionInfo, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected VersionInfo newBuildingInstance() {
+            return new VersionInfo();
+        }
+    }
+}
@@ -14,6 +14,14 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.persistence.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Extent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Level;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
@@ -22,8 +30,16 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.AssetAdministrationSh
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementSubtypeResolvingVisitor;
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementVisitor;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonMapperFactory;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.SimpleAbstractTypeResolverFactory;
 import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -36,9 +52,63 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
  */
 public class QueryModifierHelper {
 
+    private static final String ATTRIBUTE_PROJECTION = QueryModifierHelper.class.getName() + ".projection";
+    private static final String PROPERTY_VALUE = "value";
+    private static final JsonMapper MAPPER = createProjectionMapper();
+
     private QueryModifierHelper() {}
 
 
+    /**
+     * Creates a deep copy of a referable with the {@link QueryModifier} already applied. In contrast to creating a deep
+     * copy via {@link de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper} and applying the modifier afterwards
+     * using {@link #applyQueryModifier(Referable, QueryModifier)}, elements removed by the modifier (blob values and
+     * values of sub-collections) are never copied. The input is not modified.
+     *
+     * @param <T> type of the referable
+     * @param referable the referable to copy
+     * @param modifier the modifier to apply
+     * @return a deep copy of the referable with the modifier applied
+     * @throws IllegalArgumentException if referable is null
+     * @throws IllegalArgumentException if modifier is null
+     * @throws IllegalArgumentException if creating the copy fails
+     */
+    public static <T extends Referable> T copyWithQueryModifier(T referable, QueryModifier modifier) {
+        Ensure.requireNonNull(referable, "referable must be non-null");
+        Ensure.requireNonNull(modifier, "modifier must be non-null");
+        try {
+            byte[] projection = MAPPER.writer()
+                    .withAttribute(ATTRIBUTE_PROJECTION, new Projection(referable, modifier))
+                    .writeValueAsBytes(referable);
+            return (T) MAPPER.readValue(projection, referable.getClass());
+        }
+        catch (IOException e) {
+            throw new IllegalArgumentException("creating copy with query modifier failed", e);
+        }
+    }
+
+
+    /**
+     * Creates deep copies of a list of referables with the {@link QueryModifier} already applied, see
+     * {@link #copyWithQueryModifier(Referable, QueryModifier)}.
+     *
+     * @param <T> type of the referables
+     * @param list the referables to copy
+     * @param modifier the modifier to apply
+     * @return a list of deep copies with the modifier applied
+     * @throws IllegalArgumentException if modifier is null
+     * @throws IllegalArgumentException if creating a copy fails
+     */
+    public static <T extends Referable> List<T> copyWithQueryModifier(List<T> list, QueryModifier modifier) {
+        if (list == null) {
+            return null;
+        }
+        return list.stream()
+                .map(x -> copyWithQueryModifier(x, modifier))
+                .collect(Collectors.toList());
+    }
+
+
     /**
      * Apply the {@link QueryModifier} to a list of referables Consider the
      * {@link de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Extent} and {@link Level} of a query modifier If
@@ -120,4 +190,82 @@ public class QueryModifierHelper {
             }.visit(referable);
         }
     }
+
+
+    private static JsonMapper createProjectionMapper() {
+        JsonMapper result = new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create());
+        result.registerModule(new SimpleModule().setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                Class<?> type = beanDesc.getBeanClass();
+                if (!Blob.class.isAssignableFrom(type) && !SubmodelElementCollection.class.isAssignableFrom(type)) {
+                    return beanProperties;
+                }
+                return beanProperties.stream()
+                        .map(x -> Objects.equals(PROPERTY_VALUE, x.getName())
+                                ? new ProjectingPropertyWriter(x)
+                                : x)
+                        .collect(Collectors.toList());
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * Information about what to exclude when creating a copy.
+     */
+    private static class Projection {
+
+        private final boolean withoutBlobValue;
+        private final Set<Object> collectionsWithoutValue;
+
+        private Projection(Referable root, QueryModifier modifier) {
+            this.withoutBlobValue = modifier.getExtent() == Extent.WITHOUT_BLOB_VALUE;
+            this.collectionsWithoutValue = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (modifier.getLevel() == Level.CORE) {
+                Collection<SubmodelElement> children = null;
+                if (root instanceof Submodel) {
+                    children = ((Submodel) root).getSubmodelElements();
+                }
+                else if (root instanceof SubmodelElementCollection) {
+                    children = ((SubmodelElementCollection) root).getValue();
+                }
+                if (Objects.nonNull(children)) {
+                    children.stream()
+                            .filter(SubmodelElementCollection.class::isInstance)
+                            .forEach(collectionsWithoutValue::add);
+                }
+            }
+        }
+
+
+        private boolean isExcluded(Object bean) {
+            return bean instanceof Blob
+                    ? withoutBlobValue
+                    : collectionsWithoutValue.contains(bean);
+        }
+    }
+
+    /**
+     * Property writer that skips the value property of blobs and sub-collections according to the current
+     * {@link Projection}.
+     */
+    private static class ProjectingPropertyWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        private ProjectingPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Object projection = prov.getAttribute(ATTRIBUTE_PROJECTION);
+            if (projection instanceof Projection && ((Projection) projection).isExcluded(bean)) {
+                return;
+            }
+            super.serializeAsField(bean, gen, prov);
+        }
+    }
 }
@@ -30,8 +30,10 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -51,6 +53,7 @@ public class RequestHandlerManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestHandlerManager.class);
     private Map<Class<? extends Request>, ? extends AbstractRequestHandler> handlers;
     private ExecutorService requestHandlerExecutorService;
+    private ExecutorService batchExecutorService;
     private final RequestExecutionContext context;
 
     public RequestHandlerManager(RequestExecutionContext context) {
@@ -100,6 +103,14 @@ public class RequestHandlerManager {
                 new BasicThreadFactory.Builder()
                         .namingPattern("RequestHandler" + "-%d")
                         .build());
+        // separate pool for parallel batch items as the caller blocks until all items are done and therefore must not
+        // compete with async requests (e.g. long-running operations) for threads of the request handler pool
+        batchExecutorService = Executors.newFixedThreadPool(
+                context.getCoreConfig().getRequestHandlerThreadPoolSize(),
+                new BasicThreadFactory.Builder()
+                        .namingPattern("BatchRequestHandler" + "-%d")
+                        .daemon(true)
+                        .build());
     }
 
 
@@ -108,6 +119,7 @@ public class RequestHandlerManager {
      * calling this method.
      */
     public void shutdown() {
+        batchExecutorService.shutdownNow();
         requestHandlerExecutorService.shutdown();
         try {
             if (requestHandlerExecutorService.awaitTermination(2, TimeUnit.SECONDS)) {
@@ -156,6 +168,52 @@ public class RequestHandlerManager {
     }
 
 
+    /**
+     * Executes multiple requests synchroniously, i.e. returns once all requests have been executed.
+     *
+     * @param requests the requests to execute
+     * @param parallel if true, requests are executed in parallel using a dedicated batch thread pool and the calling
+     *            thread, otherwise requests are executed sequentially in the given order
+     * @return the responses in the same order as the requests
+     * @throws IllegalArgumentException if requests is null
+     */
+    public List<Response> executeAll(List<? extends Request<? extends Response>> requests, boolean parallel) {
+        if (requests == null) {
+            throw new IllegalArgumentException("requests must be non-null");
+        }
+        if (!parallel) {
+            return requests.stream()
+                    .map(this::executeSafely)
+                    .collect(Collectors.toList());
+        }
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<Response>> futures = requests.stream()
+                .skip(1)
+                .map(x -> CompletableFuture.supplyAsync(context.getPersistence().bindToCurrentBatch(() -> executeSafely(x)), batchExecutorService))
+                .collect(Collectors.toList());
+        // the calling thread would otherwise only wait, so it executes the first request itself
+        List<Response> result = new ArrayList<>(requests.size());
+        result.add(executeSafely(requests.get(0)));
+        futures.stream()
+                .map(CompletableFuture::join)
+                .forEach(result::add);
+        return result;
+    }
+
+
+    private Response executeSafely(Request<? extends Response> request) {
+        try {
+            return execute(request);
+        }
+        catch (Exception e) {
+            LOGGER.trace("Error while executing request", e);
+            return createResponse(request, StatusCode.SERVER_INTERNAL_ERROR, MessageType.EXCEPTION, e);
+        }
+    }
+
+
     private static <I extends Request<O>, O extends Response> O createResponse(I request, StatusCode statusCode, MessageType messageType, Exception e) {
         return createResponse(request, statusCode, messageType, e.getMessage());
     }
@@ -120,6 +120,7 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
             return;
         }
         Map<SubmodelElement, ElementValue> updatedSubmodelElements = new HashMap<>();
+        Map<SubmodelElement, ElementValue> oldValues = new HashMap<>();
         for (SubmodelElement submodelElement: submodelElements) {
             Reference reference = AasUtils.toReference(parent, submodelElement);
             Optional<DataElementValue> newValue = context.getAssetConnectionManager().readValue(reference);
@@ -127,6 +128,7 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
                 ElementValue oldValue = ElementValueMapper.toValue(submodelElement);
                 if (!Objects.equals(oldValue, newValue.get())) {
                     updatedSubmodelElements.put(submodelElement, newValue.get());
+                    oldValues.put(submodelElement, oldValue);
                 }
             }
             else if (SubmodelElementCollection.class.isAssignableFrom(submodelElement.getClass())) {
@@ -145,8 +147,8 @@ public abstract class AbstractRequestHandler<I extends Request<O>, O extends Res
             if (publishOnMessageBus) {
                 context.getMessageBus().publish(ValueChangeEventMessage.builder()
                         .element(reference)
-                        .oldValue(ElementValueMapper.toValue(oldElement))
-                        .newValue(ElementValueMapper.toValue(newElement))
+                        .oldValue(oldValues.get(oldElement))
+                        .newValue(update.getValue())
                         .build());
             }
         }
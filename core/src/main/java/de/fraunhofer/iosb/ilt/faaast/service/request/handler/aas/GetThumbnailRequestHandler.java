@@ -15,7 +15,7 @@
 package de.fraunhofer.iosb.ilt.faaast.service.request.handler.aas;
 
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aas.GetThumbnailRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aas.GetThumbnailResponse;
@@ -25,6 +25,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.request.handler.RequestExecutionCon
 import de.fraunhofer.iosb.ilt.faaast.service.util.StringHelper;
 import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
 
 
 /**
@@ -45,12 +46,14 @@ public class GetThumbnailRequestHandler extends AbstractRequestHandler<GetThumbn
                 || StringHelper.isBlank(aas.getAssetInformation().getDefaultThumbnail().getPath())) {
             throw new ResourceNotFoundException(String.format("no thumbnail information set for AAS (id: %s)", request.getId()));
         }
+        Resource thumbnail = aas.getAssetInformation().getDefaultThumbnail();
+        FileContent content = context.getFileStorage().openRead(thumbnail.getPath());
+        content.setPath(thumbnail.getPath());
+        if (Objects.nonNull(thumbnail.getContentType())) {
+            content.setContentType(thumbnail.getContentType());
+        }
         return GetThumbnailResponse.builder()
-                .payload(new TypedInMemoryFile.Builder()
-                        .content(context.getFileStorage().get(aas.getAssetInformation().getDefaultThumbnail().getPath()))
-                        .contentType(aas.getAssetInformation().getDefaultThumbnail().getContentType())
-                        .path(aas.getAssetInformation().getDefaultThumbnail().getPath())
-                        .build())
+                .payload(content)
                 .success()
                 .build();
     }
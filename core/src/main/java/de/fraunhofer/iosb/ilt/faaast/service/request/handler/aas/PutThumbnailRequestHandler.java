@@ -15,7 +15,6 @@
 package de.fraunhofer.iosb.ilt.faaast.service.request.handler.aas;
 
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
-import de.fraunhofer.iosb.ilt.faaast.service.model.InMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aas.PutThumbnailRequest;
@@ -52,10 +51,7 @@ public class PutThumbnailRequestHandler extends AbstractRequestHandler<PutThumbn
                 .contentType(request.getContent().getContentType())
                 .build());
         context.getPersistence().save(aas);
-        context.getFileStorage().save(InMemoryFile.builder()
-                .content(request.getContent().getContent())
-                .path(path)
-                .build());
+        context.getFileStorage().save(request.getContent());
         if (!request.isInternal()) {
             context.getMessageBus().publish(ElementUpdateEventMessage.builder()
                     .value(aas)
@@ -16,6 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.request.handler.aasserialization;
 
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Content;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Extent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Level;
@@ -24,6 +25,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aasserialization.GenerateSerializationByIdsResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.AssetAdministrationShellElementWalker;
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementVisitor;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.ConceptDescriptionSearchCriteria;
@@ -32,11 +34,14 @@ import de.fraunhofer.iosb.ilt.faaast.service.request.handler.RequestExecutionCon
 import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 
 
@@ -88,14 +93,43 @@ public class GenerateSerializationByIdsRequestHandler extends AbstractRequestHan
                             : List.of())
                     .build();
         }
-        List<InMemoryFile> files = new ArrayList<>();
+        return GenerateSerializationByIdsResponse.builder()
+                .dataformat(request.getSerializationFormat())
+                .payload(EnvironmentContext.builder()
+                        .environment(environment)
+                        .fileContents(request.getSerializationFormat() == DataFormat.AASX
+                                ? getRelatedFiles(environment)
+                                : new ArrayList<>())
+                        .build())
+                .success()
+                .build();
+    }
+
+
+    /**
+     * Collects all files referenced by the environment. Files are only opened but not read, i.e. their content is read
+     * when they are actually serialized.
+     *
+     * @param environment the environment
+     * @return the related files
+     * @throws ResourceNotFoundException if a thumbnail does not exist in the file storage
+     */
+    private List<FileContent> getRelatedFiles(Environment environment) throws ResourceNotFoundException {
+        // files are often referenced by multiple elements, each file is only included once
+        Map<String, FileContent> files = new LinkedHashMap<>();
         AssetAdministrationShellElementWalker.builder()
                 .visitor(new DefaultAssetAdministrationShellElementVisitor() {
                     @Override
                     public void visit(File file) {
                         try {
-                            if (context.getFileStorage().contains(file.getValue())) {
-                                files.add(new InMemoryFile(context.getFileStorage().get(file.getValue()), file.getValue()));
+                            if (Objects.nonNull(file.getValue())
+                                    && !files.containsKey(file.getValue())
+                                    && context.getFileStorage().contains(file.getValue())) {
+                                FileContent content = context.getFileStorage().openRead(file.getValue());
+                                if (Objects.nonNull(file.getContentType())) {
+                                    content.setContentType(file.getContentType());
+                                }
+                                files.put(file.getValue(), content);
                             }
                         }
                         catch (ResourceNotFoundException e) {
@@ -105,22 +139,22 @@ public class GenerateSerializationByIdsRequestHandler extends AbstractRequestHan
                 })
                 .build()
                 .walk(environment);
-        files.addAll(environment.getAssetAdministrationShells().stream()
+        List<Resource> thumbnails = environment.getAssetAdministrationShells().stream()
                 .filter(Objects::nonNull)
                 .filter(x -> Objects.nonNull(x.getAssetInformation()))
                 .filter(x -> Objects.nonNull(x.getAssetInformation().getDefaultThumbnail()))
                 .filter(x -> Objects.nonNull(x.getAssetInformation().getDefaultThumbnail().getPath()))
-                .distinct()
-                .map(x -> x.getAssetInformation().getDefaultThumbnail().getPath())
-                .map(LambdaExceptionHelper.rethrowFunction(x -> new InMemoryFile(context.getFileStorage().get(x), x)))
-                .collect(Collectors.toList()));
-        return GenerateSerializationByIdsResponse.builder()
-                .dataformat(request.getSerializationFormat())
-                .payload(EnvironmentContext.builder()
-                        .environment(environment)
-                        .files(files)
-                        .build())
-                .success()
-                .build();
+                .map(x -> x.getAssetInformation().getDefaultThumbnail())
+                .collect(Collectors.toList());
+        for (Resource thumbnail: thumbnails) {
+            if (!files.containsKey(thumbnail.getPath())) {
+                FileContent content = context.getFileStorage().openRead(thumbnail.getPath());
+                if (Objects.nonNull(thumbnail.getContentType())) {
+                    content.setContentType(thumbnail.getContentType());
+                }
+                files.put(thumbnail.getPath(), content);
+            }
+        }
+        return new ArrayList<>(files.values());
     }
 }
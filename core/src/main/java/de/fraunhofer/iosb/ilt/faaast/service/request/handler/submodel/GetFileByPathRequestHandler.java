@@ -16,7 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.request.handler.submodel;
 
 import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetFileByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetFileByPathResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
@@ -57,12 +57,13 @@ public class GetFileByPathRequestHandler extends AbstractSubmodelInterfaceReques
         if (Objects.isNull(file.getValue())) {
             throw new ResourceNotFoundException(String.format("could not find file for path '%s'", request.getPath()));
         }
+        FileContent content = context.getFileStorage().openRead(file.getValue());
+        content.setPath(file.getValue());
+        if (Objects.nonNull(file.getContentType())) {
+            content.setContentType(file.getContentType());
+        }
         return GetFileByPathResponse.builder()
-                .payload(new TypedInMemoryFile.Builder()
-                        .content(context.getFileStorage().get(file.getValue()))
-                        .contentType(file.getContentType())
-                        .path(file.getValue())
-                        .build())
+                .payload(content)
                 .success()
                 .build();
     }
@@ -52,7 +52,7 @@ public class PutFileByPathRequestHandler extends AbstractSubmodelInterfaceReques
         file.setContentType(request.getContent().getContentType());
         file.setValue(request.getContent().getPath());
         context.getPersistence().update(reference, file);
-        context.getFileStorage().save(file.getValue(), request.getContent().getContent());
+        context.getFileStorage().save(request.getContent());
         if (!request.isInternal()) {
             context.getMessageBus().publish(ValueChangeEventMessage.builder()
                     .element(reference)
@@ -46,6 +46,14 @@ public class ContainerTypeInfo<T> extends TypeInfo<T> {
     }
 
 
+    @Override
+    public ContainerTypeInfo<T> copy() {
+        ContainerTypeInfo<T> result = copyTo(new ContainerTypeInfo<>());
+        result.setContentType(contentType);
+        return result;
+    }
+
+
     public static <T> Builder<T> builder() {
         return new Builder<>();
     }
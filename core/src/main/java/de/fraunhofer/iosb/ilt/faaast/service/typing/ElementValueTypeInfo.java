@@ -65,6 +65,14 @@ public class ElementValueTypeInfo extends TypeInfo<String> {
         return Objects.hash(super.hashCode(), datatype);
     }
 
+
+    @Override
+    public ElementValueTypeInfo copy() {
+        ElementValueTypeInfo result = copyTo(new ElementValueTypeInfo());
+        result.setDatatype(datatype);
+        return result;
+    }
+
     public abstract static class AbstractBuilder<T extends ElementValueTypeInfo, B extends AbstractBuilder<T, B>> extends TypeInfo.AbstractBuilder<String, T, B> {
 
         public B datatype(Datatype value) {
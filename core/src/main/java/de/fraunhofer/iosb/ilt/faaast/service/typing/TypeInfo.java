@@ -49,6 +49,36 @@ public abstract class TypeInfo<T> {
     }
 
 
+    /**
+     * Creates a deep copy of this type information, i.e. modifying the copy or any of its elements does not affect
+     * this instance.
+     *
+     * @return the copy
+     */
+    public abstract TypeInfo<T> copy();
+
+
+    /**
+     * Copies type and (deep copies of the) elements of this instance to {@code target}.
+     *
+     * @param <I> the actual type of the target
+     * @param target the target to copy to
+     * @return the target
+     */
+    protected <I extends TypeInfo<T>> I copyTo(I target) {
+        target.setType(type);
+        if (Objects.nonNull(elements)) {
+            Map<T, TypeInfo<?>> copiedElements = new HashMap<>();
+            elements.forEach((key, value) -> copiedElements.put(key, Objects.nonNull(value) ? value.copy() : null));
+            target.setElements(copiedElements);
+        }
+        else {
+            target.setElements(null);
+        }
+        return target;
+    }
+
+
     public Class<?> getType() {
         return type;
     }
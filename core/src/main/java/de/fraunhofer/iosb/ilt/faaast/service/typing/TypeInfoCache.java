@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.typing;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.IdShortPath;
+import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper.FunctionWithExceptions;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+
+/**
+ * Cache for type information of submodel elements. Entries are identified by submodel ID and idShort path, i.e.
+ * different references to the same element (e.g. with or without AAS key or with different key types) share the same
+ * entry. As the type information of an element also contains the type information of its children, invalidating an
+ * element removes all cached entries of its parents and children as well.
+ *
+ * <p>Cached type information is never handed out directly but only as a copy so that callers modifying the returned
+ * instance cannot corrupt the cache.
+ */
+public class TypeInfoCache {
+
+    private final Map<SubmodelElementIdentifier, TypeInfo<?>> cache;
+    private final AtomicLong generation;
+
+    public TypeInfoCache() {
+        this.cache = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+
+    /**
+     * Gets the type information for given reference from the cache or loads it using {@code loader} if not present.
+     * References that cannot be converted to a {@link SubmodelElementIdentifier} are not cached.
+     *
+     * @param reference the reference
+     * @param loader the loader to use if type information is not yet cached
+     * @return a copy of the type information
+     * @throws ResourceNotFoundException if the reference cannot be resolved
+     * @throws IllegalArgumentException if loader is null
+     */
+    public TypeInfo<?> get(Reference reference, FunctionWithExceptions<Reference, TypeInfo<?>, ResourceNotFoundException> loader) throws ResourceNotFoundException {
+        Ensure.requireNonNull(loader, "loader must be non-null");
+        SubmodelElementIdentifier key = toKey(reference);
+        if (Objects.isNull(key)) {
+            return loader.apply(reference);
+        }
+        TypeInfo<?> result = cache.get(key);
+        if (Objects.isNull(result)) {
+            // do not cache results loaded while an invalidation happened as they might already be outdated
+            long generationBeforeLoad = generation.get();
+            result = loader.apply(reference);
+            if (Objects.nonNull(result) && generation.get() == generationBeforeLoad) {
+                cache.put(key, result);
+                // an invalidation between the check and put might not have seen the new entry
+                if (generation.get() != generationBeforeLoad) {
+                    cache.remove(key, result);
+                }
+            }
+        }
+        return Objects.nonNull(result) ? result.copy() : null;
+    }
+
+
+    /**
+     * Removes the cached type information of the element identified by {@code reference} as well as of all its parents
+     * and children. If the reference does not point to a submodel or submodel element, nothing happens.
+     *
+     * @param reference the reference of the changed element
+     */
+    public void invalidate(Reference reference) {
+        invalidate(toKey(reference));
+    }
+
+
+    /**
+     * Removes the cached type information of the element identified by {@code identifier} as well as of all its parents
+     * and children. If the identifier is null, nothing happens.
+     *
+     * @param changed the identifier of the changed element
+     */
+    public void invalidate(SubmodelElementIdentifier changed) {
+        if (Objects.isNull(changed)
+                || Objects.isNull(changed.getSubmodelId())
+                || Objects.isNull(changed.getIdShortPath())) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.keySet().removeIf(x -> Objects.equals(x.getSubmodelId(), changed.getSubmodelId())
+                && (isPrefix(x.getIdShortPath(), changed.getIdShortPath())
+                        || isPrefix(changed.getIdShortPath(), x.getIdShortPath())));
+    }
+
+
+    /**
+     * Removes the cached type information of all elements of a submodel.
+     *
+     * @param submodelId the id of the changed submodel
+     */
+    public void invalidateSubmodel(String submodelId) {
+        invalidate(SubmodelElementIdentifier.builder()
+                .submodelId(submodelId)
+                .idShortPath(IdShortPath.EMPTY)
+                .build());
+    }
+
+
+    /**
+     * Removes all cached type information.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+
+    private static boolean isPrefix(IdShortPath prefix, IdShortPath path) {
+        List<String> prefixElements = prefix.getElements();
+        List<String> pathElements = path.getElements();
+        return prefixElements.size() <= pathElements.size()
+                && Objects.equals(prefixElements, pathElements.subList(0, prefixElements.size()));
+    }
+
+
+    private static SubmodelElementIdentifier toKey(Reference reference) {
+        if (Objects.isNull(reference)
+                || Objects.isNull(reference.getKeys())
+                || reference.getKeys().stream().noneMatch(x -> x.getType() == KeyTypes.SUBMODEL)) {
+            return null;
+        }
+        try {
+            return SubmodelElementIdentifier.fromReference(reference);
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
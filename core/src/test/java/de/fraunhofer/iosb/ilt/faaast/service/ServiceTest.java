@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.fraunhofer.iosb.ilt.faaast.service.assetconnection.AssetConnectionException;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
+import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ServiceTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference PROPERTY_1 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property1");
+    private static final Reference PROPERTY_2 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property2");
+    private Persistence persistence;
+    private MessageBus messageBus;
+    private Service service;
+
+    @Before
+    public void init() throws ConfigurationException, AssetConnectionException {
+        persistence = mock(Persistence.class);
+        messageBus = mock(MessageBus.class);
+        service = new Service(CoreConfig.DEFAULT, persistence, mock(FileStorage.class), messageBus, List.of(), List.of());
+    }
+
+
+    @Test
+    public void testSetValuesPublishesAllEventsAtOnce() throws ResourceNotFoundException, ValueMappingException, MessageBusException {
+        Map<Reference, ElementValue> values = Map.of(
+                PROPERTY_1, new PropertyValue(new IntValue(1)),
+                PROPERTY_2, new PropertyValue(new IntValue(2)));
+        Map<Reference, ElementValue> oldValues = new LinkedHashMap<>();
+        oldValues.put(PROPERTY_1, new PropertyValue(new IntValue(10)));
+        oldValues.put(PROPERTY_2, new PropertyValue(new IntValue(20)));
+        when(persistence.updateValues(values)).thenReturn(oldValues);
+        Assert.assertTrue(service.setValues(values).isEmpty());
+        verify(messageBus).publishAll(List.of(
+                ValueChangeEventMessage.builder()
+                        .element(PROPERTY_1)
+                        .oldValue(new PropertyValue(new IntValue(10)))
+                        .newValue(new PropertyValue(new IntValue(1)))
+                        .build(),
+                ValueChangeEventMessage.builder()
+                        .element(PROPERTY_2)
+                        .oldValue(new PropertyValue(new IntValue(20)))
+                        .newValue(new PropertyValue(new IntValue(2)))
+                        .build()));
+        verify(messageBus, never()).publish(any());
+    }
+
+
+    @Test
+    public void testSetValuesEmpty() throws ResourceNotFoundException, ValueMappingException, MessageBusException {
+        Assert.assertTrue(service.setValues(Map.of()).isEmpty());
+        verify(persistence, never()).updateValues(any());
+        verify(messageBus, never()).publishAll(any());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.PersistenceConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.ContainerTypeInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeInfoCache;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TypeInfoCacheInvalidatingPersistenceTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference ELEMENT = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "collection", "property");
+    private static final SubmodelElementIdentifier IDENTIFIER = SubmodelElementIdentifier.fromReference(ELEMENT);
+    private Persistence<PersistenceConfig> persistence;
+    private TypeInfoCache cache;
+    private TypeInfoCacheInvalidatingPersistence wrapper;
+    private AtomicInteger loadCount;
+
+    @Before
+    public void init() {
+        persistence = mock(Persistence.class);
+        cache = new TypeInfoCache();
+        wrapper = new TypeInfoCacheInvalidatingPersistence(persistence, cache);
+        loadCount = new AtomicInteger();
+    }
+
+
+    private TypeInfo<?> load(Reference reference) {
+        loadCount.incrementAndGet();
+        return ContainerTypeInfo.builder()
+                .type(SubmodelElementCollection.class)
+                .build();
+    }
+
+
+    private void assertInvalidated() throws ResourceNotFoundException {
+        int before = loadCount.get();
+        cache.get(ELEMENT, this::load);
+        Assert.assertEquals(before + 1, loadCount.get());
+    }
+
+
+    @Test
+    public void testUpdateInvalidates() throws ResourceNotFoundException {
+        cache.get(ELEMENT, this::load);
+        wrapper.update(IDENTIFIER, new DefaultProperty());
+        verify(persistence).update(IDENTIFIER, new DefaultProperty());
+        assertInvalidated();
+    }
+
+
+    @Test
+    public void testUpdateValuesInvalidates() throws ResourceNotFoundException, ValueMappingException {
+        cache.get(ELEMENT, this::load);
+        Map<Reference, ElementValue> values = Map.of(ELEMENT, new PropertyValue(new IntValue(42)));
+        wrapper.updateValues(values);
+        verify(persistence).updateValues(values);
+        assertInvalidated();
+    }
+
+
+    @Test
+    public void testInsertInvalidatesParent() throws Exception {
+        cache.get(ELEMENT, this::load);
+        SubmodelElementIdentifier parent = SubmodelElementIdentifier.fromReference(ReferenceBuilder.forSubmodel(SUBMODEL_ID, "collection"));
+        wrapper.insert(parent, new DefaultProperty());
+        assertInvalidated();
+    }
+
+
+    @Test
+    public void testDeleteInvalidates() throws ResourceNotFoundException {
+        cache.get(ELEMENT, this::load);
+        wrapper.deleteSubmodelElement(IDENTIFIER);
+        assertInvalidated();
+        wrapper.deleteSubmodel(SUBMODEL_ID);
+        assertInvalidated();
+    }
+
+
+    @Test
+    public void testSaveSubmodelInvalidates() throws ResourceNotFoundException {
+        cache.get(ELEMENT, this::load);
+        wrapper.save(new DefaultSubmodel.Builder()
+                .id(SUBMODEL_ID)
+                .build());
+        assertInvalidated();
+    }
+
+
+    @Test
+    public void testFailedUpdateInvalidates() throws ResourceNotFoundException {
+        cache.get(ELEMENT, this::load);
+        doThrow(new ResourceNotFoundException("not found")).when(persistence).update(any(SubmodelElementIdentifier.class), any());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> wrapper.update(IDENTIFIER, new DefaultProperty()));
+        assertInvalidated();
+    }
+}
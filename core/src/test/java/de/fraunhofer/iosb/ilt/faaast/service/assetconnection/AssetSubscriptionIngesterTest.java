@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.assetconnection;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class AssetSubscriptionIngesterTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference PROPERTY_1 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property1");
+    private static final Reference PROPERTY_2 = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "property2");
+
+    @Test
+    public void testCoalescingAndBatching() throws InterruptedException {
+        ServiceContext serviceContext = mock(ServiceContext.class);
+        List<Map<Reference, ElementValue>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchReleased = new CountDownLatch(1);
+        CountDownLatch secondBatchFinished = new CountDownLatch(1);
+        doAnswer(x -> {
+            Map<Reference, ElementValue> values = x.getArgument(0);
+            batches.add(new LinkedHashMap<>(values));
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                firstBatchReleased.await(5, TimeUnit.SECONDS);
+            }
+            else {
+                secondBatchFinished.countDown();
+            }
+            return Map.of();
+        }).when(serviceContext).setValues(any());
+        AssetSubscriptionIngester ingester = new AssetSubscriptionIngester(serviceContext, "test ingester");
+        ingester.start();
+        try {
+            ingester.offer(PROPERTY_1, new PropertyValue(new IntValue(1)));
+            Assert.assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+            ingester.offer(PROPERTY_1, new PropertyValue(new IntValue(2)));
+            ingester.offer(PROPERTY_2, new PropertyValue(new IntValue(10)));
+            ingester.offer(PROPERTY_1, new PropertyValue(new IntValue(3)));
+            firstBatchReleased.countDown();
+            Assert.assertTrue(secondBatchFinished.await(5, TimeUnit.SECONDS));
+        }
+        finally {
+            ingester.stop();
+        }
+        Assert.assertEquals(2, batches.size());
+        Assert.assertEquals(Map.of(PROPERTY_1, new PropertyValue(new IntValue(1))), batches.get(0));
+        Map<Reference, ElementValue> secondBatch = batches.get(1);
+        Assert.assertEquals(List.of(PROPERTY_1, PROPERTY_2), List.copyOf(secondBatch.keySet()));
+        Assert.assertEquals(new PropertyValue(new IntValue(3)), secondBatch.get(PROPERTY_1));
+        Assert.assertEquals(new PropertyValue(new IntValue(10)), secondBatch.get(PROPERTY_2));
+    }
+}
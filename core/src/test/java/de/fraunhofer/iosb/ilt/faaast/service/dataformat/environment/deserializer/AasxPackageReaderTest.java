@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.deserializer;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.serializer.AasxEnvironmentSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class AasxPackageReaderTest {
+
+    private static final String PATH_URI = "file:///TestFile.pdf";
+    private static final String PATH_ABSOLUTE = "/aasx/files/absolute.pdf";
+
+    @Test
+    public void testRoundTripWithFileReadLazily() throws Exception {
+        Environment environment = environment();
+        File aasx = writeAasx(environment);
+        EnvironmentContext actual = new AasxPackageReader().read(aasx, StandardCharsets.UTF_8);
+        Assert.assertEquals(environment, actual.getEnvironment());
+        Assert.assertTrue(actual.getFiles().isEmpty());
+        Map<String, String> actualFiles = new HashMap<>();
+        for (FileContent file: actual.getFileContents()) {
+            Assert.assertEquals("application/pdf", file.getContentType());
+            actualFiles.put(file.getPath(), new String(file.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(
+                Map.of(
+                        PATH_URI, "uri",
+                        "file://" + PATH_ABSOLUTE, "absolute"),
+                actualFiles);
+    }
+
+
+    @Test
+    public void testReadFailsIfPackageModified() throws Exception {
+        File aasx = writeAasx(environment());
+        EnvironmentContext actual = new AasxPackageReader().read(aasx, StandardCharsets.UTF_8);
+        Assert.assertTrue(aasx.setLastModified(aasx.lastModified() + 1000));
+        for (FileContent file: actual.getFileContents()) {
+            Assert.assertThrows(IOException.class, () -> file.readAllBytes());
+        }
+    }
+
+
+    private static Environment environment() {
+        return new DefaultEnvironment.Builder()
+                .submodels(new DefaultSubmodel.Builder()
+                        .id("http://example.org/submodel")
+                        .submodelElements(file("uri", PATH_URI))
+                        .submodelElements(file("absolute", PATH_ABSOLUTE))
+                        .build())
+                .build();
+    }
+
+
+    private static File writeAasx(Environment environment) throws Exception {
+        File result = File.createTempFile("faaast", ".aasx");
+        result.deleteOnExit();
+        new AasxEnvironmentSerializer().write(result, EnvironmentContext.builder()
+                .environment(environment)
+                .fileContent(content(PATH_URI, "uri"))
+                .fileContent(content(PATH_ABSOLUTE, "absolute"))
+                .build());
+        return result;
+    }
+
+
+    private static SubmodelElement file(String idShort, String value) {
+        return new DefaultFile.Builder()
+                .idShort(idShort)
+                .contentType("application/pdf")
+                .value(value)
+                .build();
+    }
+
+
+    private static FileContent content(String path, String content) {
+        return FileContent.builder()
+                .path(path)
+                .content(content.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
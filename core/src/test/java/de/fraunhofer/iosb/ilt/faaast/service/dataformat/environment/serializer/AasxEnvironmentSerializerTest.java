@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.serializer;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.environment.deserializer.AasxEnvironmentDeserializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResource;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class AasxEnvironmentSerializerTest {
+
+    private static final String PATH_URI = "file:///TestFile.pdf";
+    private static final String PATH_ABSOLUTE = "/aasx/files/absolute.pdf";
+    private static final String PATH_RELATIVE = "aasx/files/relative.pdf";
+    private static final String PATH_THUMBNAIL = "/aasx/thumbnail.png";
+    private static final String PATH_MISSING = "/aasx/files/missing.pdf";
+    private static final String PATH_INVALID = "/aasx/files/invalid file.pdf";
+
+    @Test
+    public void testRoundTripWithStreamedFiles() throws Exception {
+        Environment environment = new DefaultEnvironment.Builder()
+                .assetAdministrationShells(new DefaultAssetAdministrationShell.Builder()
+                        .id("http://example.org/aas")
+                        .assetInformation(new DefaultAssetInformation.Builder()
+                                .assetKind(AssetKind.INSTANCE)
+                                .globalAssetId("http://example.org/asset")
+                                .defaultThumbnail(new DefaultResource.Builder()
+                                        .path(PATH_THUMBNAIL)
+                                        .contentType("image/png")
+                                        .build())
+                                .build())
+                        .build())
+                .submodels(new DefaultSubmodel.Builder()
+                        .id("http://example.org/submodel")
+                        .submodelElements(file("uri", PATH_URI))
+                        .submodelElements(file("uriDuplicate", PATH_URI))
+                        .submodelElements(file("absolute", PATH_ABSOLUTE))
+                        .submodelElements(file("relative", PATH_RELATIVE))
+                        .submodelElements(file("missing", PATH_MISSING))
+                        .submodelElements(file("invalid", PATH_INVALID))
+                        .build())
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new AasxEnvironmentSerializer().write(out, EnvironmentContext.builder()
+                .environment(environment)
+                .file("uri".getBytes(StandardCharsets.UTF_8), PATH_URI)
+                .fileContent(content(PATH_ABSOLUTE, "absolute"))
+                .fileContent(content(PATH_RELATIVE, "relative"))
+                .fileContent(content(PATH_THUMBNAIL, "thumbnail"))
+                .fileContent(content(PATH_INVALID, "invalid"))
+                .build());
+        EnvironmentContext actual = new AasxEnvironmentDeserializer().read(new ByteArrayInputStream(out.toByteArray()));
+        Map<String, String> actualFiles = actual.getFiles().stream()
+                .collect(Collectors.toMap(InMemoryFile::getPath, x -> new String(x.getFileContent(), StandardCharsets.UTF_8), (x, y) -> x));
+        Assert.assertEquals(
+                Map.of(
+                        PATH_URI, "uri",
+                        "file://" + PATH_ABSOLUTE, "absolute",
+                        "file:///" + PATH_RELATIVE, "relative",
+                        "file://" + PATH_THUMBNAIL, "thumbnail"),
+                actualFiles);
+        List<String> actualValues = actual.getEnvironment().getSubmodels().get(0).getSubmodelElements().stream()
+                .map(x -> ((File) x).getValue())
+                .collect(Collectors.toList());
+        Assert.assertEquals(
+                List.of(PATH_URI, PATH_URI, "file://" + PATH_ABSOLUTE, "file:///" + PATH_RELATIVE, PATH_MISSING, PATH_INVALID),
+                actualValues);
+        Assert.assertEquals(
+                "file://" + PATH_THUMBNAIL,
+                actual.getEnvironment().getAssetAdministrationShells().get(0).getAssetInformation().getDefaultThumbnail().getPath());
+    }
+
+
+    private static File file(String idShort, String value) {
+        return new DefaultFile.Builder()
+                .idShort(idShort)
+                .contentType("application/pdf")
+                .value(value)
+                .build();
+    }
+
+
+    private static FileContent content(String path, String content) {
+        return FileContent.builder()
+                .path(path)
+                .content(content.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
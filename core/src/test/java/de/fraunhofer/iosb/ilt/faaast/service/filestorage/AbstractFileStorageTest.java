@@ -18,8 +18,10 @@ import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.InMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import org.junit.Assert;
 import org.junit.Test;
@@ -61,4 +63,19 @@ public abstract class AbstractFileStorageTest<T extends FileStorage<C>, C extend
         fileStorage.delete(expected.getPath());
         Assert.assertThrows(ResourceNotFoundException.class, () -> fileStorage.get(expected.getPath()));
     }
+
+
+    @Test
+    public void saveStreamAndOpenRead() throws ConfigurationInitializationException, ResourceNotFoundException, ConfigurationException, IOException {
+        FileStorageConfig<T> config = getFileStorageConfig();
+        fileStorage = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        String path = "my/path/stream.txt";
+        byte[] expected = "foo".getBytes();
+        fileStorage.save(path, new ByteArrayInputStream(expected));
+        FileContent actual = fileStorage.openRead(path);
+        Assert.assertEquals(expected.length, actual.getSize());
+        Assert.assertArrayEquals(expected, actual.readAllBytes());
+        fileStorage.delete(path);
+        Assert.assertThrows(ResourceNotFoundException.class, () -> fileStorage.openRead(path));
+    }
 }
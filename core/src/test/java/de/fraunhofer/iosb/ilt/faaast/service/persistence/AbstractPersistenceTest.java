@@ -33,6 +33,13 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.asset.GlobalAssetIdentification;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.RangeValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.StringValue;
 import de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.EnvironmentHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ExtendHelper;
@@ -43,8 +50,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -696,6 +706,126 @@ public abstract class AbstractPersistenceTest<T extends Persistence<C>, C extend
     }
 
 
+    @Test
+    public void updateValues() throws ResourceNotFoundException, ValueMappingException {
+        Reference propertyReference = new ReferenceBuilder()
+                .submodel("https://acplt.org/Test_Submodel")
+                .element("ExampleSubmodelElementListOrdered")
+                .index(0)
+                .build();
+        Reference rangeReference = new ReferenceBuilder()
+                .submodel("https://acplt.org/Test_Submodel")
+                .element("ExampleSubmodelElementListOrdered")
+                .index(2)
+                .build();
+        Map<Reference, ElementValue> expected = new LinkedHashMap<>();
+        expected.put(propertyReference, ElementValueMapper.toValue(persistence.getSubmodelElement(propertyReference, QueryModifier.DEFAULT)));
+        expected.put(rangeReference, ElementValueMapper.toValue(persistence.getSubmodelElement(rangeReference, QueryModifier.DEFAULT)));
+        VersionInfo propertyVersion = persistence.getVersion(propertyReference).get();
+        Map<Reference, ElementValue> values = new LinkedHashMap<>();
+        values.put(propertyReference, new PropertyValue(new StringValue("new value")));
+        values.put(rangeReference, new RangeValue<>(new IntValue(1), new IntValue(42)));
+        Map<Reference, ElementValue> actual = persistence.updateValues(values);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(values.get(propertyReference), ElementValueMapper.toValue(persistence.getSubmodelElement(propertyReference, QueryModifier.DEFAULT)));
+        Assert.assertEquals(values.get(rangeReference), ElementValueMapper.toValue(persistence.getSubmodelElement(rangeReference, QueryModifier.DEFAULT)));
+        Assert.assertTrue(persistence.getVersion(propertyReference).get().getVersion() > propertyVersion.getVersion());
+    }
+
+
+    @Test
+    public void updateValuesWithNonExistingElementUpdatesNothing() throws ResourceNotFoundException, ValueMappingException {
+        Reference propertyReference = new ReferenceBuilder()
+                .submodel("https://acplt.org/Test_Submodel")
+                .element("ExampleSubmodelElementListOrdered")
+                .index(0)
+                .build();
+        ElementValue expected = ElementValueMapper.toValue(persistence.getSubmodelElement(propertyReference, QueryModifier.DEFAULT));
+        Map<Reference, ElementValue> values = new LinkedHashMap<>();
+        values.put(propertyReference, new PropertyValue(new StringValue("new value")));
+        values.put(ReferenceBuilder.forSubmodel("https://acplt.org/Test_Submodel", "nonExisting"), new PropertyValue(new StringValue("new value")));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> persistence.updateValues(values));
+        Assert.assertEquals(expected, ElementValueMapper.toValue(persistence.getSubmodelElement(propertyReference, QueryModifier.DEFAULT)));
+    }
+
+
+    @Test
+    public void versionStableWithoutModification() throws ResourceNotFoundException {
+        Reference reference = ReferenceBuilder.forSubmodel("https://acplt.org/Test_Submodel_Mandatory", "ExampleSubmodelElementCollection");
+        VersionInfo expected = persistence.getVersion(reference).get();
+        persistence.getSubmodelElement(reference, QueryModifier.DEFAULT);
+        VersionInfo actual = persistence.getVersion(reference).get();
+        Assert.assertEquals(expected, actual);
+    }
+
+
+    @Test
+    public void versionChangesOnModificationOfChild() throws ResourceNotFoundException, ResourceNotAContainerElementException {
+        String submodelId = "https://acplt.org/Test_Submodel_Mandatory";
+        String submodelElementCollectionId = "ExampleSubmodelElementCollection";
+        Reference submodelReference = ReferenceBuilder.forSubmodel(submodelId);
+        Reference collectionReference = ReferenceBuilder.forSubmodel(submodelId, submodelElementCollectionId);
+        SubmodelElementCollection collection = EnvironmentHelper.resolve(collectionReference, environment, SubmodelElementCollection.class);
+        SubmodelElement child = collection.getValue().get(0);
+        Reference childReference = ReferenceBuilder.forSubmodel(submodelId, submodelElementCollectionId, child.getIdShort());
+        Reference siblingReference = ReferenceBuilder.forSubmodel(submodelId, environment.getSubmodels().stream()
+                .filter(x -> x.getId().equalsIgnoreCase(submodelId))
+                .findFirst().get()
+                .getSubmodelElements().stream()
+                .filter(x -> !x.getIdShort().equalsIgnoreCase(submodelElementCollectionId))
+                .findFirst().get()
+                .getIdShort());
+        VersionInfo submodelVersion = persistence.getVersion(submodelReference).get();
+        VersionInfo collectionVersion = persistence.getVersion(collectionReference).get();
+        VersionInfo childVersion = persistence.getVersion(childReference).get();
+        VersionInfo siblingVersion = persistence.getVersion(siblingReference).get();
+        SubmodelElement changed = DeepCopyHelper.deepCopy(child, child.getClass());
+        changed.setCategory("NewCategory");
+        persistence.update(childReference, changed);
+        Assert.assertTrue(persistence.getVersion(submodelReference).get().getVersion() > submodelVersion.getVersion());
+        Assert.assertTrue(persistence.getVersion(collectionReference).get().getVersion() > collectionVersion.getVersion());
+        Assert.assertTrue(persistence.getVersion(childReference).get().getVersion() > childVersion.getVersion());
+        Assert.assertEquals(siblingVersion, persistence.getVersion(siblingReference).get());
+    }
+
+
+    @Test
+    public void versionChangesOnSave() throws ResourceNotFoundException {
+        AssetAdministrationShell aas = environment.getAssetAdministrationShells().get(0);
+        Reference reference = ReferenceBuilder.forAas(aas);
+        VersionInfo expected = persistence.getVersion(reference).get();
+        persistence.save(aas);
+        Assert.assertTrue(persistence.getVersion(reference).get().getVersion() > expected.getVersion());
+    }
+
+
+    @Test
+    public void versionIgnoresCaseOfIdShortPath() throws ResourceNotFoundException {
+        String submodelId = "https://acplt.org/Test_Submodel_Mandatory";
+        String collectionIdShort = "ExampleSubmodelElementCollection";
+        VersionInfo expected = persistence.getVersion(ReferenceBuilder.forSubmodel(submodelId, collectionIdShort)).get();
+        VersionInfo actual = persistence.getVersion(ReferenceBuilder.forSubmodel(submodelId, collectionIdShort.toUpperCase())).get();
+        Assert.assertEquals(expected, actual);
+    }
+
+
+    @Test
+    public void versionLastModifiedSetOnLoad() throws ResourceNotFoundException, InterruptedException {
+        Instant loaded = Instant.now();
+        Thread.sleep(10);
+        Reference reference = ReferenceBuilder.forSubmodel("https://acplt.org/Test_Submodel_Mandatory", "ExampleSubmodelElementCollection");
+        VersionInfo actual = persistence.getVersion(reference).get();
+        Assert.assertFalse(actual.getLastModified().isAfter(loaded));
+        Assert.assertEquals(persistence.getVersion(ReferenceBuilder.forSubmodel("https://acplt.org/Test_Submodel_Mandatory")).get(), actual);
+    }
+
+
+    @Test(expected = ResourceNotFoundException.class)
+    public void versionOfNonExistingElement() throws ResourceNotFoundException {
+        persistence.getVersion(ReferenceBuilder.forSubmodel("https://acplt.org/Test_Submodel_Mandatory", "nonExisting"));
+    }
+
+
     @Test
     public void removeSubmodel() throws ResourceNotFoundException {
         String submodelId = "https://acplt.org/Test_Submodel_Mandatory";
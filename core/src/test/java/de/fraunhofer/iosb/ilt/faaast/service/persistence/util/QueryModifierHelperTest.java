@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.persistence.util;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.AASFull;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Extent;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Level;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.OutputModifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
+import de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class QueryModifierHelperTest {
+
+    @Test
+    public void testCopyWithQueryModifierEqualsCopyThenApply() {
+        List<Referable> referables = new ArrayList<>();
+        referables.add(createNestedSubmodel());
+        referables.add(((Submodel) referables.get(0)).getSubmodelElements().get(1));
+        referables.addAll(AASFull.createEnvironment().getSubmodels());
+        AASFull.createEnvironment().getSubmodels().stream()
+                .flatMap(x -> x.getSubmodelElements().stream())
+                .filter(SubmodelElementCollection.class::isInstance)
+                .forEach(referables::add);
+        for (Referable referable: referables) {
+            for (Level level: Level.values()) {
+                for (Extent extent: Extent.values()) {
+                    QueryModifier modifier = new OutputModifier.Builder()
+                            .level(level)
+                            .extend(extent)
+                            .build();
+                    Referable original = DeepCopyHelper.deepCopy(referable);
+                    Referable expected = QueryModifierHelper.applyQueryModifier(DeepCopyHelper.deepCopy(referable), modifier);
+                    Referable actual = QueryModifierHelper.copyWithQueryModifier(referable, modifier);
+                    Assert.assertEquals(String.format("%s (level: %s, extent: %s)", referable.getIdShort(), level, extent), expected, actual);
+                    Assert.assertEquals(original, referable);
+                }
+            }
+        }
+    }
+
+
+    private static Submodel createNestedSubmodel() {
+        return new DefaultSubmodel.Builder()
+                .id("http://example.org/submodel")
+                .idShort("submodel")
+                .submodelElements(blob("blob"))
+                .submodelElements(new DefaultSubmodelElementCollection.Builder()
+                        .idShort("collection")
+                        .value(blob("blob"))
+                        .value(new DefaultSubmodelElementCollection.Builder()
+                                .idShort("collection")
+                                .value(blob("blob"))
+                                .value(new DefaultSubmodelElementCollection.Builder()
+                                        .idShort("collection")
+                                        .value(blob("blob"))
+                                        .build())
+                                .build())
+                        .build())
+                .submodelElements(new DefaultSubmodelElementList.Builder()
+                        .idShort("list")
+                        .value(new DefaultSubmodelElementCollection.Builder()
+                                .value(blob("blob"))
+                                .value(new DefaultProperty.Builder()
+                                        .idShort("property")
+                                        .value("foo")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+
+
+    private static DefaultBlob blob(String idShort) {
+        return new DefaultBlob.Builder()
+                .idShort(idShort)
+                .contentType("text/plain")
+                .value("content".getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
@@ -34,6 +34,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
 import de.fraunhofer.iosb.ilt.faaast.service.model.AASFull;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.IdShortPath;
 import de.fraunhofer.iosb.ilt.faaast.service.model.InMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
@@ -222,7 +223,7 @@ public class RequestHandlerManagerTest {
     private static RequestExecutionContext context;
 
     @Before
-    public void createRequestHandlerManager() throws ConfigurationException, AssetConnectionException {
+    public void createRequestHandlerManager() throws ConfigurationException, AssetConnectionException, ResourceNotFoundException {
         environment = AASFull.createEnvironment();
         coreConfig = CoreConfig.DEFAULT;
         messageBus = mock(MessageBus.class);
@@ -230,6 +231,7 @@ public class RequestHandlerManagerTest {
         serviceContext = mock(ServiceContext.class);
         assetConnectionManager = spy(new AssetConnectionManager(coreConfig, List.of(), serviceContext));
         fileStorage = mock(FileStorage.class);
+        when(fileStorage.openRead(any())).thenCallRealMethod();
         context = new RequestExecutionContext(
                 coreConfig,
                 persistence,
@@ -479,10 +481,15 @@ public class RequestHandlerManagerTest {
                 .build();
         GetThumbnailResponse actual = manager.execute(request);
         GetThumbnailResponse expected = new GetThumbnailResponse.Builder()
-                .payload(file)
+                .payload(FileContent.builder()
+                        .path(file.getPath())
+                        .content(file.getContent())
+                        .contentType("image/png")
+                        .build())
                 .statusCode(StatusCode.SUCCESS)
                 .build();
         Assert.assertTrue(ResponseHelper.equalsIgnoringTime(expected, actual));
+        Assert.assertArrayEquals(file.getContent(), actual.getPayload().readAllBytes());
     }
 
 
@@ -506,7 +513,7 @@ public class RequestHandlerManagerTest {
                 file.getContent());
         PutThumbnailRequest putThumbnailRequestRequest = new PutThumbnailRequest.Builder()
                 .id(aasId)
-                .content(new TypedInMemoryFile.Builder().path(file.getPath()).content(file.getContent()).contentType("image/png").build())
+                .content(FileContent.builder().path(file.getPath()).content(file.getContent()).contentType("image/png").build())
                 .build();
         GetThumbnailRequest request = new GetThumbnailRequest.Builder()
                 .id(aasId)
@@ -515,7 +522,7 @@ public class RequestHandlerManagerTest {
         Assert.assertTrue(send.getResult().getMessages().isEmpty());
         GetThumbnailResponse actual = manager.execute(request);
         GetThumbnailResponse expected = new GetThumbnailResponse.Builder()
-                .payload(new TypedInMemoryFile.Builder()
+                .payload(FileContent.builder()
                         .content(file.getContent())
                         .contentType("image/png")
                         .path(file.getPath())
@@ -549,7 +556,11 @@ public class RequestHandlerManagerTest {
         PutFileByPathRequest putFileByPathRequest = new PutFileByPathRequest.Builder()
                 .submodelId(environment.getSubmodels().get(0).getId())
                 .path(file.getIdShort())
-                .content(expectedFile)
+                .content(FileContent.builder()
+                        .path(expectedFile.getPath())
+                        .content(expectedFile.getContent())
+                        .contentType(expectedFile.getContentType())
+                        .build())
                 .build();
         PutFileByPathResponse putFileByPathResponse = manager.execute(putFileByPathRequest);
         PutFileByPathResponse putFileByPathResponseExpected = PutFileByPathResponse.builder()
@@ -565,10 +576,15 @@ public class RequestHandlerManagerTest {
                 .thenReturn(expectedFile.getContent());
         GetFileByPathResponse actual = manager.execute(request);
         GetFileByPathResponse expected = new GetFileByPathResponse.Builder()
-                .payload(expectedFile)
+                .payload(FileContent.builder()
+                        .path(expectedFile.getPath())
+                        .content(expectedFile.getContent())
+                        .contentType(expectedFile.getContentType())
+                        .build())
                 .statusCode(StatusCode.SUCCESS)
                 .build();
         Assert.assertTrue(ResponseHelper.equalsIgnoringTime(expected, actual));
+        Assert.assertArrayEquals(expectedFile.getContent(), actual.getPayload().readAllBytes());
     }
 
 
@@ -1459,6 +1475,50 @@ public class RequestHandlerManagerTest {
     }
 
 
+    @Test
+    public void testExecuteAllParallelWhileRequestHandlerPoolBusy() throws InterruptedException {
+        when(persistence.findAssetAdministrationShells(eq(AssetAdministrationShellSearchCriteria.NONE), any(), any()))
+                .thenReturn(Page.of(environment.getAssetAdministrationShells()));
+        RequestHandlerManager singleThreadedManager = new RequestHandlerManager(new RequestExecutionContext(
+                CoreConfig.builder()
+                        .requestHandlerThreadPoolSize(1)
+                        .build(),
+                persistence,
+                fileStorage,
+                messageBus,
+                assetConnectionManager));
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        singleThreadedManager.executeAsync(new GetAllAssetAdministrationShellsRequest(), x -> {
+            started.countDown();
+            try {
+                blocking.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            Assert.assertTrue(started.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+            AtomicReference<List<Response>> responses = new AtomicReference<>();
+            Thread caller = new Thread(() -> responses.set(singleThreadedManager.executeAll(List.of(
+                    new GetAllAssetAdministrationShellsRequest(),
+                    new GetAllAssetAdministrationShellsRequest(),
+                    new GetAllAssetAdministrationShellsRequest()),
+                    true)));
+            caller.start();
+            caller.join(DEFAULT_TIMEOUT);
+            Assert.assertNotNull("parallel batch must not wait for busy request handler pool", responses.get());
+            Assert.assertEquals(3, responses.get().size());
+            responses.get().forEach(x -> Assert.assertEquals(StatusCode.SUCCESS, x.getStatusCode()));
+        }
+        finally {
+            blocking.countDown();
+            singleThreadedManager.shutdown();
+        }
+    }
+
+
     @Test
     public void testReadValueFromAssetConnectionAndUpdatePersistence()
             throws AssetConnectionException, ResourceNotFoundException, ValueMappingException, MessageBusException, ResourceNotAContainerElementException {
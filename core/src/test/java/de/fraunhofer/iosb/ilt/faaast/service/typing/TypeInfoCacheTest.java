@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.typing;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TypeInfoCacheTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final Reference PARENT = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "collection");
+    private static final Reference CHILD = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "collection", "property");
+    private static final Reference OTHER = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "other");
+    private TypeInfoCache cache;
+    private AtomicInteger loadCount;
+
+    @Before
+    public void init() {
+        cache = new TypeInfoCache();
+        loadCount = new AtomicInteger();
+    }
+
+
+    private TypeInfo<?> load(Reference reference) {
+        loadCount.incrementAndGet();
+        return ContainerTypeInfo.builder()
+                .type(SubmodelElementCollection.class)
+                .build();
+    }
+
+
+    @Test
+    public void testGetCachesValue() throws ResourceNotFoundException {
+        TypeInfo<?> expected = cache.get(CHILD, this::load);
+        TypeInfo<?> actual = cache.get(CHILD, this::load);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(1, loadCount.get());
+    }
+
+
+    @Test
+    public void testGetReturnsCopy() throws ResourceNotFoundException {
+        TypeInfo<?> loaded = ContainerTypeInfo.<String> builder()
+                .type(SubmodelElementCollection.class)
+                .element("property", ElementValueTypeInfo.builder()
+                        .type(PropertyValue.class)
+                        .datatype(Datatype.INT)
+                        .build())
+                .build();
+        ContainerTypeInfo<String> first = (ContainerTypeInfo<String>) cache.get(PARENT, x -> loaded);
+        Assert.assertEquals(loaded, first);
+        Assert.assertNotSame(loaded, first);
+        first.setType(null);
+        ((ElementValueTypeInfo) first.getElements().get("property")).setDatatype(Datatype.STRING);
+        first.getElements().put("other", null);
+        Assert.assertEquals(loaded, cache.get(PARENT, this::load));
+        Assert.assertEquals(0, loadCount.get());
+    }
+
+
+    @Test
+    public void testGetIgnoresAasKey() throws ResourceNotFoundException {
+        cache.get(CHILD, this::load);
+        cache.get(new ReferenceBuilder()
+                .aas("http://example.org/aas")
+                .submodel(SUBMODEL_ID)
+                .idShortPath("collection.property")
+                .build(),
+                this::load);
+        Assert.assertEquals(1, loadCount.get());
+    }
+
+
+    @Test
+    public void testInvalidateRemovesParentsAndChildren() throws ResourceNotFoundException {
+        cache.get(PARENT, this::load);
+        cache.get(CHILD, this::load);
+        cache.get(OTHER, this::load);
+        cache.invalidate(CHILD);
+        cache.get(PARENT, this::load);
+        cache.get(CHILD, this::load);
+        cache.get(OTHER, this::load);
+        Assert.assertEquals(5, loadCount.get());
+        cache.invalidate(ReferenceBuilder.forSubmodel(SUBMODEL_ID));
+        cache.get(OTHER, this::load);
+        Assert.assertEquals(6, loadCount.get());
+    }
+
+
+    @Test
+    public void testInvalidateByIdentifier() throws ResourceNotFoundException {
+        cache.get(PARENT, this::load);
+        cache.get(CHILD, this::load);
+        cache.get(OTHER, this::load);
+        cache.invalidate(SubmodelElementIdentifier.fromReference(PARENT));
+        cache.get(PARENT, this::load);
+        cache.get(CHILD, this::load);
+        cache.get(OTHER, this::load);
+        Assert.assertEquals(5, loadCount.get());
+        cache.invalidateSubmodel(SUBMODEL_ID);
+        cache.get(OTHER, this::load);
+        Assert.assertEquals(6, loadCount.get());
+    }
+
+
+    @Test
+    public void testInvalidateDuringLoadIsNotCached() throws ResourceNotFoundException {
+        cache.get(CHILD, x -> {
+            cache.invalidate(PARENT);
+            return load(x);
+        });
+        cache.get(CHILD, this::load);
+        Assert.assertEquals(2, loadCount.get());
+    }
+
+
+    @Test
+    public void testConcurrentInvalidateLeavesNoStaleEntry() throws Exception {
+        AtomicReference<TypeInfo<?>> current = new AtomicReference<>(version(0));
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        cache.get(CHILD, x -> current.get());
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 1; i <= 1000; i++) {
+                current.set(version(i));
+                cache.invalidate(CHILD);
+            }
+            running.set(false);
+            for (Future<?> reader: readers) {
+                reader.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(current.get(), cache.get(CHILD, x -> current.get()));
+    }
+
+
+    private static TypeInfo<?> version(int version) {
+        return ContainerTypeInfo.<Integer> builder()
+                .type(SubmodelElementCollection.class)
+                .element(version, null)
+                .build();
+    }
+
+
+    @Test
+    public void testInvalidateIgnoresNonSubmodelReferences() throws ResourceNotFoundException {
+        cache.get(CHILD, this::load);
+        cache.invalidate(ReferenceBuilder.forAas("http://example.org/aas"));
+        cache.get(CHILD, this::load);
+        Assert.assertEquals(1, loadCount.get());
+    }
+}
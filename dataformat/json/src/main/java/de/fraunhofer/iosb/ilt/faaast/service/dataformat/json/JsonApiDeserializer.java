@@ -84,6 +84,9 @@ import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReflectionHelper;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -145,6 +148,42 @@ public class JsonApiDeserializer implements ApiDeserializer {
     }
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The input is parsed directly from the stream without reading it into memory first.
+     */
+    @Override
+    public <T> T read(InputStream src, Charset charset, JavaType type) throws DeserializationException {
+        try {
+            return wrapper.getMapper().readValue(new InputStreamReader(src, charset), type);
+        }
+        catch (IOException e) {
+            throw new DeserializationException(ERROR_MSG_DESERIALIZATION_FAILED, e);
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The input is parsed directly from the stream without reading it into memory first.
+     */
+    @Override
+    public <T> List<T> readList(InputStream src, Charset charset, JavaType type) throws DeserializationException {
+        try {
+            return wrapper.getMapper().readValue(
+                    new InputStreamReader(src, charset),
+                    wrapper.getMapper().getTypeFactory().constructCollectionType(
+                            List.class,
+                            wrapper.getMapper().getTypeFactory().constructType(type)));
+        }
+        catch (IOException e) {
+            throw new DeserializationException(ERROR_MSG_DESERIALIZATION_FAILED, e);
+        }
+    }
+
+
     /**
      * {@inheritDoc}
      *
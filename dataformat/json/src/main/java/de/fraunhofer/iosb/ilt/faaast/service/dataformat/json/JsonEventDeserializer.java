@@ -40,6 +40,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.ReferenceElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.SubmodelElementCollectionValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReflectionHelper;
+import java.io.IOException;
 
 
 /**
@@ -54,6 +55,11 @@ public class JsonEventDeserializer {
     }
 
 
+    public JsonMapper getMapper() {
+        return wrapper.getMapper();
+    }
+
+
     /**
      * Modifies Jackson JsonMapper.
      *
@@ -98,6 +104,29 @@ public class JsonEventDeserializer {
     }
 
 
+    /**
+     * Read an event message from JSON encoded as bytes. The encoding (UTF-8, UTF-16 or UTF-32) is detected
+     * automatically.
+     *
+     * @param <T> type of event message
+     * @param json the JSON to parse
+     * @param type type of event message to deserialize to
+     * @return the parsed event message
+     * @throws DeserializationException if deserialization fails
+     */
+    public <T extends EventMessage> T read(byte[] json, Class<T> type) throws DeserializationException {
+        try {
+            return wrapper.getMapper().readValue(json, type);
+        }
+        catch (IOException e) {
+            throw new DeserializationException(
+                    String.format("Deserializing event message failed (reason: %s)",
+                            e.getMessage()),
+                    e);
+        }
+    }
+
+
     /**
      * Read an event message from string.
      *
@@ -54,6 +54,11 @@ public class JsonEventSerializer {
     }
 
 
+    public JsonMapper getMapper() {
+        return wrapper.getMapper();
+    }
+
+
     /**
      * Modifies Jackson JsonMapper.
      *
@@ -98,4 +103,21 @@ public class JsonEventSerializer {
             throw new SerializationException("serialization failed", e);
         }
     }
+
+
+    /**
+     * Serializes a event message as UTF-8 encoded JSON.
+     *
+     * @param msg the message to serialize
+     * @return the UTF-8 encoded JSON representation of the message
+     * @throws SerializationException if serialization fails
+     */
+    public byte[] writeBytes(EventMessage msg) throws SerializationException {
+        try {
+            return wrapper.getMapper().writer().writeValueAsBytes(msg);
+        }
+        catch (JsonProcessingException e) {
+            throw new SerializationException("serialization failed", e);
+        }
+    }
 }
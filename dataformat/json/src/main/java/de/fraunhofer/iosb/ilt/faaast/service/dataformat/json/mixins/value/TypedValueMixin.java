@@ -22,6 +22,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
  */
 public abstract class TypedValueMixin<T> {
 
+    /**
+     * Serializes the value using the getter as primitive-backed implementations do not store it in a field.
+     *
+     * @return the value
+     */
     @JsonValue
-    protected T value;
+    public abstract T getValue();
 }
@@ -17,15 +17,14 @@ package de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.serializer.event;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonFieldNames;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -55,11 +54,9 @@ public class ElementValueSerializer extends StdSerializer<ElementValue> {
         if (value != null) {
             generator.writeStartObject();
             generator.writeStringField(JsonFieldNames.EVENT_MODELTYPE, ElementValueMapper.getElementClass(value.getClass()).getSimpleName());
-            StringWriter valueJson = new StringWriter();
-            JsonGenerator valueGenerator = generator.getCodec().getFactory().createGenerator(valueJson);
-            defaultSerializer.serialize(value, valueGenerator, provider);
-            valueGenerator.flush();
-            JsonNode contentNode = new ObjectMapper().readTree(valueJson.toString());
+            TokenBuffer valueBuffer = new TokenBuffer(generator.getCodec(), false);
+            defaultSerializer.serialize(value, valueBuffer, provider);
+            JsonNode contentNode = valueBuffer.asParserOnFirstToken().readValueAsTree();
             if (Objects.nonNull(contentNode) && contentNode.isArray()) {
                 provider.defaultSerializeField(JsonFieldNames.EVENT_VALUE, contentNode, generator);
             }
@@ -32,14 +32,19 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.Objects;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.ConnectionLimit;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.LowResourceMonitor;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,10 +64,13 @@ public class HttpEndpoint implements Endpoint<HttpEndpointConfig> {
             .organization("Fraunhofer IOSB")
             .organizationUnit("ILT")
             .build();
+    private static final String THREAD_POOL_NAME = "faaast-http";
     private HttpEndpointConfig config;
     private ServiceContext serviceContext;
     private Server server;
     private Handler handler;
+    private QueuedThreadPool threadPool;
+    private ConnectionStatistics connectionStatistics;
 
     @Override
     public HttpEndpointConfig asConfig() {
@@ -89,7 +97,8 @@ public class HttpEndpoint implements Endpoint<HttpEndpointConfig> {
         if (server != null && server.isStarted()) {
             return;
         }
-        server = new Server();
+        threadPool = createThreadPool();
+        server = new Server(threadPool);
         configureHttpServer();
         handler = new RequestHandler(serviceContext, config);
         server.setHandler(handler);
@@ -103,6 +112,68 @@ public class HttpEndpoint implements Endpoint<HttpEndpointConfig> {
     }
 
 
+    /**
+     * Provides connection statistics, e.g. number of currently open connections or bytes sent/received, of the HTTP
+     * server. Statistics are only available while the endpoint is started.
+     *
+     * @return the connection statistics or null if the endpoint has not been started
+     */
+    public ConnectionStatistics getConnectionStatistics() {
+        return connectionStatistics;
+    }
+
+
+    /**
+     * Provides the thread pool of the HTTP server that can be used to monitor thread usage, e.g. number of busy or idle
+     * threads and size of the job queue.
+     *
+     * @return the thread pool or null if the endpoint has not been started
+     */
+    public QueuedThreadPool getThreadPool() {
+        return threadPool;
+    }
+
+
+    /**
+     * Provides the underlying Jetty server. Only intended for testing.
+     *
+     * @return the server or null if the endpoint has not been started
+     */
+    Server getServer() {
+        return server;
+    }
+
+
+    private QueuedThreadPool createThreadPool() {
+        QueuedThreadPool result = new QueuedThreadPool(config.getMaxThreads(), config.getMinThreads(), config.getThreadIdleTimeout());
+        result.setName(THREAD_POOL_NAME);
+        if (config.isVirtualThreadsEnabled()) {
+            if (VirtualThreads.areSupported()) {
+                result.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+            }
+            else {
+                LOGGER.warn("virtual threads are not supported by the current JVM (requires Java 21+), falling back to platform threads");
+            }
+        }
+        return result;
+    }
+
+
+    private void configureLimits(ServerConnector serverConnector) {
+        serverConnector.setAcceptQueueSize(config.getAcceptQueueSize());
+        serverConnector.setIdleTimeout(config.getConnectionIdleTimeout());
+        if (config.getMaxConnections() > 0) {
+            server.addBean(new ConnectionLimit(config.getMaxConnections(), serverConnector));
+        }
+        if (config.getLowResourcesIdleTimeout() > 0) {
+            LowResourceMonitor lowResourceMonitor = new LowResourceMonitor(server);
+            lowResourceMonitor.setMonitorThreads(true);
+            lowResourceMonitor.setLowResourcesIdleTimeout(config.getLowResourcesIdleTimeout());
+            server.addBean(lowResourceMonitor);
+        }
+    }
+
+
     private void configureHttpServer() throws EndpointException {
         HttpConfiguration httpConfig = new HttpConfiguration();
         httpConfig.setSendServerVersion(false);
@@ -115,6 +186,9 @@ public class HttpEndpoint implements Endpoint<HttpEndpointConfig> {
         httpConfig.addCustomizer(secureRequestCustomizer);
         serverConnector = buildSSLServerConnector(httpConnectionFactory);
         serverConnector.setPort(config.getPort());
+        configureLimits(serverConnector);
+        connectionStatistics = new ConnectionStatistics();
+        serverConnector.addBean(connectionStatistics);
         server.addConnector(serverConnector);
     }
 
@@ -173,6 +247,9 @@ public class HttpEndpoint implements Endpoint<HttpEndpointConfig> {
                 LOGGER.debug("stopping HTTP handler failed", e);
             }
         }
+        if (connectionStatistics != null) {
+            LOGGER.debug("HTTP endpoint connection statistics: {}", connectionStatistics);
+        }
         try {
             server.stop();
             server.join();
@@ -27,10 +27,32 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     public static final int DEFAULT_PORT = 443;
     public static final boolean DEFAULT_CORS_ENABLED = false;
     public static final boolean DEFAULT_SNI_ENABLED = true;
+    public static final int DEFAULT_MIN_THREADS = 8;
+    public static final int DEFAULT_MAX_THREADS = 200;
+    public static final int DEFAULT_THREAD_IDLE_TIMEOUT = 60000;
+    public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+    public static final int DEFAULT_ACCEPT_QUEUE_SIZE = 0;
+    public static final int DEFAULT_MAX_CONNECTIONS = -1;
+    public static final long DEFAULT_CONNECTION_IDLE_TIMEOUT = 30000;
+    public static final int DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT = -1;
+    public static final int DEFAULT_EVENT_STREAM_BUFFER_SIZE = 1000;
+    public static final long DEFAULT_EVENT_STREAM_HEARTBEAT_INTERVAL = 15000;
+    public static final long DEFAULT_MAX_REQUEST_BODY_SIZE = -1;
     private int port;
     private boolean corsEnabled;
     private boolean sniEnabled;
     private CertificateConfig certificate;
+    private int minThreads;
+    private int maxThreads;
+    private int threadIdleTimeout;
+    private boolean virtualThreadsEnabled;
+    private int acceptQueueSize;
+    private int maxConnections;
+    private long connectionIdleTimeout;
+    private int lowResourcesIdleTimeout;
+    private int eventStreamBufferSize;
+    private long eventStreamHeartbeatInterval;
+    private long maxRequestBodySize;
 
     public HttpEndpointConfig() {
         port = DEFAULT_PORT;
@@ -38,6 +60,17 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         sniEnabled = DEFAULT_SNI_ENABLED;
         certificate = CertificateConfig.builder()
                 .build();
+        minThreads = DEFAULT_MIN_THREADS;
+        maxThreads = DEFAULT_MAX_THREADS;
+        threadIdleTimeout = DEFAULT_THREAD_IDLE_TIMEOUT;
+        virtualThreadsEnabled = DEFAULT_VIRTUAL_THREADS_ENABLED;
+        acceptQueueSize = DEFAULT_ACCEPT_QUEUE_SIZE;
+        maxConnections = DEFAULT_MAX_CONNECTIONS;
+        connectionIdleTimeout = DEFAULT_CONNECTION_IDLE_TIMEOUT;
+        lowResourcesIdleTimeout = DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT;
+        eventStreamBufferSize = DEFAULT_EVENT_STREAM_BUFFER_SIZE;
+        eventStreamHeartbeatInterval = DEFAULT_EVENT_STREAM_HEARTBEAT_INTERVAL;
+        maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
     }
 
 
@@ -81,6 +114,116 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
     }
 
 
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+
+    public void setThreadIdleTimeout(int threadIdleTimeout) {
+        this.threadIdleTimeout = threadIdleTimeout;
+    }
+
+
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+
+    public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+
+    public int getLowResourcesIdleTimeout() {
+        return lowResourcesIdleTimeout;
+    }
+
+
+    public void setLowResourcesIdleTimeout(int lowResourcesIdleTimeout) {
+        this.lowResourcesIdleTimeout = lowResourcesIdleTimeout;
+    }
+
+
+    public int getEventStreamBufferSize() {
+        return eventStreamBufferSize;
+    }
+
+
+    public void setEventStreamBufferSize(int eventStreamBufferSize) {
+        this.eventStreamBufferSize = eventStreamBufferSize;
+    }
+
+
+    public long getEventStreamHeartbeatInterval() {
+        return eventStreamHeartbeatInterval;
+    }
+
+
+    public void setEventStreamHeartbeatInterval(long eventStreamHeartbeatInterval) {
+        this.eventStreamHeartbeatInterval = eventStreamHeartbeatInterval;
+    }
+
+
+    public long getMaxRequestBodySize() {
+        return maxRequestBodySize;
+    }
+
+
+    public void setMaxRequestBodySize(long maxRequestBodySize) {
+        this.maxRequestBodySize = maxRequestBodySize;
+    }
+
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -93,13 +236,38 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
         return Objects.equals(port, that.port)
                 && Objects.equals(corsEnabled, that.corsEnabled)
                 && Objects.equals(sniEnabled, that.sniEnabled)
-                && Objects.equals(certificate, that.certificate);
+                && Objects.equals(certificate, that.certificate)
+                && Objects.equals(minThreads, that.minThreads)
+                && Objects.equals(maxThreads, that.maxThreads)
+                && Objects.equals(threadIdleTimeout, that.threadIdleTimeout)
+                && Objects.equals(virtualThreadsEnabled, that.virtualThreadsEnabled)
+                && Objects.equals(acceptQueueSize, that.acceptQueueSize)
+                && Objects.equals(maxConnections, that.maxConnections)
+                && Objects.equals(connectionIdleTimeout, that.connectionIdleTimeout)
+                && Objects.equals(lowResourcesIdleTimeout, that.lowResourcesIdleTimeout)
+                && Objects.equals(eventStreamBufferSize, that.eventStreamBufferSize)
+                && Objects.equals(eventStreamHeartbeatInterval, that.eventStreamHeartbeatInterval)
+                && Objects.equals(maxRequestBodySize, that.maxRequestBodySize);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(port, corsEnabled, sniEnabled, certificate);
+        return Objects.hash(port,
+                corsEnabled,
+                sniEnabled,
+                certificate,
+                minThreads,
+                maxThreads,
+                threadIdleTimeout,
+                virtualThreadsEnabled,
+                acceptQueueSize,
+                maxConnections,
+                connectionIdleTimeout,
+                lowResourcesIdleTimeout,
+                eventStreamBufferSize,
+                eventStreamHeartbeatInterval,
+                maxRequestBodySize);
     }
 
 
@@ -131,6 +299,72 @@ public class HttpEndpointConfig extends EndpointConfig<HttpEndpoint> {
             getBuildingInstance().setCertificate(value);
             return getSelf();
         }
+
+
+        public B minThreads(int value) {
+            getBuildingInstance().setMinThreads(value);
+            return getSelf();
+        }
+
+
+        public B maxThreads(int value) {
+            getBuildingInstance().setMaxThreads(value);
+            return getSelf();
+        }
+
+
+        public B threadIdleTimeout(int value) {
+            getBuildingInstance().setThreadIdleTimeout(value);
+            return getSelf();
+        }
+
+
+        public B virtualThreads(boolean value) {
+            getBuildingInstance().setVirtualThreadsEnabled(value);
+            return getSelf();
+        }
+
+
+        public B acceptQueueSize(int value) {
+            getBuildingInstance().setAcceptQueueSize(value);
+            return getSelf();
+        }
+
+
+        public B maxConnections(int value) {
+            getBuildingInstance().setMaxConnections(value);
+            return getSelf();
+        }
+
+
+        public B connectionIdleTimeout(long value) {
+            getBuildingInstance().setConnectionIdleTimeout(value);
+            return getSelf();
+        }
+
+
+        public B lowResourcesIdleTimeout(int value) {
+            getBuildingInstance().setLowResourcesIdleTimeout(value);
+            return getSelf();
+        }
+
+
+        public B eventStreamBufferSize(int value) {
+            getBuildingInstance().setEventStreamBufferSize(value);
+            return getSelf();
+        }
+
+
+        public B eventStreamHeartbeatInterval(long value) {
+            getBuildingInstance().setEventStreamHeartbeatInterval(value);
+            return getSelf();
+        }
+
+
+        public B maxRequestBodySize(long value) {
+            getBuildingInstance().setMaxRequestBodySize(value);
+            return getSelf();
+        }
     }
 
     public static class Builder extends AbstractBuilder<HttpEndpointConfig, Builder> {
@@ -16,6 +16,11 @@ package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http;
 
 import static org.eclipse.jetty.servlets.CrossOriginFilter.ACCESS_CONTROL_MAX_AGE_HEADER;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.net.MediaType;
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
@@ -25,27 +30,49 @@ import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.request.RequestMappingManager;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.response.ResponseMappingManager;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.sse.EventStreamManager;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.BufferedHttpServletResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpConstants;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.SizeLimitedInputStream;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.MessageType;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.AbstractSubmodelInterfaceRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aas.GetAssetAdministrationShellRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aasrepository.GetAssetAdministrationShellByIdRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.conceptdescription.GetConceptDescriptionByIdRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetSubmodelElementByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetSubmodelRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodelrepository.GetSubmodelByIdRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.InvalidRequestException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.jetty.http.DateGenerator;
+import org.eclipse.jetty.http.DateParser;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.servlets.CrossOriginFilter;
@@ -58,12 +85,28 @@ import org.eclipse.jetty.servlets.CrossOriginFilter;
 public class RequestHandler extends AbstractHandler {
 
     private static final String API_PREFIX = "/api/v3.0";
+    private static final String BATCH_PATH = "/batch";
+    private static final String BATCH_PARAM_PARALLEL = "parallel";
+    private static final String BATCH_PROPERTY_BODY = "body";
+    private static final String BATCH_PROPERTY_HEADERS = "headers";
+    private static final String BATCH_PROPERTY_ID = "id";
+    private static final String BATCH_PROPERTY_METHOD = "method";
+    private static final String BATCH_PROPERTY_PATH = "path";
+    private static final String BATCH_PROPERTY_STATUS = "status";
+    private static final String JSON_SUBTYPE_SUFFIX = "json";
+    private static final String QUERY_SEPARATOR = "?";
     private static final int DEFAULT_PREFLIGHT_MAX_AGE = 1800;
+    private static final String ETAG_ANY = "*";
+    private static final String ETAG_QUOTE = "\"";
+    private static final String ETAG_VERSION_SEPARATOR = "-";
+    private static final String ETAG_WEAK_PREFIX = "W/";
     private final ServiceContext serviceContext;
     private final HttpEndpointConfig config;
     private final RequestMappingManager requestMappingManager;
     private final ResponseMappingManager responseMappingManager;
     private final HttpJsonApiSerializer serializer;
+    private final EventStreamManager eventStreamManager;
+    private final ObjectMapper mapper;
 
     public RequestHandler(ServiceContext serviceContext, HttpEndpointConfig config) {
         Ensure.requireNonNull(serviceContext, "serviceContext must be non-null");
@@ -73,6 +116,15 @@ public class RequestHandler extends AbstractHandler {
         this.requestMappingManager = new RequestMappingManager(serviceContext);
         this.responseMappingManager = new ResponseMappingManager(serviceContext);
         this.serializer = new HttpJsonApiSerializer();
+        this.eventStreamManager = new EventStreamManager(serviceContext, config);
+        this.mapper = new ObjectMapper();
+    }
+
+
+    @Override
+    protected void doStop() throws Exception {
+        eventStreamManager.stop();
+        super.doStop();
     }
 
 
@@ -112,10 +164,27 @@ public class RequestHandler extends AbstractHandler {
             return;
         }
 
+        if (method == HttpMethod.GET && Objects.equals(url.replaceAll("/$", ""), EventStreamManager.PATH)) {
+            handleEventStream(request, response, baseRequest);
+            return;
+        }
+
+        if (config.getMaxRequestBodySize() > 0 && request.getContentLengthLong() > config.getMaxRequestBodySize()) {
+            sendPayloadTooLarge(response, config.getMaxRequestBodySize());
+            baseRequest.setHandled(true);
+            return;
+        }
+        SizeLimitedInputStream body = new SizeLimitedInputStream(request.getInputStream(), config.getMaxRequestBodySize());
+
+        if (method == HttpMethod.POST && Objects.equals(url.replaceAll("/$", ""), BATCH_PATH)) {
+            handleBatch(request, body, response, baseRequest);
+            return;
+        }
+
         HttpRequest httpRequest = HttpRequest.builder()
                 .path(url.replaceAll("/$", ""))
                 .query(request.getQueryString())
-                .body(request.getInputStream().readAllBytes())
+                .body(body)
                 .method(method)
                 .charset(request.getCharacterEncoding())
                 .headers(Collections.list(request.getHeaderNames()).stream()
@@ -124,7 +193,7 @@ public class RequestHandler extends AbstractHandler {
                                 x -> request.getHeader(x))))
                 .build();
         try {
-            executeAndSend(response, requestMappingManager.map(httpRequest));
+            executeAndSend(request, response, requestMappingManager.map(httpRequest));
         }
         catch (MethodNotAllowedException e) {
             HttpHelper.send(
@@ -135,6 +204,10 @@ public class RequestHandler extends AbstractHandler {
                             .build());
         }
         catch (InvalidRequestException | IllegalArgumentException e) {
+            if (body.isLimitExceeded()) {
+                sendPayloadTooLarge(response, body.getMaxSize());
+                return;
+            }
             HttpHelper.send(
                     response,
                     StatusCode.CLIENT_ERROR_BAD_REQUEST,
@@ -143,6 +216,10 @@ public class RequestHandler extends AbstractHandler {
                             .build());
         }
         catch (SerializationException | RuntimeException e) {
+            if (body.isLimitExceeded()) {
+                sendPayloadTooLarge(response, body.getMaxSize());
+                return;
+            }
             HttpHelper.send(
                     response,
                     StatusCode.SERVER_INTERNAL_ERROR,
@@ -151,11 +228,208 @@ public class RequestHandler extends AbstractHandler {
                             .build());
         }
         finally {
+            httpRequest.deleteTemporaryFiles();
             baseRequest.setHandled(true);
         }
     }
 
 
+    private static void sendPayloadTooLarge(HttpServletResponse response, long maxSize) {
+        HttpHelper.send(
+                response,
+                StatusCode.CLIENT_ERROR_PAYLOAD_TOO_LARGE,
+                Result.builder()
+                        .message(MessageType.ERROR, String.format("request body exceeds maximum size of %d bytes", maxSize))
+                        .build());
+    }
+
+
+    private void handleEventStream(HttpServletRequest request, HttpServletResponse response, Request baseRequest) throws IOException {
+        try {
+            eventStreamManager.handle(request, response);
+        }
+        catch (InvalidRequestException e) {
+            HttpHelper.send(
+                    response,
+                    StatusCode.CLIENT_ERROR_BAD_REQUEST,
+                    Result.builder()
+                            .message(MessageType.ERROR, e.getMessage())
+                            .build());
+        }
+        finally {
+            baseRequest.setHandled(true);
+        }
+    }
+
+
+    /**
+     * Handles a batch request, i.e. a JSON array of sub-requests each consisting of {@code method}, {@code path}
+     * (optionally including a query string), {@code body}, {@code headers} and an optional {@code id}. All
+     * sub-requests are executed together via {@link ServiceContext#executeBatch(List, boolean)} and the result is sent
+     * as a JSON array containing {@code id}, {@code status}, {@code headers} and {@code body} for each sub-request in
+     * the same order as the sub-requests. Sub-requests that cannot be mapped do not affect the other sub-requests but
+     * are reported with the corresponding error status.
+     *
+     * @param request the HTTP request
+     * @param body the request body
+     * @param response the HTTP response
+     * @param baseRequest the base request
+     * @throws IOException if reading the request body fails
+     */
+    private void handleBatch(HttpServletRequest request, SizeLimitedInputStream body, HttpServletResponse response, Request baseRequest) throws IOException {
+        List<BatchItem> batchItems = new ArrayList<>();
+        try {
+            JsonNode items;
+            try {
+                items = mapper.readTree(body);
+            }
+            catch (IOException e) {
+                if (body.isLimitExceeded()) {
+                    sendPayloadTooLarge(response, body.getMaxSize());
+                    return;
+                }
+                throw e;
+            }
+            if (Objects.isNull(items) || !items.isArray()) {
+                throw new InvalidRequestException("batch request body must be a JSON array");
+            }
+            boolean parallel = Boolean.parseBoolean(request.getParameter(BATCH_PARAM_PARALLEL));
+            List<de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response>> apiRequests = new ArrayList<>();
+            for (JsonNode item: items) {
+                BatchItem batchItem = mapBatchItem(item, response);
+                batchItems.add(batchItem);
+                if (Objects.nonNull(batchItem.apiRequest)) {
+                    apiRequests.add(batchItem.apiRequest);
+                }
+            }
+            List<Response> apiResponses = apiRequests.isEmpty()
+                    ? List.of()
+                    : serviceContext.executeBatch(apiRequests, parallel);
+            ArrayNode result = mapper.createArrayNode();
+            int responseIndex = 0;
+            for (BatchItem batchItem: batchItems) {
+                if (Objects.nonNull(batchItem.apiRequest)) {
+                    sendResponse(batchItem.apiRequest, apiResponses.get(responseIndex++), null, batchItem.response);
+                }
+                result.add(toBatchResult(batchItem));
+            }
+            HttpHelper.sendJson(response, StatusCode.SUCCESS, mapper.writeValueAsString(result));
+        }
+        catch (InvalidRequestException | JsonProcessingException e) {
+            HttpHelper.send(
+                    response,
+                    StatusCode.CLIENT_ERROR_BAD_REQUEST,
+                    Result.builder()
+                            .message(MessageType.ERROR, e.getMessage())
+                            .build());
+        }
+        catch (SerializationException | RuntimeException e) {
+            HttpHelper.send(
+                    response,
+                    StatusCode.SERVER_INTERNAL_ERROR,
+                    Result.builder()
+                            .message(MessageType.EXCEPTION, e.getMessage())
+                            .build());
+        }
+        finally {
+            batchItems.stream()
+                    .filter(x -> Objects.nonNull(x.httpRequest))
+                    .forEach(x -> x.httpRequest.deleteTemporaryFiles());
+            baseRequest.setHandled(true);
+        }
+    }
+
+
+    private BatchItem mapBatchItem(JsonNode item, HttpServletResponse response) throws InvalidRequestException {
+        if (!item.isObject()) {
+            throw new InvalidRequestException("batch items must be JSON objects");
+        }
+        BatchItem result = new BatchItem(item.path(BATCH_PROPERTY_ID).asText(null), new BufferedHttpServletResponse(response));
+        try {
+            result.httpRequest = parseBatchItem(item);
+            result.apiRequest = requestMappingManager.map(result.httpRequest);
+            if (Objects.isNull(result.apiRequest)) {
+                HttpHelper.send(result.response, StatusCode.CLIENT_ERROR_BAD_REQUEST);
+            }
+        }
+        catch (MethodNotAllowedException e) {
+            HttpHelper.send(
+                    result.response,
+                    StatusCode.CLIENT_METHOD_NOT_ALLOWED,
+                    Result.builder()
+                            .message(MessageType.ERROR, e.getMessage())
+                            .build());
+        }
+        catch (InvalidRequestException | IllegalArgumentException e) {
+            HttpHelper.send(
+                    result.response,
+                    StatusCode.CLIENT_ERROR_BAD_REQUEST,
+                    Result.builder()
+                            .message(MessageType.ERROR, e.getMessage())
+                            .build());
+        }
+        return result;
+    }
+
+
+    private HttpRequest parseBatchItem(JsonNode item) throws InvalidRequestException {
+        String method = item.path(BATCH_PROPERTY_METHOD).asText(null);
+        String url = item.path(BATCH_PROPERTY_PATH).asText(null);
+        if (StringUtils.isBlank(method) || StringUtils.isBlank(url)) {
+            throw new InvalidRequestException(String.format(
+                    "batch items must contain '%s' and '%s'",
+                    BATCH_PROPERTY_METHOD,
+                    BATCH_PROPERTY_PATH));
+        }
+        String path = StringUtils.removeStart(StringUtils.substringBefore(url, QUERY_SEPARATOR), API_PREFIX).replaceAll("/$", "");
+        if (Objects.equals(path, BATCH_PATH) || Objects.equals(path, EventStreamManager.PATH)) {
+            throw new InvalidRequestException(String.format("path not supported within batch request '%s'", path));
+        }
+        JsonNode body = item.get(BATCH_PROPERTY_BODY);
+        Map<String, String> headers = new LinkedHashMap<>();
+        item.path(BATCH_PROPERTY_HEADERS).fields().forEachRemaining(x -> headers.put(x.getKey(), x.getValue().asText()));
+        return HttpRequest.builder()
+                .path(path)
+                .query(url.contains(QUERY_SEPARATOR) ? StringUtils.substringAfter(url, QUERY_SEPARATOR) : null)
+                .method(HttpMethod.valueOf(method.toUpperCase()))
+                .charset(StandardCharsets.UTF_8)
+                .body(Objects.isNull(body) || body.isNull()
+                        ? new byte[0]
+                        : (body.isTextual() ? body.asText() : body.toString()).getBytes(StandardCharsets.UTF_8))
+                .headers(headers)
+                .build();
+    }
+
+
+    private ObjectNode toBatchResult(BatchItem batchItem) {
+        ObjectNode result = mapper.createObjectNode();
+        if (Objects.nonNull(batchItem.id)) {
+            result.put(BATCH_PROPERTY_ID, batchItem.id);
+        }
+        result.put(BATCH_PROPERTY_STATUS, batchItem.response.getStatus());
+        Map<String, String> headers = batchItem.response.getHeaderMap();
+        if (!headers.isEmpty()) {
+            result.set(BATCH_PROPERTY_HEADERS, mapper.valueToTree(headers));
+        }
+        byte[] content = batchItem.response.getContent();
+        if (content.length == 0) {
+            return result;
+        }
+        String contentType = batchItem.response.getContentType();
+        if (Objects.nonNull(contentType) && MediaType.parse(contentType).subtype().endsWith(JSON_SUBTYPE_SUFFIX)) {
+            try {
+                result.set(BATCH_PROPERTY_BODY, mapper.readTree(content));
+                return result;
+            }
+            catch (IOException e) {
+                // not valid JSON, fall back to plain string
+            }
+        }
+        result.put(BATCH_PROPERTY_BODY, new String(content, StandardCharsets.UTF_8));
+        return result;
+    }
+
+
     private void setCORSHeader(HttpServletResponse response) {
         response.addHeader(CrossOriginFilter.ACCESS_CONTROL_ALLOW_ORIGIN_HEADER, "*");
         response.addHeader(CrossOriginFilter.ACCESS_CONTROL_ALLOW_CREDENTIALS_HEADER, "true");
@@ -208,13 +482,34 @@ public class RequestHandler extends AbstractHandler {
     }
 
 
-    private void executeAndSend(HttpServletResponse response, de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest)
+    private void executeAndSend(HttpServletRequest request,
+                                HttpServletResponse response,
+                                de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest)
             throws SerializationException {
         if (apiRequest == null) {
             HttpHelper.send(response, StatusCode.CLIENT_ERROR_BAD_REQUEST);
             return;
         }
+        // version must be determined before execution so that a concurrent modification results in a new ETag
+        Optional<List<VersionInfo>> versions = getVersions(request, apiRequest);
+        if (versions.isPresent() && isNotModified(request, versions.get())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED_304);
+            setVersionHeaders(response, versions.get());
+            return;
+        }
         Response apiResponse = serviceContext.execute(apiRequest);
+        if (versions.isPresent() && isSuccessful(apiResponse)) {
+            setVersionHeaders(response, versions.get());
+        }
+        sendResponse(apiRequest, apiResponse, request, response);
+    }
+
+
+    private void sendResponse(de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest,
+                              Response apiResponse,
+                              HttpServletRequest request,
+                              HttpServletResponse response)
+            throws SerializationException {
         if (apiResponse == null) {
             HttpHelper.send(
                     response,
@@ -226,7 +521,7 @@ public class RequestHandler extends AbstractHandler {
         }
 
         if (isSuccessful(apiResponse)) {
-            responseMappingManager.map(apiRequest, apiResponse, response);
+            responseMappingManager.map(apiRequest, apiResponse, request, response);
         }
         else {
             HttpHelper.sendJson(response, apiResponse.getStatusCode(), serializer.write(apiResponse.getResult()));
@@ -234,6 +529,128 @@ public class RequestHandler extends AbstractHandler {
     }
 
 
+    /**
+     * Collects the versions of all elements the result of a request depends on. Versions are only available for GET
+     * requests on AAS, submodels, submodel elements and concept descriptions and only if none of the involved elements
+     * is backed by an asset connection.
+     *
+     * @param request the HTTP request
+     * @param apiRequest the API request
+     * @return the versions of all elements the result depends on or empty if versioning is not supported for the
+     *         request
+     */
+    private Optional<List<VersionInfo>> getVersions(HttpServletRequest request,
+                                                    de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest) {
+        if (!HttpMethod.GET.name().equalsIgnoreCase(request.getMethod())) {
+            return Optional.empty();
+        }
+        List<Reference> references = getVersionedReferences(apiRequest);
+        if (references.isEmpty()) {
+            return Optional.empty();
+        }
+        List<VersionInfo> result = new ArrayList<>();
+        try {
+            for (Reference reference: references) {
+                Optional<VersionInfo> version = serviceContext.getVersion(reference);
+                if (version.isEmpty()) {
+                    return Optional.empty();
+                }
+                result.add(version.get());
+            }
+        }
+        catch (ResourceNotFoundException e) {
+            // request will fail anyway, error is reported upon execution
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+
+    private static List<Reference> getVersionedReferences(de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest) {
+        List<Reference> result = new ArrayList<>();
+        if (GetAssetAdministrationShellRequest.class.isAssignableFrom(apiRequest.getClass())) {
+            result.add(ReferenceBuilder.forAas(((GetAssetAdministrationShellRequest) apiRequest).getId()));
+        }
+        else if (GetAssetAdministrationShellByIdRequest.class.isAssignableFrom(apiRequest.getClass())) {
+            result.add(ReferenceBuilder.forAas(((GetAssetAdministrationShellByIdRequest) apiRequest).getId()));
+        }
+        else if (GetConceptDescriptionByIdRequest.class.isAssignableFrom(apiRequest.getClass())) {
+            result.add(ReferenceBuilder.forConceptDescription(((GetConceptDescriptionByIdRequest) apiRequest).getId()));
+        }
+        else if (GetSubmodelByIdRequest.class.isAssignableFrom(apiRequest.getClass())) {
+            result.add(ReferenceBuilder.forSubmodel(((GetSubmodelByIdRequest) apiRequest).getId()));
+        }
+        else if (GetSubmodelRequest.class.isAssignableFrom(apiRequest.getClass())
+                || GetSubmodelElementByPathRequest.class.isAssignableFrom(apiRequest.getClass())) {
+            AbstractSubmodelInterfaceRequest<?> submodelInterfaceRequest = (AbstractSubmodelInterfaceRequest<?>) apiRequest;
+            if (Objects.nonNull(submodelInterfaceRequest.getAasId())) {
+                result.add(ReferenceBuilder.forAas(submodelInterfaceRequest.getAasId()));
+            }
+            result.add(GetSubmodelElementByPathRequest.class.isAssignableFrom(apiRequest.getClass())
+                    ? new ReferenceBuilder()
+                            .submodel(submodelInterfaceRequest.getSubmodelId())
+                            .idShortPath(((GetSubmodelElementByPathRequest) apiRequest).getPath())
+                            .build()
+                    : ReferenceBuilder.forSubmodel(submodelInterfaceRequest.getSubmodelId()));
+        }
+        return result;
+    }
+
+
+    private static String toETag(List<VersionInfo> versions) {
+        return ETAG_QUOTE
+                + versions.stream()
+                        .map(x -> Long.toString(x.getVersion()))
+                        .collect(Collectors.joining(ETAG_VERSION_SEPARATOR))
+                + ETAG_QUOTE;
+    }
+
+
+    private static long getLastModified(List<VersionInfo> versions) {
+        return versions.stream()
+                .filter(x -> Objects.nonNull(x.getLastModified()))
+                .mapToLong(x -> x.getLastModified().toEpochMilli())
+                .max()
+                .orElse(-1);
+    }
+
+
+    private static void setVersionHeaders(HttpServletResponse response, List<VersionInfo> versions) {
+        response.setHeader(HttpHeader.ETAG.asString(), toETag(versions));
+        long lastModified = getLastModified(versions);
+        if (lastModified >= 0) {
+            response.setHeader(HttpHeader.LAST_MODIFIED.asString(), DateGenerator.formatDate(lastModified));
+        }
+    }
+
+
+    /**
+     * Evaluates the conditional headers If-None-Match and If-Modified-Since according to RFC 9110. If-Modified-Since is
+     * only evaluated if If-None-Match is not present.
+     *
+     * @param request the HTTP request
+     * @param versions the current versions of the requested resource
+     * @return true if the resource has not been modified, otherwise false
+     */
+    private static boolean isNotModified(HttpServletRequest request, List<VersionInfo> versions) {
+        String ifNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.asString());
+        if (Objects.nonNull(ifNoneMatch)) {
+            String etag = toETag(versions);
+            return HttpHelper.parseCommaSeparatedList(ifNoneMatch).stream()
+                    .map(x -> StringUtils.removeStart(x, ETAG_WEAK_PREFIX))
+                    .anyMatch(x -> Objects.equals(x, ETAG_ANY) || Objects.equals(x, etag));
+        }
+        String ifModifiedSince = request.getHeader(HttpHeader.IF_MODIFIED_SINCE.asString());
+        if (Objects.nonNull(ifModifiedSince)) {
+            long since = DateParser.parseDate(ifModifiedSince);
+            long lastModified = getLastModified(versions);
+            // HTTP dates have a resolution of seconds
+            return since >= 0 && lastModified >= 0 && lastModified / 1000 <= since / 1000;
+        }
+        return false;
+    }
+
+
     private static boolean isSuccessful(Response response) {
         return Objects.nonNull(response)
                 && response.getStatusCode().isSuccess()
@@ -244,4 +661,17 @@ public class RequestHandler extends AbstractHandler {
                         .map(x -> x.getMessageType())
                         .noneMatch(x -> Objects.equals(x, MessageType.ERROR) || Objects.equals(x, MessageType.EXCEPTION));
     }
+
+    private static class BatchItem {
+
+        private final String id;
+        private final BufferedHttpServletResponse response;
+        private HttpRequest httpRequest;
+        private de.fraunhofer.iosb.ilt.faaast.service.model.api.Request<? extends Response> apiRequest;
+
+        private BatchItem(String id, BufferedHttpServletResponse response) {
+            this.id = id;
+            this.response = response;
+        }
+    }
 }
@@ -14,11 +14,16 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
 
 
@@ -28,6 +33,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
 public abstract class HttpMessage {
 
     protected byte[] body;
+    protected InputStream bodyStream;
+    protected boolean bodyStreamConsumed;
     protected Charset charset;
     protected Map<String, String> headers;
 
@@ -37,13 +44,56 @@ public abstract class HttpMessage {
     }
 
 
+    /**
+     * Gets the body. If the body has been provided as stream, the stream is read completely into memory upon first
+     * call.
+     *
+     * @return the body
+     * @throws UncheckedIOException if reading the body stream fails
+     * @throws IllegalStateException if the body stream has already been consumed via {@link #getBodyAsStream()}
+     */
     public byte[] getBody() {
+        ensureBodyStreamNotConsumed();
+        if (Objects.nonNull(bodyStream)) {
+            try (InputStream stream = bodyStream) {
+                bodyStream = null;
+                body = stream.readAllBytes();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException("error reading body", e);
+            }
+        }
         return body;
     }
 
 
+    /**
+     * Gets the body as stream. If the body has been provided as stream and has not yet been read, the stream is
+     * returned as-is without buffering it in memory. In this case, the body can only be consumed once and any
+     * subsequent attempt to access the body fails with an {@link IllegalStateException}.
+     *
+     * @return the body as stream
+     * @throws IllegalStateException if the body stream has already been consumed
+     */
+    public InputStream getBodyAsStream() {
+        ensureBodyStreamNotConsumed();
+        if (Objects.nonNull(bodyStream)) {
+            InputStream result = bodyStream;
+            bodyStream = null;
+            bodyStreamConsumed = true;
+            return result;
+        }
+        return new ByteArrayInputStream(Objects.nonNull(body) ? body : new byte[0]);
+    }
+
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+
     public String getBodyAsString() {
-        return new String(body, charset);
+        return new String(getBody(), charset);
     }
 
 
@@ -54,7 +104,7 @@ public abstract class HttpMessage {
      * @return the body as string using given charset
      */
     public String getBodyAsString(Charset charset) {
-        return new String(body, charset);
+        return new String(getBody(), charset);
     }
 
 
@@ -68,13 +118,37 @@ public abstract class HttpMessage {
     }
 
 
+    /**
+     * Sets the body.
+     *
+     * @param body the body to set
+     */
     public void setBody(byte[] body) {
         this.body = body;
+        this.bodyStream = null;
+        this.bodyStreamConsumed = false;
     }
 
 
+    /**
+     * Sets the body to a string encoded using the current charset.
+     *
+     * @param body the body to set
+     */
     public void setBody(String body) {
-        this.body = body.getBytes(charset);
+        setBody(body.getBytes(charset));
+    }
+
+
+    /**
+     * Sets the body to a stream that is read lazily.
+     *
+     * @param body the body stream
+     */
+    public void setBody(InputStream body) {
+        this.body = null;
+        this.bodyStream = body;
+        this.bodyStreamConsumed = false;
     }
 
 
@@ -109,7 +183,14 @@ public abstract class HttpMessage {
      */
     public void setBody(String body, Charset charset) {
         this.charset = charset;
-        this.body = body.getBytes(charset);
+        setBody(body.getBytes(charset));
+    }
+
+
+    private void ensureBodyStreamNotConsumed() {
+        if (bodyStreamConsumed) {
+            throw new IllegalStateException("body has already been consumed as stream and is not available anymore");
+        }
     }
 
     public abstract static class AbstractBuilder<T extends HttpMessage, B extends AbstractBuilder<T, B>> extends ExtendableBuilder<T, B> {
@@ -120,6 +201,12 @@ public abstract class HttpMessage {
         }
 
 
+        public B body(InputStream value) {
+            getBuildingInstance().setBody(value);
+            return getSelf();
+        }
+
+
         public B body(String value) {
             getBuildingInstance().setBody(value);
             return getSelf();
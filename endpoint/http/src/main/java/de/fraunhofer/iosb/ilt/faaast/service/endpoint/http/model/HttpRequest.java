@@ -14,6 +14,9 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -31,6 +34,7 @@ public class HttpRequest extends HttpMessage {
     private String path;
     private Map<String, String> queryParameters;
     private List<String> pathElements;
+    private final List<Path> temporaryFiles;
 
     public static Builder builder() {
         return new Builder();
@@ -41,6 +45,38 @@ public class HttpRequest extends HttpMessage {
         method = HttpMethod.GET;
         queryParameters = new HashMap<>();
         pathElements = new ArrayList<>();
+        temporaryFiles = new ArrayList<>();
+    }
+
+
+    /**
+     * Creates a new temporary file bound to the lifetime of this request, e.g. to buffer large parts of the body on disk
+     * instead of in memory. All temporary files are deleted when calling {@link #deleteTemporaryFiles()}.
+     *
+     * @return the path to the new temporary file
+     * @throws IOException if creating the file fails
+     */
+    public Path createTemporaryFile() throws IOException {
+        Path result = Files.createTempFile("faaast-request-", ".tmp");
+        temporaryFiles.add(result);
+        return result;
+    }
+
+
+    /**
+     * Deletes all temporary files created via {@link #createTemporaryFile()}. Files that cannot be deleted immediately
+     * are deleted when the JVM exits.
+     */
+    public void deleteTemporaryFiles() {
+        for (Path file: temporaryFiles) {
+            try {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+        temporaryFiles.clear();
     }
 
 
@@ -24,15 +24,19 @@ import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpMethod;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiDeserializer;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpConstants;
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.InvalidRequestException;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.RegExHelper;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +52,8 @@ public abstract class AbstractRequestMapper {
 
     private static final String MSG_ERROR_PARSING_BODY = "error parsing body";
     protected static final String BOUNDARY = "boundary";
+    protected static final String MULTIPART_FILE = "file";
+    protected static final String MULTIPART_FILE_NAME = "fileName";
     protected static final Pattern PATTERN_NAME = Pattern.compile("name=\"([^\"]+)\"");
     protected static final Pattern PATTERN_CONTENT_TYPE = Pattern.compile(HttpConstants.HEADER_CONTENT_TYPE + ": ([^\n^\r]+)");
 
@@ -161,7 +167,7 @@ public abstract class AbstractRequestMapper {
     protected <T> T parseBody(HttpRequest httpRequest, Class<T> type) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
         try {
-            return deserializer.read(httpRequest.getBodyAsString(), type);
+            return deserializer.read(httpRequest.getBodyAsStream(), httpRequest.getCharset(), type);
         }
         catch (DeserializationException e) {
             throw new InvalidRequestException(MSG_ERROR_PARSING_BODY, e);
@@ -170,45 +176,59 @@ public abstract class AbstractRequestMapper {
 
 
     /**
-     * Deserializes HTTP body multipart form data.
+     * Deserializes a file upload sent as HTTP body multipart form data consisting of the parts <i>file</i> and
+     * <i>fileName</i>. The body is parsed directly from the request stream and the content of the file is streamed to
+     * a temporary file bound to the lifetime of the request, i.e. the file is never loaded into memory.
      *
      * @param httpRequest HTTP request
      * @param contentType the multipart contentType containing the boundary
-     * @return deserialized payload
-     * @throws InvalidRequestException if deserialization fails
+     * @return the uploaded file with path set to the provided file name
+     * @throws InvalidRequestException if deserialization fails or a part is missing
      * @throws IllegalArgumentException if httpRequest is null
      */
-    protected Map<String, TypedInMemoryFile> parseMultiPartBody(HttpRequest httpRequest, MediaType contentType) throws InvalidRequestException {
+    protected FileContent parseMultiPartFile(HttpRequest httpRequest, MediaType contentType) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
-        Map<String, TypedInMemoryFile> map = new HashMap<>();
-        try {
+        String fileName = null;
+        String fileContentType = null;
+        Path file = null;
+        try (InputStream body = httpRequest.getBodyAsStream()) {
             MultipartStream multipartStream = new MultipartStream(
-                    new ByteArrayInputStream(httpRequest.getBody()),
+                    body,
                     contentType.parameters().get(BOUNDARY).get(0).getBytes(), 4096, null);
             boolean nextPart = multipartStream.skipPreamble();
             while (nextPart) {
-                ByteArrayOutputStream output = new ByteArrayOutputStream();
                 String multipartHeaders = multipartStream.readHeaders();
-                multipartStream.readBodyData(output);
-                if (Objects.equals(headerMatcher(PATTERN_NAME, multipartHeaders), "fileName")) {
-                    map.put("fileName", new TypedInMemoryFile.Builder()
-                            .content(output.toByteArray())
-                            .contentType(MediaType.PLAIN_TEXT_UTF_8.toString())
-                            .build());
+                if (Objects.equals(headerMatcher(PATTERN_NAME, multipartHeaders), MULTIPART_FILE_NAME)) {
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    multipartStream.readBodyData(output);
+                    fileName = output.toString();
                 }
                 else {
-                    map.put("file", new TypedInMemoryFile.Builder()
-                            .content(output.toByteArray())
-                            .contentType(headerMatcher(PATTERN_CONTENT_TYPE, multipartHeaders))
-                            .build());
+                    file = httpRequest.createTemporaryFile();
+                    try (OutputStream output = Files.newOutputStream(file)) {
+                        multipartStream.readBodyData(output);
+                    }
+                    fileContentType = headerMatcher(PATTERN_CONTENT_TYPE, multipartHeaders);
                 }
                 nextPart = multipartStream.readBoundary();
             }
+            if (Objects.isNull(file) || Objects.isNull(fileName)) {
+                throw new InvalidRequestException(String.format(
+                        "multipart body must contain parts '%s' and '%s'",
+                        MULTIPART_FILE,
+                        MULTIPART_FILE_NAME));
+            }
+            Path content = file;
+            return FileContent.builder()
+                    .path(fileName)
+                    .contentType(fileContentType)
+                    .size(Files.size(content))
+                    .contentProvider(() -> FileChannel.open(content, StandardOpenOption.READ))
+                    .build();
         }
         catch (IOException e) {
             throw new InvalidRequestException(MSG_ERROR_PARSING_BODY, e);
         }
-        return map;
     }
 
 
@@ -235,7 +255,7 @@ public abstract class AbstractRequestMapper {
     protected <T> List<T> parseBodyAsList(HttpRequest httpRequest, Class<T> type) throws InvalidRequestException {
         Ensure.requireNonNull(httpRequest, "httpRequest must be non-null");
         try {
-            return deserializer.readList(httpRequest.getBodyAsString(), type);
+            return deserializer.readList(httpRequest.getBodyAsStream(), httpRequest.getCharset(), type);
         }
         catch (DeserializationException e) {
             throw new InvalidRequestException(MSG_ERROR_PARSING_BODY, e);
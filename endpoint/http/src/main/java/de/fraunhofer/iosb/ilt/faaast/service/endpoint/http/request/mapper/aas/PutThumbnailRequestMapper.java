@@ -21,7 +21,6 @@ import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpMethod;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.request.mapper.AbstractRequestMapper;
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aas.PutThumbnailRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.InvalidRequestException;
@@ -46,14 +45,9 @@ public class PutThumbnailRequestMapper extends AbstractRequestMapper {
     @Override
     public Request doParse(HttpRequest httpRequest, Map<String, String> urlParameters) throws InvalidRequestException {
         MediaType contentType = MediaType.parse(httpRequest.getHeader(HEADER_CONTENT_TYPE));
-        Map<String, TypedInMemoryFile> multipart = parseMultiPartBody(httpRequest, contentType);
         return PutThumbnailRequest.builder()
                 .id(EncodingHelper.base64UrlDecode(urlParameters.get(AAS_ID)))
-                .content(new TypedInMemoryFile.Builder()
-                        .content(multipart.get("file").getContent())
-                        .contentType(multipart.get("file").getContentType())
-                        .path(new String(multipart.get("fileName").getContent()))
-                        .build())
+                .content(parseMultiPartFile(httpRequest, contentType))
                 .build();
     }
 }
@@ -22,6 +22,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.MostSpecificClassComparator;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Comparator;
 import org.apache.commons.lang3.tuple.Pair;
@@ -48,6 +49,23 @@ public class ResponseMappingManager extends AbstractMappingManager<AbstractRespo
      *             * @throws IllegalArgumentException is httpResponse is null
      */
     public void map(Request apiRequest, Response apiResponse, HttpServletResponse httpResponse) {
+        map(apiRequest, apiResponse, null, httpResponse);
+    }
+
+
+    /**
+     * Maps a given API response to HTTP by finding the best suited (most specific) response mapper. The original HTTP
+     * request is passed to the mapper, e.g. to evaluate request headers.
+     *
+     * @param apiRequest the original API request received
+     * @param apiResponse the API response to process
+     * @param httpRequest the original HTTP request, may be null if not available
+     * @param httpResponse the HTTP response to write to
+     * @throws IllegalArgumentException is apiRequest is null
+     * @throws IllegalArgumentException is apiResponse is null
+     * @throws IllegalArgumentException is httpResponse is null
+     */
+    public void map(Request apiRequest, Response apiResponse, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         Ensure.requireNonNull(apiRequest, "apiRequest must be non-null");
         Ensure.requireNonNull(apiResponse, "apiResponse must be non-null");
         Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
@@ -58,7 +76,7 @@ public class ResponseMappingManager extends AbstractMappingManager<AbstractRespo
                 .map(Pair::getKey)
                 .findFirst()
                 .orElseThrow(() -> new IllegalStateException(String.format("no matching response mapper found for type '%s'", apiResponse.getClass())))
-                .map(apiRequest, apiResponse, httpResponse);
+                .map(apiRequest, apiResponse, httpRequest, httpResponse);
     }
 
 }
@@ -18,6 +18,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Objects;
 
@@ -46,6 +47,20 @@ public abstract class AbstractResponseMapper<T extends Response, U extends Reque
     public abstract void map(U apiRequest, T apiResponse, HttpServletResponse httpResponse);
 
 
+    /**
+     * Maps the API response with access to the original HTTP request, e.g. to evaluate request headers. By default,
+     * this delegates to {@link #map(Request, Response, HttpServletResponse)}.
+     *
+     * @param apiRequest the API request received
+     * @param apiResponse the API response that shall be sent as a response to the apiRequest
+     * @param httpRequest the original HTTP request, may be null if not available
+     * @param httpResponse the HTTP response object to write to
+     */
+    public void map(U apiRequest, T apiResponse, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        map(apiRequest, apiResponse, httpResponse);
+    }
+
+
     @Override
     public int hashCode() {
         return Objects.hash(serviceContext);
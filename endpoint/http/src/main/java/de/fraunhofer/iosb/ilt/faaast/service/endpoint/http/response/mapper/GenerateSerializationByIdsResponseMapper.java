@@ -16,6 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.response.mapper;
 
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerializationManager;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerializer;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.MessageType;
@@ -24,15 +25,20 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aasserialization.GenerateSerializationByIdsResponse;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.Map;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
  * HTTP response mapper for {@link GenerateSerializationByIdsResponse}, serializing the requested content according to
- * the desired data format.
+ * the desired data format. The serialized content is written directly to the HTTP response instead of being created in
+ * memory first.
  */
 public class GenerateSerializationByIdsResponseMapper extends AbstractResponseMapper<GenerateSerializationByIdsResponse, GenerateSerializationByIdsRequest> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerateSerializationByIdsResponseMapper.class);
+
     public GenerateSerializationByIdsResponseMapper(ServiceContext serviceContext) {
         super(serviceContext);
     }
@@ -41,16 +47,22 @@ public class GenerateSerializationByIdsResponseMapper extends AbstractResponseMa
     @Override
     public void map(GenerateSerializationByIdsRequest apiRequest, GenerateSerializationByIdsResponse apiResponse, HttpServletResponse httpResponse) {
         try {
-            HttpHelper.sendContent(httpResponse,
-                    apiResponse.getStatusCode(),
-                    EnvironmentSerializationManager.serializerFor(apiResponse.getDataformat()).write(apiResponse.getPayload()),
-                    apiResponse.getDataformat().getContentType(),
-                    Map.of("Content-Disposition",
-                            String.format(
-                                    "attachment; filename=\"download.%s\"",
-                                    apiResponse.getDataformat().getFileExtensions().get(0))));
+            EnvironmentSerializer serializer = EnvironmentSerializationManager.serializerFor(apiResponse.getDataformat());
+            httpResponse.setStatus(HttpHelper.toHttpStatusCode(apiResponse.getStatusCode()));
+            httpResponse.setContentType(apiResponse.getDataformat().getContentType().toString());
+            httpResponse.addHeader("Content-Disposition",
+                    String.format(
+                            "attachment; filename=\"download.%s\"",
+                            apiResponse.getDataformat().getFileExtensions().get(0)));
+            serializer.write(httpResponse.getOutputStream(), EnvironmentSerializer.DEFAULT_CHARSET, apiResponse.getPayload());
+            httpResponse.getOutputStream().flush();
         }
-        catch (SerializationException e) {
+        catch (SerializationException | IOException e) {
+            if (httpResponse.isCommitted()) {
+                LOGGER.warn("error sending serialization", e);
+                return;
+            }
+            httpResponse.reset();
             HttpHelper.send(
                     httpResponse,
                     StatusCode.SERVER_INTERNAL_ERROR,
@@ -14,23 +14,35 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.response.mapper;
 
-import com.google.common.net.MediaType;
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.RangeHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.RangeHelper.ByteRange;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.*;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.AbstractResponseWithFile;
 import de.fraunhofer.iosb.ilt.faaast.service.util.FileHelper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.eclipse.jetty.http.DateGenerator;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 
 
 /**
- * Response mapper for any responses that contain a file.
+ * Response mapper for any responses that contain a file. Supports range requests (including If-Range) according to
+ * RFC 9110 if the size of the file is known.
  *
  */
 public class ResponseWithFileMapper extends AbstractResponseMapper<AbstractResponseWithFile, Request<AbstractResponseWithFile>> {
 
     private static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
+    private static final String ACCEPT_RANGES_NONE = "none";
 
     public ResponseWithFileMapper(ServiceContext serviceContext) {
         super(serviceContext);
@@ -39,14 +51,62 @@ public class ResponseWithFileMapper extends AbstractResponseMapper<AbstractRespo
 
     @Override
     public void map(Request<AbstractResponseWithFile> apiRequest, AbstractResponseWithFile apiResponse, HttpServletResponse httpResponse) {
-        HttpHelper.sendContent(
-                httpResponse,
-                apiResponse.getStatusCode(),
-                apiResponse.getPayload().getContent(),
-                MediaType.parse(apiResponse.getPayload().getContentType()),
-                Map.of(HEADER_CONTENT_DISPOSITION, String.format(
-                        "attachment; filename=\"%s\"",
-                        FileHelper.getFilenameFromPath(apiResponse.getPayload().getPath()))));
+        map(apiRequest, apiResponse, null, httpResponse);
+    }
+
+
+    @Override
+    public void map(Request<AbstractResponseWithFile> apiRequest,
+                    AbstractResponseWithFile apiResponse,
+                    HttpServletRequest httpRequest,
+                    HttpServletResponse httpResponse) {
+        FileContent file = apiResponse.getPayload();
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_CONTENT_DISPOSITION, String.format(
+                "attachment; filename=\"%s\"",
+                FileHelper.getFilenameFromPath(file.getPath())));
+        headers.put(HttpHeader.ACCEPT_RANGES.asString(), file.getSize() >= 0 ? RangeHelper.UNIT_BYTES : ACCEPT_RANGES_NONE);
+        String etag = null;
+        if (Objects.nonNull(file.getLastModified()) && !httpResponse.containsHeader(HttpHeader.ETAG.asString())) {
+            etag = toETag(file);
+            headers.put(HttpHeader.ETAG.asString(), etag);
+            headers.put(HttpHeader.LAST_MODIFIED.asString(), DateGenerator.formatDate(file.getLastModified().toEpochMilli()));
+        }
+        Optional<List<ByteRange>> ranges = getRanges(apiResponse, httpRequest, etag);
+        if (ranges.isEmpty()) {
+            HttpHelper.sendFile(httpResponse, apiResponse.getStatusCode(), file, headers);
+        }
+        else if (ranges.get().isEmpty()) {
+            HttpHelper.sendRangeNotSatisfiable(httpResponse, file.getSize(), headers);
+        }
+        else {
+            HttpHelper.sendFileRanges(httpResponse, file, ranges.get(), headers);
+        }
+    }
+
+
+    private static Optional<List<ByteRange>> getRanges(AbstractResponseWithFile apiResponse, HttpServletRequest httpRequest, String etag) {
+        if (Objects.isNull(httpRequest)
+                || !HttpMethod.GET.is(httpRequest.getMethod())
+                || apiResponse.getStatusCode() != StatusCode.SUCCESS
+                || !RangeHelper.isIfRangeSatisfied(
+                        httpRequest.getHeader(HttpHeader.IF_RANGE.asString()),
+                        etag,
+                        apiResponse.getPayload().getLastModified())) {
+            return Optional.empty();
+        }
+        return RangeHelper.parse(httpRequest.getHeader(HttpHeader.RANGE.asString()), apiResponse.getPayload().getSize());
+    }
+
 
+    /**
+     * Creates the ETag for a file. As it is only derived from modification time and size, it cannot guarantee
+     * byte-for-byte equality and therefore is a weak validator, i.e. it is never honored for {@code If-Range}.
+     *
+     * @param file the file
+     * @return the weak ETag
+     */
+    private static String toETag(FileContent file) {
+        return String.format("W/\"%x-%x\"", file.getLastModified().toEpochMilli(), file.getSize());
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.sse;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import jakarta.servlet.AsyncContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Represents a single client connected via Server-Sent Events. Each client has its own bounded buffer of pending
+ * changes which is written to the client asynchronously so that slow clients do not block the message bus. Changes to
+ * the same element are conflated, i.e. if an element changes multiple times before the client has received the
+ * previous change, only the latest value is sent. If the buffer is full, the oldest pending change is dropped and the
+ * client is notified via an {@code overflow} event.
+ */
+public class EventStreamClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStreamClient.class);
+    private static final String EVENT_VALUE = "value";
+    private static final String EVENT_OVERFLOW = "overflow";
+    private static final String HEARTBEAT = ": keep-alive\n\n";
+    private final AsyncContext asyncContext;
+    private final int bufferSize;
+    private final Executor executor;
+    private final HttpJsonApiSerializer serializer;
+    private final Consumer<EventStreamClient> closeHandler;
+    private final Map<String, ElementValue> pending;
+    private final AtomicBoolean flushScheduled;
+    private final AtomicBoolean heartbeatPending;
+    private final AtomicBoolean closed;
+    private long dropped;
+    private long sequence;
+    private volatile SubscriptionId subscriptionId;
+
+    public EventStreamClient(AsyncContext asyncContext, int bufferSize, Executor executor, HttpJsonApiSerializer serializer, Consumer<EventStreamClient> closeHandler) {
+        this.asyncContext = asyncContext;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+        this.serializer = serializer;
+        this.closeHandler = closeHandler;
+        this.pending = new LinkedHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.heartbeatPending = new AtomicBoolean(false);
+        this.closed = new AtomicBoolean(false);
+    }
+
+
+    public SubscriptionId getSubscriptionId() {
+        return subscriptionId;
+    }
+
+
+    /**
+     * Sets the id of the message bus subscription of this client. If the client has already been closed in the
+     * meantime, e.g. because the client disconnected while subscribing, the close handler is invoked again so that the
+     * subscription is released.
+     *
+     * @param subscriptionId the subscription id
+     */
+    public void setSubscriptionId(SubscriptionId subscriptionId) {
+        synchronized (closed) {
+            this.subscriptionId = subscriptionId;
+            if (!closed.get()) {
+                return;
+            }
+        }
+        closeHandler.accept(this);
+    }
+
+
+    /**
+     * Adds a change to the buffer of this client. This method never blocks.
+     *
+     * @param element string representation of the reference to the changed element
+     * @param value the new value of the element
+     */
+    public void offer(String element, ElementValue value) {
+        if (closed.get()) {
+            return;
+        }
+        synchronized (pending) {
+            if (!pending.containsKey(element) && pending.size() >= bufferSize) {
+                Iterator<String> iterator = pending.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+                dropped++;
+            }
+            pending.put(element, value);
+        }
+        scheduleFlush();
+    }
+
+
+    /**
+     * Sends a heartbeat comment to the client. This is used to keep the connection alive and detect disconnected
+     * clients.
+     */
+    public void heartbeat() {
+        if (closed.get()) {
+            return;
+        }
+        heartbeatPending.set(true);
+        scheduleFlush();
+    }
+
+
+    /**
+     * Closes the connection to the client. Subsequent calls have no effect.
+     */
+    public void close() {
+        // synchronized with setSubscriptionId so that either close or setSubscriptionId sees the subscription id
+        synchronized (closed) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        synchronized (pending) {
+            pending.clear();
+        }
+        try {
+            asyncContext.complete();
+        }
+        catch (IllegalStateException e) {
+            LOGGER.trace("event stream already completed", e);
+        }
+        closeHandler.accept(this);
+    }
+
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+
+    private boolean hasPending() {
+        synchronized (pending) {
+            return !pending.isEmpty() || dropped > 0 || heartbeatPending.get();
+        }
+    }
+
+
+    private void flush() {
+        do {
+            try {
+                write();
+            }
+            catch (IOException | SerializationException | RuntimeException e) {
+                LOGGER.debug("writing to event stream failed - closing connection", e);
+                flushScheduled.set(false);
+                close();
+                return;
+            }
+            flushScheduled.set(false);
+        } while (!closed.get() && hasPending() && flushScheduled.compareAndSet(false, true));
+    }
+
+
+    private void write() throws IOException, SerializationException {
+        Map<String, ElementValue> changes;
+        long droppedCount;
+        synchronized (pending) {
+            changes = new LinkedHashMap<>(pending);
+            pending.clear();
+            droppedCount = dropped;
+            dropped = 0;
+        }
+        StringBuilder builder = new StringBuilder();
+        if (droppedCount > 0) {
+            appendEvent(builder, EVENT_OVERFLOW, String.format("{\"dropped\":%d}", droppedCount));
+        }
+        for (var change: changes.entrySet()) {
+            appendEvent(builder, EVENT_VALUE, String.format("{\"element\":%s,\"value\":%s}",
+                    serializer.write(change.getKey()),
+                    serializer.write(change.getValue())));
+        }
+        if (heartbeatPending.getAndSet(false) && builder.length() == 0) {
+            builder.append(HEARTBEAT);
+        }
+        if (builder.length() == 0 || closed.get()) {
+            return;
+        }
+        OutputStream out = asyncContext.getResponse().getOutputStream();
+        out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+
+    private void appendEvent(StringBuilder builder, String event, String data) {
+        builder.append("id: ")
+                .append(++sequence)
+                .append('\n')
+                .append("event: ")
+                .append(event)
+                .append('\n')
+                .append("data: ")
+                // multi-line data must be split into multiple data fields
+                .append(data.replaceAll("\\r?\\n", "\ndata: "))
+                .append("\n\n");
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.sse;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.HttpEndpointConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.MessageType;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.InvalidRequestException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementUpdateEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.EncodingHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Provides a streaming subscription API based on Server-Sent Events (SSE). Clients connect via {@code GET /events} and
+ * receive the value of all elements that change while they are connected. The stream can be restricted to a submodel
+ * or a submodel element and all its children by providing the query parameters {@code submodelId}
+ * (base64URL-encoded) and {@code idShortPath}.
+ */
+public class EventStreamManager {
+
+    public static final String PATH = "/events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStreamManager.class);
+    private static final String CONTENT_TYPE = "text/event-stream";
+    private static final String PARAM_SUBMODEL_ID = "submodelId";
+    private static final String PARAM_ID_SHORT_PATH = "idShortPath";
+    private final ServiceContext serviceContext;
+    private final HttpEndpointConfig config;
+    private final HttpJsonApiSerializer serializer;
+    private final Set<EventStreamClient> clients;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public EventStreamManager(ServiceContext serviceContext, HttpEndpointConfig config) {
+        this.serviceContext = serviceContext;
+        this.config = config;
+        this.serializer = new HttpJsonApiSerializer();
+        this.clients = ConcurrentHashMap.newKeySet();
+        this.executor = Executors.newCachedThreadPool(new BasicThreadFactory.Builder()
+                .namingPattern("EventStream-%d")
+                .daemon(true)
+                .build());
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("EventStreamHeartbeat-%d")
+                .daemon(true)
+                .build());
+        if (config.getEventStreamHeartbeatInterval() > 0) {
+            heartbeatExecutor.scheduleAtFixedRate(
+                    () -> clients.forEach(EventStreamClient::heartbeat),
+                    config.getEventStreamHeartbeatInterval(),
+                    config.getEventStreamHeartbeatInterval(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Handles a request to open a new event stream. The request is put into async mode and the connection is kept open
+     * until either the client disconnects or the endpoint is stopped. If subscribing to the message bus fails, an error
+     * response is sent and the connection is closed.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @throws InvalidRequestException if the query parameters are invalid
+     * @throws IOException if writing to the client fails
+     */
+    public void handle(HttpServletRequest request, HttpServletResponse response) throws InvalidRequestException, IOException {
+        Reference prefix = parsePrefix(request);
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeader.CACHE_CONTROL.asString(), "no-cache");
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(0);
+        EventStreamClient client = new EventStreamClient(asyncContext, config.getEventStreamBufferSize(), executor, serializer, this::unsubscribe);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onError(AsyncEvent event) {
+                client.close();
+            }
+
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // intentionally empty
+            }
+        });
+        SubscriptionInfo subscriptionInfo = new SubscriptionInfo(x -> onEvent(client, x));
+        subscriptionInfo.setSubscribedEvents(Set.of(ValueChangeEventMessage.class, ElementUpdateEventMessage.class));
+        subscriptionInfo.setElementPrefix(prefix);
+        clients.add(client);
+        try {
+            client.setSubscriptionId(serviceContext.getMessageBus().subscribe(subscriptionInfo));
+        }
+        catch (MessageBusException e) {
+            clients.remove(client);
+            // error must be written before the async context is completed as the response is not usable afterwards
+            HttpHelper.send(
+                    response,
+                    StatusCode.SERVER_INTERNAL_ERROR,
+                    Result.builder()
+                            .message(MessageType.EXCEPTION, e.getMessage())
+                            .build());
+            client.close();
+            return;
+        }
+        response.flushBuffer();
+    }
+
+
+    /**
+     * Closes all open event streams and releases all resources.
+     */
+    public void stop() {
+        clients.forEach(EventStreamClient::close);
+        heartbeatExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+
+    private void onEvent(EventStreamClient client, EventMessage event) {
+        ElementValue value = null;
+        if (event instanceof ValueChangeEventMessage) {
+            value = ((ValueChangeEventMessage) event).getNewValue();
+        }
+        else if (event instanceof ElementUpdateEventMessage
+                && ((ElementUpdateEventMessage) event).getValue() instanceof SubmodelElement) {
+            try {
+                value = ElementValueMapper.toValue((SubmodelElement) ((ElementUpdateEventMessage) event).getValue());
+            }
+            catch (ValueMappingException e) {
+                LOGGER.debug("unable to convert updated element to value - skipping event (element: {})",
+                        ReferenceHelper.toString(event.getElement()),
+                        e);
+            }
+        }
+        if (Objects.nonNull(value)) {
+            client.offer(ReferenceHelper.toString(event.getElement()), value);
+        }
+    }
+
+
+    private void unsubscribe(EventStreamClient client) {
+        clients.remove(client);
+        if (Objects.isNull(client.getSubscriptionId())) {
+            return;
+        }
+        try {
+            serviceContext.getMessageBus().unsubscribe(client.getSubscriptionId());
+        }
+        catch (MessageBusException e) {
+            LOGGER.debug("unsubscribing event stream from message bus failed", e);
+        }
+    }
+
+
+    private static Reference parsePrefix(HttpServletRequest request) throws InvalidRequestException {
+        String submodelId = request.getParameter(PARAM_SUBMODEL_ID);
+        String idShortPath = request.getParameter(PARAM_ID_SHORT_PATH);
+        if (Objects.isNull(submodelId)) {
+            if (Objects.nonNull(idShortPath)) {
+                throw new InvalidRequestException(String.format("query parameter '%s' requires query parameter '%s'", PARAM_ID_SHORT_PATH, PARAM_SUBMODEL_ID));
+            }
+            return null;
+        }
+        try {
+            return new ReferenceBuilder()
+                    .submodel(EncodingHelper.base64UrlDecode(submodelId))
+                    .idShortPath(idShortPath)
+                    .build();
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(String.format("invalid value for query parameter '%s'", PARAM_SUBMODEL_ID), e);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+
+/**
+ * HTTP response that buffers status, headers and content in memory instead of sending them to the client. This is
+ * used to execute requests that are not directly sent to the client, e.g. sub-requests of a batch request.
+ */
+public class BufferedHttpServletResponse extends HttpServletResponseWrapper {
+
+    private final ByteArrayOutputStream content;
+    private final Map<String, List<String>> headers;
+    private int status;
+    private String contentType;
+    private String characterEncoding;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public BufferedHttpServletResponse(HttpServletResponse response) {
+        super(response);
+        this.content = new ByteArrayOutputStream();
+        this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.status = SC_OK;
+        this.characterEncoding = StandardCharsets.UTF_8.name();
+    }
+
+
+    /**
+     * Gets the content written to this response.
+     *
+     * @return the content
+     */
+    public byte[] getContent() {
+        if (Objects.nonNull(writer)) {
+            writer.flush();
+        }
+        return content.toByteArray();
+    }
+
+
+    /**
+     * Gets all headers as map using the first value for each header name.
+     *
+     * @return the headers
+     */
+    public Map<String, String> getHeaderMap() {
+        Map<String, String> result = new LinkedHashMap<>();
+        headers.forEach((k, v) -> result.put(k, v.get(0)));
+        return result;
+    }
+
+
+    @Override
+    public void setStatus(int sc) {
+        this.status = sc;
+    }
+
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+
+    @Override
+    public void sendError(int sc) {
+        this.status = sc;
+    }
+
+
+    @Override
+    public void sendError(int sc, String msg) {
+        this.status = sc;
+    }
+
+
+    @Override
+    public void sendRedirect(String location) {
+        this.status = SC_FOUND;
+        setHeader(HttpConstants.HEADER_LOCATION, location);
+    }
+
+
+    @Override
+    public void setHeader(String name, String value) {
+        List<String> values = new ArrayList<>();
+        values.add(value);
+        headers.put(name, values);
+    }
+
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.computeIfAbsent(name, x -> new ArrayList<>()).add(value);
+    }
+
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, Integer.toString(value));
+    }
+
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, Long.toString(date));
+    }
+
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, Long.toString(date));
+    }
+
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name);
+    }
+
+
+    @Override
+    public String getHeader(String name) {
+        return headers.containsKey(name) ? headers.get(name).get(0) : null;
+    }
+
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        return headers.getOrDefault(name, List.of());
+    }
+
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.keySet();
+    }
+
+
+    @Override
+    public void setContentType(String type) {
+        this.contentType = type;
+    }
+
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        this.characterEncoding = charset;
+    }
+
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+
+    @Override
+    public void setContentLength(int len) {
+        // ignored on purpose as content length is determined by buffered content
+    }
+
+
+    @Override
+    public void setContentLengthLong(long len) {
+        // ignored on purpose as content length is determined by buffered content
+    }
+
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (Objects.isNull(outputStream)) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException("async writing not supported by buffered response");
+                }
+
+
+                @Override
+                public void write(int b) {
+                    content.write(b);
+                }
+
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    content.write(b, off, len);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+
+    @Override
+    public PrintWriter getWriter() {
+        if (Objects.isNull(writer)) {
+            writer = new PrintWriter(new OutputStreamWriter(content, Charset.forName(characterEncoding)));
+        }
+        return writer;
+    }
+
+
+    @Override
+    public void flushBuffer() {
+        if (Objects.nonNull(writer)) {
+            writer.flush();
+        }
+    }
+
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+        contentType = null;
+    }
+
+
+    @Override
+    public void resetBuffer() {
+        content.reset();
+    }
+}
@@ -17,18 +17,28 @@ package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util;
 import com.google.common.net.MediaType;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.RangeHelper.ByteRange;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.MessageType;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.jetty.http.HttpStatus;
@@ -42,6 +52,9 @@ import org.slf4j.LoggerFactory;
 public class HttpHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpHelper.class);
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+    private static final String CONTENT_TYPE_MULTIPART_BYTERANGES = "multipart/byteranges";
 
     private HttpHelper() {}
 
@@ -77,6 +90,8 @@ public class HttpHelper {
                 return HttpStatus.METHOD_NOT_ALLOWED_405;
             case CLIENT_RESOURCE_CONFLICT:
                 return HttpStatus.CONFLICT_409;
+            case CLIENT_ERROR_PAYLOAD_TOO_LARGE:
+                return HttpStatus.PAYLOAD_TOO_LARGE_413;
             case SERVER_INTERNAL_ERROR:
                 return HttpStatus.INTERNAL_SERVER_ERROR_500;
             case SERVER_NOT_IMPLEMENTED:
@@ -232,6 +247,215 @@ public class HttpHelper {
     }
 
 
+    /**
+     * Sends a HTTP response with given statusCode and the content of a file as payload. The content is streamed to the
+     * client without loading it into memory. If the content is backed by a {@link FileChannel}, it is transferred
+     * using {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+     *
+     * @param response HTTP response object
+     * @param statusCode statusCode to send
+     * @param file the file to send
+     * @param headers headers to be added to the response
+     * @throws IllegalArgumentException if response is null
+     * @throws IllegalArgumentException if statusCode is null
+     * @throws IllegalArgumentException if file is null
+     */
+    public static void sendFile(HttpServletResponse response, StatusCode statusCode, FileContent file, Map<String, String> headers) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        Ensure.requireNonNull(statusCode, "statusCode must be non-null");
+        Ensure.requireNonNull(file, "file must be non-null");
+        try (ReadableByteChannel content = file.openChannel()) {
+            response.setStatus(toHttpStatusCode(statusCode));
+            addHeaders(response, headers);
+            response.setContentType(getContentType(file));
+            if (file.getSize() >= 0) {
+                response.setContentLengthLong(file.getSize());
+            }
+            transfer(content, 0, -1, Channels.newChannel(response.getOutputStream()));
+            response.getOutputStream().flush();
+        }
+        catch (IOException e) {
+            handleSendFileError(response, file, e);
+        }
+    }
+
+
+    /**
+     * Sends a HTTP response with status code 206 Partial Content containing the given ranges of a file. If exactly one
+     * range is requested, the range is sent as-is, otherwise as multipart/byteranges. The size of the file must be
+     * known.
+     *
+     * @param response HTTP response object
+     * @param file the file to send
+     * @param ranges the ranges to send
+     * @param headers headers to be added to the response
+     * @throws IllegalArgumentException if response is null
+     * @throws IllegalArgumentException if file is null
+     * @throws IllegalArgumentException if ranges is null or empty
+     */
+    public static void sendFileRanges(HttpServletResponse response, FileContent file, List<ByteRange> ranges, Map<String, String> headers) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        Ensure.requireNonNull(file, "file must be non-null");
+        Ensure.requireNonNull(ranges, "ranges must be non-null");
+        Ensure.require(!ranges.isEmpty(), "ranges must be non-empty");
+        try {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+            addHeaders(response, headers);
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            if (ranges.size() == 1) {
+                ByteRange range = ranges.get(0);
+                response.setContentType(getContentType(file));
+                response.setHeader(HEADER_CONTENT_RANGE, range.toContentRange(file.getSize()));
+                response.setContentLengthLong(range.getLength());
+                try (ReadableByteChannel content = file.openChannel()) {
+                    transfer(content, range.getStart(), range.getLength(), target);
+                }
+            }
+            else {
+                String boundary = UUID.randomUUID().toString().replace("-", "");
+                List<byte[]> partHeaders = ranges.stream()
+                        .map(x -> String.format("--%s\r\n%s: %s\r\n%s: %s\r\n\r\n",
+                                boundary,
+                                HttpConstants.HEADER_CONTENT_TYPE,
+                                getContentType(file),
+                                HEADER_CONTENT_RANGE,
+                                x.toContentRange(file.getSize()))
+                                .getBytes(StandardCharsets.US_ASCII))
+                        .collect(Collectors.toList());
+                byte[] partSeparator = "\r\n".getBytes(StandardCharsets.US_ASCII);
+                byte[] end = String.format("--%s--\r\n", boundary).getBytes(StandardCharsets.US_ASCII);
+                long contentLength = end.length;
+                for (int i = 0; i < ranges.size(); i++) {
+                    contentLength += partHeaders.get(i).length + ranges.get(i).getLength() + partSeparator.length;
+                }
+                response.setContentType(String.format("%s; boundary=%s", CONTENT_TYPE_MULTIPART_BYTERANGES, boundary));
+                response.setContentLengthLong(contentLength);
+                for (int i = 0; i < ranges.size(); i++) {
+                    response.getOutputStream().write(partHeaders.get(i));
+                    try (ReadableByteChannel content = file.openChannel()) {
+                        transfer(content, ranges.get(i).getStart(), ranges.get(i).getLength(), target);
+                    }
+                    response.getOutputStream().write(partSeparator);
+                }
+                response.getOutputStream().write(end);
+            }
+            response.getOutputStream().flush();
+        }
+        catch (IOException e) {
+            handleSendFileError(response, file, e);
+        }
+    }
+
+
+    /**
+     * Sends an empty HTTP response with status code 416 Range Not Satisfiable.
+     *
+     * @param response HTTP response object
+     * @param size the size of the requested resource
+     * @param headers headers to be added to the response
+     * @throws IllegalArgumentException if response is null
+     */
+    public static void sendRangeNotSatisfiable(HttpServletResponse response, long size, Map<String, String> headers) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        response.setStatus(HttpStatus.RANGE_NOT_SATISFIABLE_416);
+        addHeaders(response, headers);
+        response.setHeader(HEADER_CONTENT_RANGE, String.format("%s */%d", RangeHelper.UNIT_BYTES, size));
+    }
+
+
+    private static void addHeaders(HttpServletResponse response, Map<String, String> headers) {
+        if (Objects.nonNull(headers)) {
+            headers.forEach(response::addHeader);
+        }
+    }
+
+
+    private static String getContentType(FileContent file) {
+        return Objects.nonNull(file.getContentType())
+                ? file.getContentType()
+                : MediaType.OCTET_STREAM.toString();
+    }
+
+
+    private static void handleSendFileError(HttpServletResponse response, FileContent file, IOException e) {
+        if (response.isCommitted()) {
+            LOGGER.warn("error sending file (path: {})", file.getPath(), e);
+            return;
+        }
+        response.reset();
+        send(response,
+                StatusCode.SERVER_INTERNAL_ERROR,
+                Result.builder()
+                        .message(MessageType.EXCEPTION, e.getMessage())
+                        .build());
+    }
+
+
+    /**
+     * Transfers bytes from source to target starting at given offset. If the source is a {@link FileChannel},
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)} is used, otherwise the bytes are copied using a
+     * buffer.
+     *
+     * @param source the source channel
+     * @param offset the offset to start at
+     * @param length the number of bytes to transfer or a negative value to transfer until the end of the source
+     * @param target the target channel
+     * @throws IOException if transferring fails or the source ends before the requested bytes have been transferred
+     */
+    private static void transfer(ReadableByteChannel source, long offset, long length, WritableByteChannel target) throws IOException {
+        if (source instanceof FileChannel) {
+            FileChannel fileChannel = (FileChannel) source;
+            long position = offset;
+            long end = length < 0 ? fileChannel.size() : offset + length;
+            while (position < end) {
+                long transferred = fileChannel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    throw new EOFException("unexpected end of file");
+                }
+                position += transferred;
+            }
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        if (source instanceof SeekableByteChannel) {
+            ((SeekableByteChannel) source).position(offset);
+        }
+        else {
+            skip(source, offset, buffer);
+        }
+        long remaining = length < 0 ? Long.MAX_VALUE : length;
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            if (source.read(buffer) < 0) {
+                if (length < 0) {
+                    return;
+                }
+                throw new EOFException("unexpected end of file");
+            }
+            buffer.flip();
+            remaining -= buffer.remaining();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+    }
+
+
+    private static void skip(ReadableByteChannel source, long count, ByteBuffer buffer) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            int read = source.read(buffer);
+            if (read < 0) {
+                throw new EOFException("unexpected end of file");
+            }
+            remaining -= read;
+        }
+    }
+
+
     /**
      * Sends an empty HTTP response with given statusCode and headers.
      *
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.eclipse.jetty.http.DateParser;
+
+
+/**
+ * Utility class for handling HTTP range requests according to RFC 9110.
+ */
+public class RangeHelper {
+
+    public static final String UNIT_BYTES = "bytes";
+    public static final int MAX_RANGES = 16;
+    private static final String RANGE_PREFIX = UNIT_BYTES + "=";
+    private static final Pattern RANGE_SPEC = Pattern.compile("^(\\d*)-(\\d*)$");
+    private static final String ETAG_QUOTE = "\"";
+    private static final String ETAG_WEAK_PREFIX = "W/";
+
+    private RangeHelper() {}
+
+
+    /**
+     * Parses the value of a Range header for a resource of given size. Ranges that cannot be satisfied, i.e. that start
+     * behind the end of the resource, are omitted.
+     *
+     * @param value the value of the Range header
+     * @param size the size of the resource in bytes
+     * @return empty if the header must be ignored, i.e. because it is missing or malformed, uses an unsupported unit or
+     *         contains more than {@link #MAX_RANGES} ranges; otherwise the satisfiable ranges which may be empty if
+     *         none of the ranges can be satisfied
+     */
+    public static Optional<List<ByteRange>> parse(String value, long size) {
+        if (Objects.isNull(value) || size < 0 || !value.trim().startsWith(RANGE_PREFIX)) {
+            return Optional.empty();
+        }
+        List<String> specs = HttpHelper.parseCommaSeparatedList(value.trim().substring(RANGE_PREFIX.length())).stream()
+                .filter(x -> !x.isEmpty())
+                .collect(Collectors.toList());
+        if (specs.isEmpty() || specs.size() > MAX_RANGES) {
+            return Optional.empty();
+        }
+        List<ByteRange> result = new ArrayList<>();
+        for (String spec: specs) {
+            Matcher matcher = RANGE_SPEC.matcher(spec);
+            if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                return Optional.empty();
+            }
+            try {
+                if (matcher.group(1).isEmpty()) {
+                    long suffixLength = Long.parseLong(matcher.group(2));
+                    if (suffixLength > 0 && size > 0) {
+                        result.add(new ByteRange(Math.max(0, size - suffixLength), size - 1));
+                    }
+                    continue;
+                }
+                long start = Long.parseLong(matcher.group(1));
+                long end = matcher.group(2).isEmpty()
+                        ? Long.MAX_VALUE
+                        : Long.parseLong(matcher.group(2));
+                if (end < start) {
+                    return Optional.empty();
+                }
+                if (start < size) {
+                    result.add(new ByteRange(start, Math.min(end, size - 1)));
+                }
+            }
+            catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result);
+    }
+
+
+    /**
+     * Checks if a range request must be evaluated with regard to the If-Range header. If-Range may either contain an
+     * entity tag, which must strongly match the current entity tag, or a HTTP date, which must exactly match the time
+     * of the last modification.
+     *
+     * @param ifRange the value of the If-Range header, may be null
+     * @param etag the current entity tag of the resource, may be null
+     * @param lastModified the time of the last modification of the resource, may be null
+     * @return true if the range request must be evaluated, false if the complete resource must be sent
+     */
+    public static boolean isIfRangeSatisfied(String ifRange, String etag, Instant lastModified) {
+        if (Objects.isNull(ifRange)) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith(ETAG_WEAK_PREFIX)) {
+            return false;
+        }
+        if (value.startsWith(ETAG_QUOTE)) {
+            return Objects.nonNull(etag) && !etag.startsWith(ETAG_WEAK_PREFIX) && Objects.equals(value, etag);
+        }
+        long date = DateParser.parseDate(value);
+        // HTTP dates have a resolution of seconds
+        return date >= 0 && Objects.nonNull(lastModified) && lastModified.getEpochSecond() == date / 1000;
+    }
+
+    /**
+     * A range of bytes of a resource. Start and end are both inclusive.
+     */
+    public static class ByteRange {
+
+        private final long start;
+        private final long end;
+
+        public ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+
+        public long getStart() {
+            return start;
+        }
+
+
+        public long getEnd() {
+            return end;
+        }
+
+
+        public long getLength() {
+            return end - start + 1;
+        }
+
+
+        /**
+         * Creates the value of the Content-Range header for this range.
+         *
+         * @param size the total size of the resource
+         * @return the value of the Content-Range header
+         */
+        public String toContentRange(long size) {
+            return String.format("%s %d-%d/%d", UNIT_BYTES, start, end, size);
+        }
+
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ByteRange that = (ByteRange) o;
+            return start == that.start && end == that.end;
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+    }
+}
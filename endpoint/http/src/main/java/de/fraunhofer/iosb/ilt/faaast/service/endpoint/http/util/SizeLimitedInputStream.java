@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * Input stream that fails with an {@link IOException} as soon as more than a given number of bytes is read from the
+ * underlying stream. Whether the limit has been exceeded can be checked via {@link #isLimitExceeded()} which allows to
+ * identify this case even if the exception has been wrapped, e.g. by a parser consuming the stream.
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long bytesRead;
+    private boolean limitExceeded;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param in the underlying input stream
+     * @param maxSize the maximum number of bytes that can be read, values <= 0 mean unlimited
+     */
+    public SizeLimitedInputStream(InputStream in, long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+        this.bytesRead = 0;
+        this.limitExceeded = false;
+    }
+
+
+    public boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+
+    @Override
+    public int read() throws IOException {
+        int result = super.read();
+        if (result >= 0) {
+            count(1);
+        }
+        return result;
+    }
+
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = super.read(b, off, len);
+        if (result > 0) {
+            count(result);
+        }
+        return result;
+    }
+
+
+    @Override
+    public long skip(long n) throws IOException {
+        long result = super.skip(n);
+        count(result);
+        return result;
+    }
+
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+
+    private void count(long n) throws IOException {
+        bytesRead += n;
+        if (maxSize > 0 && bytesRead > maxSize) {
+            limitExceeded = true;
+            throw new IOException(String.format("request body exceeds maximum size of %d bytes", maxSize));
+        }
+    }
+}
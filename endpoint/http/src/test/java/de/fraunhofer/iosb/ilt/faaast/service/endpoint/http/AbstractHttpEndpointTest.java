@@ -15,11 +15,16 @@
 package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iosb.ilt.faaast.service.Service;
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
@@ -28,8 +33,10 @@ import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJso
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpConstants;
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
 import de.fraunhofer.iosb.ilt.faaast.service.model.AASFull;
 import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.MessageType;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Result;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
@@ -44,6 +51,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.Page;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingMetadata;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aasserialization.GenerateSerializationByIdsRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.InvokeOperationAsyncRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.PutFileByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aas.GetAssetAdministrationShellResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aasrepository.GetAllAssetAdministrationShellsResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aasrepository.PostAssetAdministrationShellResponse;
@@ -51,28 +59,47 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aasserialization
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.conceptdescription.PostConceptDescriptionResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetAllSubmodelElementsReferenceResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetAllSubmodelElementsResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetFileByPathResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetOperationAsyncResultResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetOperationAsyncStatusResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetSubmodelElementByPathResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.InvokeOperationAsyncResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.PostSubmodelElementResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.PutFileByPathResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodelrepository.DeleteSubmodelByIdResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodelrepository.GetSubmodelByIdResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodelrepository.PostSubmodelResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
 import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.typing.TypeExtractor;
 import de.fraunhofer.iosb.ilt.faaast.service.util.EncodingHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ResponseHelper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -88,9 +115,12 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.client.util.InputStreamRequestContent;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
 import org.eclipse.jetty.client.util.StringRequestContent;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpHeaderValue;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.server.Server;
@@ -110,6 +140,8 @@ public abstract class AbstractHttpEndpointTest {
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpEndpointTest.class);
     protected static final String HOST = "localhost";
     protected static final String API_PREFIX = "/api/v3.0";
+    protected static final long MAX_REQUEST_BODY_SIZE = 1024 * 1024;
+    private static final String FILE_PATH = "/submodels/" + EncodingHelper.base64UrlEncode("submodel") + "/submodel-elements/file/attachment";
     protected static String scheme;
     protected static int port;
     protected static HttpClient client;
@@ -196,6 +228,252 @@ public abstract class AbstractHttpEndpointTest {
     }
 
 
+    @Test
+    public void testStatisticsAvailable() throws Exception {
+        execute(HttpMethod.GET, "/foo/bar");
+        Assert.assertNotNull(endpoint.getConnectionStatistics());
+        Assert.assertTrue(endpoint.getConnectionStatistics().getConnectionsTotal() > 0);
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_MAX_THREADS, endpoint.getThreadPool().getMaxThreads());
+    }
+
+
+    @Test
+    public void testConditionalGetNotModified() throws Exception {
+        when(service.getVersion(any())).thenReturn(Optional.of(VersionInfo.builder()
+                .version(42)
+                .lastModified(Instant.now())
+                .build()));
+        when(service.execute(any())).thenReturn(GetSubmodelByIdResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(new DefaultSubmodel.Builder()
+                        .id("foo")
+                        .build())
+                .build());
+        String path = "/submodels/" + EncodingHelper.base64UrlEncode("foo");
+        ContentResponse response = execute(HttpMethod.GET, path);
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        Assert.assertEquals("\"42\"", etag);
+        Assert.assertTrue(response.getHeaders().contains(HttpHeader.LAST_MODIFIED));
+        response = execute(HttpMethod.GET, path, null, null, null, null, Map.of(HttpHeader.IF_NONE_MATCH.asString(), etag));
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED_304, response.getStatus());
+        Assert.assertEquals(0, response.getContent().length);
+        verify(service, times(1)).execute(any());
+        response = execute(HttpMethod.GET, path, null, null, null, null, Map.of(HttpHeader.IF_NONE_MATCH.asString(), "\"41\""));
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+    }
+
+
+    @Test
+    public void testConditionalGetWithoutVersion() throws Exception {
+        when(service.getVersion(any())).thenReturn(Optional.empty());
+        when(service.execute(any())).thenReturn(GetSubmodelByIdResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(new DefaultSubmodel.Builder()
+                        .id("foo")
+                        .build())
+                .build());
+        ContentResponse response = execute(HttpMethod.GET, "/submodels/" + EncodingHelper.base64UrlEncode("foo"), null, null, null, null,
+                Map.of(HttpHeader.IF_NONE_MATCH.asString(), "*"));
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        Assert.assertFalse(response.getHeaders().contains(HttpHeader.ETAG));
+    }
+
+
+    @Test
+    public void testGetFileRange() throws Exception {
+        mockGetFileByPath("0123456789".getBytes(StandardCharsets.UTF_8));
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=2-4"));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        Assert.assertEquals("bytes 2-4/10", response.getHeaders().get(HttpHeader.CONTENT_RANGE));
+        Assert.assertEquals("234", response.getContentAsString());
+        response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=-3"));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        Assert.assertEquals("789", response.getContentAsString());
+        response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=20-"));
+        Assert.assertEquals(HttpStatus.RANGE_NOT_SATISFIABLE_416, response.getStatus());
+        Assert.assertEquals("bytes */10", response.getHeaders().get(HttpHeader.CONTENT_RANGE));
+        response = execute(HttpMethod.GET, FILE_PATH);
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        Assert.assertEquals("bytes", response.getHeaders().get(HttpHeader.ACCEPT_RANGES));
+        Assert.assertEquals("0123456789", response.getContentAsString());
+    }
+
+
+    @Test
+    public void testGetFileMultiRange() throws Exception {
+        mockGetFileByPath("0123456789".getBytes(StandardCharsets.UTF_8));
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(HttpHeader.RANGE.asString(), "bytes=0-1, 8-"));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+        Assert.assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+        String boundary = contentType.substring(contentType.indexOf('=') + 1);
+        String expected = String.format(
+                "--%1$s\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-1/10\r\n\r\n01\r\n"
+                        + "--%1$s\r\nContent-Type: text/plain\r\nContent-Range: bytes 8-9/10\r\n\r\n89\r\n"
+                        + "--%1$s--\r\n",
+                boundary);
+        Assert.assertEquals(expected, response.getContentAsString());
+        Assert.assertEquals(expected.length(), response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH));
+    }
+
+
+    @Test
+    public void testGetFileIfRange() throws Exception {
+        mockGetFileByPath("0123456789".getBytes(StandardCharsets.UTF_8));
+        ContentResponse response = execute(HttpMethod.GET, FILE_PATH);
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+        Assert.assertNotNull(etag);
+        Assert.assertTrue(etag.startsWith("W/"));
+        Assert.assertNotNull(lastModified);
+        response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(
+                HttpHeader.RANGE.asString(), "bytes=5-",
+                HttpHeader.IF_RANGE.asString(), lastModified));
+        Assert.assertEquals(HttpStatus.PARTIAL_CONTENT_206, response.getStatus());
+        Assert.assertEquals("56789", response.getContentAsString());
+        response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(
+                HttpHeader.RANGE.asString(), "bytes=5-",
+                HttpHeader.IF_RANGE.asString(), etag));
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        Assert.assertEquals("0123456789", response.getContentAsString());
+        response = execute(HttpMethod.GET, FILE_PATH, null, null, null, null, Map.of(
+                HttpHeader.RANGE.asString(), "bytes=5-",
+                HttpHeader.IF_RANGE.asString(), "\"outdated\""));
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        Assert.assertEquals("0123456789", response.getContentAsString());
+    }
+
+
+    @Test
+    public void testPutFileMultipartUsesTemporaryFile() throws Exception {
+        AtomicReference<FileContent> received = new AtomicReference<>();
+        AtomicReference<byte[]> receivedBytes = new AtomicReference<>();
+        when(service.execute(any())).thenAnswer(x -> {
+            PutFileByPathRequest request = x.getArgument(0);
+            received.set(request.getContent());
+            receivedBytes.set(request.getContent().readAllBytes());
+            return PutFileByPathResponse.builder()
+                    .statusCode(StatusCode.SUCCESS_NO_CONTENT)
+                    .build();
+        });
+        String body = "--boundary\r\n"
+                + "Content-Disposition: form-data; name=\"fileName\"\r\n\r\n"
+                + "file.txt\r\n"
+                + "--boundary\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + "0123456789\r\n"
+                + "--boundary--\r\n";
+        ContentResponse response = execute(HttpMethod.PUT, FILE_PATH, null, null, body, "multipart/form-data; boundary=boundary", null);
+        Assert.assertEquals(HttpStatus.NO_CONTENT_204, response.getStatus());
+        Assert.assertEquals("file.txt", received.get().getPath());
+        Assert.assertEquals("text/plain", received.get().getContentType());
+        Assert.assertEquals(10, received.get().getSize());
+        Assert.assertEquals("0123456789", new String(receivedBytes.get(), StandardCharsets.UTF_8));
+        Assert.assertThrows(IOException.class, () -> received.get().readAllBytes());
+    }
+
+
+    private void mockGetFileByPath(byte[] content) throws Exception {
+        when(service.execute(any())).thenReturn(GetFileByPathResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(FileContent.builder()
+                        .path("file.txt")
+                        .contentType("text/plain")
+                        .content(content)
+                        .lastModified(Instant.now())
+                        .build())
+                .build());
+    }
+
+
+    @Test
+    public void testEventStream() throws Exception {
+        MessageBus messageBus = Mockito.mock(MessageBus.class);
+        AtomicReference<SubscriptionInfo> subscription = new AtomicReference<>();
+        when(messageBus.subscribe(any())).thenAnswer(x -> {
+            subscription.set(x.getArgument(0));
+            return new SubscriptionId();
+        });
+        doReturn(messageBus).when(service).getMessageBus();
+        String submodelId = "http://example.org/submodel";
+        InputStreamResponseListener listener = new InputStreamResponseListener();
+        client.newRequest(HOST, port)
+                .method(HttpMethod.GET)
+                .scheme(scheme)
+                .path(API_PREFIX + "/events")
+                .param("submodelId", EncodingHelper.base64UrlEncode(submodelId))
+                .send(listener);
+        org.eclipse.jetty.client.api.Response response = listener.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        Assert.assertTrue(response.getHeaders().get(HttpHeader.CONTENT_TYPE).startsWith("text/event-stream"));
+        Reference matching = ReferenceBuilder.forSubmodel(submodelId, "property");
+        Reference other = ReferenceBuilder.forSubmodel("http://example.org/other", "property");
+        Assert.assertTrue(subscription.get().getFilter().test(matching));
+        Assert.assertFalse(subscription.get().getFilter().test(other));
+        subscription.get().getHandler().accept(ValueChangeEventMessage.builder()
+                .element(matching)
+                .newValue(new PropertyValue(new IntValue(42)))
+                .build());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(listener.getInputStream(), StandardCharsets.UTF_8));
+        Assert.assertEquals("id: 1", reader.readLine());
+        Assert.assertEquals("event: value", reader.readLine());
+        Assert.assertEquals(
+                String.format("data: {\"element\":\"%s\",\"value\":42}", ReferenceHelper.toString(matching)),
+                reader.readLine());
+        response.abort(new Exception("test finished"));
+    }
+
+
+    @Test
+    public void testEventStreamInvalidParameters() throws Exception {
+        ContentResponse response = execute(HttpMethod.GET, "/events", Map.of("idShortPath", "foo"));
+        Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getStatus());
+    }
+
+
+    @Test
+    public void testBatch() throws Exception {
+        doReturn(List.of(
+                GetSubmodelByIdResponse.builder()
+                        .statusCode(StatusCode.SUCCESS)
+                        .payload(new DefaultSubmodel.Builder()
+                                .id("foo")
+                                .build())
+                        .build(),
+                DeleteSubmodelByIdResponse.builder()
+                        .statusCode(StatusCode.SUCCESS_NO_CONTENT)
+                        .build()))
+                .when(service).executeBatch(any(), anyBoolean());
+        String path = "/submodels/" + EncodingHelper.base64UrlEncode("foo");
+        String body = String.format("["
+                + "{\"id\": \"1\", \"method\": \"GET\", \"path\": \"%s?level=core\"},"
+                + "{\"id\": \"2\", \"method\": \"GET\", \"path\": \"/foo/bar\"},"
+                + "{\"id\": \"3\", \"method\": \"DELETE\", \"path\": \"%s\"},"
+                + "{\"id\": \"4\", \"method\": \"GET\", \"path\": \"/batch\"}"
+                + "]", path, path);
+        ContentResponse response = execute(HttpMethod.POST, "/batch", Map.of("parallel", "true"), null, body, DataFormat.JSON.getContentType().toString(), null);
+        Assert.assertEquals(HttpStatus.OK_200, response.getStatus());
+        JsonNode actual = new ObjectMapper().readTree(response.getContentAsString());
+        Assert.assertEquals(4, actual.size());
+        Assert.assertEquals("1", actual.get(0).get("id").asText());
+        Assert.assertEquals(HttpStatus.OK_200, actual.get(0).get("status").asInt());
+        Assert.assertEquals("foo", actual.get(0).get("body").get("id").asText());
+        Assert.assertEquals(HttpStatus.BAD_REQUEST_400, actual.get(1).get("status").asInt());
+        Assert.assertEquals(HttpStatus.NO_CONTENT_204, actual.get(2).get("status").asInt());
+        Assert.assertEquals(HttpStatus.BAD_REQUEST_400, actual.get(3).get("status").asInt());
+        verify(service).executeBatch(argThat(x -> x.size() == 2), Mockito.eq(true));
+    }
+
+
+    @Test
+    public void testBatchInvalidBody() throws Exception {
+        ContentResponse response = execute(HttpMethod.POST, "/batch", null, null, "{}", DataFormat.JSON.getContentType().toString(), null);
+        Assert.assertEquals(HttpStatus.BAD_REQUEST_400, response.getStatus());
+    }
+
+
     @Test
     public void testPreflightedCORSRequestSupported() throws Exception {
         ContentResponse response = execute(HttpMethod.OPTIONS, "/shells", null, null, null, null,
@@ -351,6 +629,37 @@ public abstract class AbstractHttpEndpointTest {
     }
 
 
+    @Test
+    public void testRequestBodyTooLarge() throws Exception {
+        // client must use 'Expect: 100-continue' as server rejects request without reading the body
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        client.newRequest(HOST, port)
+                .method(HttpMethod.POST)
+                .path(API_PREFIX + "/submodels")
+                .scheme(scheme)
+                .headers(x -> x.put(HttpHeader.EXPECT, HttpHeaderValue.CONTINUE.asString()))
+                .body(new StringRequestContent(DataFormat.JSON.getContentType().toString(), "a".repeat((int) MAX_REQUEST_BODY_SIZE + 1)))
+                .send(x -> status.complete(x.getResponse().getStatus()));
+        Assert.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE_413, (int) status.get(10, TimeUnit.SECONDS));
+        verify(service, times(0)).execute(any());
+    }
+
+
+    @Test
+    public void testRequestBodyTooLargeWithoutContentLength() throws Exception {
+        ContentResponse response = client.newRequest(HOST, port)
+                .method(HttpMethod.POST)
+                .path(API_PREFIX + "/submodels")
+                .scheme(scheme)
+                .headers(x -> x.put(HttpHeader.CONTENT_TYPE, DataFormat.JSON.getContentType().toString()))
+                .body(new InputStreamRequestContent(new ByteArrayInputStream(
+                        ("\"" + "a".repeat((int) MAX_REQUEST_BODY_SIZE) + "\"").getBytes(StandardCharsets.UTF_8))))
+                .send();
+        Assert.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE_413, response.getStatus());
+        verify(service, times(0)).execute(any());
+    }
+
+
     @Test
     public void testPostSubmodelNoData() throws Exception {
         when(service.execute(any())).thenReturn(PostSubmodelResponse.builder()
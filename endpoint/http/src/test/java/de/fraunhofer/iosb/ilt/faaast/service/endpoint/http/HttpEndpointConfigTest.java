@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http;
+
+import static org.mockito.Mockito.mock;
+
+import de.fraunhofer.iosb.ilt.faaast.service.Service;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
+import de.fraunhofer.iosb.ilt.faaast.service.util.PortHelper;
+import java.util.List;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.LowResourceMonitor;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class HttpEndpointConfigTest {
+
+    private HttpEndpoint endpoint;
+
+    @After
+    public void stopEndpoint() {
+        if (endpoint != null) {
+            endpoint.stop();
+        }
+    }
+
+
+    @Test
+    public void testNonDefaultLimitsAppliedToJetty() throws Exception {
+        int port = PortHelper.findFreePort();
+        startEndpoint(HttpEndpointConfig.builder()
+                .port(port)
+                .minThreads(3)
+                .maxThreads(17)
+                .threadIdleTimeout(12345)
+                .acceptQueueSize(42)
+                .maxConnections(7)
+                .connectionIdleTimeout(4321)
+                .lowResourcesIdleTimeout(987)
+                .build());
+
+        QueuedThreadPool threadPool = endpoint.getThreadPool();
+        Assert.assertSame(threadPool, endpoint.getServer().getThreadPool());
+        Assert.assertEquals(3, threadPool.getMinThreads());
+        Assert.assertEquals(17, threadPool.getMaxThreads());
+        Assert.assertEquals(12345, threadPool.getIdleTimeout());
+
+        ServerConnector connector = getConnector();
+        Assert.assertEquals(port, connector.getPort());
+        Assert.assertEquals(42, connector.getAcceptQueueSize());
+        Assert.assertEquals(4321, connector.getIdleTimeout());
+        Assert.assertSame(endpoint.getConnectionStatistics(), connector.getBean(ConnectionStatistics.class));
+
+        ConnectionLimit connectionLimit = endpoint.getServer().getBean(ConnectionLimit.class);
+        Assert.assertNotNull(connectionLimit);
+        Assert.assertEquals(7, connectionLimit.getMaxConnections());
+
+        LowResourceMonitor lowResourceMonitor = endpoint.getServer().getBean(LowResourceMonitor.class);
+        Assert.assertNotNull(lowResourceMonitor);
+        Assert.assertEquals(987, lowResourceMonitor.getLowResourcesIdleTimeout());
+        Assert.assertTrue(lowResourceMonitor.getMonitorThreads());
+    }
+
+
+    @Test
+    public void testDefaultLimitsAppliedToJetty() throws Exception {
+        startEndpoint(HttpEndpointConfig.builder()
+                .port(PortHelper.findFreePort())
+                .build());
+
+        QueuedThreadPool threadPool = endpoint.getThreadPool();
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_MIN_THREADS, threadPool.getMinThreads());
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_MAX_THREADS, threadPool.getMaxThreads());
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_THREAD_IDLE_TIMEOUT, threadPool.getIdleTimeout());
+
+        ServerConnector connector = getConnector();
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_ACCEPT_QUEUE_SIZE, connector.getAcceptQueueSize());
+        Assert.assertEquals(HttpEndpointConfig.DEFAULT_CONNECTION_IDLE_TIMEOUT, connector.getIdleTimeout());
+        Assert.assertNull(endpoint.getServer().getBean(ConnectionLimit.class));
+        Assert.assertNull(endpoint.getServer().getBean(LowResourceMonitor.class));
+    }
+
+
+    private void startEndpoint(HttpEndpointConfig config) throws Exception {
+        endpoint = new HttpEndpoint();
+        Service service = new Service(
+                CoreConfig.DEFAULT,
+                mock(Persistence.class),
+                mock(FileStorage.class),
+                mock(MessageBus.class),
+                List.of(endpoint),
+                List.of());
+        endpoint.init(CoreConfig.DEFAULT, config, service);
+        endpoint.start();
+    }
+
+
+    private ServerConnector getConnector() {
+        Assert.assertEquals(1, endpoint.getServer().getConnectors().length);
+        return (ServerConnector) endpoint.getServer().getConnectors()[0];
+    }
+}
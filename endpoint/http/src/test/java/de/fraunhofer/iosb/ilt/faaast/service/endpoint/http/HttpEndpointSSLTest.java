@@ -87,6 +87,7 @@ public class HttpEndpointSSLTest extends AbstractHttpEndpointTest {
                 HttpEndpointConfig.builder()
                         .port(port)
                         .cors(true)
+                        .maxRequestBodySize(MAX_REQUEST_BODY_SIZE)
                         .certificate(CertificateConfig.builder()
                                 .keyStorePath(keyStoreTempFile)
                                 .keyStorePassword(KEYSTORE_PASSWORD)
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class HttpMessageTest {
+
+    private static final String BODY = "{\"foo\":\"bar\"}";
+
+    @Test
+    public void testBodyStreamBufferedOnFirstAccess() {
+        HttpRequest request = HttpRequest.builder()
+                .body(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)))
+                .charset(StandardCharsets.UTF_8)
+                .build();
+        Assert.assertEquals(BODY, request.getBodyAsString());
+        Assert.assertEquals(BODY, request.getBodyAsString());
+        Assert.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), request.getBody());
+    }
+
+
+    @Test
+    public void testBodyAsStreamAfterBuffering() throws IOException {
+        HttpRequest request = HttpRequest.builder()
+                .body(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        request.getBody();
+        try (InputStream first = request.getBodyAsStream(); InputStream second = request.getBodyAsStream()) {
+            Assert.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), first.readAllBytes());
+            Assert.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), second.readAllBytes());
+        }
+    }
+
+
+    @Test
+    public void testBodyAfterStreamConsumed() throws IOException {
+        HttpRequest request = HttpRequest.builder()
+                .body(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        try (InputStream stream = request.getBodyAsStream()) {
+            Assert.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), stream.readAllBytes());
+        }
+        Assert.assertThrows(IllegalStateException.class, request::getBody);
+        Assert.assertThrows(IllegalStateException.class, request::getBodyAsString);
+        Assert.assertThrows(IllegalStateException.class, request::getBodyAsStream);
+    }
+
+
+    @Test
+    public void testSetBodyAfterStreamConsumed() {
+        HttpRequest request = HttpRequest.builder()
+                .body(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        request.getBodyAsStream();
+        request.setBody(BODY, StandardCharsets.UTF_8);
+        Assert.assertEquals(BODY, request.getBodyAsString());
+    }
+}
@@ -29,7 +29,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.model.HttpRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.util.HttpConstants;
 import de.fraunhofer.iosb.ilt.faaast.service.model.AASFull;
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Request;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Content;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.Level;
@@ -1030,23 +1030,32 @@ public class RequestMappingManagerTest {
         new Random().nextBytes(content);
         byte[] multipart = generateMultipartBodyRandomFile(content, "test.pdf", ContentType.APPLICATION_PDF);
         String contentType = "multipart/form-data; boundary=boundary";
-        Request expected = PutFileByPathRequest.builder()
-                .submodelId(SUBMODEL.getId())
-                .path(ReferenceHelper.toPath(SUBMODEL_ELEMENT_REF))
-                .content(new TypedInMemoryFile.Builder()
-                        .path("test.pdf")
-                        .content(content)
-                        .contentType(ContentType.APPLICATION_PDF.getMimeType())
-                        .build())
-                .build();
-        Request actual = mappingManager.map(HttpRequest.builder()
+        HttpRequest httpRequest = HttpRequest.builder()
                 .method(HttpMethod.PUT)
                 .path("submodels/" + EncodingHelper.base64UrlEncode(SUBMODEL.getId()) + "/submodel-elements/"
                         + ReferenceHelper.toPath(SUBMODEL_ELEMENT_REF) + "/attachment")
                 .header(HttpConstants.HEADER_CONTENT_TYPE, contentType)
                 .body(multipart)
-                .build());
-        Assert.assertEquals(expected, actual);
+                .build();
+        try {
+            Request actual = mappingManager.map(httpRequest);
+            Assert.assertTrue(actual instanceof PutFileByPathRequest);
+            PutFileByPathRequest request = (PutFileByPathRequest) actual;
+            Assert.assertEquals(SUBMODEL.getId(), request.getSubmodelId());
+            Assert.assertEquals(ReferenceHelper.toPath(SUBMODEL_ELEMENT_REF), request.getPath());
+            assertFileContent("test.pdf", ContentType.APPLICATION_PDF.getMimeType(), content, request.getContent());
+        }
+        finally {
+            httpRequest.deleteTemporaryFiles();
+        }
+    }
+
+
+    private static void assertFileContent(String expectedPath, String expectedContentType, byte[] expectedContent, FileContent actual) throws IOException {
+        Assert.assertEquals(expectedPath, actual.getPath());
+        Assert.assertEquals(expectedContentType, actual.getContentType());
+        Assert.assertEquals(expectedContent.length, actual.getSize());
+        Assert.assertArrayEquals(expectedContent, actual.readAllBytes());
     }
 
 
@@ -1088,21 +1097,22 @@ public class RequestMappingManagerTest {
         new Random().nextBytes(content);
         byte[] generated = generateMultipartBodyRandomFile(content, "test.png", ContentType.IMAGE_PNG);
         String contentType = "multipart/form-data; boundary=boundary";
-        Request expected = PutThumbnailRequest.builder()
-                .id(AAS.getId())
-                .content(new TypedInMemoryFile.Builder()
-                        .path("test.png")
-                        .content(content)
-                        .contentType(ContentType.IMAGE_PNG.getMimeType())
-                        .build())
-                .build();
-        Request actual = mappingManager.map(HttpRequest.builder()
+        HttpRequest httpRequest = HttpRequest.builder()
                 .method(HttpMethod.PUT)
                 .path("shells/" + EncodingHelper.base64UrlEncode(AAS.getId()) + "/asset-information/thumbnail")
                 .body(generated)
                 .header(HttpConstants.HEADER_CONTENT_TYPE, contentType)
-                .build());
-        Assert.assertEquals(expected, actual);
+                .build();
+        try {
+            Request actual = mappingManager.map(httpRequest);
+            Assert.assertTrue(actual instanceof PutThumbnailRequest);
+            PutThumbnailRequest request = (PutThumbnailRequest) actual;
+            Assert.assertEquals(AAS.getId(), request.getId());
+            assertFileContent("test.png", ContentType.IMAGE_PNG.getMimeType(), content, request.getContent());
+        }
+        finally {
+            httpRequest.deleteTemporaryFiles();
+        }
     }
 
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.sse;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.serialization.HttpJsonApiSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class EventStreamClientTest {
+
+    private ByteArrayOutputStream output;
+    private List<Runnable> tasks;
+    private List<EventStreamClient> closedClients;
+    private EventStreamClient client;
+
+    @Before
+    public void init() throws IOException {
+        output = new ByteArrayOutputStream();
+        tasks = new ArrayList<>();
+        closedClients = new ArrayList<>();
+        ServletResponse response = mock(ServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // intentionally empty
+            }
+
+
+            @Override
+            public void write(int b) throws IOException {
+                output.write(b);
+            }
+        });
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        when(asyncContext.getResponse()).thenReturn(response);
+        client = new EventStreamClient(asyncContext, 2, tasks::add, new HttpJsonApiSerializer(), closedClients::add);
+    }
+
+
+    @Test
+    public void testConflation() {
+        client.offer("a", new PropertyValue(new IntValue(1)));
+        client.offer("a", new PropertyValue(new IntValue(2)));
+        client.offer("b", new PropertyValue(new IntValue(3)));
+        Assert.assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        String actual = output.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals(
+                "id: 1\nevent: value\ndata: {\"element\":\"a\",\"value\":2}\n\n"
+                        + "id: 2\nevent: value\ndata: {\"element\":\"b\",\"value\":3}\n\n",
+                actual);
+    }
+
+
+    @Test
+    public void testOverflow() {
+        client.offer("a", new PropertyValue(new IntValue(1)));
+        client.offer("b", new PropertyValue(new IntValue(2)));
+        client.offer("c", new PropertyValue(new IntValue(3)));
+        tasks.remove(0).run();
+        String actual = output.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals(
+                "id: 1\nevent: overflow\ndata: {\"dropped\":1}\n\n"
+                        + "id: 2\nevent: value\ndata: {\"element\":\"b\",\"value\":2}\n\n"
+                        + "id: 3\nevent: value\ndata: {\"element\":\"c\",\"value\":3}\n\n",
+                actual);
+    }
+
+
+    @Test
+    public void testClose() {
+        client.close();
+        client.offer("a", new PropertyValue(new IntValue(1)));
+        Assert.assertTrue(tasks.isEmpty());
+        Assert.assertEquals(List.of(client), closedClients);
+    }
+
+
+    @Test
+    public void testCloseBeforeSubscriptionIdSet() {
+        List<SubscriptionId> released = new ArrayList<>();
+        EventStreamClient client = new EventStreamClient(
+                mock(AsyncContext.class),
+                2,
+                tasks::add,
+                new HttpJsonApiSerializer(),
+                x -> released.add(x.getSubscriptionId()));
+        SubscriptionId subscriptionId = new SubscriptionId();
+        client.close();
+        client.setSubscriptionId(subscriptionId);
+        Assert.assertEquals(subscriptionId, released.get(released.size() - 1));
+    }
+
+
+    @Test
+    public void testCloseAfterSubscriptionIdSet() {
+        SubscriptionId subscriptionId = new SubscriptionId();
+        client.setSubscriptionId(subscriptionId);
+        Assert.assertTrue(closedClients.isEmpty());
+        client.close();
+        Assert.assertEquals(List.of(client), closedClients);
+        Assert.assertEquals(subscriptionId, closedClients.get(0).getSubscriptionId());
+    }
+}
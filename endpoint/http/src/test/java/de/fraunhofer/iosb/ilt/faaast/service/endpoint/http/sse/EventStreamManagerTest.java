@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.sse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.HttpEndpointConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+
+public class EventStreamManagerTest {
+
+    private MessageBus messageBus;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private AsyncContext asyncContext;
+    private ServletOutputStream outputStream;
+    private EventStreamManager manager;
+
+    @Before
+    public void init() throws Exception {
+        messageBus = mock(MessageBus.class);
+        ServiceContext serviceContext = mock(ServiceContext.class);
+        doReturn(messageBus).when(serviceContext).getMessageBus();
+        asyncContext = mock(AsyncContext.class);
+        request = mock(HttpServletRequest.class);
+        when(request.startAsync()).thenReturn(asyncContext);
+        response = mock(HttpServletResponse.class);
+        outputStream = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(outputStream);
+        when(asyncContext.getResponse()).thenReturn(response);
+        manager = new EventStreamManager(serviceContext, HttpEndpointConfig.builder().build());
+    }
+
+
+    @After
+    public void stop() {
+        manager.stop();
+    }
+
+
+    @Test
+    public void testSubscribeFailureSendsErrorBeforeCompleting() throws Exception {
+        when(messageBus.subscribe(any())).thenThrow(new MessageBusException("subscribe failed"));
+        manager.handle(request, response);
+        InOrder inOrder = inOrder(response, outputStream, asyncContext);
+        inOrder.verify(response).setStatus(HttpStatus.INTERNAL_SERVER_ERROR_500);
+        inOrder.verify(outputStream).write(any());
+        inOrder.verify(asyncContext).complete();
+    }
+
+
+    @Test
+    public void testStopUnsubscribes() throws Exception {
+        SubscriptionId subscriptionId = new SubscriptionId();
+        when(messageBus.subscribe(any())).thenReturn(subscriptionId);
+        manager.handle(request, response);
+        manager.stop();
+        verify(asyncContext).complete();
+        verify(messageBus).unsubscribe(subscriptionId);
+    }
+}
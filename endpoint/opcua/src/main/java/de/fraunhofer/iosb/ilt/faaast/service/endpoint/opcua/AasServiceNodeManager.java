@@ -21,6 +21,7 @@ import com.prosysopc.ua.client.AddressSpaceException;
 import com.prosysopc.ua.nodes.UaNode;
 import com.prosysopc.ua.nodes.UaNodeFactoryException;
 import com.prosysopc.ua.nodes.UaObject;
+import com.prosysopc.ua.nodes.UaReference;
 import com.prosysopc.ua.server.MethodManagerUaNode;
 import com.prosysopc.ua.server.NodeManagerUaNode;
 import com.prosysopc.ua.server.UaServer;
@@ -29,12 +30,14 @@ import com.prosysopc.ua.stack.builtintypes.NodeId;
 import com.prosysopc.ua.stack.builtintypes.QualifiedName;
 import com.prosysopc.ua.stack.common.ServiceResultException;
 import com.prosysopc.ua.types.opcua.BaseObjectType;
+import com.prosysopc.ua.types.opcua.DictionaryEntryType;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.AssetAdministrationShellCreator;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.ConceptDescriptionCreator;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.EmbeddedDataSpecificationCreator;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.QualifierCreator;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.SubmodelCreator;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.creator.SubmodelElementCreator;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.LazyNodeData;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.ObjectData;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.SubmodelElementData;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.AasSubmodelElementHelper;
@@ -44,6 +47,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
 import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.AmbiguousElementException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementCreateEventMessage;
@@ -51,12 +55,28 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.Eleme
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ElementUpdateEventMessage;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import opc.i4aas.objecttypes.AASAnnotatedRelationshipElementType;
 import opc.i4aas.objecttypes.AASAssetAdministrationShellType;
 import opc.i4aas.objecttypes.AASBlobType;
@@ -76,13 +96,19 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifiable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -186,7 +212,47 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
     /**
      * The counter for default NodeIds
      */
-    private int nodeIdCounter;
+    private final AtomicInteger nodeIdCounter;
+
+    /**
+     * The scope for default NodeIds of the current thread while creating submodels in parallel
+     */
+    private final ThreadLocal<NodeIdScope> nodeIdScope;
+
+    /**
+     * The number of threads used to create the submodel nodes on startup
+     */
+    private final int addressSpaceCreationThreads;
+
+    /**
+     * The depth of SubmodelElements up to which nodes are created on startup, negative if lazy loading is disabled
+     */
+    private final int lazyLoadingDepth;
+
+    /**
+     * The time in milliseconds after which unused lazily created nodes are removed, 0 or less to disable eviction
+     */
+    private final long lazyLoadingEvictionTimeout;
+
+    /**
+     * Maps references of AAS elements to the data of their lazily created child SubmodelElements
+     */
+    private final Map<Reference, LazyNodeData> lazyNodes;
+
+    /**
+     * Maps NodeIds of nodes with lazily created children to the reference of the corresponding AAS element
+     */
+    private final Map<NodeId, Reference> lazyNodeIds;
+
+    /**
+     * Maps references of ConceptDescriptions to their dictionary entry nodes
+     */
+    private final Map<Reference, DictionaryEntryType> dictionaryEntries;
+
+    /**
+     * The executor for removing unused lazily created nodes
+     */
+    private ScheduledExecutorService lazyLoadingEvictionExecutor;
 
     /**
      * Creates a new instance of AasServiceNodeManager
@@ -207,10 +273,20 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         submodelElementOpcUAMap = new ConcurrentHashMap<>();
         submodelOpcUAMap = new ConcurrentHashMap<>();
         referableMap = new ConcurrentHashMap<>();
+        dictionaryEntries = new ConcurrentHashMap<>();
 
         messageBus = endpoint.getMessageBus();
         Ensure.requireNonNull(messageBus, "messageBus must not be null");
         subscriptions = new ArrayList<>();
+        nodeIdCounter = new AtomicInteger();
+        nodeIdScope = new ThreadLocal<>();
+
+        OpcUaEndpointConfig config = endpoint.asConfig();
+        lazyLoadingDepth = config != null ? config.getLazyLoadingDepth() : OpcUaEndpointConfig.DEFAULT_LAZY_LOADING_DEPTH;
+        lazyLoadingEvictionTimeout = config != null ? TimeUnit.SECONDS.toMillis(config.getLazyLoadingEvictionTimeout()) : 0;
+        lazyNodes = new ConcurrentHashMap<>();
+        lazyNodeIds = new ConcurrentHashMap<>();
+        addressSpaceCreationThreads = config != null ? config.getAddressSpaceCreationThreads() : OpcUaEndpointConfig.DEFAULT_ADDRESS_SPACE_CREATION_THREADS;
     }
 
 
@@ -235,6 +311,13 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
     }
 
 
+    @Override
+    protected UaReference[] getReferences(NodeId nodeId, UaNode node) {
+        materializeLazyNode(nodeId);
+        return super.getReferences(nodeId, node);
+    }
+
+
     @Override
     protected void close() {
         try {
@@ -244,6 +327,10 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
             LOG.error("close Exception", ex);
         }
 
+        if (lazyLoadingEvictionExecutor != null) {
+            lazyLoadingEvictionExecutor.shutdownNow();
+        }
+
         super.close();
     }
 
@@ -260,6 +347,7 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         if (submodelElementAasMap.containsKey(node)) {
             retval = submodelElementAasMap.get(node);
             LOG.debug("getAasSubmodelElement: NodeId: {}; Property {}", node, retval);
+            touchLazyNodes(retval.getReference());
         }
         else {
             LOG.info("Node {} not found in submodelElementMap", node);
@@ -281,6 +369,11 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
 
         createAasNodes();
         subscribeMessageBus();
+
+        if (isLazyLoading() && (lazyLoadingEvictionTimeout > 0)) {
+            lazyLoadingEvictionExecutor = Executors.newSingleThreadScheduledExecutor();
+            lazyLoadingEvictionExecutor.scheduleWithFixedDelay(this::evictLazyNodes, lazyLoadingEvictionTimeout, lazyLoadingEvictionTimeout, TimeUnit.MILLISECONDS);
+        }
     }
 
 
@@ -299,11 +392,8 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
 
         ConceptDescriptionCreator.addConceptDescriptions(aasEnvironment.getConceptDescriptions(), this);
 
-        List<Submodel> submodels = aasEnvironment.getSubmodels();
-        if (submodels != null) {
-            for (Submodel submodel: submodels) {
-                SubmodelCreator.addSubmodel(aasEnvironmentNode, submodel, this);
-            }
+        if (aasEnvironment.getSubmodels() != null) {
+            addSubmodels(aasEnvironment.getSubmodels());
         }
 
         if (aasEnvironment.getAssetAdministrationShells() != null) {
@@ -314,6 +404,134 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
     }
 
 
+    /**
+     * Creates the nodes of the given submodels. With a single thread, the submodels are created one after another
+     * including their submodel elements and default NodeIds are numeric as before.
+     *
+     * <p>With more than one thread, the submodel nodes are created sequentially, then the subtrees of their submodel
+     * elements are created in parallel while the submodel nodes are not yet part of the address space. Finally, the
+     * submodel nodes are added to the address space in the original order. The default NodeIds of the submodel
+     * elements are derived from the id of their submodel, see {@link NodeIdScope}. Therefore they neither depend on the
+     * order in which the threads are executed nor on the position of the submodel in the environment.
+     *
+     * <p>With more than one thread, nodes are created and registered with the node manager from multiple threads
+     * concurrently. The nodes of different submodels are disjoint and the shared nodes touched while creating them,
+     * i.e. the dictionary entries and the environment node, are synchronized. However, the OPC UA SDK does not
+     * document NodeManagerUaNode to be thread-safe for concurrent node registration, which is why this is only done
+     * if explicitly configured, see {@link OpcUaEndpointConfig#getAddressSpaceCreationThreads()}.
+     *
+     * @param submodels The submodels to add
+     * @throws StatusException If the operation fails
+     * @throws ServiceException If the operation fails
+     * @throws AddressSpaceException If the operation fails
+     * @throws ServiceResultException If the operation fails
+     * @throws ValueFormatException The data format of the value is invalid
+     */
+    private void addSubmodels(List<Submodel> submodels)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException {
+        LOG.debug("addSubmodels: create {} submodels using {} threads", submodels.size(), addressSpaceCreationThreads);
+        if (addressSpaceCreationThreads <= 1) {
+            for (Submodel submodel: submodels) {
+                SubmodelCreator.addSubmodel(aasEnvironmentNode, submodel, this);
+            }
+            return;
+        }
+        List<AASSubmodelType> submodelNodes = new ArrayList<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < submodels.size(); i++) {
+            Submodel submodel = submodels.get(i);
+            AASSubmodelType submodelNode = SubmodelCreator.createSubmodelNode(aasEnvironmentNode, submodel, this);
+            submodelNodes.add(submodelNode);
+            if (submodelNode != null) {
+                NodeIdScope scope = new NodeIdScope(submodel.getId());
+                tasks.add(() -> {
+                    nodeIdScope.set(scope);
+                    try {
+                        SubmodelCreator.addSubmodelElements(submodelNode, submodel, this);
+                    }
+                    finally {
+                        nodeIdScope.remove();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        if (tasks.size() > 1) {
+            runParallel(tasks);
+        }
+        else {
+            for (Callable<Void> task: tasks) {
+                runTask(task);
+            }
+        }
+
+        synchronized (aasEnvironmentNode) {
+            for (int i = 0; i < submodels.size(); i++) {
+                if (submodelNodes.get(i) != null) {
+                    SubmodelCreator.attachSubmodelNode(aasEnvironmentNode, submodels.get(i), submodelNodes.get(i), this);
+                }
+            }
+        }
+    }
+
+
+    private void runParallel(List<Callable<Void>> tasks)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException {
+        ForkJoinPool pool = new ForkJoinPool(addressSpaceCreationThreads);
+        try {
+            for (Future<Void> future: pool.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StatusException(ex.getMessage(), ex);
+        }
+        catch (ExecutionException ex) {
+            rethrowCreationException(ex.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+
+    private static void runTask(Callable<Void> task)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException {
+        try {
+            task.call();
+        }
+        catch (RuntimeException ex) {
+            throw ex;
+        }
+        catch (Exception ex) {
+            rethrowCreationException(ex);
+        }
+    }
+
+
+    private static void rethrowCreationException(Throwable cause)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException {
+        if (cause instanceof StatusException) {
+            throw (StatusException) cause;
+        }
+        else if (cause instanceof ServiceResultException) {
+            throw (ServiceResultException) cause;
+        }
+        else if (cause instanceof ServiceException) {
+            throw (ServiceException) cause;
+        }
+        else if (cause instanceof AddressSpaceException) {
+            throw (AddressSpaceException) cause;
+        }
+        else if (cause instanceof ValueFormatException) {
+            throw (ValueFormatException) cause;
+        }
+        throw new StatusException(cause.getMessage(), cause);
+    }
+
+
     /**
      * Adds the AASEnvironment Node.
      */
@@ -337,6 +555,7 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         LOG.debug("subscribeMessageBus: subscribe ValueChangeEvents");
         SubscriptionInfo info = SubscriptionInfo.create(ValueChangeEventMessage.class, x -> {
             try {
+                endpoint.updateValueCache(x.getElement(), x.getNewValue());
                 updateSubmodelElementValue(x.getElement(), x.getNewValue(), x.getOldValue());
             }
             catch (StatusException | ValueFormatException e) {
@@ -357,6 +576,7 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
 
         info = SubscriptionInfo.create(ElementDeleteEventMessage.class, x -> {
             try {
+                endpoint.invalidateValueCache(x.getElement());
                 elementDeleted(x.getElement());
             }
             catch (Exception e) {
@@ -367,6 +587,7 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
 
         info = SubscriptionInfo.create(ElementUpdateEventMessage.class, x -> {
             try {
+                endpoint.invalidateValueCache(x.getElement());
                 elementUpdated(x.getElement(), x.getValue());
             }
             catch (Exception e) {
@@ -423,7 +644,14 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
                 addQualifier(parent, value);
             }
             else if (value instanceof SubmodelElement) {
-                addSubmodelElement(parent, value, parentRef);
+                if (referableMap.containsKey(element)) {
+                    // may happen in lazy loading mode if the parent was created after the element has been added
+                    LOG.debug("elementCreated: element already exists: {}", ReferenceHelper.toString(element));
+                }
+                else {
+                    addSubmodelElement(parent, value, parentRef);
+                    addLazyChild(parentRef, element);
+                }
             }
         }
         else if (LOG.isDebugEnabled()) {
@@ -444,6 +672,8 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         if (LOG.isDebugEnabled()) {
             LOG.debug("elementDeleted called. Reference {}", ReferenceHelper.toString(element));
         }
+        removeLazyNode(element);
+        removeLazyChild(element);
         // The element is the object that should be deleted
         ObjectData data = referableMap.get(element);
         if (data != null) {
@@ -452,6 +682,10 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
             removeFromMaps(data.getNode(), element, data.getReferable());
             deleteNode(data.getNode(), true, true);
         }
+        else if (isLazyLoading()) {
+            // in lazy loading mode, nodes are only created when needed
+            LOG.debug("elementDeleted: element not found in referableMap: {}", ReferenceHelper.toString(element));
+        }
         else if (LOG.isInfoEnabled()) {
             LOG.info("elementDeleted: element not found in referableMap: {}", ReferenceHelper.toString(element));
         }
@@ -478,10 +712,215 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         if (LOG.isDebugEnabled()) {
             LOG.debug("elementUpdated called. Reference {}", ReferenceHelper.toString(element));
         }
-        // Currently we implement update as delete and create. 
-        elementDeleted(element);
+        // Update existing nodes in place to keep the NodeIds stable. Only if this is not possible, e.g. because
+        // the type or metadata of an element changed, the element is deleted and created again.
+        ObjectData data = referableMap.get(element);
+        if ((data == null) || !updateInPlace(element, data, value)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("elementUpdated: re-create element {}", ReferenceHelper.toString(element));
+            }
+            elementDeleted(element);
+            elementCreated(element, value);
+        }
+    }
+
+
+    /**
+     * Updates the nodes of an existing element in place based on a structural diff between the old and the new
+     * element, i.e. only nodes of elements that have changed are updated, added or removed.
+     *
+     * @param reference Reference to the updated element.
+     * @param data The data of the existing element.
+     * @param value The new element.
+     * @return true if the element was updated in place, false if it must be re-created
+     * @throws StatusException If the operation fails
+     * @throws ServiceResultException If the operation fails
+     * @throws ServiceException If the operation fails
+     * @throws AddressSpaceException If the operation fails
+     * @throws ValueFormatException The data format of the value is invalid
+     * @throws AmbiguousElementException if there are multiple matching elements in the environment
+     */
+    private boolean updateInPlace(Reference reference, ObjectData data, Referable value)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException, AmbiguousElementException {
+        Referable oldValue = data.getReferable();
+        if (Objects.equals(oldValue, value)) {
+            return true;
+        }
+        if ((oldValue == null) || (oldValue.getClass() != value.getClass()) || !hasEqualMetadata(oldValue, value)) {
+            return false;
+        }
+
+        if (value instanceof Submodel) {
+            Submodel oldSubmodel = (Submodel) oldValue;
+            Submodel newSubmodel = (Submodel) value;
+            if (!Objects.equals(oldSubmodel.getId(), newSubmodel.getId())
+                    || !Objects.equals(oldSubmodel.getAdministration(), newSubmodel.getAdministration())
+                    || !Objects.equals(oldSubmodel.getKind(), newSubmodel.getKind())) {
+                return false;
+            }
+            updateChildren(reference, oldSubmodel.getSubmodelElements(), newSubmodel.getSubmodelElements());
+        }
+        else if (value instanceof SubmodelElementCollection) {
+            updateChildren(reference, ((SubmodelElementCollection) oldValue).getValue(), ((SubmodelElementCollection) value).getValue());
+        }
+        else if (value instanceof SubmodelElementList) {
+            if (!updateListChildren(reference, (SubmodelElementList) oldValue, (SubmodelElementList) value)) {
+                return false;
+            }
+        }
+        else if (((value instanceof DataElement) || (value instanceof RelationshipElement)) && (data.getNode() instanceof AASSubmodelElementType)) {
+            if (!isValueOnlyChange((SubmodelElement) oldValue, (SubmodelElement) value)) {
+                return false;
+            }
+            try {
+                AasSubmodelElementHelper.setSubmodelElementValue((AASSubmodelElementType) data.getNode(), ElementValueMapper.toValue((SubmodelElement) value), this);
+            }
+            catch (ValueMappingException ex) {
+                LOG.debug("elementUpdated: unable to update value of {}", ReferenceHelper.toString(reference), ex);
+                return false;
+            }
+        }
+        else {
+            return false;
+        }
 
-        elementCreated(element, value);
+        referableMap.put(reference, new ObjectData(value, data.getNode(), data.getSubmodel()));
+        return true;
+    }
+
+
+    /**
+     * Updates the child elements of a Submodel or SubmodelElementCollection. Elements are matched by their idShort.
+     *
+     * @param parentRef The reference to the parent element.
+     * @param oldElements The old child elements
+     * @param newElements The new child elements
+     * @throws StatusException If the operation fails
+     * @throws ServiceResultException If the operation fails
+     * @throws ServiceException If the operation fails
+     * @throws AddressSpaceException If the operation fails
+     * @throws ValueFormatException The data format of the value is invalid
+     * @throws AmbiguousElementException if there are multiple matching elements in the environment
+     */
+    private void updateChildren(Reference parentRef, Collection<SubmodelElement> oldElements, Collection<SubmodelElement> newElements)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException, AmbiguousElementException {
+        if (isLazyNodePending(parentRef)) {
+            // the child nodes have not been created yet and will be created with the current state when needed
+            return;
+        }
+        Map<String, SubmodelElement> oldByIdShort = new HashMap<>();
+        if (oldElements != null) {
+            oldElements.forEach(x -> oldByIdShort.put(x.getIdShort(), x));
+        }
+        Set<String> newIdShorts = new HashSet<>();
+        if (newElements != null) {
+            newElements.forEach(x -> newIdShorts.add(x.getIdShort()));
+        }
+        for (SubmodelElement oldElement: oldByIdShort.values()) {
+            if (!newIdShorts.contains(oldElement.getIdShort())) {
+                elementDeleted(ReferenceBuilder.with(parentRef).element(oldElement).build());
+            }
+        }
+        if (newElements != null) {
+            for (SubmodelElement newElement: newElements) {
+                Reference elementRef = ReferenceBuilder.with(parentRef).element(newElement).build();
+                SubmodelElement oldElement = oldByIdShort.get(newElement.getIdShort());
+                if (oldElement == null) {
+                    elementCreated(elementRef, newElement);
+                }
+                else if (!Objects.equals(oldElement, newElement)) {
+                    elementUpdated(elementRef, newElement);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Updates the child elements of a SubmodelElementList. Elements are matched by their index. As the nodes of list
+     * elements are identified by their index, lists with changed size are not updated in place.
+     *
+     * @param parentRef The reference to the list.
+     * @param oldList The old list
+     * @param newList The new list
+     * @return true if the list was updated in place, false if it must be re-created
+     * @throws StatusException If the operation fails
+     * @throws ServiceResultException If the operation fails
+     * @throws ServiceException If the operation fails
+     * @throws AddressSpaceException If the operation fails
+     * @throws ValueFormatException The data format of the value is invalid
+     * @throws AmbiguousElementException if there are multiple matching elements in the environment
+     */
+    private boolean updateListChildren(Reference parentRef, SubmodelElementList oldList, SubmodelElementList newList)
+            throws StatusException, ServiceResultException, ServiceException, AddressSpaceException, ValueFormatException, AmbiguousElementException {
+        if (!Objects.equals(oldList.getOrderRelevant(), newList.getOrderRelevant())
+                || !Objects.equals(oldList.getSemanticIdListElement(), newList.getSemanticIdListElement())
+                || !Objects.equals(oldList.getTypeValueListElement(), newList.getTypeValueListElement())
+                || !Objects.equals(oldList.getValueTypeListElement(), newList.getValueTypeListElement())) {
+            return false;
+        }
+        List<SubmodelElement> oldElements = Objects.requireNonNullElse(oldList.getValue(), List.of());
+        List<SubmodelElement> newElements = Objects.requireNonNullElse(newList.getValue(), List.of());
+        if (oldElements.size() != newElements.size()) {
+            return false;
+        }
+        if (isLazyNodePending(parentRef)) {
+            return true;
+        }
+        for (int i = 0; i < newElements.size(); i++) {
+            if (!Objects.equals(oldElements.get(i), newElements.get(i))) {
+                elementUpdated(ReferenceBuilder.with(parentRef).index(i).build(), newElements.get(i));
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Checks if two elements of the same type only differ in their value.
+     *
+     * @param oldElement The old element
+     * @param newElement The new element
+     * @return true if the elements only differ in their value, false otherwise
+     */
+    private static boolean isValueOnlyChange(SubmodelElement oldElement, SubmodelElement newElement) {
+        try {
+            SubmodelElement newElementWithOldValue = ElementValueMapper.setValue(DeepCopyHelper.deepCopy(newElement), ElementValueMapper.toValue(oldElement));
+            return Objects.equals(oldElement, newElementWithOldValue);
+        }
+        catch (ValueMappingException | RuntimeException ex) {
+            return false;
+        }
+    }
+
+
+    /**
+     * Checks if the metadata, i.e. all properties except the children or value, of two referables of the same type are
+     * equal.
+     *
+     * @param oldValue The old referable
+     * @param newValue The new referable
+     * @return true if the metadata are equal, false otherwise
+     */
+    private static boolean hasEqualMetadata(Referable oldValue, Referable newValue) {
+        if (!Objects.equals(oldValue.getIdShort(), newValue.getIdShort())
+                || !Objects.equals(oldValue.getCategory(), newValue.getCategory())
+                || !Objects.equals(oldValue.getDescription(), newValue.getDescription())
+                || !Objects.equals(oldValue.getDisplayName(), newValue.getDisplayName())
+                || !Objects.equals(oldValue.getExtensions(), newValue.getExtensions())) {
+            return false;
+        }
+        if ((oldValue instanceof HasSemantics)
+                && (!Objects.equals(((HasSemantics) oldValue).getSemanticId(), ((HasSemantics) newValue).getSemanticId())
+                        || !Objects.equals(((HasSemantics) oldValue).getSupplementalSemanticIds(), ((HasSemantics) newValue).getSupplementalSemanticIds()))) {
+            return false;
+        }
+        if ((oldValue instanceof Qualifiable)
+                && !Objects.equals(((Qualifiable) oldValue).getQualifiers(), ((Qualifiable) newValue).getQualifiers())) {
+            return false;
+        }
+        return !(oldValue instanceof HasDataSpecification)
+                || Objects.equals(((HasDataSpecification) oldValue).getEmbeddedDataSpecifications(), ((HasDataSpecification) newValue).getEmbeddedDataSpecifications());
     }
 
 
@@ -522,19 +961,84 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
         if (submodelElementOpcUAMap.containsKey(path)) {
             AasSubmodelElementHelper.setSubmodelElementValue(submodelElementOpcUAMap.get(path), newValue, this);
         }
+        else if (isLazyLoading()) {
+            // in lazy loading mode, the node is created with the current value when needed
+            LOG.trace("SubmodelElement {} not found in submodelElementOpcUAMap", ReferenceHelper.toString(reference));
+        }
         else if (LOG.isWarnEnabled()) {
             LOG.warn("SubmodelElement {} not found in submodelElementOpcUAMap", ReferenceHelper.toString(reference));
         }
     }
 
 
+    /**
+     * Checks whether the child SubmodelElements of the given node should be created lazily and, if so, registers
+     * the node for lazy loading. In this case, the child SubmodelElements are created when the node is browsed for
+     * the first time.
+     *
+     * @param node The node the child SubmodelElements should be added to
+     * @param parentRef The AAS reference to the element containing the child SubmodelElements
+     * @param submodel The corresponding submodel
+     * @param ordered Specifies whether the child SubmodelElements are from a list (true) or not (false)
+     * @return true if the child SubmodelElements must not be created now, false otherwise
+     */
+    public boolean deferSubmodelElements(UaNode node, Reference parentRef, Submodel submodel, boolean ordered) {
+        if (!isLazyLoading() || (node == null) || (parentRef == null) || (parentRef.getKeys() == null)) {
+            return false;
+        }
+        LazyNodeData data = lazyNodes.get(parentRef);
+        if (data != null) {
+            // wait for a running materialization, otherwise the new element could be missed by both
+            synchronized (data) {
+                return !data.isMaterialized();
+            }
+        }
+        // the first key references the submodel, i.e. direct children of a submodel have depth 1
+        if (parentRef.getKeys().size() - 1 < lazyLoadingDepth) {
+            return false;
+        }
+        lazyNodes.put(parentRef, new LazyNodeData(node, parentRef, submodel, ordered));
+        lazyNodeIds.put(node.getNodeId(), parentRef);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("deferSubmodelElements: children of {} are created lazily", ReferenceHelper.toString(parentRef));
+        }
+        return true;
+    }
+
+
     /**
      * Gets the next availabe default NodeId.
      * 
      * @return The desired NodeId
      */
     public NodeId getDefaultNodeId() {
-        return new NodeId(getNamespaceIndex(), ++nodeIdCounter);
+        NodeIdScope scope = nodeIdScope.get();
+        if (scope != null) {
+            return new NodeId(getNamespaceIndex(), scope.next());
+        }
+        return new NodeId(getNamespaceIndex(), nodeIdCounter.incrementAndGet());
+    }
+
+
+    /**
+     * Adds the dictionary entry node of a ConceptDescription.
+     *
+     * @param reference The reference to the ConceptDescription.
+     * @param entry The corresponding dictionary entry node.
+     */
+    public void addDictionaryEntry(Reference reference, DictionaryEntryType entry) {
+        dictionaryEntries.put(reference, entry);
+    }
+
+
+    /**
+     * Gets the dictionary entry node of a ConceptDescription.
+     *
+     * @param reference The reference to the ConceptDescription.
+     * @return The corresponding dictionary entry node, null if not found.
+     */
+    public DictionaryEntryType getDictionaryEntry(Reference reference) {
+        return reference != null ? dictionaryEntries.get(reference) : null;
     }
 
 
@@ -781,6 +1285,202 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
     }
 
 
+    private boolean isLazyLoading() {
+        return lazyLoadingDepth >= 0;
+    }
+
+
+    private boolean isLazyNodePending(Reference reference) {
+        LazyNodeData data = isLazyLoading() ? lazyNodes.get(reference) : null;
+        if (data == null) {
+            return false;
+        }
+        // wait for a running materialization, otherwise the change could be missed by both
+        synchronized (data) {
+            return !data.isMaterialized();
+        }
+    }
+
+
+    /**
+     * Creates the child SubmodelElements of the given node if they have been deferred. The node is only marked as
+     * materialized once all children have been created, so concurrent browse requests wait for the creation to finish
+     * instead of returning a partial list of references. If creating a child fails, the children created so far are
+     * removed again and the creation is retried on the next browse.
+     *
+     * @param nodeId The NodeId of the browsed node
+     */
+    private void materializeLazyNode(NodeId nodeId) {
+        if (!isLazyLoading() || (nodeId == null)) {
+            return;
+        }
+        Reference reference = lazyNodeIds.get(nodeId);
+        LazyNodeData data = reference != null ? lazyNodes.get(reference) : null;
+        if (data == null) {
+            return;
+        }
+        touchLazyNodes(reference);
+        // materialized is only set after all children have been created, i.e. checking it without the lock is safe
+        if (data.isMaterialized()) {
+            return;
+        }
+        synchronized (data) {
+            // materializing is only true here if browsing is triggered by the creation of the children itself
+            if (data.isMaterialized() || data.isMaterializing()) {
+                return;
+            }
+            data.setMaterializing(true);
+            try {
+                List<SubmodelElement> elements = readLazyChildren(data);
+                LOG.debug("materializeLazyNode: create {} SubmodelElements for {}", elements.size(), ReferenceHelper.toString(reference));
+                for (int i = 0; i < elements.size(); i++) {
+                    SubmodelElement element = elements.get(i);
+                    Reference elementRef = data.isOrdered()
+                            ? ReferenceBuilder.with(reference).index(i).build()
+                            : ReferenceBuilder.with(reference).element(element).build();
+                    // register the child before creating it so that a partially created child is removed as well
+                    data.getChildren().add(elementRef);
+                    SubmodelElementCreator.addSubmodelElement(element, data.getNode(), elementRef, data.getSubmodel(), data.isOrdered(), this);
+                }
+                data.setMaterialized(true);
+            }
+            catch (Exception ex) {
+                LOG.error("materializeLazyNode: error creating SubmodelElements for {} - removing created nodes", ReferenceHelper.toString(reference), ex);
+                for (Reference child: data.getChildren()) {
+                    evictLazyChild(child);
+                }
+                data.getChildren().clear();
+            }
+            finally {
+                data.setMaterializing(false);
+            }
+        }
+    }
+
+
+    /**
+     * Reads the current child SubmodelElements of a lazily loaded node from the service. Reading the current state
+     * ensures that changes that happened before the node has been browsed are reflected.
+     *
+     * @param data The data of the lazily loaded node
+     * @return The current child SubmodelElements
+     */
+    private List<SubmodelElement> readLazyChildren(LazyNodeData data) {
+        List<SubmodelElement> retval = null;
+        if (data.getReference().getKeys().size() == 1) {
+            Submodel submodel = endpoint.readSubmodel(data.getSubmodel().getId());
+            if (submodel != null) {
+                retval = submodel.getSubmodelElements();
+            }
+        }
+        else {
+            SubmodelElement parent = endpoint.readValue(data.getSubmodel().getId(), data.getReference());
+            if (parent instanceof SubmodelElementCollection) {
+                retval = ((SubmodelElementCollection) parent).getValue();
+            }
+            else if (parent instanceof SubmodelElementList) {
+                retval = ((SubmodelElementList) parent).getValue();
+            }
+            else if (parent instanceof Entity) {
+                retval = ((Entity) parent).getStatements();
+            }
+        }
+        return Objects.requireNonNullElse(retval, List.of());
+    }
+
+
+    /**
+     * Marks the lazily loaded nodes for the given element and all its parents as accessed.
+     *
+     * @param reference The reference to the accessed element
+     */
+    private void touchLazyNodes(Reference reference) {
+        if (!isLazyLoading() || lazyNodes.isEmpty()) {
+            return;
+        }
+        Reference current = reference;
+        while (current != null) {
+            LazyNodeData data = lazyNodes.get(current);
+            if (data != null) {
+                data.touch();
+            }
+            current = ReferenceHelper.getParent(current);
+        }
+    }
+
+
+    /**
+     * Removes the lazily created child nodes of all nodes that have not been accessed within the eviction timeout.
+     * The nodes are created again when they are browsed the next time.
+     */
+    private void evictLazyNodes() {
+        long threshold = System.currentTimeMillis() - lazyLoadingEvictionTimeout;
+        for (LazyNodeData data: lazyNodes.values()) {
+            if (!data.isMaterialized() || (data.getLastAccess() >= threshold)) {
+                continue;
+            }
+            synchronized (data) {
+                if (data.isMaterialized() && (data.getLastAccess() < threshold) && (lazyNodes.get(data.getReference()) == data)) {
+                    LOG.debug("evictLazyNodes: remove {} SubmodelElements of {}", data.getChildren().size(), ReferenceHelper.toString(data.getReference()));
+                    for (Reference child: data.getChildren()) {
+                        evictLazyChild(child);
+                    }
+                    data.getChildren().clear();
+                    data.setMaterialized(false);
+                }
+            }
+        }
+    }
+
+
+    private void evictLazyChild(Reference reference) {
+        removeLazyNode(reference);
+        ObjectData data = referableMap.remove(reference);
+        if (data != null) {
+            try {
+                removeFromMaps(data.getNode(), reference, data.getReferable());
+                deleteNode(data.getNode(), true, true);
+            }
+            catch (StatusException ex) {
+                LOG.warn("evictLazyNodes: error removing node for {}", ReferenceHelper.toString(reference), ex);
+            }
+        }
+    }
+
+
+    /**
+     * Removes the lazy loading data for the given element and all its lazily created children.
+     *
+     * @param reference The reference to the element
+     */
+    private void removeLazyNode(Reference reference) {
+        LazyNodeData data = lazyNodes.remove(reference);
+        if (data != null) {
+            lazyNodeIds.remove(data.getNode().getNodeId());
+            for (Reference child: data.getChildren()) {
+                removeLazyNode(child);
+            }
+        }
+    }
+
+
+    private void addLazyChild(Reference parentRef, Reference element) {
+        LazyNodeData data = lazyNodes.get(parentRef);
+        if ((data != null) && data.isMaterialized() && !data.getChildren().contains(element)) {
+            data.getChildren().add(element);
+        }
+    }
+
+
+    private void removeLazyChild(Reference element) {
+        Reference parentRef = ReferenceHelper.getParent(element);
+        LazyNodeData data = parentRef != null ? lazyNodes.get(parentRef) : null;
+        if (data != null) {
+            data.getChildren().remove(element);
+        }
+    }
+
+
     private static String dumpSubmodelElementIdentifier(SubmodelElementIdentifier value) {
         return String.format("SubmodelElementIdentifier: Submodel %s; IdShortPath %s", value.getSubmodelId(), value.getIdShortPath().toString());
     }
@@ -830,4 +1530,28 @@ public class AasServiceNodeManager extends NodeManagerUaNode {
             LOG.debug("elementCreated: EmbeddedDataSpecification parent class not found");
         }
     }
+
+    /**
+     * Scope for default NodeIds of the submodel elements of a single submodel that are created in parallel on startup,
+     * i.e. only if more than one thread is configured. The NodeIds
+     * have the form "Submodel#&lt;counter&gt;:&lt;submodelId&gt;". As the counter is the first part and only contains
+     * digits, the NodeIds of different submodels are unique. Within a submodel, the counter only depends on the order
+     * of the submodel elements, i.e. the NodeIds are the same regardless of the position of the submodel in the
+     * environment and the number of threads used to create the address space.
+     */
+    private static class NodeIdScope {
+
+        private final String submodelId;
+        private int counter;
+
+        NodeIdScope(String submodelId) {
+            this.submodelId = submodelId;
+            this.counter = 0;
+        }
+
+
+        String next() {
+            return "Submodel#" + (++counter) + ":" + submodelId;
+        }
+    }
 }
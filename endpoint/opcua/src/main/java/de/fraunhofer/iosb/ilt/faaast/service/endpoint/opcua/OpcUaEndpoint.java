@@ -19,22 +19,31 @@ import com.prosysopc.ua.stack.core.StatusCodes;
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.Endpoint;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.CachedValue;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.EndpointException;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.ExecutionState;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.SetSubmodelElementValueByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetSubmodelElementByPathRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.InvokeOperationSyncRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodelrepository.GetSubmodelByIdRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetSubmodelElementByPathResponse;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.InvokeOperationSyncResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodelrepository.GetSubmodelByIdResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValueParser;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.MultiLanguagePropertyValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
@@ -59,6 +68,7 @@ public class OpcUaEndpoint implements Endpoint<OpcUaEndpointConfig> {
     private MessageBus<?> messageBus;
     private OpcUaEndpointConfig currentConfig;
     private Server server;
+    private final Map<SubmodelElementIdentifier, CachedValue> valueCache;
 
     /**
      * Creates a new instance of OpcUaEndpoint
@@ -68,6 +78,7 @@ public class OpcUaEndpoint implements Endpoint<OpcUaEndpointConfig> {
         messageBus = null;
         currentConfig = null;
         server = null;
+        valueCache = new ConcurrentHashMap<>();
     }
 
 
@@ -122,6 +133,7 @@ public class OpcUaEndpoint implements Endpoint<OpcUaEndpointConfig> {
                 LOGGER.debug("stop server. Currently running: {}", server.isRunning());
                 server.shutdown(currentConfig.getSecondsTillShutdown());
             }
+            valueCache.clear();
         }
         catch (Exception e) {
             LOGGER.error("Error stopping OPC UA Server", e);
@@ -217,6 +229,103 @@ public class OpcUaEndpoint implements Endpoint<OpcUaEndpointConfig> {
     }
 
 
+    /**
+     * Reads the value of the desired SubmodelElement. If the value cache is enabled, the value is taken from the cache
+     * if it is neither older than the configured maximum age nor older than the given minimum timestamp. Otherwise,
+     * the value is read from the service and the cache is updated.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @param refElement The reference to the element.
+     * @param minTimestamp The minimum time in milliseconds the value must have been obtained at, e.g. derived from
+     *            the maxAge parameter of an OPC UA read request. Use 0 if there is no such constraint.
+     * @return The value of the desired SubmodelElement and the time it has been obtained, null if the read failed.
+     * @throws ValueMappingException if the element can not be mapped to its value
+     */
+    public CachedValue readElementValue(String submodelId, Reference refElement, long minTimestamp) throws ValueMappingException {
+        long now = System.currentTimeMillis();
+        SubmodelElementIdentifier identifier = null;
+        if (isValueCacheEnabled()) {
+            identifier = SubmodelElementIdentifier.fromReference(refElement);
+            CachedValue cached = valueCache.get(identifier);
+            if ((cached != null) && (cached.getTimestamp() >= Math.max(minTimestamp, now - currentConfig.getValueCacheMaxAge()))) {
+                LOGGER.trace("readElementValue: Ref {} served from cache", identifier.getIdShortPath());
+                return cached;
+            }
+        }
+        SubmodelElement element = readValue(submodelId, refElement);
+        if (element == null) {
+            return null;
+        }
+        CachedValue retval = new CachedValue(ElementValueMapper.toValue(element), now);
+        if (identifier != null) {
+            // a value received via the MessageBus while reading is newer and must not be overwritten
+            retval = valueCache.merge(identifier, retval, (oldValue, newValue) -> oldValue.getTimestamp() >= newValue.getTimestamp() ? oldValue : newValue);
+        }
+        return retval;
+    }
+
+
+    /**
+     * Updates the cached value of the given SubmodelElement, e.g. when the value has been changed.
+     *
+     * @param refElement The reference to the element.
+     * @param value The new value.
+     */
+    public void updateValueCache(Reference refElement, ElementValue value) {
+        if (isValueCacheEnabled() && (value != null)) {
+            valueCache.put(SubmodelElementIdentifier.fromReference(refElement), new CachedValue(value, System.currentTimeMillis()));
+        }
+    }
+
+
+    /**
+     * Removes the cached values of the given element and all its child elements, e.g. because the element has been
+     * updated or deleted.
+     *
+     * @param reference The reference to the element.
+     */
+    public void invalidateValueCache(Reference reference) {
+        if (!isValueCacheEnabled() || valueCache.isEmpty()) {
+            return;
+        }
+        SubmodelElementIdentifier identifier;
+        try {
+            identifier = SubmodelElementIdentifier.fromReference(reference);
+        }
+        catch (IllegalArgumentException e) {
+            // not a reference to a submodel or submodel element
+            return;
+        }
+        List<String> path = identifier.getIdShortPath().getElements();
+        valueCache.keySet().removeIf(x -> Objects.equals(x.getSubmodelId(), identifier.getSubmodelId())
+                && (x.getIdShortPath().getElements().size() >= path.size())
+                && x.getIdShortPath().getElements().subList(0, path.size()).equals(path));
+    }
+
+
+    private boolean isValueCacheEnabled() {
+        return (currentConfig != null) && (currentConfig.getValueCacheMaxAge() > 0);
+    }
+
+
+    /**
+     * Reads the desired Submodel from the service.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @return The desired Submodel, null if the read failed.
+     */
+    public Submodel readSubmodel(String submodelId) {
+        LOGGER.debug("readSubmodel: Submodel: {}", submodelId);
+        Submodel retval = null;
+        Response response = service.execute(GetSubmodelByIdRequest.builder().id(submodelId).build());
+        if ((response.getStatusCode() == StatusCode.SUCCESS) && (GetSubmodelByIdResponse.class.isAssignableFrom(response.getClass()))) {
+            retval = ((GetSubmodelByIdResponse) response).getPayload();
+        }
+
+        return retval;
+    }
+
+
     /**
      * Checks if the referenced element has a Value Provider.
      *
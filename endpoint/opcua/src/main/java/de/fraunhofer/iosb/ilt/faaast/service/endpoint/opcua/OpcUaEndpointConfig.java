@@ -34,6 +34,10 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
     private static final int DEFAULT_SECONDS_SHUTDOWN = 2;
     private static final String DEFAULT_SERVER_CERT_PATH = "PKI/CA";
     private static final String DEFAULT_USER_CERT_PATH = "USERS_PKI/CA";
+    public static final int DEFAULT_LAZY_LOADING_DEPTH = -1;
+    public static final int DEFAULT_LAZY_LOADING_EVICTION_TIMEOUT = 300;
+    public static final long DEFAULT_VALUE_CACHE_MAX_AGE = 0;
+    public static final int DEFAULT_ADDRESS_SPACE_CREATION_THREADS = 1;
     private int tcpPort;
     private int secondsTillShutdown;
     private Map<String, String> userMap;
@@ -42,6 +46,10 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
     private String userCertificateBasePath;
     private Set<SecurityPolicy> supportedSecurityPolicies;
     private Set<UserTokenType> supportedAuthentications;
+    private int lazyLoadingDepth;
+    private int lazyLoadingEvictionTimeout;
+    private long valueCacheMaxAge;
+    private int addressSpaceCreationThreads;
 
     public OpcUaEndpointConfig() {
         this.tcpPort = DEFAULT_PORT;
@@ -53,6 +61,10 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
         this.supportedSecurityPolicies = new HashSet<>(SecurityPolicy.ALL_SECURE_104);
         this.supportedSecurityPolicies.add(SecurityPolicy.NONE);
         this.supportedAuthentications = new HashSet<>(Arrays.asList(UserTokenType.Anonymous));
+        this.lazyLoadingDepth = DEFAULT_LAZY_LOADING_DEPTH;
+        this.lazyLoadingEvictionTimeout = DEFAULT_LAZY_LOADING_EVICTION_TIMEOUT;
+        this.valueCacheMaxAge = DEFAULT_VALUE_CACHE_MAX_AGE;
+        this.addressSpaceCreationThreads = DEFAULT_ADDRESS_SPACE_CREATION_THREADS;
     }
 
 
@@ -72,14 +84,19 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
                 && Objects.equals(serverCertificateBasePath, that.serverCertificateBasePath)
                 && Objects.equals(userCertificateBasePath, that.userCertificateBasePath)
                 && Objects.equals(supportedSecurityPolicies, that.supportedSecurityPolicies)
-                && Objects.equals(supportedAuthentications, that.supportedAuthentications);
+                && Objects.equals(supportedAuthentications, that.supportedAuthentications)
+                && Objects.equals(lazyLoadingDepth, that.lazyLoadingDepth)
+                && Objects.equals(lazyLoadingEvictionTimeout, that.lazyLoadingEvictionTimeout)
+                && Objects.equals(valueCacheMaxAge, that.valueCacheMaxAge)
+                && Objects.equals(addressSpaceCreationThreads, that.addressSpaceCreationThreads);
     }
 
 
     @Override
     public int hashCode() {
         return Objects.hash(tcpPort, secondsTillShutdown, discoveryServerUrl, userMap, serverCertificateBasePath, userCertificateBasePath, supportedSecurityPolicies,
-                supportedAuthentications);
+                supportedAuthentications, lazyLoadingDepth, lazyLoadingEvictionTimeout,
+                valueCacheMaxAge, addressSpaceCreationThreads);
     }
 
 
@@ -245,6 +262,98 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
     }
 
 
+    /**
+     * Gets the depth of SubmodelElements up to which OPC UA nodes are created on startup. Nodes of deeper
+     * SubmodelElements are created when their parent node is browsed for the first time. A negative value disables
+     * lazy loading, i.e. the complete address space is created on startup. A value of 0 means that only the Submodel
+     * nodes are created on startup.
+     *
+     * @return The lazy loading depth
+     */
+    public int getLazyLoadingDepth() {
+        return lazyLoadingDepth;
+    }
+
+
+    /**
+     * Sets the depth of SubmodelElements up to which OPC UA nodes are created on startup. A negative value disables
+     * lazy loading.
+     *
+     * @param value The lazy loading depth
+     */
+    public void setLazyLoadingDepth(int value) {
+        lazyLoadingDepth = value;
+    }
+
+
+    /**
+     * Gets the number of seconds after which lazily created nodes that have not been accessed are removed from the
+     * address space again. A value of 0 or less disables eviction. Only relevant if lazy loading is enabled.
+     *
+     * @return The eviction timeout in seconds
+     */
+    public int getLazyLoadingEvictionTimeout() {
+        return lazyLoadingEvictionTimeout;
+    }
+
+
+    /**
+     * Sets the number of seconds after which lazily created nodes that have not been accessed are removed from the
+     * address space again. A value of 0 or less disables eviction.
+     *
+     * @param value The eviction timeout in seconds
+     */
+    public void setLazyLoadingEvictionTimeout(int value) {
+        lazyLoadingEvictionTimeout = value;
+    }
+
+
+    /**
+     * Gets the maximum age in milliseconds of cached values that are used to answer read requests for elements with a
+     * value provider. Cached values are updated whenever a value changes. A value of 0 or less disables the cache,
+     * i.e. every read is forwarded to the service.
+     *
+     * @return The maximum age of cached values in milliseconds
+     */
+    public long getValueCacheMaxAge() {
+        return valueCacheMaxAge;
+    }
+
+
+    /**
+     * Sets the maximum age in milliseconds of cached values that are used to answer read requests. A value of 0 or
+     * less disables the cache.
+     *
+     * @param value The maximum age of cached values in milliseconds
+     */
+    public void setValueCacheMaxAge(long value) {
+        valueCacheMaxAge = value;
+    }
+
+
+    /**
+     * Gets the number of threads used to create the nodes of the submodels on startup. With a value of 1, the
+     * submodels are created sequentially. Values greater than 1 register nodes with the OPC UA SDK from multiple
+     * threads concurrently, which the SDK does not explicitly document to be supported. The resulting address space,
+     * including all NodeIds, does not depend on this value.
+     *
+     * @return The number of threads
+     */
+    public int getAddressSpaceCreationThreads() {
+        return addressSpaceCreationThreads;
+    }
+
+
+    /**
+     * Sets the number of threads used to create the nodes of the submodels on startup.
+     *
+     * @param value The number of threads
+     */
+    public void setAddressSpaceCreationThreads(int value) {
+        addressSpaceCreationThreads = value;
+    }
+
+
     public static Builder builder() {
         return new Builder();
     }
@@ -315,6 +424,30 @@ public class OpcUaEndpointConfig extends EndpointConfig<OpcUaEndpoint> {
             getBuildingInstance().getSupportedAuthentications().add(value);
             return getSelf();
         }
+
+
+        public B lazyLoadingDepth(int value) {
+            getBuildingInstance().setLazyLoadingDepth(value);
+            return getSelf();
+        }
+
+
+        public B lazyLoadingEvictionTimeout(int value) {
+            getBuildingInstance().setLazyLoadingEvictionTimeout(value);
+            return getSelf();
+        }
+
+
+        public B valueCacheMaxAge(long value) {
+            getBuildingInstance().setValueCacheMaxAge(value);
+            return getSelf();
+        }
+
+
+        public B addressSpaceCreationThreads(int value) {
+            getBuildingInstance().setAddressSpaceCreationThreads(value);
+            return getSelf();
+        }
     }
 
     public static class Builder extends AbstractBuilder<OpcUaEndpointConfig, Builder> {
@@ -26,9 +26,7 @@ import com.prosysopc.ua.types.opcua.DictionaryEntryType;
 import com.prosysopc.ua.types.opcua.server.FolderTypeNode;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.AasServiceNodeManager;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.ObjectData;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import opc.i4aas.objecttypes.AASConceptDescriptionType;
 import opc.i4aas.objecttypes.AASReferenceList;
 import opc.i4aas.objecttypes.AASReferenceType;
@@ -44,11 +42,6 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
  */
 public class ConceptDescriptionCreator {
 
-    /**
-     * Maps AAS references to dictionary entry types
-     */
-    private static final Map<Reference, DictionaryEntryType> dictionaryMap = new HashMap<>();
-
     private ConceptDescriptionCreator() {
         throw new IllegalStateException("Class not instantiable");
     }
@@ -88,7 +81,7 @@ public class ConceptDescriptionCreator {
             addIdentifiableData(desriptionNode, c.getId(), c.getAdministration(), name, nodeManager);
             addConceptDescriptionReference(desriptionNode, AasUtils.toReference(c), nodeManager);
             dictEntriesFolder.addComponent(desriptionNode);
-            dictionaryMap.put(AasUtils.toReference(c), desriptionNode);
+            nodeManager.addDictionaryEntry(AasUtils.toReference(c), desriptionNode);
             dictNode = desriptionNode;
 
             nodeManager.addReferable(AasUtils.toReference(c), new ObjectData(c, dictNode));
@@ -101,10 +94,15 @@ public class ConceptDescriptionCreator {
      *
      * @param node The UA node in which the SemanticId should be created
      * @param semanticId The reference of the desired SemanticId
+     * @param nodeManager The corresponding Node Manager
      */
-    public static void addSemanticId(UaNode node, Reference semanticId) {
-        if (dictionaryMap.containsKey(semanticId)) {
-            node.addReference(dictionaryMap.get(semanticId), Identifiers.HasDictionaryEntry, false);
+    public static void addSemanticId(UaNode node, Reference semanticId, AasServiceNodeManager nodeManager) {
+        DictionaryEntryType entry = nodeManager.getDictionaryEntry(semanticId);
+        if (entry != null) {
+            // the dictionary entry is shared, i.e. references may be added from multiple threads when submodels are created in parallel
+            synchronized (entry) {
+                node.addReference(entry, Identifiers.HasDictionaryEntry, false);
+            }
         }
         // if entry not found: perhaps create a new one?
     }
@@ -66,61 +66,109 @@ public class SubmodelCreator {
      */
     public static void addSubmodel(UaNode node, Submodel submodel, AasServiceNodeManager nodeManager)
             throws StatusException, ServiceException, AddressSpaceException, ServiceResultException, ValueFormatException {
+        AASSubmodelType smNode = createSubmodelNode(node, submodel, nodeManager);
+        if (smNode != null) {
+            addSubmodelElements(smNode, submodel, nodeManager);
+            attachSubmodelNode(node, submodel, smNode, nodeManager);
+        }
+    }
+
+
+    /**
+     * Creates the node for a submodel without its submodel elements. The node is not yet added to the address space,
+     * see {@link #attachSubmodelNode(UaNode, Submodel, AASSubmodelType, AasServiceNodeManager)}.
+     *
+     * @param node The desired Node where the submodel should be added later
+     * @param submodel The desired AAS submodel
+     * @param nodeManager The corresponding Node Manager
+     * @return The created submodel node, null if the submodel has no idShort
+     * @throws StatusException If the operation fails
+     */
+    public static AASSubmodelType createSubmodelNode(UaNode node, Submodel submodel, AasServiceNodeManager nodeManager) throws StatusException {
         if (submodel == null) {
             throw new IllegalArgumentException("submodel is null");
         }
 
         String shortId = submodel.getIdShort();
-        if (!shortId.isEmpty()) {
-            String displayName = "Submodel:" + shortId;
-            QualifiedName browseName = UaQualifiedName.from(opc.i4aas.ObjectTypeIds.AASSubmodelType.getNamespaceUri(), shortId)
-                    .toQualifiedName(nodeManager.getNamespaceTable());
-            NodeId nid = nodeManager.createNodeId(node, browseName);
-            if (nodeManager.findNode(nid) != null) {
-                // The NodeId already exists
-                nid = nodeManager.getDefaultNodeId();
-            }
+        if (shortId.isEmpty()) {
+            LOGGER.warn("addSubmodel: IdShort is empty!");
+            return null;
+        }
 
-            LOGGER.trace("addSubmodel: create Submodel {}; NodeId: {}; Kind {}", submodel.getIdShort(), nid, submodel.getKind());
-            AASSubmodelType smNode = nodeManager.createInstance(AASSubmodelType.class, nid, browseName, LocalizedText.english(displayName));
+        String displayName = "Submodel:" + shortId;
+        QualifiedName browseName = UaQualifiedName.from(opc.i4aas.ObjectTypeIds.AASSubmodelType.getNamespaceUri(), shortId)
+                .toQualifiedName(nodeManager.getNamespaceTable());
+        NodeId nid = nodeManager.createNodeId(node, browseName);
+        if (nodeManager.findNode(nid) != null) {
+            // The NodeId already exists
+            nid = nodeManager.getDefaultNodeId();
+        }
 
-            IdentifiableCreator.addIdentifiable(smNode, submodel.getId(), submodel.getAdministration(), submodel.getCategory(), nodeManager);
+        LOGGER.trace("addSubmodel: create Submodel {}; NodeId: {}; Kind {}", submodel.getIdShort(), nid, submodel.getKind());
+        AASSubmodelType smNode = nodeManager.createInstance(AASSubmodelType.class, nid, browseName, LocalizedText.english(displayName));
 
-            setKind(submodel.getKind(), smNode, nodeManager);
+        IdentifiableCreator.addIdentifiable(smNode, submodel.getId(), submodel.getAdministration(), submodel.getCategory(), nodeManager);
 
-            // DataSpecifications
-            EmbeddedDataSpecificationCreator.addEmbeddedDataSpecifications(smNode, submodel.getEmbeddedDataSpecifications(), nodeManager);
+        setKind(submodel.getKind(), smNode, nodeManager);
 
-            // Qualifiers
-            List<Qualifier> qualifiers = submodel.getQualifiers();
-            setQualifierData(qualifiers, smNode, nodeManager);
+        // DataSpecifications
+        EmbeddedDataSpecificationCreator.addEmbeddedDataSpecifications(smNode, submodel.getEmbeddedDataSpecifications(), nodeManager);
 
-            // SemanticId
-            if (submodel.getSemanticId() != null) {
-                ConceptDescriptionCreator.addSemanticId(smNode, submodel.getSemanticId());
-            }
+        // Qualifiers
+        List<Qualifier> qualifiers = submodel.getQualifiers();
+        setQualifierData(qualifiers, smNode, nodeManager);
 
-            // Description
-            DescriptionCreator.addDescriptions(smNode, submodel.getDescription());
+        // SemanticId
+        if (submodel.getSemanticId() != null) {
+            ConceptDescriptionCreator.addSemanticId(smNode, submodel.getSemanticId(), nodeManager);
+        }
 
-            Reference refSubmodel = AasUtils.toReference(submodel);
+        // Description
+        DescriptionCreator.addDescriptions(smNode, submodel.getDescription());
 
-            // SubmodelElements
-            SubmodelElementCreator.addSubmodelElements(smNode, submodel.getSubmodelElements(), submodel, refSubmodel, nodeManager);
+        if ((AasServiceNodeManager.VALUES_READ_ONLY) && (smNode.getKindNode() != null)) {
+            smNode.getKindNode().setAccessLevel(AccessLevelType.of(AccessLevelType.Options.CurrentRead));
+        }
 
-            if ((AasServiceNodeManager.VALUES_READ_ONLY) && (smNode.getKindNode() != null)) {
-                smNode.getKindNode().setAccessLevel(AccessLevelType.of(AccessLevelType.Options.CurrentRead));
-            }
+        return smNode;
+    }
 
-            nodeManager.addSubmodelOpcUA(AasUtils.toReference(submodel), smNode);
 
-            node.addComponent(smNode);
+    /**
+     * Adds the submodel elements of a submodel to the given submodel node. As this only affects the given submodel
+     * node, this may be called for different submodels in parallel.
+     *
+     * @param smNode The node of the submodel
+     * @param submodel The desired AAS submodel
+     * @param nodeManager The corresponding Node Manager
+     * @throws StatusException If the operation fails
+     * @throws ServiceException If the operation fails
+     * @throws AddressSpaceException If the operation fails
+     * @throws ServiceResultException If the operation fails
+     * @throws ValueFormatException The data format of the value is invalid
+     */
+    public static void addSubmodelElements(AASSubmodelType smNode, Submodel submodel, AasServiceNodeManager nodeManager)
+            throws StatusException, ServiceException, AddressSpaceException, ServiceResultException, ValueFormatException {
+        Reference refSubmodel = AasUtils.toReference(submodel);
+        SubmodelElementCreator.addSubmodelElements(smNode, submodel.getSubmodelElements(), submodel, refSubmodel, nodeManager);
+    }
 
-            nodeManager.addReferable(AasUtils.toReference(submodel), new ObjectData(submodel, smNode));
-        }
-        else {
-            LOGGER.warn("addSubmodel: IdShort is empty!");
-        }
+
+    /**
+     * Adds a submodel node created with {@link #createSubmodelNode(UaNode, Submodel, AasServiceNodeManager)} to the
+     * address space.
+     *
+     * @param node The desired Node where the submodel should be added
+     * @param submodel The desired AAS submodel
+     * @param smNode The node of the submodel
+     * @param nodeManager The corresponding Node Manager
+     */
+    public static void attachSubmodelNode(UaNode node, Submodel submodel, AASSubmodelType smNode, AasServiceNodeManager nodeManager) {
+        nodeManager.addSubmodelOpcUA(AasUtils.toReference(submodel), smNode);
+
+        node.addComponent(smNode);
+
+        nodeManager.addReferable(AasUtils.toReference(submodel), new ObjectData(submodel, smNode));
     }
 
 
@@ -95,6 +95,9 @@ public class SubmodelElementCreator {
     public static void addSubmodelElements(UaNode node, Collection<SubmodelElement> elements, Reference parentRef, Submodel submodel, boolean ordered,
                                            AasServiceNodeManager nodeManager)
             throws StatusException, ServiceException, AddressSpaceException, ServiceResultException, ValueFormatException {
+        if (nodeManager.deferSubmodelElements(node, parentRef, submodel, false)) {
+            return;
+        }
         if ((elements != null) && (!elements.isEmpty())) {
             for (SubmodelElement elem: elements) {
                 Reference elementRef = ReferenceBuilder.with(parentRef).element(elem).build();
@@ -175,7 +178,7 @@ public class SubmodelElementCreator {
 
             // SemanticId
             if (element.getSemanticId() != null) {
-                ConceptDescriptionCreator.addSemanticId(node, element.getSemanticId());
+                ConceptDescriptionCreator.addSemanticId(node, element.getSemanticId(), nodeManager);
             }
 
             // Qualifiers
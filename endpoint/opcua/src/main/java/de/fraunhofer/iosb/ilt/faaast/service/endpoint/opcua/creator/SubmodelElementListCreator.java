@@ -150,6 +150,9 @@ public class SubmodelElementListCreator extends SubmodelElementCreator {
 
     private static void addSubmodelElementList(UaNode node, List<SubmodelElement> elements, Submodel submodel, Reference parentRef, AasServiceNodeManager nodeManager)
             throws StatusException, ServiceException, AddressSpaceException, ServiceResultException, ValueFormatException {
+        if (nodeManager.deferSubmodelElements(node, parentRef, submodel, true)) {
+            return;
+        }
         if ((elements != null) && (!elements.isEmpty())) {
             for (int i = 0; i < elements.size(); i++) {
                 Reference elementRef = ReferenceBuilder.with(parentRef).index(i).build();
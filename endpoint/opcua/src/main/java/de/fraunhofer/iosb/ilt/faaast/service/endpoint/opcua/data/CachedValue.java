@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+
+
+/**
+ * Class with a cached value of a SubmodelElement and the time it has been obtained.
+ */
+public class CachedValue {
+
+    private final ElementValue value;
+    private final long timestamp;
+
+    /**
+     * Creates a new instance of CachedValue
+     *
+     * @param value The value
+     * @param timestamp The time the value has been obtained in milliseconds
+     */
+    public CachedValue(ElementValue value, long timestamp) {
+        this.value = value;
+        this.timestamp = timestamp;
+    }
+
+
+    /**
+     * Gets the value.
+     *
+     * @return The value
+     */
+    public ElementValue getValue() {
+        return value;
+    }
+
+
+    /**
+     * Gets the time the value has been obtained in milliseconds.
+     *
+     * @return The timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data;
+
+import com.prosysopc.ua.nodes.UaNode;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+
+/**
+ * Class with data for nodes whose child SubmodelElements are created lazily, i.e. when the node is browsed for the
+ * first time.
+ */
+public class LazyNodeData {
+
+    private final UaNode node;
+    private final Reference reference;
+    private final Submodel submodel;
+    private final boolean ordered;
+    private final List<Reference> children;
+    private volatile boolean materialized;
+    private boolean materializing;
+    private volatile long lastAccess;
+
+    /**
+     * Creates a new instance of LazyNodeData
+     *
+     * @param node The node the child SubmodelElements are added to
+     * @param reference The reference to the AAS element containing the child SubmodelElements
+     * @param submodel The corresponding Submodel
+     * @param ordered Specifies whether the child SubmodelElements are from a list (true) or not (false)
+     */
+    public LazyNodeData(UaNode node, Reference reference, Submodel submodel, boolean ordered) {
+        this.node = node;
+        this.reference = reference;
+        this.submodel = submodel;
+        this.ordered = ordered;
+        this.children = new CopyOnWriteArrayList<>();
+        this.materialized = false;
+        this.materializing = false;
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+
+    /**
+     * Gets the node the child SubmodelElements are added to.
+     *
+     * @return The node
+     */
+    public UaNode getNode() {
+        return node;
+    }
+
+
+    /**
+     * Gets the reference to the AAS element containing the child SubmodelElements.
+     *
+     * @return The reference
+     */
+    public Reference getReference() {
+        return reference;
+    }
+
+
+    /**
+     * Gets the Submodel
+     *
+     * @return The desired Submodel
+     */
+    public Submodel getSubmodel() {
+        return submodel;
+    }
+
+
+    /**
+     * Specifies whether the child SubmodelElements are from a list.
+     *
+     * @return True if the child SubmodelElements are from a list, false otherwise
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+
+    /**
+     * Gets the references of the child SubmodelElements that have been created.
+     *
+     * @return The references of the created child SubmodelElements
+     */
+    public List<Reference> getChildren() {
+        return children;
+    }
+
+
+    /**
+     * Specifies whether the child SubmodelElements have been created.
+     *
+     * @return True if the child SubmodelElements have been created, false otherwise
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+
+    /**
+     * Sets whether the child SubmodelElements have been created.
+     *
+     * @param value True if the child SubmodelElements have been created, false otherwise
+     */
+    public void setMaterialized(boolean value) {
+        materialized = value;
+    }
+
+
+    /**
+     * Specifies whether the child SubmodelElements are currently being created. Must only be accessed while holding
+     * the lock of this object.
+     *
+     * @return True if the child SubmodelElements are currently being created, false otherwise
+     */
+    public boolean isMaterializing() {
+        return materializing;
+    }
+
+
+    /**
+     * Sets whether the child SubmodelElements are currently being created. Must only be accessed while holding the
+     * lock of this object.
+     *
+     * @param value True if the child SubmodelElements are currently being created, false otherwise
+     */
+    public void setMaterializing(boolean value) {
+        materializing = value;
+    }
+
+
+    /**
+     * Gets the time of the last access in milliseconds.
+     *
+     * @return The time of the last access
+     */
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+
+    /**
+     * Marks the node as accessed now.
+     */
+    public void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+}
@@ -35,13 +35,11 @@ import com.prosysopc.ua.stack.utils.NumericRange;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.AasServiceNodeManager;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.OpcUaEndpoint;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.ValueConverter;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.CachedValue;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.SubmodelElementData;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
-import org.eclipse.digitaltwin.aas4j.v3.model.Property;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,19 +101,22 @@ public class AasServiceIoManagerListener implements IoManagerListener {
 
 
     @Override
-    public boolean onReadValue(ServiceContext sc, NodeId nodeId, UaValueNode uvn, NumericRange nr, TimestampsToReturn ttr, DateTime dt, DataValue dv) throws StatusException {
+    public boolean onReadValue(ServiceContext sc, NodeId nodeId, UaValueNode uvn, NumericRange nr, TimestampsToReturn ttr, DateTime minTimestamp, DataValue dv)
+            throws StatusException {
         boolean rv = false;
         SubmodelElementData data = nodeManager.getAasData(nodeId);
         try {
             if ((data != null) && (endpoint.hasValueProvider(data.getReference()))) {
                 LOGGER.debug("onReadValue: Node {}", nodeId);
                 if (data.getType() == SubmodelElementData.Type.PROPERTY_VALUE) {
-                    SubmodelElement elem = endpoint.readValue(data.getSubmodel().getId(), data.getReference());
-                    if ((elem != null) && (Property.class.isAssignableFrom(elem.getClass()))) {
-                        PropertyValue typedValue = ElementValueMapper.toValue((Property) elem, PropertyValue.class);
+                    // minTimestamp is derived from the maxAge parameter of the read request
+                    CachedValue value = endpoint.readElementValue(data.getSubmodel().getId(), data.getReference(),
+                            minTimestamp != null ? minTimestamp.getTimeInMillis() : 0);
+                    if ((value != null) && (value.getValue() instanceof PropertyValue)) {
+                        PropertyValue typedValue = (PropertyValue) value.getValue();
                         dv.setValue(new Variant(ValueConverter.convertTypedValue(typedValue.getValue())));
                         dv.setStatusCode(StatusCode.GOOD);
-                        dv.setSourceTimestamp(DateTime.currentTime());
+                        dv.setSourceTimestamp(DateTime.fromMillis(value.getTimestamp()));
                         dv.setServerTimestamp(DateTime.currentTime());
                         // return true to indicate that the read call was handled
                         rv = true;
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua;
+
+import com.prosysopc.ua.ServiceException;
+import com.prosysopc.ua.StatusException;
+import com.prosysopc.ua.client.UaClient;
+import com.prosysopc.ua.stack.builtintypes.DataValue;
+import com.prosysopc.ua.stack.builtintypes.NodeId;
+import com.prosysopc.ua.stack.common.ServiceResultException;
+import com.prosysopc.ua.stack.core.Identifiers;
+import com.prosysopc.ua.stack.core.ReferenceDescription;
+import com.prosysopc.ua.stack.core.UserTokenType;
+import com.prosysopc.ua.stack.transport.security.SecurityMode;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestConstants;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestService;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestUtils;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.SetSubmodelElementValueByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.PortHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+
+/**
+ * Test class for the OPC UA Endpoint with lazy loading of the address space enabled. All SubmodelElements are created
+ * lazily, i.e. only submodel nodes exist on startup.
+ */
+public class OpcUaEndpointLazyLoadingTest {
+
+    private static final int EVICTION_TIMEOUT_SECONDS = 1;
+    private static final long EVICTION_WAIT_MILLIS = 3500;
+    private static final int CONCURRENT_BROWSES = 4;
+
+    private static String endpointUrl;
+    private static TestService service;
+
+    @BeforeClass
+    public static void startTest() throws ConfigurationException, Exception {
+        int port = PortHelper.findFreePort();
+        endpointUrl = "opc.tcp://localhost:" + port;
+        OpcUaEndpointConfig config = new OpcUaEndpointConfig.Builder()
+                .tcpPort(port)
+                .secondsTillShutdown(0)
+                .supportedAuthentication(UserTokenType.Anonymous)
+                .serverCertificateBasePath(TestConstants.SERVER_CERT_PATH)
+                .userCertificateBasePath(TestConstants.USER_CERT_PATH)
+                .discoveryServerUrl(null)
+                .lazyLoadingDepth(0)
+                .lazyLoadingEvictionTimeout(EVICTION_TIMEOUT_SECONDS)
+                .build();
+        service = new TestService(config, null, false);
+        service.start();
+    }
+
+
+    @AfterClass
+    public static void stopTest() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+
+    @Test
+    public void testLazyBrowse() throws Exception {
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_DOC_NODE_NAME);
+        Assert.assertNotNull("Submodel Documentation Node not found", submodelNode);
+        NodeId collectionNode = findChild(client, submodelNode, TestConstants.OPERATING_MANUAL_NAME);
+        Assert.assertNotNull("OperatingManual Node not created when browsing the submodel", collectionNode);
+        NodeId titleNode = findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_PROPERTY_TITLE_NAME);
+        Assert.assertNotNull("Title Node not created when browsing the collection", titleNode);
+        Assert.assertNotNull("DigitalFile_PDF Node not created when browsing the collection",
+                findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_FILE_NAME));
+        DataValue value = client.readValue(findChild(client, titleNode, TestConstants.PROPERTY_VALUE_NAME));
+        Assert.assertTrue(value.getStatusCode().isGood());
+        Assert.assertEquals("OperatingManual", value.getValue().toString());
+        // browsing again must neither fail nor create the children a second time
+        Assert.assertEquals(getBrowseNames(client, collectionNode), getBrowseNames(client, collectionNode));
+        client.disconnect();
+    }
+
+
+    @Test
+    public void testLazyBrowseConcurrentReadsCurrentState() throws Exception {
+        String newValue = "4711";
+        Response response = service.execute(SetSubmodelElementValueByPathRequest.builder()
+                .submodelId(TestConstants.SUBMODEL_TECH_DATA_NAME)
+                .path(TestConstants.MAX_ROTATION_SPEED_NAME)
+                .value(PropertyValue.of(Datatype.INTEGER, newValue))
+                .build());
+        Assert.assertEquals(de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode.SUCCESS_NO_CONTENT, response.getStatusCode());
+
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_TECH_DATA_NODE_NAME);
+        Assert.assertNotNull("Submodel TechnicalData Node not found", submodelNode);
+        // concurrent first browses must all wait for the children to be created completely
+        List<Callable<Set<String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_BROWSES; i++) {
+            tasks.add(() -> getBrowseNames(client, submodelNode));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BROWSES);
+        try {
+            List<Set<String>> results = new ArrayList<>();
+            for (Future<Set<String>> future: executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            Assert.assertTrue(results.get(0).contains(TestConstants.MAX_ROTATION_SPEED_NAME));
+            Assert.assertTrue(results.get(0).contains("DecimalProperty"));
+            for (Set<String> result: results) {
+                Assert.assertEquals(results.get(0), result);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        // the node is created with the value at the time of browsing, not at the time of startup
+        NodeId propertyNode = findChild(client, submodelNode, TestConstants.MAX_ROTATION_SPEED_NAME);
+        DataValue value = client.readValue(findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME));
+        Assert.assertTrue(value.getStatusCode().isGood());
+        Assert.assertEquals(newValue, value.getValue().getValue().toString());
+        client.disconnect();
+    }
+
+
+    @Test
+    public void testEvictionAndRebrowse() throws Exception {
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_OPER_DATA_NODE_NAME);
+        Assert.assertNotNull("Submodel OperationalData Node not found", submodelNode);
+        NodeId propertyNode = findChild(client, submodelNode, TestConstants.ROTATION_SPEED_NAME);
+        Assert.assertNotNull("RotationSpeed Node not created when browsing the submodel", propertyNode);
+        NodeId valueNode = findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME);
+        Assert.assertTrue(isReadable(client, valueNode));
+
+        // no access to the submodel or its children while waiting, so the children are evicted
+        Thread.sleep(EVICTION_WAIT_MILLIS);
+        Assert.assertFalse("RotationSpeed Value Node has not been evicted", isReadable(client, valueNode));
+
+        // browsing again creates the children again
+        propertyNode = findChild(client, submodelNode, TestConstants.ROTATION_SPEED_NAME);
+        Assert.assertNotNull("RotationSpeed Node not created when browsing the submodel again", propertyNode);
+        valueNode = findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME);
+        Assert.assertTrue(isReadable(client, valueNode));
+        client.disconnect();
+    }
+
+
+    private static UaClient connect() throws Exception {
+        UaClient client = new UaClient(endpointUrl);
+        client.setSecurityMode(SecurityMode.NONE);
+        TestUtils.initialize(client);
+        client.connect();
+        return client;
+    }
+
+
+    private static NodeId getEnvironmentNode(UaClient client) throws ServiceException, StatusException, ServiceResultException {
+        return findChild(client, Identifiers.ObjectsFolder, TestConstants.AAS_ENVIRONMENT_NAME);
+    }
+
+
+    private static NodeId findChild(UaClient client, NodeId parent, String browseName) throws ServiceException, StatusException, ServiceResultException {
+        for (ReferenceDescription ref: client.getAddressSpace().browse(parent)) {
+            if (ref.getBrowseName().getName().equals(browseName)) {
+                return client.getAddressSpace().getNamespaceTable().toNodeId(ref.getNodeId());
+            }
+        }
+        return null;
+    }
+
+
+    private static Set<String> getBrowseNames(UaClient client, NodeId node) throws ServiceException, StatusException {
+        return client.getAddressSpace().browse(node).stream()
+                .map(x -> x.getBrowseName().getName())
+                .collect(Collectors.toSet());
+    }
+
+
+    private static boolean isReadable(UaClient client, NodeId node) {
+        try {
+            return client.readValue(node).getStatusCode().isGood();
+        }
+        catch (ServiceException | StatusException e) {
+            return false;
+        }
+    }
+}
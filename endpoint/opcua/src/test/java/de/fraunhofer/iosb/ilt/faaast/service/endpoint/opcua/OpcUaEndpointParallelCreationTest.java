@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua;
+
+import com.prosysopc.ua.ServiceException;
+import com.prosysopc.ua.StatusException;
+import com.prosysopc.ua.client.UaClient;
+import com.prosysopc.ua.stack.builtintypes.NodeId;
+import com.prosysopc.ua.stack.common.ServiceResultException;
+import com.prosysopc.ua.stack.core.Identifiers;
+import com.prosysopc.ua.stack.core.ReferenceDescription;
+import com.prosysopc.ua.stack.core.UserTokenType;
+import com.prosysopc.ua.stack.transport.security.SecurityMode;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestConstants;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestService;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestUtils;
+import de.fraunhofer.iosb.ilt.faaast.service.util.PortHelper;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * Test class for creating the address space of the OPC UA Endpoint with multiple threads.
+ */
+public class OpcUaEndpointParallelCreationTest {
+
+    @Test
+    public void testSameAddressSpaceWithMultipleThreads() throws Exception {
+        Map<NodeId, List<String>> sequential = createAndBrowseAddressSpace(1);
+        Map<NodeId, List<String>> parallel = createAndBrowseAddressSpace(4);
+        Assert.assertFalse(sequential.isEmpty());
+        Assert.assertEquals(sequential.keySet(), parallel.keySet());
+        for (Map.Entry<NodeId, List<String>> entry: sequential.entrySet()) {
+            Assert.assertEquals("references of node " + entry.getKey(), entry.getValue(), parallel.get(entry.getKey()));
+        }
+    }
+
+
+    /**
+     * Starts a service with the full AAS environment, browses all nodes below the AAS environment node and stops the
+     * service again.
+     *
+     * @param threads the number of threads to create the address space with
+     * @return the browsed nodes with their forward references, formatted as "referenceType|browseName|targetNodeId"
+     *         and sorted
+     * @throws Exception if starting the service or browsing fails
+     */
+    private static Map<NodeId, List<String>> createAndBrowseAddressSpace(int threads) throws Exception {
+        int port = PortHelper.findFreePort();
+        OpcUaEndpointConfig config = new OpcUaEndpointConfig.Builder()
+                .tcpPort(port)
+                .secondsTillShutdown(0)
+                .supportedAuthentication(UserTokenType.Anonymous)
+                .serverCertificateBasePath(TestConstants.SERVER_CERT_PATH)
+                .userCertificateBasePath(TestConstants.USER_CERT_PATH)
+                .discoveryServerUrl(null)
+                .addressSpaceCreationThreads(threads)
+                .build();
+        TestService service = new TestService(config, null, true);
+        service.start();
+        UaClient client = new UaClient("opc.tcp://localhost:" + port);
+        try {
+            client.setSecurityMode(SecurityMode.NONE);
+            TestUtils.initialize(client);
+            client.connect();
+            NodeId environmentNode = null;
+            for (ReferenceDescription ref: client.getAddressSpace().browse(Identifiers.ObjectsFolder)) {
+                if (ref.getBrowseName().getName().equals(TestConstants.AAS_ENVIRONMENT_NAME)) {
+                    environmentNode = client.getAddressSpace().getNamespaceTable().toNodeId(ref.getNodeId());
+                }
+            }
+            Assert.assertNotNull("AASEnvironment Node not found", environmentNode);
+            return browseRecursive(client, environmentNode);
+        }
+        finally {
+            client.disconnect();
+            service.stop();
+        }
+    }
+
+
+    private static Map<NodeId, List<String>> browseRecursive(UaClient client, NodeId root) throws ServiceException, StatusException, ServiceResultException {
+        Map<NodeId, List<String>> retval = new HashMap<>();
+        Deque<NodeId> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            NodeId node = pending.poll();
+            if (retval.containsKey(node)) {
+                continue;
+            }
+            List<String> references = new ArrayList<>();
+            for (ReferenceDescription ref: client.getAddressSpace().browse(node)) {
+                if (!ref.getIsForward()) {
+                    continue;
+                }
+                NodeId target = client.getAddressSpace().getNamespaceTable().toNodeId(ref.getNodeId());
+                references.add(ref.getReferenceTypeId() + "|" + ref.getBrowseName() + "|" + target);
+                // only follow the nodes of the AAS namespace, e.g. not the type definitions
+                if (target.getNamespaceIndex() == root.getNamespaceIndex()) {
+                    pending.add(target);
+                }
+            }
+            Collections.sort(references);
+            retval.put(node, references);
+        }
+        return retval;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua;
+
+import com.prosysopc.ua.ServiceException;
+import com.prosysopc.ua.StatusException;
+import com.prosysopc.ua.client.UaClient;
+import com.prosysopc.ua.stack.builtintypes.DataValue;
+import com.prosysopc.ua.stack.builtintypes.NodeId;
+import com.prosysopc.ua.stack.common.ServiceResultException;
+import com.prosysopc.ua.stack.core.Identifiers;
+import com.prosysopc.ua.stack.core.ReferenceDescription;
+import com.prosysopc.ua.stack.core.UserTokenType;
+import com.prosysopc.ua.stack.transport.security.SecurityMode;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestConstants;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestService;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestUtils;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.Response;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetSubmodelElementByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.PostSubmodelElementRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.PutSubmodelElementByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetSubmodelElementByPathResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.PortHelper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.eclipse.digitaltwin.aas4j.v3.model.AasSubmodelElements;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+
+/**
+ * Test class for updating existing nodes of the OPC UA Endpoint in place, i.e. keeping the NodeIds of unchanged nodes.
+ */
+public class OpcUaEndpointUpdateTest {
+
+    private static final long UPDATE_TIMEOUT = 5000;
+    private static final long POLL_INTERVAL = 50;
+
+    private static String endpointUrl;
+    private static TestService service;
+
+    @BeforeClass
+    public static void startTest() throws ConfigurationException, Exception {
+        int port = PortHelper.findFreePort();
+        endpointUrl = "opc.tcp://localhost:" + port;
+        OpcUaEndpointConfig config = new OpcUaEndpointConfig.Builder()
+                .tcpPort(port)
+                .secondsTillShutdown(0)
+                .supportedAuthentication(UserTokenType.Anonymous)
+                .serverCertificateBasePath(TestConstants.SERVER_CERT_PATH)
+                .userCertificateBasePath(TestConstants.USER_CERT_PATH)
+                .discoveryServerUrl(null)
+                .build();
+        service = new TestService(config, null, false);
+        service.start();
+    }
+
+
+    @AfterClass
+    public static void stopTest() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+
+    @Test
+    public void testValueOnlyUpdateKeepsNodeId() throws Exception {
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_OPER_DATA_NODE_NAME);
+        NodeId propertyNode = findChild(client, submodelNode, TestConstants.ROTATION_SPEED_NAME);
+        NodeId valueNode = findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME);
+        Assert.assertNotNull("RotationSpeed Value Node not found", valueNode);
+
+        Property property = (Property) getElement(TestConstants.SUBMODEL_OPER_DATA_NAME, TestConstants.ROTATION_SPEED_NAME);
+        property.setValue("1234");
+        putElement(TestConstants.SUBMODEL_OPER_DATA_NAME, TestConstants.ROTATION_SPEED_NAME, property);
+
+        // the existing node must show the new value
+        waitFor(() -> "1234".equals(readValue(client, valueNode)));
+        Assert.assertEquals(propertyNode, findChild(client, submodelNode, TestConstants.ROTATION_SPEED_NAME));
+        Assert.assertEquals(valueNode, findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME));
+        client.disconnect();
+    }
+
+
+    @Test
+    public void testMetadataUpdateIsApplied() throws Exception {
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_TECH_DATA_NODE_NAME);
+        Assert.assertNotNull("MaxRotationSpeed Node not found", findChild(client, submodelNode, TestConstants.MAX_ROTATION_SPEED_NAME));
+
+        String newCategory = "CONSTANT";
+        SubmodelElement element = getElement(TestConstants.SUBMODEL_TECH_DATA_NAME, TestConstants.MAX_ROTATION_SPEED_NAME);
+        Assert.assertNotEquals(newCategory, element.getCategory());
+        element.setCategory(newCategory);
+        putElement(TestConstants.SUBMODEL_TECH_DATA_NAME, TestConstants.MAX_ROTATION_SPEED_NAME, element);
+
+        waitFor(() -> {
+            NodeId propertyNode = findChild(client, submodelNode, TestConstants.MAX_ROTATION_SPEED_NAME);
+            return (propertyNode != null) && newCategory.equals(readValue(client, findChild(client, propertyNode, TestConstants.CATEGORY_NAME)));
+        });
+        NodeId propertyNode = findChild(client, submodelNode, TestConstants.MAX_ROTATION_SPEED_NAME);
+        Assert.assertEquals(((Property) element).getValue(), readValue(client, findChild(client, propertyNode, TestConstants.PROPERTY_VALUE_NAME)));
+        client.disconnect();
+    }
+
+
+    @Test
+    public void testStructuralUpdateKeepsNodeIdsOfRemainingNodes() throws Exception {
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_DOC_NODE_NAME);
+        NodeId collectionNode = findChild(client, submodelNode, TestConstants.OPERATING_MANUAL_NAME);
+        NodeId titleNode = findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_PROPERTY_TITLE_NAME);
+        Assert.assertNotNull("Title Node not found", titleNode);
+        Assert.assertNotNull("DigitalFile_PDF Node not found", findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_FILE_NAME));
+
+        // add one child and remove another one
+        String newIdShort = "Version";
+        SubmodelElementCollection collection = (SubmodelElementCollection) getElement(TestConstants.SUBMODEL_DOC_NAME, TestConstants.OPERATING_MANUAL_NAME);
+        List<SubmodelElement> children = new ArrayList<>(collection.getValue());
+        children.removeIf(x -> TestConstants.SUBMODEL_DOC_FILE_NAME.equals(x.getIdShort()));
+        children.add(new DefaultProperty.Builder()
+                .idShort(newIdShort)
+                .valueType(DataTypeDefXsd.STRING)
+                .value("1.0")
+                .build());
+        collection.setValue(children);
+        putElement(TestConstants.SUBMODEL_DOC_NAME, TestConstants.OPERATING_MANUAL_NAME, collection);
+
+        waitFor(() -> findChild(client, collectionNode, newIdShort) != null);
+        Assert.assertNull(findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_FILE_NAME));
+        Assert.assertEquals(collectionNode, findChild(client, submodelNode, TestConstants.OPERATING_MANUAL_NAME));
+        Assert.assertEquals(titleNode, findChild(client, collectionNode, TestConstants.SUBMODEL_DOC_PROPERTY_TITLE_NAME));
+        client.disconnect();
+    }
+
+
+    @Test
+    public void testListReorderKeepsNodeIds() throws Exception {
+        String listIdShort = "ReorderedList";
+        Response response = service.execute(PostSubmodelElementRequest.builder()
+                .submodelId(TestConstants.SUBMODEL_TECH_DATA_NAME)
+                .submodelElement(new DefaultSubmodelElementList.Builder()
+                        .idShort(listIdShort)
+                        .typeValueListElement(AasSubmodelElements.PROPERTY)
+                        .valueTypeListElement(DataTypeDefXsd.STRING)
+                        .value(newListElement("first"))
+                        .value(newListElement("second"))
+                        .build())
+                .build());
+        Assert.assertEquals(StatusCode.SUCCESS_CREATED, response.getStatusCode());
+
+        UaClient client = connect();
+        NodeId submodelNode = findChild(client, getEnvironmentNode(client), TestConstants.SUBMODEL_TECH_DATA_NODE_NAME);
+        waitFor(() -> findChild(client, submodelNode, listIdShort) != null);
+        NodeId listNode = findChild(client, submodelNode, listIdShort);
+        Map<NodeId, String> oldValues = readListValues(client, listNode);
+        Assert.assertEquals(2, oldValues.size());
+
+        SubmodelElementList list = (SubmodelElementList) getElement(TestConstants.SUBMODEL_TECH_DATA_NAME, listIdShort);
+        List<SubmodelElement> elements = new ArrayList<>(list.getValue());
+        list.setValue(List.of(elements.get(1), elements.get(0)));
+        putElement(TestConstants.SUBMODEL_TECH_DATA_NAME, listIdShort, list);
+
+        // the nodes of the list elements are identified by their index and get the values of their new elements
+        waitFor(() -> !oldValues.equals(readListValues(client, listNode)));
+        Map<NodeId, String> newValues = readListValues(client, listNode);
+        Assert.assertEquals(oldValues.keySet(), newValues.keySet());
+        for (Map.Entry<NodeId, String> entry: oldValues.entrySet()) {
+            String expected = "first".equals(entry.getValue()) ? "second" : "first";
+            Assert.assertEquals(expected, newValues.get(entry.getKey()));
+        }
+        Assert.assertEquals(listNode, findChild(client, submodelNode, listIdShort));
+        client.disconnect();
+    }
+
+
+    private static Property newListElement(String value) {
+        return new DefaultProperty.Builder()
+                .valueType(DataTypeDefXsd.STRING)
+                .value(value)
+                .build();
+    }
+
+
+    private static Map<NodeId, String> readListValues(UaClient client, NodeId listNode) throws ServiceException, StatusException, ServiceResultException {
+        Map<NodeId, String> retval = new HashMap<>();
+        for (ReferenceDescription ref: client.getAddressSpace().browse(listNode)) {
+            if (Identifiers.HasOrderedComponent.equals(ref.getReferenceTypeId())) {
+                NodeId elementNode = client.getAddressSpace().getNamespaceTable().toNodeId(ref.getNodeId());
+                retval.put(elementNode, readValue(client, findChild(client, elementNode, TestConstants.PROPERTY_VALUE_NAME)));
+            }
+        }
+        return retval;
+    }
+
+
+    private static SubmodelElement getElement(String submodelId, String path) {
+        Response response = service.execute(GetSubmodelElementByPathRequest.builder()
+                .submodelId(submodelId)
+                .path(path)
+                .build());
+        Assert.assertEquals(StatusCode.SUCCESS, response.getStatusCode());
+        // copy to make sure the element is not shared with the persistence or the endpoint
+        return DeepCopyHelper.deepCopy(((GetSubmodelElementByPathResponse) response).getPayload());
+    }
+
+
+    private static void putElement(String submodelId, String path, SubmodelElement element) {
+        Response response = service.execute(PutSubmodelElementByPathRequest.builder()
+                .submodelId(submodelId)
+                .path(path)
+                .submodelElement(element)
+                .build());
+        Assert.assertEquals(StatusCode.SUCCESS_NO_CONTENT, response.getStatusCode());
+    }
+
+
+    private static void waitFor(Callable<Boolean> condition) throws Exception {
+        long timeout = System.currentTimeMillis() + UPDATE_TIMEOUT;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > timeout) {
+                Assert.fail("address space not updated within timeout");
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+
+    private static UaClient connect() throws Exception {
+        UaClient client = new UaClient(endpointUrl);
+        client.setSecurityMode(SecurityMode.NONE);
+        TestUtils.initialize(client);
+        client.connect();
+        return client;
+    }
+
+
+    private static NodeId getEnvironmentNode(UaClient client) throws ServiceException, StatusException, ServiceResultException {
+        return findChild(client, Identifiers.ObjectsFolder, TestConstants.AAS_ENVIRONMENT_NAME);
+    }
+
+
+    private static NodeId findChild(UaClient client, NodeId parent, String browseName) throws ServiceException, StatusException, ServiceResultException {
+        if (parent == null) {
+            return null;
+        }
+        for (ReferenceDescription ref: client.getAddressSpace().browse(parent)) {
+            if (ref.getBrowseName().getName().equals(browseName)) {
+                return client.getAddressSpace().getNamespaceTable().toNodeId(ref.getNodeId());
+            }
+        }
+        return null;
+    }
+
+
+    private static String readValue(UaClient client, NodeId node) throws ServiceException, StatusException {
+        if (node == null) {
+            return null;
+        }
+        DataValue value = client.readValue(node);
+        return value.getStatusCode().isGood() && !value.getValue().isEmpty()
+                ? value.getValue().getValue().toString()
+                : null;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.data.CachedValue;
+import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.helper.TestConstants;
+import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.StatusCode;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel.GetSubmodelElementByPathRequest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.GetSubmodelElementByPathResponse;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Test class for the value cache of the OPC UA Endpoint.
+ */
+public class OpcUaEndpointValueCacheTest {
+
+    private static final String SUBMODEL_ID = "http://example.org/submodel";
+    private static final long MAX_AGE = 60000;
+
+    private ServiceContext service;
+    private AtomicReference<String> currentValue;
+
+    @Before
+    public void init() {
+        currentValue = new AtomicReference<>("1");
+        service = mock(ServiceContext.class);
+        when(service.getMessageBus()).thenReturn(mock(MessageBus.class));
+        when(service.execute(any(GetSubmodelElementByPathRequest.class))).thenAnswer(x -> GetSubmodelElementByPathResponse.builder()
+                .statusCode(StatusCode.SUCCESS)
+                .payload(new DefaultProperty.Builder()
+                        .idShort("Property")
+                        .valueType(DataTypeDefXsd.INT)
+                        .value(currentValue.get())
+                        .build())
+                .build());
+    }
+
+
+    @Test
+    public void testCacheDisabledByDefault() throws Exception {
+        Assert.assertEquals(0, new OpcUaEndpointConfig().getValueCacheMaxAge());
+        OpcUaEndpoint endpoint = createEndpoint(new OpcUaEndpointConfig.Builder()
+                .serverCertificateBasePath(TestConstants.SERVER_CERT_PATH)
+                .userCertificateBasePath(TestConstants.USER_CERT_PATH)
+                .build());
+        Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        endpoint.updateValueCache(reference, PropertyValue.of(Datatype.INT, "3"));
+        currentValue.set("2");
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        verify(service, times(2)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testCacheHitWithinMaxAge() throws Exception {
+        OpcUaEndpoint endpoint = createEndpointWithCache(MAX_AGE);
+        Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        currentValue.set("2");
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        verify(service, times(1)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testCacheBypassedIfFresherValueRequired() throws Exception {
+        OpcUaEndpoint endpoint = createEndpointWithCache(MAX_AGE);
+        Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        CachedValue cached = endpoint.readElementValue(SUBMODEL_ID, reference, 0);
+        assertValue("1", cached);
+        currentValue.set("2");
+        // e.g. the maxAge of the OPC UA read request is shorter than the age of the cached value
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, reference, cached.getTimestamp() + 1));
+        verify(service, times(2)).execute(any(GetSubmodelElementByPathRequest.class));
+        // the fresh value replaces the cached one
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        verify(service, times(2)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testCacheExpiresAfterMaxAge() throws Exception {
+        long maxAge = 100;
+        OpcUaEndpoint endpoint = createEndpointWithCache(maxAge);
+        Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        currentValue.set("2");
+        Thread.sleep(2 * maxAge);
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        verify(service, times(2)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testUpdateValueCache() throws Exception {
+        OpcUaEndpoint endpoint = createEndpointWithCache(MAX_AGE);
+        Reference reference = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        endpoint.updateValueCache(reference, PropertyValue.of(Datatype.INT, "3"));
+        assertValue("3", endpoint.readElementValue(SUBMODEL_ID, reference, 0));
+        verify(service, times(0)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testInvalidateElementAndChildren() throws Exception {
+        OpcUaEndpoint endpoint = createEndpointWithCache(MAX_AGE);
+        Reference collection = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Collection");
+        Reference child = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Collection", "Property");
+        Reference sibling = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "CollectionSibling");
+        Reference otherSubmodel = ReferenceBuilder.forSubmodel("http://example.org/other", "Collection", "Property");
+        for (Reference reference: new Reference[] {
+                collection,
+                child,
+                sibling,
+                otherSubmodel
+        }) {
+            endpoint.readElementValue(SUBMODEL_ID, reference, 0);
+        }
+        currentValue.set("2");
+
+        // same reference as contained in the ElementUpdateEventMessage/ElementDeleteEventMessage of the collection
+        endpoint.invalidateValueCache(collection);
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, collection, 0));
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, child, 0));
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, sibling, 0));
+        assertValue("1", endpoint.readElementValue(SUBMODEL_ID, otherSubmodel, 0));
+        verify(service, times(6)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    @Test
+    public void testInvalidateSubmodel() throws Exception {
+        OpcUaEndpoint endpoint = createEndpointWithCache(MAX_AGE);
+        Reference property = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Property");
+        Reference child = ReferenceBuilder.forSubmodel(SUBMODEL_ID, "Collection", "Property");
+        endpoint.readElementValue(SUBMODEL_ID, property, 0);
+        endpoint.readElementValue(SUBMODEL_ID, child, 0);
+        currentValue.set("2");
+
+        endpoint.invalidateValueCache(ReferenceBuilder.forSubmodel(SUBMODEL_ID));
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, property, 0));
+        assertValue("2", endpoint.readElementValue(SUBMODEL_ID, child, 0));
+        verify(service, times(4)).execute(any(GetSubmodelElementByPathRequest.class));
+    }
+
+
+    private OpcUaEndpoint createEndpointWithCache(long maxAge) {
+        return createEndpoint(new OpcUaEndpointConfig.Builder()
+                .serverCertificateBasePath(TestConstants.SERVER_CERT_PATH)
+                .userCertificateBasePath(TestConstants.USER_CERT_PATH)
+                .valueCacheMaxAge(maxAge)
+                .build());
+    }
+
+
+    private OpcUaEndpoint createEndpoint(OpcUaEndpointConfig config) {
+        OpcUaEndpoint retval = new OpcUaEndpoint();
+        retval.init(CoreConfig.builder().build(), config, service);
+        return retval;
+    }
+
+
+    private static void assertValue(String expected, CachedValue actual) throws Exception {
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(PropertyValue.of(Datatype.INT, expected), actual.getValue());
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.filestorage.filesystem;
+
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implementation of {@link de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage} that stores files in the
+ * file system addressed by the SHA-256 hash of their content. Files with identical content are only stored once, no
+ * matter how many paths reference them.
+ *
+ * <p>The mapping from paths to hashes is kept in memory and persisted in an index file. Each blob is reference
+ * counted and deleted as soon as no path references it anymore. Upon start, blobs that are not referenced by the index,
+ * e.g. due to a crash, are removed.
+ *
+ * <p>As a blob may be shared by multiple paths, the last modification time is tracked per path in the index and not
+ * taken from the blob. Changes are appended to the index file and the index file is only rewritten upon start and once
+ * the number of appended changes exceeds the number of entries, i.e. saving a file does not require rewriting the
+ * whole index.
+ *
+ * <p>Blobs that are still being read when their last reference is released, e.g. a file being downloaded while it is
+ * overwritten or deleted, are only deleted once the last reader closes its channel.
+ */
+public class FileStorageContentAddressed implements FileStorage<FileStorageContentAddressedConfig> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileStorageContentAddressed.class);
+    private static final String MSG_FILE_NOT_FOUND = "could not find file for path '%s'";
+    private static final String PREFIX_LOCAL_FILE = "file:///";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final String INDEX_FILE = "index.properties";
+    private static final String INDEX_COMMENT = "FA³ST Service file storage index (path=SHA-256;last modified in epoch millis)";
+    private static final String INDEX_VALUE_SEPARATOR = ";";
+    private static final int INDEX_MIN_APPENDED_ENTRIES = 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BLOB_PREFIX_LENGTH = 2;
+    private final Map<String, String> index;
+    private final Map<String, Instant> lastModified;
+    private final Map<String, Integer> referenceCounts;
+    private final Map<String, Integer> readerCounts;
+    private FileStorageContentAddressedConfig config;
+    private Path blobPath;
+    private Path indexFile;
+    private int appendedIndexEntries;
+
+    public FileStorageContentAddressed() {
+        this.index = new HashMap<>();
+        this.lastModified = new HashMap<>();
+        this.referenceCounts = new HashMap<>();
+        this.readerCounts = new HashMap<>();
+    }
+
+
+    @Override
+    public void init(CoreConfig coreConfig, FileStorageContentAddressedConfig config, ServiceContext serviceContext) throws ConfigurationInitializationException {
+        Ensure.requireNonNull(config, "config must be non-null");
+        this.config = config;
+        try {
+            Path root = Path.of(config.getPath());
+            blobPath = root.resolve(BLOB_DIRECTORY);
+            indexFile = root.resolve(INDEX_FILE);
+            Files.createDirectories(blobPath);
+            loadIndex();
+            collectGarbage();
+            writeIndex();
+        }
+        catch (InvalidPathException e) {
+            throw new ConfigurationInitializationException(
+                    String.format("error initializing FileStorageContentAddressed - provided path is invalid (path: %s)", config.getPath()),
+                    e);
+        }
+        catch (IOException e) {
+            throw new ConfigurationInitializationException(
+                    String.format("error initializing FileStorageContentAddressed (path: %s)", config.getPath()),
+                    e);
+        }
+        loadFromEnvironment();
+    }
+
+
+    private void loadIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String path: properties.stringPropertyNames()) {
+            String value = properties.getProperty(path);
+            if (value.isEmpty()) {
+                // path has been deleted
+                continue;
+            }
+            String[] parts = value.split(INDEX_VALUE_SEPARATOR, 2);
+            String hash = parts[0];
+            if (hash.length() <= BLOB_PREFIX_LENGTH || !Files.exists(getBlob(hash))) {
+                LOGGER.warn("file storage index references missing content - entry will be ignored (path: {}, hash: {})", path, hash);
+                continue;
+            }
+            index.put(path, hash);
+            lastModified.put(path, parseLastModified(parts, getBlob(hash)));
+            referenceCounts.merge(hash, 1, Integer::sum);
+        }
+    }
+
+
+    private static Instant parseLastModified(String[] indexValue, Path blob) throws IOException {
+        if (indexValue.length > 1) {
+            try {
+                return Instant.ofEpochMilli(Long.parseLong(indexValue[1]));
+            }
+            catch (NumberFormatException e) {
+                LOGGER.debug("invalid last modified time in file storage index - using time of content instead (value: {})", indexValue[1]);
+            }
+        }
+        return Files.getLastModifiedTime(blob).toInstant();
+    }
+
+
+    private void collectGarbage() throws IOException {
+        try (Stream<Path> blobs = Files.walk(blobPath)) {
+            for (Path blob: blobs.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                if (!referenceCounts.containsKey(blob.getFileName().toString())) {
+                    LOGGER.debug("deleting unreferenced content from file storage (file: {})", blob);
+                    Files.delete(blob);
+                }
+            }
+        }
+    }
+
+
+    private void loadFromEnvironment() throws ConfigurationInitializationException {
+        try {
+            saveAll(config.loadInitialModelAndFiles());
+        }
+        catch (DeserializationException | InvalidConfigurationException | IOException e) {
+            throw new ConfigurationInitializationException("error initializing content-addressed file storage", e);
+        }
+    }
+
+
+    @Override
+    public byte[] get(String path) throws ResourceNotFoundException {
+        try {
+            return openRead(path).readAllBytes();
+        }
+        catch (IOException e) {
+            throw new ResourceNotFoundException(String.format(MSG_FILE_NOT_FOUND, path));
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned content is bound to the blob referenced by the path at the time of calling this method, i.e.
+     * overwriting or deleting the path afterwards does not affect channels that are already open. Opening a new channel
+     * after the blob has been released fails with an {@link IOException}.
+     */
+    @Override
+    public synchronized FileContent openRead(String path) throws ResourceNotFoundException {
+        String hash = index.get(localize(path));
+        if (Objects.isNull(hash)) {
+            throw new ResourceNotFoundException(String.format(MSG_FILE_NOT_FOUND, path));
+        }
+        Path file = getBlob(hash);
+        try {
+            return FileContent.builder()
+                    .path(path)
+                    .contentType(URLConnection.guessContentTypeFromName(localize(path)))
+                    .size(Files.size(file))
+                    .lastModified(lastModified.get(localize(path)))
+                    .contentProvider(() -> openBlob(hash))
+                    .build();
+        }
+        catch (IOException e) {
+            throw new ResourceNotFoundException(String.format(MSG_FILE_NOT_FOUND, path));
+        }
+    }
+
+
+    /**
+     * Gets the SHA-256 hash of the content stored for a given path.
+     *
+     * @param path the path
+     * @return the hash as hex string or empty if the path does not exist
+     */
+    public synchronized Optional<String> getHash(String path) {
+        return Optional.ofNullable(index.get(localize(path)));
+    }
+
+
+    @Override
+    public synchronized boolean contains(String path) {
+        return index.containsKey(localize(path));
+    }
+
+
+    @Override
+    public void save(String path, byte[] content) throws IOException {
+        save(path, new ByteArrayInputStream(content));
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The content is hashed while being written to a temporary file. If content with the same hash already exists,
+     * the temporary file is discarded, otherwise it is moved to its final location.
+     */
+    @Override
+    public void save(String path, InputStream content) throws IOException {
+        Path temp = Files.createTempFile(blobPath, null, TEMP_FILE_SUFFIX);
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream input = new DigestInputStream(content, digest);
+                    OutputStream output = Files.newOutputStream(temp)) {
+                input.transferTo(output);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            synchronized (this) {
+                Path blob = getBlob(hash);
+                if (!Files.exists(blob)) {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                }
+                Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+                String previousHash = index.put(localize(path), hash);
+                lastModified.put(localize(path), now);
+                referenceCounts.merge(hash, 1, Integer::sum);
+                if (Objects.nonNull(previousHash)) {
+                    release(previousHash);
+                }
+                appendIndex(localize(path), toIndexValue(hash, now));
+            }
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+
+    @Override
+    public synchronized void delete(String path) throws ResourceNotFoundException, IOException {
+        String hash = index.remove(localize(path));
+        if (Objects.isNull(hash)) {
+            throw new ResourceNotFoundException(String.format("could not delete file for path '%s'", path));
+        }
+        lastModified.remove(localize(path));
+        release(hash);
+        appendIndex(localize(path), "");
+    }
+
+
+    @Override
+    public FileStorageContentAddressedConfig asConfig() {
+        return config;
+    }
+
+
+    /**
+     * Gets the hashes of all blobs currently stored.
+     *
+     * @return the hashes of all blobs currently stored
+     */
+    synchronized Set<String> getBlobHashes() {
+        return Set.copyOf(referenceCounts.keySet());
+    }
+
+
+    private void release(String hash) throws IOException {
+        int count = referenceCounts.merge(hash, -1, Integer::sum);
+        if (count <= 0) {
+            referenceCounts.remove(hash);
+            if (!readerCounts.containsKey(hash)) {
+                Files.deleteIfExists(getBlob(hash));
+            }
+        }
+    }
+
+
+    private synchronized FileChannel openBlob(String hash) throws IOException {
+        FileChannel channel = FileChannel.open(getBlob(hash), StandardOpenOption.READ);
+        readerCounts.merge(hash, 1, Integer::sum);
+        return new BlobChannel(hash, channel);
+    }
+
+
+    private synchronized void closeBlob(String hash) throws IOException {
+        int count = readerCounts.merge(hash, -1, Integer::sum);
+        if (count <= 0) {
+            readerCounts.remove(hash);
+            if (!referenceCounts.containsKey(hash)) {
+                LOGGER.debug("deleting released content from file storage after last reader closed (hash: {})", hash);
+                Files.deleteIfExists(getBlob(hash));
+            }
+        }
+    }
+
+
+    private Path getBlob(String hash) {
+        return blobPath.resolve(hash.substring(0, BLOB_PREFIX_LENGTH)).resolve(hash);
+    }
+
+
+    private static String toIndexValue(String hash, Instant lastModified) {
+        return hash + INDEX_VALUE_SEPARATOR + lastModified.toEpochMilli();
+    }
+
+
+    /**
+     * Appends a single change to the index file. Later entries override earlier ones upon loading, an empty value marks
+     * a deleted path. Once more entries have been appended than the index contains, the index file is rewritten.
+     *
+     * @param path the path
+     * @param value the index value or empty string if the path has been deleted
+     * @throws IOException if writing the index file fails
+     */
+    private void appendIndex(String path, String value) throws IOException {
+        appendedIndexEntries++;
+        if (appendedIndexEntries > Math.max(INDEX_MIN_APPENDED_ENTRIES, index.size())) {
+            writeIndex();
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty(path, value);
+        StringWriter entry = new StringWriter();
+        properties.store(entry, null);
+        Files.writeString(
+                indexFile,
+                entry.toString().lines()
+                        .filter(x -> !x.startsWith("#"))
+                        .collect(Collectors.joining(System.lineSeparator(), "", System.lineSeparator())),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+
+    private void writeIndex() throws IOException {
+        Properties properties = new Properties();
+        index.forEach((path, hash) -> properties.setProperty(path, toIndexValue(hash, lastModified.get(path))));
+        Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), null, TEMP_FILE_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, INDEX_COMMENT);
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            appendedIndexEntries = 0;
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(String.format("hash algorithm not supported (algorithm: %s)", HASH_ALGORITHM), e);
+        }
+    }
+
+
+    private static String localize(String filePath) {
+        if (Objects.isNull(filePath)) {
+            return "";
+        }
+        if (filePath.startsWith(PREFIX_LOCAL_FILE)) {
+            return filePath.substring(PREFIX_LOCAL_FILE.length());
+        }
+        return filePath;
+    }
+
+    /**
+     * Read-only channel to a blob that keeps the blob from being deleted until the channel is closed. Extends
+     * {@link FileChannel} so that consumers can still use zero-copy transfers.
+     */
+    private class BlobChannel extends FileChannel {
+
+        private final String hash;
+        private final FileChannel delegate;
+
+        private BlobChannel(String hash, FileChannel delegate) {
+            this.hash = hash;
+            this.delegate = delegate;
+        }
+
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            try {
+                delegate.close();
+            }
+            finally {
+                closeBlob(hash);
+            }
+        }
+    }
+}
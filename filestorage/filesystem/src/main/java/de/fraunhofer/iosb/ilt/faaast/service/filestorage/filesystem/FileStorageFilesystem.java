@@ -20,14 +20,19 @@ import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
-import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.StringHelper;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +51,7 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
     private static final Logger LOGGER = LoggerFactory.getLogger(FileStorageFilesystem.class);
     private static final String MSG_FILE_NOT_FOUND = "could not find file for path '%s'";
     private static final String PREFIX_LOCAL_FILE = "file:///";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
     private Map<String, Path> existingFiles;
     private FileStorageFilesystemConfig config;
 
@@ -128,9 +134,7 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
 
     private void loadFromEnvironment() throws ConfigurationInitializationException {
         try {
-            config.loadInitialModelAndFiles().getFiles().stream()
-                    .forEach(LambdaExceptionHelper.rethrowConsumer(
-                            x -> save(x.getPath(), x.getFileContent())));
+            saveAll(config.loadInitialModelAndFiles());
         }
         catch (DeserializationException | InvalidConfigurationException | IOException e) {
             throw new ConfigurationInitializationException("error initializing file-system file storage", e);
@@ -140,12 +144,8 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
 
     @Override
     public byte[] get(String path) throws ResourceNotFoundException {
-        String encodedFilePath = encodeFilePath(path);
         try {
-            if (existingFiles.containsKey(encodedFilePath)) {
-                return Files.readAllBytes(existingFiles.get(encodedFilePath));
-            }
-            return Files.readAllBytes(Path.of(config.getPath(), encodedFilePath));
+            return Files.readAllBytes(resolve(path));
         }
         catch (IOException e) {
             throw new ResourceNotFoundException(String.format(MSG_FILE_NOT_FOUND, path));
@@ -153,6 +153,39 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
     }
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned content provides a {@link FileChannel} so that the content can be transferred efficiently
+     * without loading it into memory.
+     */
+    @Override
+    public FileContent openRead(String path) throws ResourceNotFoundException {
+        Path file = resolve(path);
+        try {
+            return FileContent.builder()
+                    .path(path)
+                    .contentType(URLConnection.guessContentTypeFromName(localize(path)))
+                    .size(Files.size(file))
+                    .lastModified(Files.getLastModifiedTime(file).toInstant())
+                    .contentProvider(() -> FileChannel.open(file, StandardOpenOption.READ))
+                    .build();
+        }
+        catch (IOException e) {
+            throw new ResourceNotFoundException(String.format(MSG_FILE_NOT_FOUND, path));
+        }
+    }
+
+
+    private Path resolve(String path) {
+        String encodedFilePath = encodeFilePath(path);
+        if (existingFiles.containsKey(encodedFilePath)) {
+            return existingFiles.get(encodedFilePath);
+        }
+        return Path.of(config.getPath(), encodedFilePath);
+    }
+
+
     private String encodeFilePath(String filePath) {
         return Base64.getUrlEncoder().encodeToString(localize(filePath).getBytes());
     }
@@ -171,9 +204,35 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
 
     @Override
     public void save(String path, byte[] content) throws IOException {
+        String encodedFilePath = encodeFilePath(path);
         Files.write(
-                Path.of(config.getPath(), encodeFilePath(path)),
+                Path.of(config.getPath(), encodedFilePath),
                 content);
+        // the new content is stored in the storage path and must take precedence over existing data
+        existingFiles.remove(encodedFilePath);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The content is written to a temporary file first which is then moved to its final location so that readers
+     * never see partially written files.
+     */
+    @Override
+    public void save(String path, InputStream content) throws IOException {
+        String encodedFilePath = encodeFilePath(path);
+        Path target = Path.of(config.getPath(), encodedFilePath).toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), null, TEMP_FILE_SUFFIX);
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+        // the new content is stored in the storage path and must take precedence over existing data
+        existingFiles.remove(encodedFilePath);
     }
 
 
@@ -191,7 +250,7 @@ public class FileStorageFilesystem implements FileStorage<FileStorageFilesystemC
 
     @Override
     public boolean contains(String path) {
-        return Files.exists(Path.of(config.getPath(), encodeFilePath(path)));
+        return Files.exists(resolve(path));
     }
 
 
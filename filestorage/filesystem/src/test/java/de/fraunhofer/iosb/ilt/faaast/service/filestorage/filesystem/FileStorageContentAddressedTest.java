@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.filestorage.filesystem;
+
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.filestorage.AbstractFileStorageTest;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class FileStorageContentAddressedTest extends AbstractFileStorageTest<FileStorageContentAddressed, FileStorageContentAddressedConfig> {
+
+    private Path tempDir;
+
+    @Before
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("faaast-content-addressed-storage-test");
+    }
+
+
+    @After
+    public void deleteTempDir() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+
+    @Override
+    public FileStorageContentAddressedConfig getFileStorageConfig() {
+        return FileStorageContentAddressedConfig.builder()
+                .path(tempDir.toString())
+                .build();
+    }
+
+
+    @Test
+    public void testDeduplication() throws ConfigurationException, IOException, ResourceNotFoundException {
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        byte[] content = "foo".getBytes(StandardCharsets.UTF_8);
+        fileStorage.save("first/manual.pdf", content);
+        fileStorage.save("second/manual.pdf", content);
+        fileStorage.save("other.txt", "bar".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(2, fileStorage.getBlobHashes().size());
+        Assert.assertEquals(fileStorage.getHash("first/manual.pdf"), fileStorage.getHash("second/manual.pdf"));
+        fileStorage.delete("first/manual.pdf");
+        Assert.assertFalse(fileStorage.contains("first/manual.pdf"));
+        Assert.assertArrayEquals(content, fileStorage.get("second/manual.pdf"));
+        fileStorage.delete("second/manual.pdf");
+        Assert.assertEquals(1, fileStorage.getBlobHashes().size());
+    }
+
+
+    @Test
+    public void testOverwriteReleasesContent() throws ConfigurationException, IOException, ResourceNotFoundException {
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        fileStorage.save("file.txt", "foo".getBytes(StandardCharsets.UTF_8));
+        fileStorage.save("file.txt", "bar".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, fileStorage.getBlobHashes().size());
+        Assert.assertArrayEquals("bar".getBytes(StandardCharsets.UTF_8), fileStorage.get("file.txt"));
+    }
+
+
+    @Test
+    public void testOverwriteAndDeleteWhileReading() throws ConfigurationException, IOException, ResourceNotFoundException {
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        byte[] content = "foo".getBytes(StandardCharsets.UTF_8);
+        fileStorage.save("file.txt", content);
+        String hash = fileStorage.getHash("file.txt").get();
+        Path blob = tempDir.resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash);
+        FileContent file = fileStorage.openRead("file.txt");
+        try (InputStream first = file.openStream();
+                InputStream second = file.openStream()) {
+            fileStorage.save("file.txt", "bar".getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(Files.exists(blob));
+            Assert.assertArrayEquals(content, first.readAllBytes());
+            first.close();
+            fileStorage.delete("file.txt");
+            Assert.assertTrue(Files.exists(blob));
+            Assert.assertArrayEquals(content, second.readAllBytes());
+        }
+        Assert.assertFalse(Files.exists(blob));
+        Assert.assertThrows(IOException.class, () -> file.readAllBytes());
+        Assert.assertTrue(fileStorage.getBlobHashes().isEmpty());
+    }
+
+
+    @Test
+    public void testIndexPersistedAndGarbageCollected() throws ConfigurationException, IOException, ResourceNotFoundException {
+        byte[] content = "foo".getBytes(StandardCharsets.UTF_8);
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        fileStorage.save("file.txt", content);
+        Path orphan = tempDir.resolve("blobs").resolve("00").resolve("0000");
+        Files.createDirectories(orphan.getParent());
+        Files.write(orphan, content);
+        FileStorageContentAddressed reloaded = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        Assert.assertArrayEquals(content, reloaded.get("file.txt"));
+        Assert.assertFalse(Files.exists(orphan));
+    }
+
+
+    @Test
+    public void testLastModifiedTrackedPerPath() throws ConfigurationException, IOException, ResourceNotFoundException, InterruptedException {
+        byte[] content = "foo".getBytes(StandardCharsets.UTF_8);
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        fileStorage.save("first.txt", content);
+        Instant first = fileStorage.openRead("first.txt").getLastModified();
+        Thread.sleep(10);
+        fileStorage.save("second.txt", content);
+        Instant second = fileStorage.openRead("second.txt").getLastModified();
+        Assert.assertEquals(first, fileStorage.openRead("first.txt").getLastModified());
+        Assert.assertTrue(second.isAfter(first));
+        FileStorageContentAddressed reloaded = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        Assert.assertEquals(first, reloaded.openRead("first.txt").getLastModified());
+        Assert.assertEquals(second, reloaded.openRead("second.txt").getLastModified());
+    }
+
+
+    @Test
+    public void testIndexChangesAppended() throws ConfigurationException, IOException, ResourceNotFoundException {
+        FileStorageContentAddressed fileStorage = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        Path indexFile = tempDir.resolve("index.properties");
+        fileStorage.save("file.txt", "foo".getBytes(StandardCharsets.UTF_8));
+        fileStorage.save("other.txt", "bar".getBytes(StandardCharsets.UTF_8));
+        long size = Files.size(indexFile);
+        fileStorage.delete("other.txt");
+        fileStorage.save("file.txt", "baz".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(Files.size(indexFile) > size);
+        FileStorageContentAddressed reloaded = getFileStorageConfig().newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        Assert.assertFalse(reloaded.contains("other.txt"));
+        Assert.assertArrayEquals("baz".getBytes(StandardCharsets.UTF_8), reloaded.get("file.txt"));
+        Assert.assertEquals(1, reloaded.getBlobHashes().size());
+    }
+}
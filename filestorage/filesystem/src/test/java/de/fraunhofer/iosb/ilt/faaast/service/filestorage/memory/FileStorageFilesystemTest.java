@@ -21,11 +21,13 @@ import de.fraunhofer.iosb.ilt.faaast.service.filestorage.filesystem.FileStorageF
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.filesystem.FileStorageFilesystemConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.model.InMemoryFile;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -81,4 +83,51 @@ public class FileStorageFilesystemTest extends AbstractFileStorageTest<FileStora
         byte[] actual = fileStorage.get(tempDir.relativize(tempFile).toString());
         Assert.assertArrayEquals(content, actual);
     }
+
+
+    @Test
+    public void testSaveStreamWithEmptyPath() throws ConfigurationException, IOException, ResourceNotFoundException {
+        FileStorageFilesystemConfig config = FileStorageFilesystemConfig.builder()
+                .path("")
+                .build();
+        FileStorageFilesystem fileStorage = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        String path = "my/path/streamed.txt";
+        byte[] content = "foo".getBytes();
+        try {
+            fileStorage.save(path, new ByteArrayInputStream(content));
+            Assert.assertArrayEquals(content, fileStorage.get(path));
+        }
+        finally {
+            fileStorage.delete(path);
+        }
+    }
+
+
+    @Test
+    public void testSaveReplacesExistingFile() throws ConfigurationException, IOException, ResourceNotFoundException {
+        Path tempDir = Files.createTempDirectory("faast-filesystem-storage-test");
+        Path storageDir = Files.createTempDirectory("faast-filesystem-storage-test");
+        Path existingFile = Files.write(tempDir.resolve("existing.txt"), "foo".getBytes());
+        try {
+            FileStorageFilesystemConfig config = FileStorageFilesystemConfig.builder()
+                    .path(storageDir.toString())
+                    .existingDataPath(tempDir.toString())
+                    .build();
+            FileStorageFilesystem fileStorage = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+            String path = tempDir.relativize(existingFile).toString();
+            Assert.assertTrue(fileStorage.contains(path));
+            byte[] streamed = "bar".getBytes();
+            fileStorage.save(path, new ByteArrayInputStream(streamed));
+            Assert.assertArrayEquals(streamed, fileStorage.get(path));
+            Assert.assertArrayEquals(streamed, fileStorage.openRead(path).readAllBytes());
+            byte[] written = "baz".getBytes();
+            fileStorage.save(path, written);
+            Assert.assertArrayEquals(written, fileStorage.get(path));
+            Assert.assertArrayEquals("foo".getBytes(), Files.readAllBytes(existingFile));
+        }
+        finally {
+            FileUtils.deleteDirectory(tempDir.toFile());
+            FileUtils.deleteDirectory(storageDir.toFile());
+        }
+    }
 }
@@ -20,8 +20,11 @@ import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
 import de.fraunhofer.iosb.ilt.faaast.service.filestorage.FileStorage;
-import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -33,21 +36,21 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
 
     private FileStorageInMemoryConfig config;
     private final Map<String, byte[]> files;
+    private final Map<String, Instant> lastModified;
 
     public FileStorageInMemory() {
         files = new ConcurrentHashMap<>();
+        lastModified = new ConcurrentHashMap<>();
     }
 
 
     @Override
     public void init(CoreConfig coreConfig, FileStorageInMemoryConfig config, ServiceContext serviceContext) throws ConfigurationInitializationException {
         this.config = config;
-        EnvironmentContext environmentContext = null;
         try {
-            environmentContext = config.loadInitialModelAndFiles();
-            environmentContext.getFiles().stream().forEach(v -> save(v.getPath(), v.getFileContent()));
+            saveAll(config.loadInitialModelAndFiles());
         }
-        catch (DeserializationException | InvalidConfigurationException e) {
+        catch (DeserializationException | InvalidConfigurationException | IOException e) {
             throw new ConfigurationInitializationException("error initializing in-memory file storage", e);
         }
     }
@@ -62,6 +65,17 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
     }
 
 
+    @Override
+    public FileContent openRead(String path) throws ResourceNotFoundException {
+        return FileContent.builder()
+                .path(path)
+                .contentType(URLConnection.guessContentTypeFromName(path))
+                .content(get(path))
+                .lastModified(lastModified.get(path))
+                .build();
+    }
+
+
     @Override
     public boolean contains(String path) {
         return this.files.containsKey(path);
@@ -71,6 +85,7 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
     @Override
     public void save(String path, byte[] content) {
         files.put(path, content);
+        lastModified.put(path, Instant.now());
     }
 
 
@@ -80,6 +95,7 @@ public class FileStorageInMemory implements FileStorage<FileStorageInMemoryConfi
             throw new ResourceNotFoundException(String.format("could not find file for path '%s'", path));
         }
         files.remove(path);
+        lastModified.remove(path);
     }
 
 
@@ -25,8 +25,10 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -87,6 +89,26 @@ public class MessageBusInternalTest {
     }
 
 
+    @Test
+    public void testPublishAll() throws InterruptedException, MessageBusException {
+        MessageBusInternal messageBus = new MessageBusInternal();
+        messageBus.start();
+        List<EventMessage> messages = List.of(valueChangeMessage, errorMessage);
+        List<EventMessage> responses = new CopyOnWriteArrayList<>();
+        CountDownLatch condition = new CountDownLatch(messages.size());
+        messageBus.subscribe(SubscriptionInfo.create(
+                EventMessage.class,
+                x -> {
+                    responses.add(x);
+                    condition.countDown();
+                }));
+        messageBus.publishAll(messages);
+        condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(messages, responses);
+        messageBus.stop();
+    }
+
+
     @Test
     public void testSuperTypeSubscription() throws InterruptedException {
         MessageBusInternal messageBus = new MessageBusInternal();
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventDeserializer;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+import java.io.IOException;
+
+
+/**
+ * {@link EventCodec} encoding events as CBOR (RFC 8949). The structure of the encoded events is identical to the one
+ * produced by {@link JsonEventCodec}, only the encoding differs which results in smaller payloads and cheaper parsing.
+ * Events are published with the topic suffix {@code .cbor}.
+ */
+public class CborEventCodec implements EventCodec {
+
+    private static final String TOPIC_SUFFIX = ".cbor";
+    private final ObjectMapper encoder;
+    private final ObjectMapper decoder;
+
+    public CborEventCodec() {
+        this.encoder = new CborMapper(new JsonEventSerializer().getMapper());
+        this.encoder.disable(SerializationFeature.INDENT_OUTPUT);
+        this.decoder = new CborMapper(new JsonEventDeserializer().getMapper());
+    }
+
+
+    @Override
+    public byte[] encode(EventMessage message) throws SerializationException {
+        try {
+            return encoder.writeValueAsBytes(message);
+        }
+        catch (IOException e) {
+            throw new SerializationException("serialization failed", e);
+        }
+    }
+
+
+    @Override
+    public <T extends EventMessage> T decode(byte[] payload, Class<T> type) throws DeserializationException {
+        try {
+            return decoder.readValue(payload, type);
+        }
+        catch (IOException e) {
+            throw new DeserializationException(
+                    String.format("Deserializing event message failed (reason: %s)",
+                            e.getMessage()),
+                    e);
+        }
+    }
+
+
+    @Override
+    public String getTopicSuffix() {
+        return TOPIC_SUFFIX;
+    }
+
+    /**
+     * Copy of a mapper configured for JSON using CBOR as encoding. This way all serializers, deserializers and mixins
+     * registered for JSON are re-used.
+     */
+    private static class CborMapper extends ObjectMapper {
+
+        private static final long serialVersionUID = 1L;
+
+        private CborMapper(ObjectMapper source) {
+            super(source, new CBORFactory());
+        }
+    }
+}
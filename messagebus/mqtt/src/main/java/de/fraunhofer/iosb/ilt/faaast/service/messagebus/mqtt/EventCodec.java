@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+
+
+/**
+ * Encoding of events sent via {@link MessageBusMqtt}. Implementations must provide a public no-argument constructor
+ * and are configured via {@link MessageBusMqttConfig#getEventCodecs()}.
+ */
+public interface EventCodec {
+
+    /**
+     * Encodes an event message.
+     *
+     * @param message the message to encode
+     * @return the encoded message
+     * @throws SerializationException if encoding fails
+     */
+    public byte[] encode(EventMessage message) throws SerializationException;
+
+
+    /**
+     * Decodes an event message.
+     *
+     * @param <T> type of event message
+     * @param payload the encoded message
+     * @param type type of event message to decode to
+     * @return the decoded message
+     * @throws DeserializationException if decoding fails
+     */
+    public <T extends EventMessage> T decode(byte[] payload, Class<T> type) throws DeserializationException;
+
+
+    /**
+     * Gets the suffix appended to the event type in the topic, e.g. {@code .cbor} resulting in
+     * {@code events/ValueChangeEventMessage.cbor}. This allows clients to select the encoding they understand. The
+     * default implementation returns an empty string, i.e. topics are not changed.
+     *
+     * @return the topic suffix identifying the encoding
+     */
+    public default String getTopicSuffix() {
+        return "";
+    }
+}
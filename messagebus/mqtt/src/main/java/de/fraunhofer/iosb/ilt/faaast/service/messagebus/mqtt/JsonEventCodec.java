@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventDeserializer;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+
+
+/**
+ * Default {@link EventCodec} encoding events as UTF-8 encoded JSON.
+ */
+public class JsonEventCodec implements EventCodec {
+
+    private final JsonEventSerializer serializer;
+    private final JsonEventDeserializer deserializer;
+
+    public JsonEventCodec() {
+        this.serializer = new JsonEventSerializer();
+        this.deserializer = new JsonEventDeserializer();
+    }
+
+
+    @Override
+    public byte[] encode(EventMessage message) throws SerializationException {
+        return serializer.writeBytes(message);
+    }
+
+
+    @Override
+    public <T extends EventMessage> T decode(byte[] payload, Class<T> type) throws DeserializationException {
+        return deserializer.read(payload, type);
+    }
+}
@@ -16,8 +16,7 @@ package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
 
 import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
-import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventDeserializer;
-import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBus;
@@ -25,14 +24,24 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionId;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.SubscriptionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ImplementationManager;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
@@ -41,17 +50,24 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class MessageBusMqtt implements MessageBus<MessageBusMqttConfig> {
 
-    private final Map<SubscriptionId, SubscriptionInfo> subscriptions;
-    private final JsonEventSerializer serializer;
-    private final JsonEventDeserializer deserializer;
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageBusMqtt.class);
+    private static final String EVENT_PACKAGE = "de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event";
+    private static final Map<Class<?>, List<Class<? extends EventMessage>>> CONCRETE_EVENT_TYPES = new ConcurrentHashMap<>();
+    private static List<Class<? extends EventMessage>> allConcreteEventTypes;
+    private final Map<Class<?>, Integer> qosPerEventType;
+    private final Map<Class<?>, Boolean> retainPerEventType;
+    private final Map<SubscriptionId, Set<String>> subscriptions;
+    private final Map<String, TopicSubscription> topicSubscriptions;
+    private List<EventCodec> codecs;
     private MessageBusMqttConfig config;
     private MoquetteServer server;
     private PahoClient client;
 
     public MessageBusMqtt() {
+        qosPerEventType = new ConcurrentHashMap<>();
+        retainPerEventType = new ConcurrentHashMap<>();
         subscriptions = new ConcurrentHashMap<>();
-        serializer = new JsonEventSerializer();
-        deserializer = new JsonEventDeserializer();
+        topicSubscriptions = new HashMap<>();
     }
 
 
@@ -64,6 +80,28 @@ public class MessageBusMqtt implements MessageBus<MessageBusMqttConfig> {
     @Override
     public void init(CoreConfig coreConfig, MessageBusMqttConfig config, ServiceContext serviceContext) throws ConfigurationInitializationException {
         this.config = config;
+        if (config.getQos() < 0 || config.getQos() > 2) {
+            throw new ConfigurationInitializationException(String.format("invalid MQTT QoS level '%d' (must be 0, 1 or 2)", config.getQos()));
+        }
+        if (Objects.nonNull(config.getQosPerEventType())) {
+            for (Map.Entry<String, Integer> entry: config.getQosPerEventType().entrySet()) {
+                if (Objects.isNull(entry.getValue()) || entry.getValue() < 0 || entry.getValue() > 2) {
+                    throw new ConfigurationInitializationException(String.format(
+                            "invalid MQTT QoS level '%s' for event type '%s' (must be 0, 1 or 2)",
+                            entry.getValue(),
+                            entry.getKey()));
+                }
+            }
+        }
+        qosPerEventType.clear();
+        retainPerEventType.clear();
+        if (config.getMaxInFlight() < 1) {
+            throw new ConfigurationInitializationException("maxInFlight must be at least 1");
+        }
+        if (config.getPublishQueueSize() < 1) {
+            throw new ConfigurationInitializationException("publishQueueSize must be at least 1");
+        }
+        codecs = createCodecs(config.getEventCodecs());
         if (config.getUseInternalServer()) {
             server = new MoquetteServer(config);
         }
@@ -71,11 +109,49 @@ public class MessageBusMqtt implements MessageBus<MessageBusMqttConfig> {
     }
 
 
+    private static List<EventCodec> createCodecs(List<String> classNames) throws ConfigurationInitializationException {
+        if (Objects.isNull(classNames) || classNames.isEmpty()) {
+            throw new ConfigurationInitializationException("at least one event codec must be configured");
+        }
+        List<EventCodec> result = new ArrayList<>();
+        Set<String> topicSuffixes = new HashSet<>();
+        for (String className: classNames) {
+            EventCodec codec = createCodec(className);
+            if (!topicSuffixes.add(codec.getTopicSuffix())) {
+                throw new ConfigurationInitializationException(String.format(
+                        "event codecs must use distinct topic suffixes (class: %s, topic suffix: '%s')",
+                        className,
+                        codec.getTopicSuffix()));
+            }
+            result.add(codec);
+        }
+        return result;
+    }
+
+
+    private static EventCodec createCodec(String className) throws ConfigurationInitializationException {
+        try {
+            Class<?> codecClass = Class.forName(className, true, ImplementationManager.getClassLoader());
+            if (!EventCodec.class.isAssignableFrom(codecClass)) {
+                throw new ConfigurationInitializationException(String.format(
+                        "event codec must implement interface '%s' (class: %s)",
+                        EventCodec.class.getName(),
+                        className));
+            }
+            return (EventCodec) codecClass.getDeclaredConstructor().newInstance();
+        }
+        catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ConfigurationInitializationException(String.format("error instantiating event codec (class: %s)", className), e);
+        }
+    }
+
+
     @Override
     public void publish(EventMessage message) throws MessageBusException {
         try {
-            Class<? extends EventMessage> messageType = message.getClass();
-            client.publish(config.getTopicPrefix() + messageType.getSimpleName(), serializer.write(message));
+            for (EventCodec codec: codecs) {
+                client.publish(getTopic(message, codec), codec.encode(message), getQos(message.getClass()), getRetain(message.getClass()));
+            }
         }
         catch (Exception e) {
             throw new MessageBusException("Error publishing event via MQTT message bus", e);
@@ -83,6 +159,16 @@ public class MessageBusMqtt implements MessageBus<MessageBusMqttConfig> {
     }
 
 
+    /**
+     * Gets the statistics of messages published via MQTT so far.
+     *
+     * @return the publish statistics
+     */
+    public PublishStatistics getPublishStatistics() {
+        return client.getPublishStatistics();
+    }
+
+
     @Override
     public void start() throws MessageBusException {
         if (config.getUseInternalServer()) {
@@ -109,46 +195,165 @@ public class MessageBusMqtt implements MessageBus<MessageBusMqttConfig> {
     @Override
     public SubscriptionId subscribe(SubscriptionInfo subscriptionInfo) {
         Ensure.requireNonNull(subscriptionInfo, "subscriptionInfo must be non-null");
-        subscriptionInfo.getSubscribedEvents()
-                .forEach(x -> determineEvents((Class<? extends EventMessage>) x).stream()
-                        .forEach(e -> client.subscribe(config.getTopicPrefix() + e.getSimpleName(), (t, message) -> {
-                            EventMessage event = deserializer.read(message.toString(), e);
-                            if (subscriptionInfo.getFilter().test(event.getElement())) {
-                                subscriptionInfo.getHandler().accept(event);
-                            }
-                        })));
-
         SubscriptionId subscriptionId = new SubscriptionId();
-        subscriptions.put(subscriptionId, subscriptionInfo);
+        Map<String, Class<? extends EventMessage>> topics = new HashMap<>();
+        subscriptionInfo.getSubscribedEvents().forEach(x -> getConcreteEventTypes(x)
+                .forEach(e -> topics.putIfAbsent(getTopicFilter(e, subscriptionInfo), e)));
+        synchronized (topicSubscriptions) {
+            topics.forEach((topic, eventType) -> {
+                TopicSubscription topicSubscription = topicSubscriptions.get(topic);
+                boolean isNew = Objects.isNull(topicSubscription);
+                if (isNew) {
+                    topicSubscription = new TopicSubscription(eventType, getPreferredCodec());
+                    topicSubscriptions.put(topic, topicSubscription);
+                }
+                topicSubscription.subscribers.put(subscriptionId, subscriptionInfo);
+                if (isNew) {
+                    client.subscribe(topic, getQos(eventType), topicSubscription::dispatch);
+                }
+            });
+            subscriptions.put(subscriptionId, topics.keySet());
+        }
         return subscriptionId;
     }
 
 
-    private List<Class<EventMessage>> determineEvents(Class<? extends EventMessage> messageType) {
-        try (ScanResult scanResult = new ClassGraph().acceptPackages("de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event")
-                .enableClassInfo().scan()) {
-            if (Modifier.isAbstract(messageType.getModifiers())) {
-                return scanResult
-                        .getSubclasses(messageType.getName())
-                        .filter(x -> !x.isAbstract())
-                        .loadClasses(EventMessage.class);
+    private static List<Class<? extends EventMessage>> getConcreteEventTypes(Class<?> messageType) {
+        return CONCRETE_EVENT_TYPES.computeIfAbsent(messageType, x -> {
+            if (!Modifier.isAbstract(x.getModifiers())) {
+                return List.of((Class<? extends EventMessage>) x);
             }
-            else {
-                List<Class<EventMessage>> list = new ArrayList<>();
-                list.add((Class<EventMessage>) messageType);
-                return list;
+            return getAllConcreteEventTypes().stream()
+                    .filter(x::isAssignableFrom)
+                    .collect(Collectors.toList());
+        });
+    }
+
+
+    private static synchronized List<Class<? extends EventMessage>> getAllConcreteEventTypes() {
+        if (Objects.isNull(allConcreteEventTypes)) {
+            try (ScanResult scanResult = new ClassGraph().acceptPackages(EVENT_PACKAGE)
+                    .enableClassInfo().scan()) {
+                allConcreteEventTypes = scanResult
+                        .getSubclasses(EventMessage.class.getName())
+                        .filter(x -> !x.isAbstract())
+                        .loadClasses(EventMessage.class)
+                        .stream()
+                        .collect(Collectors.toUnmodifiableList());
             }
         }
+        return allConcreteEventTypes;
     }
 
 
     @Override
     public void unsubscribe(SubscriptionId id) {
-        SubscriptionInfo info = subscriptions.get(id);
-        Ensure.requireNonNull(info.getSubscribedEvents(), "subscriptionInfo must be non-null");
-        subscriptions.get(id).getSubscribedEvents().stream().forEach(a -> //find all events for given abstract or event
-        determineEvents((Class<? extends EventMessage>) a).stream().forEach(e -> //unsubscribe from all events
-        client.unsubscribe(config.getTopicPrefix() + e.getSimpleName())));
-        subscriptions.remove(id);
+        synchronized (topicSubscriptions) {
+            Set<String> topics = subscriptions.remove(id);
+            if (Objects.isNull(topics)) {
+                return;
+            }
+            for (String topic: topics) {
+                TopicSubscription topicSubscription = topicSubscriptions.get(topic);
+                if (Objects.isNull(topicSubscription)) {
+                    continue;
+                }
+                topicSubscription.subscribers.remove(id);
+                if (topicSubscription.subscribers.isEmpty()) {
+                    topicSubscriptions.remove(topic);
+                    client.unsubscribe(topic);
+                }
+            }
+        }
+    }
+
+
+    private int getQos(Class<?> eventType) {
+        return qosPerEventType.computeIfAbsent(eventType, x -> getPerEventType(x, config.getQosPerEventType(), config.getQos()));
+    }
+
+
+    private boolean getRetain(Class<?> eventType) {
+        return retainPerEventType.computeIfAbsent(eventType, x -> getPerEventType(x, config.getRetainPerEventType(), config.getRetain()));
+    }
+
+
+    /**
+     * Gets the value configured for the most specific matching event type, i.e. for the given type or the nearest of
+     * its super types.
+     *
+     * @param <T> type of the value
+     * @param eventType the event type
+     * @param values the values per simple class name of event types
+     * @param defaultValue the value to use if no event type matches
+     * @return the matching value
+     */
+    private static <T> T getPerEventType(Class<?> eventType, Map<String, T> values, T defaultValue) {
+        if (Objects.isNull(values) || values.isEmpty()) {
+            return defaultValue;
+        }
+        for (Class<?> type = eventType; Objects.nonNull(type) && EventMessage.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            T value = values.get(type.getSimpleName());
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+
+    private EventCodec getPreferredCodec() {
+        return codecs.get(0);
+    }
+
+
+    private String getTopic(EventMessage message, EventCodec codec) {
+        String topic = config.getTopicPrefix() + message.getClass().getSimpleName() + codec.getTopicSuffix();
+        return config.getUseElementTopics()
+                ? TopicHelper.toTopic(topic, message.getElement())
+                : topic;
+    }
+
+
+    private String getTopicFilter(Class<? extends EventMessage> messageType, SubscriptionInfo subscriptionInfo) {
+        String topic = config.getTopicPrefix() + messageType.getSimpleName() + getPreferredCodec().getTopicSuffix();
+        return config.getUseElementTopics()
+                ? TopicHelper.toTopicFilter(topic, subscriptionInfo.getElementPrefix())
+                : topic;
+    }
+
+    /**
+     * MQTT topic subscription shared by all subscriptions resulting in the same topic filter. Received messages are
+     * decoded only once and dispatched to all subscribers.
+     */
+    private class TopicSubscription {
+
+        private final Class<? extends EventMessage> eventType;
+        private final EventCodec codec;
+        private final Map<SubscriptionId, SubscriptionInfo> subscribers;
+
+        private TopicSubscription(Class<? extends EventMessage> eventType, EventCodec codec) {
+            this.eventType = eventType;
+            this.codec = codec;
+            this.subscribers = new ConcurrentHashMap<>();
+        }
+
+
+        private void dispatch(String topic, MqttMessage message) throws DeserializationException {
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            EventMessage event = codec.decode(message.getPayload(), eventType);
+            for (SubscriptionInfo subscriber: subscribers.values()) {
+                try {
+                    if (subscriber.getFilter().test(event.getElement())) {
+                        subscriber.getHandler().accept(event);
+                    }
+                }
+                catch (Exception e) {
+                    LOGGER.warn("error handling event received via MQTT message bus (topic: {})", topic, e);
+                }
+            }
+        }
     }
 }
@@ -16,9 +16,14 @@ package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
 
 import de.fraunhofer.iosb.ilt.faaast.service.config.CertificateConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.messagebus.MessageBusConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 
 /**
@@ -29,13 +34,19 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     private static final String DEFAULT_CLIENT_ID = "FAST MQTT MessageBus";
     private static final String DEFAULT_CLIENT_KEYSTORE_PASSWORD = "";
     private static final String DEFAULT_CLIENT_KEYSTORE_PATH = "";
+    private static final String DEFAULT_EVENT_CODEC = JsonEventCodec.class.getName();
     private static final String DEFAULT_HOST = "localhost";
+    private static final int DEFAULT_MAX_IN_FLIGHT = 100;
     private static final int DEFAULT_PORT = 1883;
+    private static final int DEFAULT_PUBLISH_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_QOS = 1;
+    private static final boolean DEFAULT_RETAIN = false;
     private static final String DEFAULT_SERVER_KEYSTORE_PASSWORD = "";
     private static final String DEFAULT_SERVER_KEYSTORE_PATH = "";
     private static final int DEFAULT_SSL_PORT = 8883;
     private static final int DEFAULT_SSL_WEBSOCKET_PORT = 443;
     private static final String DEFAULT_TOPIC_PREFIX = "events/";
+    private static final boolean DEFAULT_USE_ELEMENT_TOPICS = false;
     private static final boolean DEFAULT_USE_INTERNAL_SERVER = true;
     private static final boolean DEFAULT_USE_WEBSOCKETS = false;
     private static final int DEFAULT_WEBSOCKET_PORT = 9001;
@@ -43,12 +54,20 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     private String clientId;
     private CertificateConfig clientCertificate;
     private CertificateConfig serverCertificate;
+    private List<String> eventCodecs;
     private String host;
+    private int maxInFlight;
     private String password;
     private int port;
+    private int publishQueueSize;
+    private int qos;
+    private Map<String, Integer> qosPerEventType;
+    private boolean retain;
+    private Map<String, Boolean> retainPerEventType;
     private int sslPort;
     private int sslWebsocketPort;
     private String topicPrefix;
+    private boolean useElementTopics;
     private boolean useInternalServer;
     private boolean useWebsocket;
     private String username;
@@ -74,6 +93,14 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
         this.useWebsocket = DEFAULT_USE_WEBSOCKETS;
         this.clientId = DEFAULT_CLIENT_ID;
         this.topicPrefix = DEFAULT_TOPIC_PREFIX;
+        this.maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+        this.publishQueueSize = DEFAULT_PUBLISH_QUEUE_SIZE;
+        this.qos = DEFAULT_QOS;
+        this.qosPerEventType = new HashMap<>();
+        this.retain = DEFAULT_RETAIN;
+        this.retainPerEventType = new HashMap<>();
+        this.useElementTopics = DEFAULT_USE_ELEMENT_TOPICS;
+        this.eventCodecs = new ArrayList<>(List.of(DEFAULT_EVENT_CODEC));
     }
 
 
@@ -107,6 +134,24 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     }
 
 
+    /**
+     * Gets the fully qualified class names of the {@link EventCodec} implementations to use. Each event is published
+     * once per codec on the topic carrying the suffix of the codec so that clients can choose the encoding they
+     * understand by subscribing to the corresponding topics. The first codec is the preferred one and is used for
+     * subscriptions of this service.
+     *
+     * @return the class names of the event codecs to use
+     */
+    public List<String> getEventCodecs() {
+        return eventCodecs;
+    }
+
+
+    public void setEventCodecs(List<String> eventCodecs) {
+        this.eventCodecs = eventCodecs;
+    }
+
+
     public String getHost() {
         return host;
     }
@@ -117,6 +162,16 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     }
 
 
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+
     public String getPassword() {
         return password;
     }
@@ -137,6 +192,70 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     }
 
 
+    public int getPublishQueueSize() {
+        return publishQueueSize;
+    }
+
+
+    public void setPublishQueueSize(int publishQueueSize) {
+        this.publishQueueSize = publishQueueSize;
+    }
+
+
+    public int getQos() {
+        return qos;
+    }
+
+
+    public void setQos(int qos) {
+        this.qos = qos;
+    }
+
+
+    /**
+     * Gets the QoS levels to use for specific event types instead of {@link #getQos()}. Keys are the simple class names
+     * of event types as used in topics, e.g. {@code ValueChangeEventMessage}, or of one of their super types, e.g.
+     * {@code ChangeEventMessage}. If multiple keys match an event type, the most specific one is used. The QoS level of
+     * an event type is used for publishing as well as subscribing.
+     *
+     * @return the QoS levels per event type
+     */
+    public Map<String, Integer> getQosPerEventType() {
+        return qosPerEventType;
+    }
+
+
+    public void setQosPerEventType(Map<String, Integer> qosPerEventType) {
+        this.qosPerEventType = qosPerEventType;
+    }
+
+
+    public boolean getRetain() {
+        return retain;
+    }
+
+
+    public void setRetain(boolean retain) {
+        this.retain = retain;
+    }
+
+
+    /**
+     * Gets the retain flags to use for specific event types instead of {@link #getRetain()}. Keys are resolved the same
+     * way as for {@link #getQosPerEventType()}.
+     *
+     * @return the retain flags per event type
+     */
+    public Map<String, Boolean> getRetainPerEventType() {
+        return retainPerEventType;
+    }
+
+
+    public void setRetainPerEventType(Map<String, Boolean> retainPerEventType) {
+        this.retainPerEventType = retainPerEventType;
+    }
+
+
     public int getSslPort() {
         return sslPort;
     }
@@ -167,6 +286,16 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
     }
 
 
+    public boolean getUseElementTopics() {
+        return useElementTopics;
+    }
+
+
+    public void setUseElementTopics(boolean useElementTopics) {
+        this.useElementTopics = useElementTopics;
+    }
+
+
     public boolean getUseInternalServer() {
         return useInternalServer;
     }
@@ -239,7 +368,15 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
                 && Objects.equals(password, other.password)
                 && Objects.equals(useWebsocket, other.useWebsocket)
                 && Objects.equals(clientId, other.clientId)
-                && Objects.equals(topicPrefix, other.topicPrefix);
+                && Objects.equals(topicPrefix, other.topicPrefix)
+                && Objects.equals(maxInFlight, other.maxInFlight)
+                && Objects.equals(publishQueueSize, other.publishQueueSize)
+                && Objects.equals(qos, other.qos)
+                && Objects.equals(qosPerEventType, other.qosPerEventType)
+                && Objects.equals(retain, other.retain)
+                && Objects.equals(retainPerEventType, other.retainPerEventType)
+                && Objects.equals(useElementTopics, other.useElementTopics)
+                && Objects.equals(eventCodecs, other.eventCodecs);
 
     }
 
@@ -259,7 +396,15 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
                 password,
                 useWebsocket,
                 clientId,
-                topicPrefix);
+                topicPrefix,
+                maxInFlight,
+                publishQueueSize,
+                qos,
+                qosPerEventType,
+                retain,
+                retainPerEventType,
+                useElementTopics,
+                eventCodecs);
     }
 
 
@@ -299,6 +444,14 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
             getBuildingInstance().setUsers(base.getUsers());
             getBuildingInstance().setClientId(base.getClientId());
             getBuildingInstance().setTopicPrefix(base.getTopicPrefix());
+            getBuildingInstance().setMaxInFlight(base.getMaxInFlight());
+            getBuildingInstance().setPublishQueueSize(base.getPublishQueueSize());
+            getBuildingInstance().setQos(base.getQos());
+            getBuildingInstance().setQosPerEventType(base.getQosPerEventType());
+            getBuildingInstance().setRetain(base.getRetain());
+            getBuildingInstance().setRetainPerEventType(base.getRetainPerEventType());
+            getBuildingInstance().setUseElementTopics(base.getUseElementTopics());
+            getBuildingInstance().setEventCodecs(base.getEventCodecs());
             return getSelf();
         }
 
@@ -392,5 +545,73 @@ public class MessageBusMqttConfig extends MessageBusConfig<MessageBusMqtt> {
             return getSelf();
         }
 
+
+        public B maxInFlight(int value) {
+            getBuildingInstance().setMaxInFlight(value);
+            return getSelf();
+        }
+
+
+        public B publishQueueSize(int value) {
+            getBuildingInstance().setPublishQueueSize(value);
+            return getSelf();
+        }
+
+
+        public B qos(int value) {
+            getBuildingInstance().setQos(value);
+            return getSelf();
+        }
+
+
+        public B qosPerEventType(Map<String, Integer> value) {
+            getBuildingInstance().setQosPerEventType(value);
+            return getSelf();
+        }
+
+
+        public B qos(Class<? extends EventMessage> eventType, int value) {
+            getBuildingInstance().getQosPerEventType().put(eventType.getSimpleName(), value);
+            return getSelf();
+        }
+
+
+        public B retain(boolean value) {
+            getBuildingInstance().setRetain(value);
+            return getSelf();
+        }
+
+
+        public B retainPerEventType(Map<String, Boolean> value) {
+            getBuildingInstance().setRetainPerEventType(value);
+            return getSelf();
+        }
+
+
+        public B retain(Class<? extends EventMessage> eventType, boolean value) {
+            getBuildingInstance().getRetainPerEventType().put(eventType.getSimpleName(), value);
+            return getSelf();
+        }
+
+
+        public B useElementTopics(boolean value) {
+            getBuildingInstance().setUseElementTopics(value);
+            return getSelf();
+        }
+
+
+        public B eventCodecs(List<String> value) {
+            getBuildingInstance().setEventCodecs(value);
+            return getSelf();
+        }
+
+
+        public B eventCodecs(Class<? extends EventCodec>... value) {
+            getBuildingInstance().setEventCodecs(Arrays.stream(value)
+                    .map(Class::getName)
+                    .collect(Collectors.toCollection(ArrayList::new)));
+            return getSelf();
+        }
+
     }
 }
@@ -22,15 +22,23 @@ import java.io.InputStream;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
+import org.eclipse.paho.client.mqttv3.DisconnectedBufferOptions;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
 import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
 import org.eclipse.paho.client.mqttv3.IMqttMessageListener;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
 import org.eclipse.paho.client.mqttv3.MqttCallbackExtended;
-import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
@@ -41,6 +49,16 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Wrapper for Eclipse Paho MQTT client.
+ *
+ * <p>Messages are published asynchronously, i.e. {@link #publish(String, byte[])} only puts the message into a bounded
+ * outbound queue and returns immediately. A dedicated publisher thread takes messages from the queue and hands them to
+ * the asynchronous Paho client while limiting the number of unacknowledged messages to
+ * {@link MessageBusMqttConfig#getMaxInFlight()}. If the queue is full, publishing blocks until there is space again.
+ *
+ * <p>While the client is reconnecting to the broker, messages handed to the Paho client are kept in its disconnected
+ * buffer and all further messages remain in the outbound queue, i.e. no messages are lost due to a temporary loss of
+ * connection. Messages are only dropped if publishing finally fails or the client is stopped while disconnected, which
+ * is logged as warning.
  */
 public class PahoClient {
 
@@ -48,12 +66,25 @@ public class PahoClient {
     private static final String PROTOCOL_PREFIX_SSL = "ssl://";
     private static final String PROTOCOL_PREFIX_WEBSOCKET_SSL = "wss://";
     private static final String PROTOCOL_PREFIX_WEBSOCKET = "ws://";
+    private static final long POLL_TIMEOUT = 100;
+    private static final long RECONNECT_RETRY_DELAY = 100;
+    private static final long STOP_TIMEOUT = 2000;
     private static final Logger logger = LoggerFactory.getLogger(PahoClient.class);
     private final MessageBusMqttConfig config;
-    private MqttClient mqttClient;
+    private final AtomicLong publishedCount;
+    private final AtomicLong failedCount;
+    private final AtomicLong totalLatency;
+    private MqttAsyncClient mqttClient;
+    private BlockingQueue<OutboundMessage> outboundQueue;
+    private Semaphore inFlight;
+    private Thread publisher;
+    private volatile boolean running;
 
     public PahoClient(MessageBusMqttConfig config) {
         this.config = config;
+        this.publishedCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.totalLatency = new AtomicLong();
     }
 
 
@@ -102,11 +133,19 @@ public class PahoClient {
         }
         options.setAutomaticReconnect(true);
         options.setCleanSession(false);
+        options.setMaxInflight(config.getMaxInFlight());
         try {
-            mqttClient = new MqttClient(
+            mqttClient = new MqttAsyncClient(
                     endpoint,
                     config.getClientId(),
                     new MemoryPersistence());
+            // keep messages published while reconnecting, at most maxInFlight messages are handed to Paho at once
+            DisconnectedBufferOptions bufferOptions = new DisconnectedBufferOptions();
+            bufferOptions.setBufferEnabled(true);
+            bufferOptions.setBufferSize(config.getMaxInFlight());
+            bufferOptions.setPersistBuffer(false);
+            bufferOptions.setDeleteOldestMessages(false);
+            mqttClient.setBufferOpts(bufferOptions);
             mqttClient.setCallback(new MqttCallbackExtended() {
                 @Override
                 public void connectionLost(Throwable throwable) {
@@ -135,12 +174,132 @@ public class PahoClient {
 
             });
             logger.trace("connecting to MQTT broker: {}", endpoint);
-            mqttClient.connect(options);
+            mqttClient.connect(options).waitForCompletion();
             logger.debug("connected to MQTT broker: {}", endpoint);
         }
         catch (MqttException e) {
             throw new MessageBusException("Failed to connect to MQTT server", e);
         }
+        startPublisher();
+    }
+
+
+    private void startPublisher() {
+        if (running) {
+            return;
+        }
+        outboundQueue = new ArrayBlockingQueue<>(config.getPublishQueueSize());
+        inFlight = new Semaphore(config.getMaxInFlight());
+        running = true;
+        publisher = new Thread(this::processOutboundQueue, "mqtt-messagebus-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+
+    private void processOutboundQueue() {
+        try {
+            while (running || !outboundQueue.isEmpty()) {
+                OutboundMessage message = outboundQueue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (Objects.nonNull(message)) {
+                    inFlight.acquire();
+                    send(message);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private void send(OutboundMessage message) throws InterruptedException {
+        MqttMessage msg = new MqttMessage(message.payload);
+        msg.setQos(message.qos);
+        msg.setRetained(message.retain);
+        while (true) {
+            try {
+                mqttClient.publish(message.topic, msg, message, new IMqttActionListener() {
+                    @Override
+                    public void onSuccess(IMqttToken token) {
+                        inFlight.release();
+                        publishedCount.incrementAndGet();
+                        totalLatency.addAndGet(System.nanoTime() - message.queuedAt);
+                    }
+
+
+                    @Override
+                    public void onFailure(IMqttToken token, Throwable exception) {
+                        inFlight.release();
+                        failedCount.incrementAndGet();
+                        logger.warn("publishing message on MQTT message bus failed, message dropped (topic: {})", message.topic, exception);
+                    }
+                });
+                logger.trace("message published - topic: {}", message.topic);
+                return;
+            }
+            catch (MqttException e) {
+                // Paho may report its in-flight window as full for a short moment after a permit has been released
+                if (e.getReasonCode() == MqttException.REASON_CODE_MAX_INFLIGHT) {
+                    Thread.sleep(1);
+                    continue;
+                }
+                // not connected and not (yet) buffering, e.g. while a reconnect attempt is in progress
+                if (running && isTemporarilyUnavailable(e)) {
+                    Thread.sleep(RECONNECT_RETRY_DELAY);
+                    continue;
+                }
+                inFlight.release();
+                failedCount.incrementAndGet();
+                logger.warn("publishing message on MQTT message bus failed, message dropped (topic: {})", message.topic, e);
+                return;
+            }
+        }
+    }
+
+
+    private static boolean isTemporarilyUnavailable(MqttException e) {
+        return e.getReasonCode() == MqttException.REASON_CODE_CLIENT_NOT_CONNECTED
+                || e.getReasonCode() == MqttException.REASON_CODE_DISCONNECTED_BUFFER_FULL;
+    }
+
+
+    private void stopPublisher() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            publisher.join(STOP_TIMEOUT);
+            if (!inFlight.tryAcquire(config.getMaxInFlight(), STOP_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                logger.warn("MQTT message bus stopped, {} unacknowledged and {} queued message(s) dropped",
+                        config.getMaxInFlight() - inFlight.availablePermits(),
+                        outboundQueue.size());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publisher = null;
+    }
+
+
+    /**
+     * Gets the current publish statistics.
+     *
+     * @return the current publish statistics
+     */
+    public PublishStatistics getPublishStatistics() {
+        long published = publishedCount.get();
+        long pending = 0;
+        if (running) {
+            pending = outboundQueue.size() + (long) config.getMaxInFlight() - inFlight.availablePermits();
+        }
+        return new PublishStatistics(
+                published,
+                failedCount.get(),
+                pending,
+                published == 0 ? 0 : totalLatency.get() / (published * 1_000_000.0));
     }
 
 
@@ -148,13 +307,14 @@ public class PahoClient {
      * Stops the client connection.
      */
     public void stop() {
+        stopPublisher();
         if (mqttClient == null) {
             return;
         }
         try {
             if (mqttClient.isConnected()) {
                 logger.trace("disconnecting from MQTT broker...");
-                mqttClient.disconnect();
+                mqttClient.disconnect().waitForCompletion();
                 logger.info("disconnected from MQTT broker");
             }
             logger.trace("closing paho-client");
@@ -195,30 +355,69 @@ public class PahoClient {
      * @throws de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException if publishing the message fails
      */
     public void publish(String topic, String content) throws MessageBusException {
-        if (!mqttClient.isConnected()) {
-            logger.debug("received data but MQTT connection is closed, trying to connect...");
-            start();
+        publish(topic, content.getBytes());
+    }
+
+
+    /**
+     * Enqueues the message for publishing using the QoS level and retain flag of the configuration. This method blocks
+     * if the outbound queue is full.
+     *
+     * @param topic the topic to publish on
+     * @param payload the message to publish
+     * @throws de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException if the client is not running or
+     *             waiting for space in the outbound queue is interrupted
+     */
+    public void publish(String topic, byte[] payload) throws MessageBusException {
+        publish(topic, payload, config.getQos(), config.getRetain());
+    }
+
+
+    /**
+     * Enqueues the message for publishing. This method blocks if the outbound queue is full.
+     *
+     * @param topic the topic to publish on
+     * @param payload the message to publish
+     * @param qos the QoS level to publish with
+     * @param retain whether the message should be retained by the MQTT server
+     * @throws de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException if the client is not running or
+     *             waiting for space in the outbound queue is interrupted
+     */
+    public void publish(String topic, byte[] payload, int qos, boolean retain) throws MessageBusException {
+        if (!running) {
+            throw new MessageBusException("MQTT message bus client is not running");
         }
-        MqttMessage msg = new MqttMessage(content.getBytes());
         try {
-            mqttClient.publish(topic, msg);
-            logger.info("message published - topic: {}, data: {}", topic, content);
+            outboundQueue.put(new OutboundMessage(topic, payload, qos, retain));
         }
-        catch (MqttException e) {
-            throw new MessageBusException("publishing message on MQTT message bus failed", e);
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessageBusException("interrupted while waiting for space in MQTT publish queue", e);
         }
     }
 
 
     /**
-     * Subscribe to a mqtt topic.
+     * Subscribe to a mqtt topic using the QoS level of the configuration.
      *
      * @param topic the topic to subscribe to
      * @param listener the callback listener
      */
     public void subscribe(String topic, IMqttMessageListener listener) {
+        subscribe(topic, config.getQos(), listener);
+    }
+
+
+    /**
+     * Subscribe to a mqtt topic.
+     *
+     * @param topic the topic to subscribe to
+     * @param qos the maximum QoS level the MQTT server delivers messages of this subscription with
+     * @param listener the callback listener
+     */
+    public void subscribe(String topic, int qos, IMqttMessageListener listener) {
         try {
-            mqttClient.subscribe(topic, listener);
+            mqttClient.subscribe(topic, qos, listener).waitForCompletion();
         }
         catch (MqttException e) {
             logger.error(e.getMessage());
@@ -234,11 +433,28 @@ public class PahoClient {
     public void unsubscribe(String topic) {
         if (mqttClient != null && mqttClient.isConnected()) {
             try {
-                mqttClient.unsubscribe(topic);
+                mqttClient.unsubscribe(topic).waitForCompletion();
             }
             catch (MqttException e) {
                 logger.error(e.getMessage());
             }
         }
     }
+
+    private static class OutboundMessage {
+
+        private final String topic;
+        private final byte[] payload;
+        private final int qos;
+        private final boolean retain;
+        private final long queuedAt;
+
+        private OutboundMessage(String topic, byte[] payload, int qos, boolean retain) {
+            this.topic = topic;
+            this.payload = payload;
+            this.qos = qos;
+            this.retain = retain;
+            this.queuedAt = System.nanoTime();
+        }
+    }
 }
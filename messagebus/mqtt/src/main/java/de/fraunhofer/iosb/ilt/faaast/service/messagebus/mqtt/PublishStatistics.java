@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+/**
+ * Snapshot of the publish statistics of {@link PahoClient}.
+ */
+public class PublishStatistics {
+
+    private final long published;
+    private final long failed;
+    private final long pending;
+    private final double averageLatency;
+
+    public PublishStatistics(long published, long failed, long pending, double averageLatency) {
+        this.published = published;
+        this.failed = failed;
+        this.pending = pending;
+        this.averageLatency = averageLatency;
+    }
+
+
+    /**
+     * Gets the number of messages that have been acknowledged by the broker, i.e., according to the configured QoS.
+     *
+     * @return the number of successfully published messages
+     */
+    public long getPublished() {
+        return published;
+    }
+
+
+    /**
+     * Gets the number of messages that could not be delivered to the broker.
+     *
+     * @return the number of failed messages
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+
+    /**
+     * Gets the number of messages that are currently queued or in flight.
+     *
+     * @return the number of pending messages
+     */
+    public long getPending() {
+        return pending;
+    }
+
+
+    /**
+     * Gets the average time in milliseconds between enqueuing a message and its completion.
+     *
+     * @return the average latency in milliseconds
+     */
+    public double getAverageLatency() {
+        return averageLatency;
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("published: %d, failed: %d, pending: %d, average latency: %.3f ms", published, failed, pending, averageLatency);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import de.fraunhofer.iosb.ilt.faaast.service.util.EncodingHelper;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+
+/**
+ * Helper class for creating MQTT topics and topic filters for elements when using element topics, i.e., when
+ * {@link MessageBusMqttConfig#getUseElementTopics()} is true.
+ *
+ * <p>Each key of the element reference becomes a topic level. The value of the first key (i.e. the id of the
+ * identifiable, e.g. the submodel) is always Base64URL-encoded the same way as in the HTTP API. All other keys (i.e.
+ * idShorts and list indices) are used as-is unless they contain characters with a special meaning in MQTT topics, in
+ * which case they are Base64URL-encoded as well. Example:
+ * {@code events/ValueChangeEventMessage/aHR0cDovL2V4YW1wbGUub3JnL3N1Ym1vZGVs/collection/property}
+ */
+public class TopicHelper {
+
+    private static final String LEVEL_SEPARATOR = "/";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private TopicHelper() {}
+
+
+    /**
+     * Creates the topic to publish an event about given element on.
+     *
+     * @param baseTopic the topic of the event type, e.g. {@code events/ValueChangeEventMessage}
+     * @param element the element the event is about, may be null
+     * @return the topic to publish on
+     */
+    public static String toTopic(String baseTopic, Reference element) {
+        if (Objects.isNull(element) || Objects.isNull(element.getKeys()) || element.getKeys().isEmpty()) {
+            return baseTopic;
+        }
+        StringBuilder result = new StringBuilder(baseTopic);
+        appendLevels(result, element.getKeys());
+        return result.toString();
+    }
+
+
+    /**
+     * Creates the topic filter matching all events about given element and all its children.
+     *
+     * @param baseTopic the topic of the event type, e.g. {@code events/ValueChangeEventMessage}
+     * @param prefix the element to subscribe to, if null all events of the type are matched
+     * @return the topic filter to subscribe to
+     */
+    public static String toTopicFilter(String baseTopic, Reference prefix) {
+        StringBuilder result = new StringBuilder(baseTopic);
+        if (Objects.nonNull(prefix) && Objects.nonNull(prefix.getKeys())) {
+            appendLevels(result, prefix.getKeys());
+        }
+        return result.append(LEVEL_SEPARATOR)
+                .append(MULTI_LEVEL_WILDCARD)
+                .toString();
+    }
+
+
+    private static void appendLevels(StringBuilder topic, List<Key> keys) {
+        for (int i = 0; i < keys.size(); i++) {
+            String value = Objects.toString(keys.get(i).getValue(), "");
+            topic.append(LEVEL_SEPARATOR);
+            if (i == 0 || requiresEncoding(value)) {
+                topic.append(EncodingHelper.base64UrlEncode(value));
+            }
+            else {
+                topic.append(value);
+            }
+        }
+    }
+
+
+    private static boolean requiresEncoding(String value) {
+        return value.isEmpty()
+                || value.contains(LEVEL_SEPARATOR)
+                || value.contains(MULTI_LEVEL_WILDCARD)
+                || value.contains("+")
+                || value.indexOf('\u0000') >= 0;
+    }
+}
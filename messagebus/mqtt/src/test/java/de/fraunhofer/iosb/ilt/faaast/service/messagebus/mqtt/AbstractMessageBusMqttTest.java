@@ -20,6 +20,8 @@ import de.fraunhofer.iosb.ilt.faaast.service.certificate.CertificateInformation;
 import de.fraunhofer.iosb.ilt.faaast.service.certificate.util.KeyStoreHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CertificateConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.MessageBusException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
@@ -44,6 +46,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.StringValue;
 import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
@@ -55,8 +58,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
@@ -273,6 +278,220 @@ public abstract class AbstractMessageBusMqttTest<T> {
     }
 
 
+    @Test
+    public void testElementTopics() throws Exception {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .useElementTopics(true)
+                .build();
+        Reference submodel1 = ReferenceBuilder.forSubmodel("http://example.org/submodel/1");
+        Reference submodel2 = ReferenceBuilder.forSubmodel("http://example.org/submodel/2");
+        ValueChangeEventMessage message1 = ValueChangeEventMessage.builder()
+                .element(ReferenceBuilder.forParent(submodel1, "collection", "property"))
+                .newValue(new PropertyValue(new IntValue(1)))
+                .build();
+        ValueChangeEventMessage message2 = ValueChangeEventMessage.builder()
+                .element(ReferenceBuilder.forParent(submodel2, "property"))
+                .newValue(new PropertyValue(new IntValue(2)))
+                .build();
+        MessageBusInfo messageBusInfo = startMessageBus(config);
+        CountDownLatch condition = new CountDownLatch(4);
+        List<EventMessage> actualFiltered = Collections.synchronizedList(new ArrayList<>());
+        List<EventMessage> actualAll = Collections.synchronizedList(new ArrayList<>());
+        SubscriptionId filteredSubscription = messageBusInfo.messageBus.subscribe(SubscriptionInfo.createForPrefix(
+                ValueChangeEventMessage.class,
+                x -> {
+                    actualFiltered.add(x);
+                    condition.countDown();
+                },
+                submodel1));
+        SubscriptionId allSubscription = messageBusInfo.messageBus.subscribe(SubscriptionInfo.create(
+                ValueChangeEventMessage.class,
+                x -> {
+                    actualAll.add(x);
+                    condition.countDown();
+                }));
+        messageBusInfo.messageBus.publish(message1);
+        messageBusInfo.messageBus.publish(message2);
+        messageBusInfo.messageBus.publish(VALUE_CHANGE_MESSAGE);
+        condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        messageBusInfo.messageBus.unsubscribe(filteredSubscription);
+        messageBusInfo.messageBus.unsubscribe(allSubscription);
+        stopMessageBus(messageBusInfo);
+        Assert.assertEquals(List.of(message1), actualFiltered);
+        Assert.assertEquals(Set.of(message1, message2, VALUE_CHANGE_MESSAGE), Set.copyOf(actualAll));
+    }
+
+
+    @Test
+    public void testCustomEventCodec() throws Exception {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .eventCodecs(CountingEventCodec.class)
+                .build();
+        int encodedBefore = CountingEventCodec.ENCODED.get();
+        int decodedBefore = CountingEventCodec.DECODED.get();
+        MessageBusInfo messageBusInfo = startMessageBus(config);
+        assertMessage(messageBusInfo, ElementCreateEventMessage.class, ELEMENT_CREATE_MESSAGE, ELEMENT_CREATE_MESSAGE);
+        stopMessageBus(messageBusInfo);
+        Assert.assertEquals(encodedBefore + 1, CountingEventCodec.ENCODED.get());
+        Assert.assertEquals(decodedBefore + 1, CountingEventCodec.DECODED.get());
+    }
+
+
+    @Test
+    public void testInvalidEventCodec() {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .eventCodecs(List.of(String.class.getName()))
+                .build();
+        Assert.assertThrows(ConfigurationInitializationException.class,
+                () -> new MessageBusMqtt().init(CoreConfig.builder().build(), config, SERVICE_CONTEXT));
+    }
+
+
+    @Test
+    public void testMissingEventCodec() {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .eventCodecs(List.of())
+                .build();
+        Assert.assertThrows(ConfigurationInitializationException.class,
+                () -> new MessageBusMqtt().init(CoreConfig.builder().build(), config, SERVICE_CONTEXT));
+    }
+
+
+    @Test
+    public void testDuplicateEventCodecTopicSuffix() {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .eventCodecs(JsonEventCodec.class, CborEventCodec.class, JsonEventCodec.class)
+                .build();
+        Assert.assertThrows(ConfigurationInitializationException.class,
+                () -> new MessageBusMqtt().init(CoreConfig.builder().build(), config, SERVICE_CONTEXT));
+    }
+
+
+    @Test
+    public void testEventCodecSelectedByTopicSuffix() throws Exception {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .eventCodecs(JsonEventCodec.class, CborEventCodec.class)
+                .build();
+        MessageBusInfo messageBusInfo = startMessageBus(config);
+        MessageBusMqtt jsonConsumer = startConsumer(config, JsonEventCodec.class);
+        MessageBusMqtt cborConsumer = startConsumer(config, CborEventCodec.class);
+        List<EventMessage> actualJson = Collections.synchronizedList(new ArrayList<>());
+        List<EventMessage> actualCbor = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch condition = new CountDownLatch(2);
+        jsonConsumer.subscribe(SubscriptionInfo.create(ElementCreateEventMessage.class, x -> {
+            actualJson.add(x);
+            condition.countDown();
+        }));
+        cborConsumer.subscribe(SubscriptionInfo.create(ElementCreateEventMessage.class, x -> {
+            actualCbor.add(x);
+            condition.countDown();
+        }));
+        messageBusInfo.messageBus.publish(ELEMENT_CREATE_MESSAGE);
+        Assert.assertTrue(condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+        jsonConsumer.stop();
+        cborConsumer.stop();
+        stopMessageBus(messageBusInfo);
+        Assert.assertEquals(2, messageBusInfo.messageBus.getPublishStatistics().getPublished());
+        Assert.assertEquals(List.of(ELEMENT_CREATE_MESSAGE), actualJson);
+        Assert.assertEquals(List.of(ELEMENT_CREATE_MESSAGE), actualCbor);
+    }
+
+
+    @Test
+    public void testOverlappingEventTypesDeliveredOnce() throws Exception {
+        MessageBusInfo messageBusInfo = startMessageBus(configureAnonymousSuccess());
+        List<EventMessage> actual = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch condition = new CountDownLatch(2);
+        SubscriptionInfo subscriptionInfo = new SubscriptionInfo(x -> {
+            actual.add(x);
+            condition.countDown();
+        });
+        subscriptionInfo.setSubscribedEvents(Set.of(ChangeEventMessage.class, ValueChangeEventMessage.class));
+        SubscriptionId subscription = messageBusInfo.messageBus.subscribe(subscriptionInfo);
+        messageBusInfo.messageBus.publish(VALUE_CHANGE_MESSAGE);
+        condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        messageBusInfo.messageBus.unsubscribe(subscription);
+        stopMessageBus(messageBusInfo);
+        Assert.assertEquals(List.of(VALUE_CHANGE_MESSAGE), actual);
+    }
+
+
+    @Test
+    public void testPipelinedPublish() throws Exception {
+        int messageCount = 500;
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .maxInFlight(10)
+                .publishQueueSize(50)
+                .build();
+        MessageBusInfo messageBusInfo = startMessageBus(config);
+        CountDownLatch condition = new CountDownLatch(messageCount);
+        SubscriptionId subscription = messageBusInfo.messageBus.subscribe(SubscriptionInfo.create(
+                ValueChangeEventMessage.class,
+                x -> condition.countDown()));
+        for (int i = 0; i < messageCount; i++) {
+            messageBusInfo.messageBus.publish(VALUE_CHANGE_MESSAGE);
+        }
+        Assert.assertTrue(condition.await(10 * DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+        // acknowledgements may arrive after the messages have been delivered to the subscriber
+        long deadline = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+        PublishStatistics statistics = messageBusInfo.messageBus.getPublishStatistics();
+        while (statistics.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            statistics = messageBusInfo.messageBus.getPublishStatistics();
+        }
+        Assert.assertEquals(messageCount, statistics.getPublished());
+        Assert.assertEquals(0, statistics.getFailed());
+        Assert.assertEquals(0, statistics.getPending());
+        messageBusInfo.messageBus.unsubscribe(subscription);
+        stopMessageBus(messageBusInfo);
+    }
+
+
+    @Test
+    public void testRetainPerEventType() throws Exception {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .retain(ValueChangeEventMessage.class, true)
+                .build();
+        MessageBusInfo messageBusInfo = startMessageBus(config);
+        messageBusInfo.messageBus.publish(ELEMENT_CREATE_MESSAGE);
+        messageBusInfo.messageBus.publish(VALUE_CHANGE_MESSAGE);
+        long deadline = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+        while (messageBusInfo.messageBus.getPublishStatistics().getPublished() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        MessageBusMqtt consumer = startConsumer(config, JsonEventCodec.class);
+        List<EventMessage> actual = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch condition = new CountDownLatch(2);
+        consumer.subscribe(SubscriptionInfo.create(ChangeEventMessage.class, x -> {
+            actual.add(x);
+            condition.countDown();
+        }));
+        condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        consumer.stop();
+        stopMessageBus(messageBusInfo);
+        Assert.assertEquals(List.of(VALUE_CHANGE_MESSAGE), actual);
+    }
+
+
+    @Test
+    public void testInvalidQosPerEventType() {
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .qos(ValueChangeEventMessage.class, 3)
+                .build();
+        Assert.assertThrows(ConfigurationInitializationException.class,
+                () -> new MessageBusMqtt().init(CoreConfig.builder().build(), config, SERVICE_CONTEXT));
+    }
+
+
     @Test
     public void testAnonymousSuccess() throws Exception {
         assertConnectionWorks(configureAnonymousSuccess());
@@ -597,7 +816,7 @@ public abstract class AbstractMessageBusMqttTest<T> {
     }
 
 
-    private static int findFreePort() {
+    protected static int findFreePort() {
         try (ServerSocket serverSocket = new ServerSocket(0)) {
             Assert.assertNotNull(serverSocket);
             Assert.assertTrue(serverSocket.getLocalPort() > 0);
@@ -623,6 +842,22 @@ public abstract class AbstractMessageBusMqttTest<T> {
     }
 
 
+    private MessageBusMqtt startConsumer(MessageBusMqttConfig config, Class<? extends EventCodec> eventCodec) throws Exception {
+        MessageBusMqtt result = new MessageBusMqtt();
+        result.init(
+                CoreConfig.builder().build(),
+                MessageBusMqttConfig.builder()
+                        .from(config)
+                        .internal(false)
+                        .clientId(eventCodec.getSimpleName())
+                        .eventCodecs(eventCodec)
+                        .build(),
+                SERVICE_CONTEXT);
+        result.start();
+        return result;
+    }
+
+
     private void assertExactTypeSubscription(MessageBusInfo messageBusInfo) throws Exception {
         ALL_MESSAGES.forEach(LambdaExceptionHelper.rethrowConsumer(x -> assertMessage(messageBusInfo, x.getClass(), x, x)));
     }
@@ -695,7 +930,7 @@ public abstract class AbstractMessageBusMqttTest<T> {
                 }));
         messageBusInfo.messageBus.unsubscribe(revokedSubscription);
         messageBusInfo.messageBus.publish(VALUE_CHANGE_MESSAGE);
-        condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(condition.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
         messageBusInfo.messageBus.unsubscribe(controlSubscription);
         messageBusInfo.messageBus.stop();
         stopServer(messageBusInfo.server);
@@ -826,6 +1061,31 @@ public abstract class AbstractMessageBusMqttTest<T> {
         stopServer(messageBusInfo.server);
     }
 
+    public static class CountingEventCodec extends JsonEventCodec {
+
+        static final AtomicInteger ENCODED = new AtomicInteger();
+        static final AtomicInteger DECODED = new AtomicInteger();
+
+        @Override
+        public byte[] encode(EventMessage message) throws SerializationException {
+            ENCODED.incrementAndGet();
+            return super.encode(message);
+        }
+
+
+        @Override
+        public <E extends EventMessage> E decode(byte[] payload, Class<E> type) throws DeserializationException {
+            DECODED.incrementAndGet();
+            return super.decode(payload, type);
+        }
+
+
+        @Override
+        public String getTopicSuffix() {
+            return ".counting";
+        }
+    }
+
     private class MessageBusInfo {
 
         MessageBusMqtt messageBus;
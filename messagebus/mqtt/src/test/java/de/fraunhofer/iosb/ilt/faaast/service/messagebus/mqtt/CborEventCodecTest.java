@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.SerializationException;
+import de.fraunhofer.iosb.ilt.faaast.service.dataformat.json.JsonEventSerializer;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.EventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.serialization.json.fixture.EventExamples;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class CborEventCodecTest {
+
+    private static final List<EventMessage> EVENTS = List.of(
+            EventExamples.ELEMENT_READ_EVENT,
+            EventExamples.OPERATION_INVOKE_EVENT,
+            EventExamples.OPERATION_FINISH_EVENT,
+            EventExamples.VALUE_READ_EVENT,
+            EventExamples.ELEMENT_CREATE_EVENT,
+            EventExamples.ELEMENT_DELETE_EVENT,
+            EventExamples.ELEMENT_UPDATE_EVENT,
+            EventExamples.VALUE_CHANGE_EVENT,
+            EventExamples.ERROR_EVENT);
+
+    private final CborEventCodec codec = new CborEventCodec();
+    private final JsonEventCodec jsonCodec = new JsonEventCodec();
+
+    @Test
+    public void testRoundTrip() throws SerializationException, DeserializationException {
+        for (EventMessage expected: EVENTS) {
+            EventMessage actual = codec.decode(codec.encode(expected), expected.getClass());
+            Assert.assertEquals(expected.getClass().getSimpleName(), expected, actual);
+        }
+    }
+
+
+    @Test
+    public void testSameDataModelAsJson() throws SerializationException, DeserializationException {
+        for (EventMessage expected: EVENTS) {
+            EventMessage actual = codec.decode(codec.encode(expected), expected.getClass());
+            Assert.assertArrayEquals(expected.getClass().getSimpleName(), jsonCodec.encode(expected), jsonCodec.encode(actual));
+        }
+    }
+
+
+    @Test
+    public void testSmallerThanJson() throws Exception {
+        JsonEventSerializer compactJsonSerializer = new JsonEventSerializer();
+        compactJsonSerializer.getMapper().disable(SerializationFeature.INDENT_OUTPUT);
+        for (EventMessage event: EVENTS) {
+            int cborSize = codec.encode(event).length;
+            int jsonSize = jsonCodec.encode(event).length;
+            int compactJsonSize = compactJsonSerializer.writeBytes(event).length;
+            Assert.assertTrue(
+                    String.format("%s: CBOR (%d bytes) not smaller than JSON without indentation (%d bytes)",
+                            event.getClass().getSimpleName(),
+                            cborSize,
+                            compactJsonSize),
+                    cborSize < compactJsonSize);
+            Assert.assertTrue(compactJsonSize < jsonSize);
+        }
+    }
+
+
+    @Test
+    public void testTopicSuffix() {
+        Assert.assertEquals(".cbor", codec.getTopicSuffix());
+        Assert.assertEquals("", jsonCodec.getTopicSuffix());
+    }
+}
@@ -14,6 +14,12 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
 
+import de.fraunhofer.iosb.ilt.faaast.service.ServiceContext;
+import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
+import de.fraunhofer.iosb.ilt.faaast.service.model.messagebus.event.change.ValueChangeEventMessage;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.PropertyValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.IntValue;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
 import io.moquette.BrokerConstants;
 import io.moquette.broker.Server;
 import io.moquette.broker.config.IConfig;
@@ -21,11 +27,16 @@ import io.moquette.broker.config.MemoryConfig;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Properties;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
 
 
 public class MessageBusMqttExternalTest extends AbstractMessageBusMqttTest<Server> {
 
     private static final String LOCALHOST = "127.0.0.1";
+    private static final long BROKER_DOWNTIME = 500;
+    private static final long RECONNECT_TIMEOUT = 30000;
 
     @Override
     protected MessageBusMqttConfig getBaseConfig() {
@@ -51,8 +62,48 @@ public class MessageBusMqttExternalTest extends AbstractMessageBusMqttTest<Serve
     }
 
 
+    @Test
+    public void testPublishWhileReconnecting() throws Exception {
+        int messageCount = 20;
+        MessageBusMqttConfig config = MessageBusMqttConfig.builder()
+                .from(configureAnonymousSuccess())
+                .maxInFlight(5)
+                .build();
+        config.setPort(findFreePort());
+        Server server = startServer(config);
+        MessageBusMqtt messageBus = new MessageBusMqtt();
+        messageBus.init(CoreConfig.builder().build(), config, Mockito.mock(ServiceContext.class));
+        messageBus.start();
+        try {
+            // the client loses the connection and automatically reconnects once the broker is available again
+            stopServer(server);
+            Thread.sleep(BROKER_DOWNTIME);
+            for (int i = 0; i < messageCount; i++) {
+                messageBus.publish(ValueChangeEventMessage.builder()
+                        .element(ReferenceBuilder.forSubmodel("http://example.org/submodel", "property"))
+                        .newValue(new PropertyValue(new IntValue(i)))
+                        .build());
+            }
+            server = startServer(config);
+            long deadline = System.currentTimeMillis() + RECONNECT_TIMEOUT;
+            PublishStatistics statistics = messageBus.getPublishStatistics();
+            while (statistics.getPublished() < messageCount && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+                statistics = messageBus.getPublishStatistics();
+            }
+            Assert.assertEquals(messageCount, statistics.getPublished());
+            Assert.assertEquals(0, statistics.getFailed());
+        }
+        finally {
+            messageBus.stop();
+            stopServer(server);
+        }
+    }
+
+
     private static IConfig getMqttServerConfig(MessageBusMqttConfig config) {
         MemoryConfig result = new MemoryConfig(new Properties());
+        result.setProperty(BrokerConstants.IMMEDIATE_BUFFER_FLUSH_PROPERTY_NAME, String.valueOf(true));
         result.setProperty(BrokerConstants.PORT_PROPERTY_NAME, Integer.toString(config.getPort()));
         result.setProperty(BrokerConstants.HOST_PROPERTY_NAME, LOCALHOST);
         result.setProperty(BrokerConstants.ALLOW_ANONYMOUS_PROPERTY_NAME, Boolean.toString(config.getUsers().isEmpty()));
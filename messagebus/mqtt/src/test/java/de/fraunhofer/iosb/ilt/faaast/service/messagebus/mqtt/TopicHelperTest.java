@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.messagebus.mqtt;
+
+import de.fraunhofer.iosb.ilt.faaast.service.util.EncodingHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class TopicHelperTest {
+
+    private static final String BASE_TOPIC = "events/ValueChangeEventMessage";
+    private static final String SUBMODEL_ID = "http://example.org/submodel#1";
+    private static final Reference SUBMODEL = new ReferenceBuilder()
+            .submodel(SUBMODEL_ID)
+            .build();
+    private static final Reference PROPERTY = new ReferenceBuilder()
+            .submodel(SUBMODEL_ID)
+            .idShortPath("collection.property")
+            .build();
+
+    @Test
+    public void testTopic() {
+        Assert.assertEquals(
+                BASE_TOPIC + "/" + EncodingHelper.base64UrlEncode(SUBMODEL_ID) + "/collection/property",
+                TopicHelper.toTopic(BASE_TOPIC, PROPERTY));
+    }
+
+
+    @Test
+    public void testTopicWithoutElement() {
+        Assert.assertEquals(BASE_TOPIC, TopicHelper.toTopic(BASE_TOPIC, null));
+    }
+
+
+    @Test
+    public void testTopicFilter() {
+        Assert.assertEquals(
+                BASE_TOPIC + "/" + EncodingHelper.base64UrlEncode(SUBMODEL_ID) + "/#",
+                TopicHelper.toTopicFilter(BASE_TOPIC, SUBMODEL));
+        Assert.assertEquals(BASE_TOPIC + "/#", TopicHelper.toTopicFilter(BASE_TOPIC, null));
+    }
+
+
+    @Test
+    public void testTopicFilterIsPrefixOfChildTopic() {
+        String filter = TopicHelper.toTopicFilter(BASE_TOPIC, SUBMODEL);
+        Assert.assertTrue(TopicHelper.toTopic(BASE_TOPIC, PROPERTY).startsWith(filter.substring(0, filter.length() - 1)));
+    }
+}
@@ -25,15 +25,18 @@ import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
 
 /**
  * Wrapper class representing an {@link Environment} and the related files which make up an AASX
- * file.
+ * file. Related files can either be provided in-memory ({@link #getFiles()}) or as {@link FileContent}
+ * ({@link #getFileContents()}) which is only read when actually needed, e.g. when streaming an AASX file.
  */
 public class EnvironmentContext {
 
     private Environment environment;
     private List<InMemoryFile> files;
+    private List<FileContent> fileContents;
 
     public EnvironmentContext() {
         this.files = new ArrayList<>();
+        this.fileContents = new ArrayList<>();
     }
 
 
@@ -57,6 +60,16 @@ public class EnvironmentContext {
     }
 
 
+    public List<FileContent> getFileContents() {
+        return fileContents;
+    }
+
+
+    public void setFileContents(List<FileContent> fileContents) {
+        this.fileContents = fileContents;
+    }
+
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -67,13 +80,14 @@ public class EnvironmentContext {
         }
         EnvironmentContext that = (EnvironmentContext) o;
         return Objects.equals(environment, that.environment)
-                && Objects.equals(files, that.files);
+                && Objects.equals(files, that.files)
+                && Objects.equals(fileContents, that.fileContents);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(environment, files);
+        return Objects.hash(environment, files, fileContents);
     }
 
 
@@ -112,6 +126,18 @@ public class EnvironmentContext {
             getBuildingInstance().getFiles().add(new InMemoryFile(content, path));
             return getSelf();
         }
+
+
+        public B fileContents(List<FileContent> value) {
+            getBuildingInstance().setFileContents(value);
+            return getSelf();
+        }
+
+
+        public B fileContent(FileContent value) {
+            getBuildingInstance().getFileContents().add(value);
+            return getSelf();
+        }
     }
 
     public static class Builder extends AbstractBuilder<EnvironmentContext, Builder> {
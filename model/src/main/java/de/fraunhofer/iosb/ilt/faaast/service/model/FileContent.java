@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model;
+
+import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Instant;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.builder.ExtendableBuilder;
+
+
+/**
+ * Represents a file whose content is not necessarily loaded to memory but can be read on demand, e.g. to stream large
+ * files from a file storage to a client. The content can be read multiple times, each call to
+ * {@link #openChannel()} resp. {@link #openStream()} opens a new channel/stream.
+ */
+public class FileContent {
+
+    public static final long SIZE_UNKNOWN = -1;
+
+    private String path;
+    private String contentType;
+    private long size;
+    private Instant lastModified;
+    private ContentProvider contentProvider;
+
+    public FileContent() {
+        this.size = SIZE_UNKNOWN;
+    }
+
+
+    public String getPath() {
+        return path;
+    }
+
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+
+    public String getContentType() {
+        return contentType;
+    }
+
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+
+    /**
+     * Gets the size of the content in bytes.
+     *
+     * @return the size in bytes or {@link #SIZE_UNKNOWN} if unknown
+     */
+    public long getSize() {
+        return size;
+    }
+
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+
+    /**
+     * Gets the time of the last modification of the content.
+     *
+     * @return the time of the last modification or null if unknown
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+
+    public ContentProvider getContentProvider() {
+        return contentProvider;
+    }
+
+
+    public void setContentProvider(ContentProvider contentProvider) {
+        this.contentProvider = contentProvider;
+    }
+
+
+    /**
+     * Opens a new channel to read the content. The caller is responsible for closing the channel. Implementations
+     * backed by the file system return a {@link java.nio.channels.FileChannel} which allows for efficient transfer to
+     * other channels.
+     *
+     * @return a new channel to read the content
+     * @throws IOException if opening the channel fails
+     * @throws IllegalStateException if no content provider is set
+     */
+    public ReadableByteChannel openChannel() throws IOException {
+        Ensure.requireNonNull(contentProvider, new IllegalStateException("contentProvider must be non-null"));
+        return contentProvider.open();
+    }
+
+
+    /**
+     * Opens a new stream to read the content. The caller is responsible for closing the stream.
+     *
+     * @return a new stream to read the content
+     * @throws IOException if opening the stream fails
+     * @throws IllegalStateException if no content provider is set
+     */
+    public InputStream openStream() throws IOException {
+        return Channels.newInputStream(openChannel());
+    }
+
+
+    /**
+     * Reads the complete content into memory.
+     *
+     * @return the content
+     * @throws IOException if reading fails
+     * @throws IllegalStateException if no content provider is set
+     */
+    public byte[] readAllBytes() throws IOException {
+        try (InputStream stream = openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Two instances are considered equal if they have the same path, content type and size. The content provider
+     * is not compared as it is typically a lambda and the content itself is not read as this might be expensive. The
+     * last modification time is not compared either as it depends on when the content has been stored.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileContent that = (FileContent) o;
+        return Objects.equals(path, that.path)
+                && Objects.equals(contentType, that.contentType)
+                && Objects.equals(size, that.size);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, contentType, size);
+    }
+
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Provides a new channel to read the content of a file each time it is called.
+     */
+    @FunctionalInterface
+    public interface ContentProvider {
+
+        /**
+         * Opens a new channel to read the content.
+         *
+         * @return the channel
+         * @throws IOException if opening the channel fails
+         */
+        public ReadableByteChannel open() throws IOException;
+    }
+
+    public abstract static class AbstractBuilder<T extends FileContent, B extends AbstractBuilder<T, B>> extends ExtendableBuilder<T, B> {
+
+        public B path(String value) {
+            getBuildingInstance().setPath(value);
+            return getSelf();
+        }
+
+
+        public B contentType(String value) {
+            getBuildingInstance().setContentType(value);
+            return getSelf();
+        }
+
+
+        public B size(long value) {
+            getBuildingInstance().setSize(value);
+            return getSelf();
+        }
+
+
+        public B lastModified(Instant value) {
+            getBuildingInstance().setLastModified(value);
+            return getSelf();
+        }
+
+
+        public B contentProvider(ContentProvider value) {
+            getBuildingInstance().setContentProvider(value);
+            return getSelf();
+        }
+
+
+        /**
+         * Sets in-memory content. This sets size and content provider accordingly.
+         *
+         * @param value the content
+         * @return the builder
+         */
+        public B content(byte[] value) {
+            Ensure.requireNonNull(value, "value must be non-null");
+            getBuildingInstance().setSize(value.length);
+            getBuildingInstance().setContentProvider(() -> Channels.newChannel(new ByteArrayInputStream(value)));
+            return getSelf();
+        }
+    }
+
+    public static class Builder extends AbstractBuilder<FileContent, Builder> {
+
+        @Override
+        protected Builder getSelf() {
+            return this;
+        }
+
+
+        @Override
+        protected FileContent newBuildingInstance() {
+            return new FileContent();
+        }
+    }
+}
@@ -14,7 +14,7 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.api.request.aas;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.AbstractRequestWithId;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.aas.PutThumbnailResponse;
 import java.util.Objects;
@@ -25,14 +25,14 @@ import java.util.Objects;
  */
 public class PutThumbnailRequest extends AbstractRequestWithId<PutThumbnailResponse> {
 
-    private TypedInMemoryFile content;
+    private FileContent content;
 
-    public TypedInMemoryFile getContent() {
+    public FileContent getContent() {
         return content;
     }
 
 
-    public void setContent(TypedInMemoryFile content) {
+    public void setContent(FileContent content) {
         this.content = content;
     }
 
@@ -63,7 +63,7 @@ public class PutThumbnailRequest extends AbstractRequestWithId<PutThumbnailRespo
 
     public abstract static class AbstractBuilder<T extends PutThumbnailRequest, B extends AbstractBuilder<T, B>> extends AbstractRequestWithId.AbstractBuilder<T, B> {
 
-        public B content(TypedInMemoryFile value) {
+        public B content(FileContent value) {
             getBuildingInstance().setContent(value);
             return getSelf();
         }
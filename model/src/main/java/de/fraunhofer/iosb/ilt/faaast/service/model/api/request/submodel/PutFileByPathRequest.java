@@ -14,7 +14,7 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.api.request.submodel;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.AbstractSubmodelInterfaceRequest;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.request.OutputModifierConstraints;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.response.submodel.PutFileByPathResponse;
@@ -27,7 +27,7 @@ import java.util.Objects;
 public class PutFileByPathRequest extends AbstractSubmodelInterfaceRequest<PutFileByPathResponse> {
 
     private String path;
-    private TypedInMemoryFile content;
+    private FileContent content;
 
     public PutFileByPathRequest() {
         super(OutputModifierConstraints.NONE);
@@ -45,12 +45,12 @@ public class PutFileByPathRequest extends AbstractSubmodelInterfaceRequest<PutFi
     }
 
 
-    public TypedInMemoryFile getContent() {
+    public FileContent getContent() {
         return content;
     }
 
 
-    public void setContent(TypedInMemoryFile content) {
+    public void setContent(FileContent content) {
         this.content = content;
     }
 
@@ -89,7 +89,7 @@ public class PutFileByPathRequest extends AbstractSubmodelInterfaceRequest<PutFi
         }
 
 
-        public B content(TypedInMemoryFile value) {
+        public B content(FileContent value) {
             getBuildingInstance().setContent(value);
             return getSelf();
         }
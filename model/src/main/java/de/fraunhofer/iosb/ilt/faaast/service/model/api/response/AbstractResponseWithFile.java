@@ -14,14 +14,14 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.api.response;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.TypedInMemoryFile;
+import de.fraunhofer.iosb.ilt.faaast.service.model.FileContent;
 import java.util.Objects;
 
 
 /**
  * Abstract base class for protocol-agnostic responses containing file.
  */
-public abstract class AbstractResponseWithFile extends AbstractResponseWithPayload<TypedInMemoryFile> {
+public abstract class AbstractResponseWithFile extends AbstractResponseWithPayload<FileContent> {
 
     @Override
     public boolean equals(Object o) {
@@ -43,7 +43,7 @@ public abstract class AbstractResponseWithFile extends AbstractResponseWithPaylo
     }
 
     public abstract static class AbstractBuilder<T extends AbstractResponseWithFile, B extends AbstractBuilder<T, B>>
-            extends AbstractResponseWithPayload.AbstractBuilder<TypedInMemoryFile, T, B> {
+            extends AbstractResponseWithPayload.AbstractBuilder<FileContent, T, B> {
 
     }
 
@@ -15,6 +15,7 @@
 package de.fraunhofer.iosb.ilt.faaast.service.model.messagebus;
 
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
+import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -36,6 +37,7 @@ public class SubscriptionInfo {
     private Set<Class<?>> subscribedEvents;
     private Consumer<EventMessage> handler;
     private Predicate<Reference> filter;
+    private Reference elementPrefix;
 
     /**
      * Static method to create a Subscription Info.
@@ -84,6 +86,23 @@ public class SubscriptionInfo {
     public static <T extends EventMessage> SubscriptionInfo create(Class<T> eventMessageClass, Consumer<T> handler, Reference reference) {
         SubscriptionInfo subscriptionInfo = create(eventMessageClass, handler);
         subscriptionInfo.setFilter(x -> x.equals(reference));
+        subscriptionInfo.elementPrefix = reference;
+        return subscriptionInfo;
+    }
+
+
+    /**
+     * Static method to create a Subscription Info for an element and all its children.
+     *
+     * @param eventMessageClass which should be subscribed to
+     * @param handler which should be accepted in the subscription
+     * @param prefix reference to the element which should be subscribed to including all its children
+     * @param <T> concrete type of the EventMessage
+     * @return a Subscription Info
+     */
+    public static <T extends EventMessage> SubscriptionInfo createForPrefix(Class<T> eventMessageClass, Consumer<T> handler, Reference prefix) {
+        SubscriptionInfo subscriptionInfo = create(eventMessageClass, handler);
+        subscriptionInfo.setElementPrefix(prefix);
         return subscriptionInfo;
     }
 
@@ -155,7 +174,7 @@ public class SubscriptionInfo {
 
 
     /**
-     * Sets the filter.
+     * Sets the filter. This resets the element prefix as it is unknown whether the filter is restricted to a prefix.
      *
      * @param filter the filter to set
      */
@@ -166,6 +185,31 @@ public class SubscriptionInfo {
         else {
             this.filter = DEFAULT_FILTER;
         }
+        this.elementPrefix = null;
+    }
+
+
+    /**
+     * Gets the reference all elements accepted by the filter start with, or null if unknown. Message bus
+     * implementations may use this to pre-select events, e.g. on the side of a message broker, but must still apply
+     * {@link #getFilter()}.
+     *
+     * @return the prefix all elements accepted by the filter start with, or null if unknown
+     */
+    public Reference getElementPrefix() {
+        return elementPrefix;
+    }
+
+
+    /**
+     * Restricts the subscription to the element identified by given prefix and all its children. This replaces any
+     * existing filter. If the prefix is null, the subscription is not restricted.
+     *
+     * @param prefix the prefix all elements must start with
+     */
+    public void setElementPrefix(Reference prefix) {
+        setFilter(Objects.isNull(prefix) ? null : x -> ReferenceHelper.startsWith(x, prefix));
+        this.elementPrefix = prefix;
     }
 
 
@@ -178,12 +222,15 @@ public class SubscriptionInfo {
             return false;
         }
         SubscriptionInfo that = (SubscriptionInfo) o;
-        return Objects.equals(subscribedEvents, that.subscribedEvents) && Objects.equals(handler, that.handler) && Objects.equals(filter, that.filter);
+        return Objects.equals(subscribedEvents, that.subscribedEvents)
+                && Objects.equals(handler, that.handler)
+                && Objects.equals(filter, that.filter)
+                && Objects.equals(elementPrefix, that.elementPrefix);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(subscribedEvents, handler, filter);
+        return Objects.hash(subscribedEvents, handler, filter, elementPrefix);
     }
 }
@@ -45,7 +45,10 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.UnsignedByteV
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.UnsignedIntValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.UnsignedLongValue;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.UnsignedShortValue;
-import java.util.stream.Stream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 
 
@@ -53,43 +56,53 @@ import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
  * Datatypes defined in AAS specification.
  */
 public enum Datatype {
-    STRING("xs:string", StringValue.class, DataTypeDefXsd.STRING),
-    BOOLEAN("xs:boolean", BooleanValue.class, DataTypeDefXsd.BOOLEAN),
-    DECIMAL("xs:decimal", DecimalValue.class, DataTypeDefXsd.DECIMAL),
-    INTEGER("xs:integer", IntegerValue.class, DataTypeDefXsd.INTEGER),
-    DOUBLE("xs:double", DoubleValue.class, DataTypeDefXsd.DOUBLE),
-    FLOAT("xs:float", FloatValue.class, DataTypeDefXsd.FLOAT),
-    DATE("xs:date", DateValue.class, DataTypeDefXsd.DATE),
-    TIME("xs:time", TimeValue.class, DataTypeDefXsd.TIME),
-    DATE_TIME("xs:datetime", DateTimeValue.class, DataTypeDefXsd.DATE_TIME),
-    GYEAR("xs:gYear", GYearValue.class, DataTypeDefXsd.GYEAR),
-    GMONTH("xs:gMonth", GMonthValue.class, DataTypeDefXsd.GMONTH),
-    GDAY("xs:gDay", GDayValue.class, DataTypeDefXsd.GDAY),
-    GYEAR_MONTH("xs:gYearMonth", GYearMonthValue.class, DataTypeDefXsd.GYEAR_MONTH),
-    GMONTH_DAY("xs:gMonthDay", GMonthDayValue.class, DataTypeDefXsd.GMONTH_DAY),
-    DURATION("xs:Duration", DurationValue.class, DataTypeDefXsd.DURATION),
-    BYTE("xs:byte", ByteValue.class, DataTypeDefXsd.BYTE),
-    SHORT("xs:short", ShortValue.class, DataTypeDefXsd.SHORT),
-    INT("xs:int", IntValue.class, DataTypeDefXsd.INT),
-    LONG("xs:long", LongValue.class, DataTypeDefXsd.LONG),
-    UNSIGNED_BYTE("xs:unsignedByte", UnsignedByteValue.class, DataTypeDefXsd.UNSIGNED_BYTE),
-    UNSIGNED_SHORT("xs:unsignedShort", UnsignedShortValue.class, DataTypeDefXsd.UNSIGNED_SHORT),
-    UNSIGNED_INT("xs:unsignedInt", UnsignedIntValue.class, DataTypeDefXsd.UNSIGNED_INT),
-    UNSIGNED_LONG("xs:unsignedLong", UnsignedLongValue.class, DataTypeDefXsd.UNSIGNED_LONG),
-    POSITIVE_INTEGER("xs:positiveInteger", PositiveIntegerValue.class, DataTypeDefXsd.POSITIVE_INTEGER),
-    NON_NEGATIVE_INTEGER("xs:nonNegativeInteger", NonNegativeIntegerValue.class, DataTypeDefXsd.NON_NEGATIVE_INTEGER),
-    NEGATIVE_INTEGER("xs:negativeInteger", NegativeIntegerValue.class, DataTypeDefXsd.NEGATIVE_INTEGER),
-    NON_POSITIVE_INTEGER("xs:nonPositiveInteger", NonPositiveIntegerValue.class, DataTypeDefXsd.NON_POSITIVE_INTEGER),
-    HEX_BINARY("xs:hexBinary", HexBinaryValue.class, DataTypeDefXsd.HEX_BINARY),
-    BASE64_BINARY("xs:base64Binary", Base64BinaryValue.class, DataTypeDefXsd.BASE64BINARY),
-    ANY_URI("xs:anyURI", AnyURIValue.class, DataTypeDefXsd.ANY_URI),
-    LANG_STRING("rdf:langString", LangStringValue.class, DataTypeDefXsd.STRING);
+    STRING("xs:string", StringValue.class, StringValue::new, DataTypeDefXsd.STRING),
+    BOOLEAN("xs:boolean", BooleanValue.class, BooleanValue::new, DataTypeDefXsd.BOOLEAN),
+    DECIMAL("xs:decimal", DecimalValue.class, DecimalValue::new, DataTypeDefXsd.DECIMAL),
+    INTEGER("xs:integer", IntegerValue.class, IntegerValue::new, DataTypeDefXsd.INTEGER),
+    DOUBLE("xs:double", DoubleValue.class, DoubleValue::new, DataTypeDefXsd.DOUBLE),
+    FLOAT("xs:float", FloatValue.class, FloatValue::new, DataTypeDefXsd.FLOAT),
+    DATE("xs:date", DateValue.class, DateValue::new, DataTypeDefXsd.DATE),
+    TIME("xs:time", TimeValue.class, TimeValue::new, DataTypeDefXsd.TIME),
+    DATE_TIME("xs:datetime", DateTimeValue.class, DateTimeValue::new, DataTypeDefXsd.DATE_TIME),
+    GYEAR("xs:gYear", GYearValue.class, GYearValue::new, DataTypeDefXsd.GYEAR),
+    GMONTH("xs:gMonth", GMonthValue.class, GMonthValue::new, DataTypeDefXsd.GMONTH),
+    GDAY("xs:gDay", GDayValue.class, GDayValue::new, DataTypeDefXsd.GDAY),
+    GYEAR_MONTH("xs:gYearMonth", GYearMonthValue.class, GYearMonthValue::new, DataTypeDefXsd.GYEAR_MONTH),
+    GMONTH_DAY("xs:gMonthDay", GMonthDayValue.class, GMonthDayValue::new, DataTypeDefXsd.GMONTH_DAY),
+    DURATION("xs:Duration", DurationValue.class, DurationValue::new, DataTypeDefXsd.DURATION),
+    BYTE("xs:byte", ByteValue.class, ByteValue::new, DataTypeDefXsd.BYTE),
+    SHORT("xs:short", ShortValue.class, ShortValue::new, DataTypeDefXsd.SHORT),
+    INT("xs:int", IntValue.class, IntValue::new, DataTypeDefXsd.INT),
+    LONG("xs:long", LongValue.class, LongValue::new, DataTypeDefXsd.LONG),
+    UNSIGNED_BYTE("xs:unsignedByte", UnsignedByteValue.class, UnsignedByteValue::new, DataTypeDefXsd.UNSIGNED_BYTE),
+    UNSIGNED_SHORT("xs:unsignedShort", UnsignedShortValue.class, UnsignedShortValue::new, DataTypeDefXsd.UNSIGNED_SHORT),
+    UNSIGNED_INT("xs:unsignedInt", UnsignedIntValue.class, UnsignedIntValue::new, DataTypeDefXsd.UNSIGNED_INT),
+    UNSIGNED_LONG("xs:unsignedLong", UnsignedLongValue.class, UnsignedLongValue::new, DataTypeDefXsd.UNSIGNED_LONG),
+    POSITIVE_INTEGER("xs:positiveInteger", PositiveIntegerValue.class, PositiveIntegerValue::new, DataTypeDefXsd.POSITIVE_INTEGER),
+    NON_NEGATIVE_INTEGER("xs:nonNegativeInteger", NonNegativeIntegerValue.class, NonNegativeIntegerValue::new, DataTypeDefXsd.NON_NEGATIVE_INTEGER),
+    NEGATIVE_INTEGER("xs:negativeInteger", NegativeIntegerValue.class, NegativeIntegerValue::new, DataTypeDefXsd.NEGATIVE_INTEGER),
+    NON_POSITIVE_INTEGER("xs:nonPositiveInteger", NonPositiveIntegerValue.class, NonPositiveIntegerValue::new, DataTypeDefXsd.NON_POSITIVE_INTEGER),
+    HEX_BINARY("xs:hexBinary", HexBinaryValue.class, HexBinaryValue::new, DataTypeDefXsd.HEX_BINARY),
+    BASE64_BINARY("xs:base64Binary", Base64BinaryValue.class, Base64BinaryValue::new, DataTypeDefXsd.BASE64BINARY),
+    ANY_URI("xs:anyURI", AnyURIValue.class, AnyURIValue::new, DataTypeDefXsd.ANY_URI),
+    LANG_STRING("rdf:langString", LangStringValue.class, LangStringValue::new, DataTypeDefXsd.STRING);
 
     public static final Datatype DEFAULT = Datatype.STRING;
+    private static final Map<String, Datatype> BY_NAME = new HashMap<>();
+    private static final Map<DataTypeDefXsd, Datatype> BY_AAS4J_DATATYPE = new EnumMap<>(DataTypeDefXsd.class);
     private final Class<? extends TypedValue> implementation;
+    private final Supplier<? extends TypedValue<?>> constructor;
     private final String name;
     private final DataTypeDefXsd aas4jDatatype;
 
+    static {
+        for (Datatype datatype: values()) {
+            BY_NAME.putIfAbsent(datatype.name, datatype);
+            BY_AAS4J_DATATYPE.putIfAbsent(datatype.aas4jDatatype, datatype);
+        }
+    }
+
     /**
      * Finds datatype from string. Matching is case-sensitive. If no match is found, {@link Datatype#DEFAULT} is
      * returned.
@@ -98,10 +111,10 @@ public enum Datatype {
      * @return matching datatype if found, else {@link Datatype#DEFAULT}
      */
     public static Datatype fromName(String name) {
-        return Stream.of(Datatype.values())
-                .filter(x -> x.getName().equals(name))
-                .findAny()
-                .orElse(DEFAULT);
+        if (name == null) {
+            return DEFAULT;
+        }
+        return BY_NAME.getOrDefault(name, DEFAULT);
     }
 
 
@@ -113,10 +126,10 @@ public enum Datatype {
      * @return matching datatype if found, else {@link Datatype#DEFAULT}
      */
     public static Datatype fromAas4jDatatype(DataTypeDefXsd value) {
-        return Stream.of(Datatype.values())
-                .filter(x -> value == x.getAas4jDatatype())
-                .findAny()
-                .orElse(DEFAULT);
+        if (value == null) {
+            return DEFAULT;
+        }
+        return BY_AAS4J_DATATYPE.getOrDefault(value, DEFAULT);
     }
 
 
@@ -127,14 +140,14 @@ public enum Datatype {
      * @return true is it is a valid datatype, otherwise false
      */
     public static boolean isValid(String name) {
-        return Stream.of(Datatype.values())
-                .anyMatch(x -> x.getName().equals(name));
+        return name != null && BY_NAME.containsKey(name);
     }
 
 
-    private Datatype(String name, Class<? extends TypedValue> implementation, DataTypeDefXsd aas4jDatatype) {
+    private Datatype(String name, Class<? extends TypedValue> implementation, Supplier<? extends TypedValue<?>> constructor, DataTypeDefXsd aas4jDatatype) {
         this.name = name;
         this.implementation = implementation;
+        this.constructor = constructor;
         this.aas4jDatatype = aas4jDatatype;
     }
 
@@ -153,4 +166,15 @@ public enum Datatype {
         return implementation;
     }
 
+
+    /**
+     * Creates a new, empty instance of the {@link TypedValue} implementation of this datatype without using
+     * reflection.
+     *
+     * @return a new instance of the implementation of this datatype
+     */
+    protected TypedValue<?> newInstance() {
+        return constructor.get();
+    }
+
 }
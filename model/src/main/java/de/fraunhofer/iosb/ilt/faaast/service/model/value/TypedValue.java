@@ -19,14 +19,34 @@ import java.util.Objects;
 
 
 /**
- * Base class for representing typed value.
+ * Base class for representing typed value. How the value is stored is up to the implementation, see
+ * {@link de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.AbstractObjectValue} and
+ * {@link de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.AbstractPrimitiveValue}.
  *
  * @param <T> type of underlying Java type
  */
 public abstract class TypedValue<T> {
 
+    /**
+     * The value of value types storing it as Java object.
+     *
+     * @deprecated only kept for compatibility with subclasses written against previous versions. Subclasses should
+     *             extend {@link de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.AbstractObjectValue} or
+     *             {@link de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.AbstractPrimitiveValue} and access
+     *             the value via {@link #getValue()} and {@link #setValue(Object)} instead. Unused by value types storing
+     *             primitives.
+     */
+    @Deprecated(since = "1.1.0")
     protected T value;
 
+    /**
+     * Creates a new instance holding the given value.
+     *
+     * @param value the value
+     * @deprecated only kept for compatibility with subclasses written against previous versions, use
+     *             {@link de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive.AbstractObjectValue} instead
+     */
+    @Deprecated(since = "1.1.0")
     protected TypedValue(T value) {
         this.value = value;
     }
@@ -41,6 +61,7 @@ public abstract class TypedValue<T> {
      * @return string representation of the actual value.
      */
     public String asString() {
+        T value = getValue();
         return value != null ? value.toString() : "";
     }
 
@@ -57,7 +78,7 @@ public abstract class TypedValue<T> {
             return false;
         }
         final TypedValue<T> other = (TypedValue<T>) obj;
-        return Objects.equals(value, other.value);
+        return Objects.equals(getValue(), other.getValue());
     }
 
 
@@ -78,11 +99,21 @@ public abstract class TypedValue<T> {
     public abstract Datatype getDataType();
 
 
+    /**
+     * Gets the value.
+     *
+     * @return the value or null if no value is present
+     */
     public T getValue() {
         return value;
     }
 
 
+    /**
+     * Sets the value.
+     *
+     * @param value the value to set
+     */
     public void setValue(T value) {
         this.value = value;
     }
@@ -90,6 +121,6 @@ public abstract class TypedValue<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Objects.hash(getValue());
     }
 }
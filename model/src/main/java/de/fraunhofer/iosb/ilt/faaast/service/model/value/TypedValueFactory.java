@@ -14,11 +14,8 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.TypeInstantiationException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 
 
@@ -63,26 +60,12 @@ public class TypedValueFactory {
      * @return typed value representation
      * @throws IllegalArgumentException if datatype is null
      * @throws ValueFormatException if value cannot be converted to datatype
-     * @throws TypeInstantiationException if instantiating new class fails
      */
     public static TypedValue<?> create(Datatype datatype, String value) throws ValueFormatException {
         Ensure.requireNonNull(datatype, "datatype must be non-null");
-        try {
-            Constructor<? extends TypedValue> constructor = datatype.getImplementation().getConstructor();
-            constructor.setAccessible(true);
-            TypedValue<?> result = constructor.newInstance();
-            result.fromString(value);
-            return result;
-        }
-        catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new TypeInstantiationException(
-                    String.format(
-                            "could not create typed value (datatype: %s, value: %s)",
-                            datatype.getName(),
-                            value),
-                    e);
-        }
-
+        TypedValue<?> result = datatype.newInstance();
+        result.fromString(value);
+        return result;
     }
 
 
@@ -25,6 +25,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
@@ -41,6 +42,7 @@ import org.slf4j.LoggerFactory;
 public class ElementValueMapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementValueMapper.class);
+    private static final Map<Class<?>, Class<?>> AAS_INTERFACES = new ConcurrentHashMap<>();
     private static Map<Class<? extends SubmodelElement>, ? extends DataValueMapper> mappers;
 
     private ElementValueMapper() {}
@@ -92,11 +94,11 @@ public class ElementValueMapper {
     public static <T extends SubmodelElement> ElementValue toValue(T submodelElement) throws ValueMappingException {
         init();
         Ensure.requireNonNull(submodelElement, "submodelElement must be non-null");
-        Class<?> aasInterface = ReflectionHelper.getAasInterface(submodelElement.getClass());
+        Class<?> aasInterface = getAasInterface(submodelElement.getClass());
         if (!mappers.containsKey(aasInterface)) {
             throw new ValueMappingException("no mapper defined for AAS type " + aasInterface.getSimpleName());
         }
-        return mappers.get(ReflectionHelper.getAasInterface(submodelElement.getClass())).toValue(submodelElement);
+        return mappers.get(aasInterface).toValue(submodelElement);
     }
 
 
@@ -118,11 +120,11 @@ public class ElementValueMapper {
         init();
         Ensure.requireNonNull(submodelElement, "submodelElement must be non-null");
         Ensure.requireNonNull(type, "type must be non-null");
-        Class<?> aasInterface = ReflectionHelper.getAasInterface(submodelElement.getClass());
+        Class<?> aasInterface = getAasInterface(submodelElement.getClass());
         if (!mappers.containsKey(aasInterface)) {
             throw new ValueMappingException(String.format("no mapper defined for AAS type %s", aasInterface.getSimpleName()));
         }
-        ElementValue result = mappers.get(ReflectionHelper.getAasInterface(submodelElement.getClass())).toValue(submodelElement);
+        ElementValue result = mappers.get(aasInterface).toValue(submodelElement);
         if (Objects.nonNull(result) && !type.isAssignableFrom(result.getClass())) {
             throw new ValueMappingException(String.format("type mismatch (expected: %s but found: %s",
                     type.getSimpleName(),
@@ -191,10 +193,23 @@ public class ElementValueMapper {
         init();
         Ensure.requireNonNull(submodelElement, "submodelElement must be non-null");
         Ensure.requireNonNull(elementValue, "elementValue must be non-null");
-        if (!mappers.containsKey(ReflectionHelper.getAasInterface(submodelElement.getClass()))) {
+        Class<?> aasInterface = getAasInterface(submodelElement.getClass());
+        if (!mappers.containsKey(aasInterface)) {
             throw new IllegalArgumentException("no mapper defined for submodelElement type " + submodelElement.getClass().getSimpleName());
         }
-        return (T) mappers.get(ReflectionHelper.getAasInterface(submodelElement.getClass())).setValue(submodelElement, elementValue);
+        return (T) mappers.get(aasInterface).setValue(submodelElement, elementValue);
+    }
+
+
+    /**
+     * Gets the AAS interface of a given type. As resolving the interface requires reflection, the result is cached per
+     * type.
+     *
+     * @param type the type
+     * @return the AAS interface of the type
+     */
+    private static Class<?> getAasInterface(Class<?> type) {
+        return AAS_INTERFACES.computeIfAbsent(type, ReflectionHelper::getAasInterface);
     }
 
 }
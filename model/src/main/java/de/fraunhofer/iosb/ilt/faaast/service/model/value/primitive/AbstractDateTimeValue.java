@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
@@ -30,7 +29,7 @@ import org.apache.commons.lang3.StringUtils;
  *
  * @param <T> The actual type
  */
-public abstract class AbstractDateTimeValue<T extends Temporal> extends TypedValue<T> {
+public abstract class AbstractDateTimeValue<T extends Temporal> extends AbstractObjectValue<T> {
 
     private boolean isLocal = false;
 
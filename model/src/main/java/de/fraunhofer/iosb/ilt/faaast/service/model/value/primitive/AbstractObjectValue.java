@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
+
+
+/**
+ * Abstract base class for values stored as Java object. Subclasses access the value via {@link #getValue()} and
+ * {@link #setValue(Object)}.
+ *
+ * @param <T> type of underlying Java type
+ */
+@SuppressWarnings("deprecation")
+public abstract class AbstractObjectValue<T> extends TypedValue<T> {
+
+    protected AbstractObjectValue(T value) {
+        this.value = value;
+    }
+
+
+    protected AbstractObjectValue() {}
+
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+
+    @Override
+    public void setValue(T value) {
+        this.value = value;
+    }
+}
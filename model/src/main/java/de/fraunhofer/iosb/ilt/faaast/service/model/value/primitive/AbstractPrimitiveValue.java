@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
+import java.util.Objects;
+import org.apache.commons.lang3.StringUtils;
+
+
+/**
+ * Abstract base class for values stored as Java primitive, e.g. {@code int} instead of {@link Integer}, to avoid
+ * boxing. As primitives can not be {@code null}, whether a value is present is tracked separately. Subclasses hold the
+ * primitive field, provide typed accessors for it and convert it from and to its boxed and string representation.
+ *
+ * @param <T> the boxed type of the primitive
+ */
+public abstract class AbstractPrimitiveValue<T> extends TypedValue<T> {
+
+    private boolean present;
+
+    protected AbstractPrimitiveValue() {
+        super();
+    }
+
+
+    @Override
+    public String asString() {
+        return present ? formatValue() : "";
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final AbstractPrimitiveValue<T> other = (AbstractPrimitiveValue<T>) obj;
+        return present == other.present && (!present || valueEquals(other));
+    }
+
+
+    @Override
+    public void fromString(String value) throws ValueFormatException {
+        if (StringUtils.isAllBlank(value)) {
+            setValue(null);
+            return;
+        }
+        try {
+            parseValue(value);
+        }
+        catch (NumberFormatException e) {
+            throw new ValueFormatException(e);
+        }
+    }
+
+
+    @Override
+    public T getValue() {
+        return present ? boxValue() : null;
+    }
+
+
+    /**
+     * Checks if a value is present, i.e. if {@link #getValue()} would return a non-null value.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return present ? valueHashCode() : 0;
+    }
+
+
+    @Override
+    public void setValue(T value) {
+        if (Objects.isNull(value)) {
+            present = false;
+            clearValue();
+        }
+        else {
+            unboxValue(value);
+        }
+    }
+
+
+    /**
+     * Marks the value as present. Must be called by subclasses whenever the primitive value is set.
+     */
+    protected void markPresent() {
+        present = true;
+    }
+
+
+    /**
+     * Gets the primitive value as boxed type. Only called if a value is present.
+     *
+     * @return the boxed value
+     */
+    protected abstract T boxValue();
+
+
+    /**
+     * Sets the primitive value from its boxed type.
+     *
+     * @param value the non-null value to set
+     */
+    protected abstract void unboxValue(T value);
+
+
+    /**
+     * Resets the primitive value to its default, e.g. {@code 0}, when the value is set to {@code null}.
+     */
+    protected abstract void clearValue();
+
+
+    /**
+     * Formats the primitive value as string. Only called if a value is present.
+     *
+     * @return the string representation of the value
+     */
+    protected abstract String formatValue();
+
+
+    /**
+     * Parses the primitive value from a non-blank string and sets it.
+     *
+     * @param value the string to parse
+     * @throws NumberFormatException if the string can not be parsed
+     */
+    protected abstract void parseValue(String value);
+
+
+    /**
+     * Compares the primitive value to the one of another instance of the same class. Only called if values are
+     * present on both instances.
+     *
+     * @param other the other instance
+     * @return true if the values are equal, otherwise false
+     */
+    protected abstract boolean valueEquals(AbstractPrimitiveValue<T> other);
+
+
+    /**
+     * Computes the hash code of the primitive value. Only called if a value is present.
+     *
+     * @return the hash code of the value
+     */
+    protected abstract int valueHashCode();
+}
@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import org.apache.commons.lang3.StringUtils;
 
 
@@ -24,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
  * An URI value conforming to RFC3987. Unfortunately, java.net.URI does not support RFC3987 and there is actually no
  * other class implementing this RFC so we stay with simple string for now.
  */
-public class AnyURIValue extends TypedValue<String> {
+public class AnyURIValue extends AbstractObjectValue<String> {
 
     public AnyURIValue() {
         super();
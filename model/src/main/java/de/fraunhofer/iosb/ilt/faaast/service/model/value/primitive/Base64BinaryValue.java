@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import java.util.Base64;
 import org.apache.commons.lang3.StringUtils;
 
@@ -24,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * A hex binary value.
  */
-public class Base64BinaryValue extends TypedValue<byte[]> {
+public class Base64BinaryValue extends AbstractObjectValue<byte[]> {
 
     public Base64BinaryValue() {
         super();
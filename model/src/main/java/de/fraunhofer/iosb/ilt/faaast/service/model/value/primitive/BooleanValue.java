@@ -15,13 +15,17 @@
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 
 
 /**
  * A boolean value.
+ *
+ * <p>The value is stored as primitive {@code boolean}. Use {@link #getBooleanValue()} and {@link #setBooleanValue(boolean)}
+ * to access it without boxing.
  */
-public class BooleanValue extends TypedValue<Boolean> {
+public class BooleanValue extends AbstractPrimitiveValue<Boolean> {
+
+    private boolean primitiveValue;
 
     public BooleanValue() {
         super();
@@ -29,19 +33,21 @@ public class BooleanValue extends TypedValue<Boolean> {
 
 
     public BooleanValue(Boolean value) {
-        super(value);
+        super();
+        setValue(value);
     }
 
 
-    @Override
-    public String asString() {
-        return Boolean.toString(value);
+    public BooleanValue(boolean value) {
+        super();
+        setBooleanValue(value);
     }
 
 
     @Override
     public void fromString(String value) {
-        this.setValue(Boolean.valueOf(value));
+        // lenient parsing, i.e. blank or invalid strings result in false instead of no value
+        parseValue(value);
     }
 
 
@@ -50,4 +56,66 @@ public class BooleanValue extends TypedValue<Boolean> {
         return Datatype.BOOLEAN;
     }
 
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code false} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public boolean getBooleanValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setBooleanValue(boolean value) {
+        this.primitiveValue = value;
+        markPresent();
+    }
+
+
+    @Override
+    protected Boolean boxValue() {
+        return Boolean.valueOf(primitiveValue);
+    }
+
+
+    @Override
+    protected void unboxValue(Boolean value) {
+        setBooleanValue(value);
+    }
+
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = false;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return Boolean.toString(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setBooleanValue(Boolean.parseBoolean(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Boolean> other) {
+        return primitiveValue == ((BooleanValue) other).primitiveValue;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Boolean.hashCode(primitiveValue);
+    }
 }
@@ -14,16 +14,18 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * A byte value.
+ *
+ * <p>The value is stored as primitive {@code byte}. Use {@link #getByteValue()} and {@link #setByteValue(byte)}
+ * to access it without boxing.
  */
-public class ByteValue extends TypedValue<Byte> {
+public class ByteValue extends AbstractPrimitiveValue<Byte> {
+
+    private byte primitiveValue;
 
     public ByteValue() {
         super();
@@ -31,34 +33,82 @@ public class ByteValue extends TypedValue<Byte> {
 
 
     public ByteValue(Byte value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public ByteValue(byte value) {
+        super();
+        setByteValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return Byte.toString(value);
+    public Datatype getDataType() {
+        return Datatype.BYTE;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public byte getByteValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setByteValue(byte value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(Byte.parseByte(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Byte boxValue() {
+        return Byte.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.BYTE;
+    protected void unboxValue(Byte value) {
+        setByteValue(value);
     }
 
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return Byte.toString(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setByteValue(Byte.parseByte(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Byte> other) {
+        return primitiveValue == ((ByteValue) other).primitiveValue;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Byte.hashCode(primitiveValue);
+    }
 }
@@ -14,17 +14,19 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import jakarta.xml.bind.DatatypeConverter;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * A double value.
+ *
+ * <p>The value is stored as primitive {@code double}. Use {@link #getDoubleValue()} and {@link #setDoubleValue(double)}
+ * to access it without boxing.
  */
-public class DoubleValue extends TypedValue<Double> {
+public class DoubleValue extends AbstractPrimitiveValue<Double> {
+
+    private double primitiveValue;
 
     public DoubleValue() {
         super();
@@ -32,34 +34,82 @@ public class DoubleValue extends TypedValue<Double> {
 
 
     public DoubleValue(Double value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public DoubleValue(double value) {
+        super();
+        setDoubleValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return DatatypeConverter.printDouble(value);
+    public Datatype getDataType() {
+        return Datatype.DOUBLE;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public double getDoubleValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setDoubleValue(double value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(DatatypeConverter.parseDouble(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Double boxValue() {
+        return Double.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.DOUBLE;
+    protected void unboxValue(Double value) {
+        setDoubleValue(value);
     }
 
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return DatatypeConverter.printDouble(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setDoubleValue(DatatypeConverter.parseDouble(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Double> other) {
+        return Double.compare(primitiveValue, ((DoubleValue) other).primitiveValue) == 0;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Double.hashCode(primitiveValue);
+    }
 }
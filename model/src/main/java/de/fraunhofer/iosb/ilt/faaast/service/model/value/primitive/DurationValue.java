@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.Duration;
 import org.apache.commons.lang3.StringUtils;
@@ -25,7 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * An duration value, ISO8601.
  */
-public class DurationValue extends TypedValue<Duration> {
+public class DurationValue extends AbstractObjectValue<Duration> {
 
     public DurationValue() {
         super();
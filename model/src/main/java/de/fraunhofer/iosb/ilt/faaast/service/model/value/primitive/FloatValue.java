@@ -14,17 +14,19 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import jakarta.xml.bind.DatatypeConverter;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * A float value.
+ *
+ * <p>The value is stored as primitive {@code float}. Use {@link #getFloatValue()} and {@link #setFloatValue(float)}
+ * to access it without boxing.
  */
-public class FloatValue extends TypedValue<Float> {
+public class FloatValue extends AbstractPrimitiveValue<Float> {
+
+    private float primitiveValue;
 
     public FloatValue() {
         super();
@@ -32,34 +34,82 @@ public class FloatValue extends TypedValue<Float> {
 
 
     public FloatValue(Float value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public FloatValue(float value) {
+        super();
+        setFloatValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return DatatypeConverter.printFloat(value);
+    public Datatype getDataType() {
+        return Datatype.FLOAT;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public float getFloatValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setFloatValue(float value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(DatatypeConverter.parseFloat(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Float boxValue() {
+        return Float.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.FLOAT;
+    protected void unboxValue(Float value) {
+        setFloatValue(value);
     }
 
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return DatatypeConverter.printFloat(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setFloatValue(DatatypeConverter.parseFloat(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Float> other) {
+        return Float.compare(primitiveValue, ((FloatValue) other).primitiveValue) == 0;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Float.hashCode(primitiveValue);
+    }
 }
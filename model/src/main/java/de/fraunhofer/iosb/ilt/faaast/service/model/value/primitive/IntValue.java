@@ -14,16 +14,18 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * An int value. 32-bit, -2147483648…2147483647
+ *
+ * <p>The value is stored as primitive {@code int}. Use {@link #getIntValue()} and {@link #setIntValue(int)}
+ * to access it without boxing.
  */
-public class IntValue extends TypedValue<Integer> {
+public class IntValue extends AbstractPrimitiveValue<Integer> {
+
+    private int primitiveValue;
 
     public IntValue() {
         super();
@@ -31,33 +33,82 @@ public class IntValue extends TypedValue<Integer> {
 
 
     public IntValue(Integer value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public IntValue(int value) {
+        super();
+        setIntValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return Integer.toString(value);
+    public Datatype getDataType() {
+        return Datatype.INT;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public int getIntValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setIntValue(int value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(Integer.parseInt(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Integer boxValue() {
+        return Integer.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.INT;
+    protected void unboxValue(Integer value) {
+        setIntValue(value);
+    }
+
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return Integer.toString(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setIntValue(Integer.parseInt(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Integer> other) {
+        return primitiveValue == ((IntValue) other).primitiveValue;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Integer.hashCode(primitiveValue);
     }
 }
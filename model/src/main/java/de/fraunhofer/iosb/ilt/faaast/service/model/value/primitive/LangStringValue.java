@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.AbstractLangString;
@@ -26,7 +25,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
 /**
  * A string with language value.
  */
-public class LangStringValue extends TypedValue<AbstractLangString> {
+public class LangStringValue extends AbstractObjectValue<AbstractLangString> {
 
     private static final String SEPARATOR = "@";
 
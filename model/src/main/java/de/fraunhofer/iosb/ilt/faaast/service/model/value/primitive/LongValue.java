@@ -14,16 +14,18 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * A long value. 64-bit, -9223372036854775808…9223372036854775807
+ *
+ * <p>The value is stored as primitive {@code long}. Use {@link #getLongValue()} and {@link #setLongValue(long)}
+ * to access it without boxing.
  */
-public class LongValue extends TypedValue<Long> {
+public class LongValue extends AbstractPrimitiveValue<Long> {
+
+    private long primitiveValue;
 
     public LongValue() {
         super();
@@ -31,34 +33,82 @@ public class LongValue extends TypedValue<Long> {
 
 
     public LongValue(Long value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public LongValue(long value) {
+        super();
+        setLongValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return Long.toString(value);
+    public Datatype getDataType() {
+        return Datatype.LONG;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public long getLongValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setLongValue(long value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(Long.parseLong(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Long boxValue() {
+        return Long.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.LONG;
+    protected void unboxValue(Long value) {
+        setLongValue(value);
     }
 
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return Long.toString(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setLongValue(Long.parseLong(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Long> other) {
+        return primitiveValue == ((LongValue) other).primitiveValue;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Long.hashCode(primitiveValue);
+    }
 }
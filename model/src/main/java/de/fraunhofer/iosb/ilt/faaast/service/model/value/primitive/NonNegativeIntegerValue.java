@@ -16,7 +16,6 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import java.math.BigInteger;
 import org.apache.commons.lang3.StringUtils;
 
@@ -24,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * A non negative integer value.
  */
-public class NonNegativeIntegerValue extends TypedValue<BigInteger> {
+public class NonNegativeIntegerValue extends AbstractObjectValue<BigInteger> {
 
     public NonNegativeIntegerValue() {
         super();
@@ -14,16 +14,18 @@
  */
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
-import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * A short value. 16-bit, -32768…32767
+ *
+ * <p>The value is stored as primitive {@code short}. Use {@link #getShortValue()} and {@link #setShortValue(short)}
+ * to access it without boxing.
  */
-public class ShortValue extends TypedValue<Short> {
+public class ShortValue extends AbstractPrimitiveValue<Short> {
+
+    private short primitiveValue;
 
     public ShortValue() {
         super();
@@ -31,34 +33,82 @@ public class ShortValue extends TypedValue<Short> {
 
 
     public ShortValue(Short value) {
-        super(value);
+        super();
+        setValue(value);
+    }
+
+
+    public ShortValue(short value) {
+        super();
+        setShortValue(value);
     }
 
 
     @Override
-    public String asString() {
-        return Short.toString(value);
+    public Datatype getDataType() {
+        return Datatype.SHORT;
+    }
+
+
+    /**
+     * Gets the value as primitive without boxing. Returns {@code 0} if no value is present.
+     *
+     * @return the value as primitive
+     */
+    public short getShortValue() {
+        return primitiveValue;
+    }
+
+
+    /**
+     * Sets the value without boxing.
+     *
+     * @param value the value to set
+     */
+    public void setShortValue(short value) {
+        this.primitiveValue = value;
+        markPresent();
     }
 
 
     @Override
-    public void fromString(String value) throws ValueFormatException {
-        if (StringUtils.isAllBlank(value)) {
-            this.setValue(null);
-            return;
-        }
-        try {
-            this.setValue(Short.parseShort(value));
-        }
-        catch (NumberFormatException e) {
-            throw new ValueFormatException(e);
-        }
+    protected Short boxValue() {
+        return Short.valueOf(primitiveValue);
     }
 
 
     @Override
-    public Datatype getDataType() {
-        return Datatype.SHORT;
+    protected void unboxValue(Short value) {
+        setShortValue(value);
     }
 
+
+    @Override
+    protected void clearValue() {
+        this.primitiveValue = 0;
+    }
+
+
+    @Override
+    protected String formatValue() {
+        return Short.toString(primitiveValue);
+    }
+
+
+    @Override
+    protected void parseValue(String value) {
+        setShortValue(Short.parseShort(value));
+    }
+
+
+    @Override
+    protected boolean valueEquals(AbstractPrimitiveValue<Short> other) {
+        return primitiveValue == ((ShortValue) other).primitiveValue;
+    }
+
+
+    @Override
+    protected int valueHashCode() {
+        return Short.hashCode(primitiveValue);
+    }
 }
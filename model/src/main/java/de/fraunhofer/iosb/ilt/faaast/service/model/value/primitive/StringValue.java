@@ -15,13 +15,12 @@
 package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 
 
 /**
  * A string value.
  */
-public class StringValue extends TypedValue<String> {
+public class StringValue extends AbstractObjectValue<String> {
 
     public StringValue() {
         super();
@@ -16,14 +16,13 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * An unsigned byte value.
  */
-public class UnsignedByteValue extends TypedValue<Short> {
+public class UnsignedByteValue extends AbstractObjectValue<Short> {
 
     public UnsignedByteValue() {
         super();
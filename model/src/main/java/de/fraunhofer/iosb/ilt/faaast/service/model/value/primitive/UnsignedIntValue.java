@@ -16,14 +16,13 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * An unsigned int value.
  */
-public class UnsignedIntValue extends TypedValue<Long> {
+public class UnsignedIntValue extends AbstractObjectValue<Long> {
 
     private static final long MAX_VALUE = (Integer.MAX_VALUE * 2l) + 1;
 
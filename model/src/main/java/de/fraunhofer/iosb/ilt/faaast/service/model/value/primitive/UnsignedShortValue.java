@@ -16,14 +16,13 @@ package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
 
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
-import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
 import org.apache.commons.lang3.StringUtils;
 
 
 /**
  * An unsigned short value.
  */
-public class UnsignedShortValue extends TypedValue<Integer> {
+public class UnsignedShortValue extends AbstractObjectValue<Integer> {
 
     private static final Integer MAX_VALUE = Short.MAX_VALUE * 2 + 1;
 
@@ -18,6 +18,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.IdShortPath;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,6 +47,7 @@ public class ReferenceHelper {
     private static final String BRACKET_LEFT = "(";
     private static final String BRACKET_RIGHT = ")";
     private static final String KEY_SEPARATOR = ", ";
+    private static final Map<KeyTypes, Class<?>> KEY_TYPE_CLASSES = initKeyTypeClasses();
     private static final String REFERRED_SEMANTIC_ID_END = " -";
     private static final String REFERRED_SEMANTIC_ID_START = "- ";
     private static final String SQUARE_BRACKET_LEFT = "[";
@@ -147,10 +149,19 @@ public class ReferenceHelper {
      *         be found. It also returns abstract types like SUBMODEL_ELEMENT or DATA_ELEMENT
      */
     private static Class<?> keyTypeToClass(KeyTypes key) {
-        return Stream.concat(ReflectionHelper.INTERFACES.stream(), ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.stream())
-                .filter(x -> x.getSimpleName().equals(EnumSerializer.serializeEnumName(key.name())))
-                .findAny()
-                .orElse(null);
+        return KEY_TYPE_CLASSES.get(key);
+    }
+
+
+    private static Map<KeyTypes, Class<?>> initKeyTypeClasses() {
+        Map<KeyTypes, Class<?>> result = new EnumMap<>(KeyTypes.class);
+        for (KeyTypes key: KeyTypes.values()) {
+            result.put(key, Stream.concat(ReflectionHelper.INTERFACES.stream(), ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.stream())
+                    .filter(x -> x.getSimpleName().equals(EnumSerializer.serializeEnumName(key.name())))
+                    .findAny()
+                    .orElse(null));
+        }
+        return result;
     }
 
 
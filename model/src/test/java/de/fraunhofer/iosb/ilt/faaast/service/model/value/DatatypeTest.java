@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class DatatypeTest {
+
+    @Test
+    public void testNewInstanceMatchesImplementation() {
+        for (Datatype datatype: Datatype.values()) {
+            TypedValue<?> actual = datatype.newInstance();
+            Assert.assertEquals(datatype.getImplementation(), actual.getClass());
+            Assert.assertEquals(datatype, actual.getDataType());
+        }
+    }
+
+
+    @Test
+    public void testFromName() {
+        for (Datatype datatype: Datatype.values()) {
+            Assert.assertEquals(datatype, Datatype.fromName(datatype.getName()));
+        }
+        Assert.assertEquals(Datatype.DEFAULT, Datatype.fromName("xs:unknown"));
+        Assert.assertEquals(Datatype.DEFAULT, Datatype.fromName(null));
+    }
+
+
+    @Test
+    public void testFromAas4jDatatype() {
+        Assert.assertEquals(Datatype.STRING, Datatype.fromAas4jDatatype(DataTypeDefXsd.STRING));
+        Assert.assertEquals(Datatype.INT, Datatype.fromAas4jDatatype(DataTypeDefXsd.INT));
+        Assert.assertEquals(Datatype.DEFAULT, Datatype.fromAas4jDatatype(null));
+    }
+}
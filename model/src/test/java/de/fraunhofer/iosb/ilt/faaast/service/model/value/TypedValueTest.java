@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class TypedValueTest {
+
+    @Test
+    public void testSubclassUsingValueField() {
+        LegacyValue actual = new LegacyValue("foo");
+        Assert.assertEquals("foo", actual.getValue());
+        Assert.assertEquals("foo", actual.asString());
+        Assert.assertEquals(new LegacyValue("foo"), actual);
+        Assert.assertEquals(new LegacyValue("foo").hashCode(), actual.hashCode());
+        actual.fromString("bar");
+        Assert.assertEquals("bar", actual.getValue());
+        actual.setValue(null);
+        Assert.assertEquals("", actual.asString());
+    }
+
+    /**
+     * Value type implemented the way custom subclasses were written before values could be stored as primitives, i.e.
+     * using the value field and constructor of {@link TypedValue}.
+     */
+    @SuppressWarnings("deprecation")
+    private static class LegacyValue extends TypedValue<String> {
+
+        private LegacyValue(String value) {
+            super(value);
+        }
+
+
+        @Override
+        public void fromString(String value) {
+            this.value = value;
+        }
+
+
+        @Override
+        public Datatype getDataType() {
+            return Datatype.STRING;
+        }
+    }
+}
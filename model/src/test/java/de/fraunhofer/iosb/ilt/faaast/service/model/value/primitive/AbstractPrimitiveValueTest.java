@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class AbstractPrimitiveValueTest {
+
+    private static final List<Supplier<AbstractPrimitiveValue<?>>> EMPTY_VALUES = List.of(
+            BooleanValue::new,
+            ByteValue::new,
+            ShortValue::new,
+            IntValue::new,
+            LongValue::new,
+            FloatValue::new,
+            DoubleValue::new);
+
+    @Test
+    public void testEmptyDiffersFromDefault() throws ValueFormatException {
+        for (Supplier<AbstractPrimitiveValue<?>> constructor: EMPTY_VALUES) {
+            AbstractPrimitiveValue<?> empty = constructor.get();
+            AbstractPrimitiveValue<?> zero = constructor.get();
+            zero.fromString(empty instanceof BooleanValue ? "false" : "0");
+            Assert.assertFalse(empty.isPresent());
+            Assert.assertNull(empty.getValue());
+            Assert.assertEquals("", empty.asString());
+            Assert.assertTrue(zero.isPresent());
+            Assert.assertNotEquals(empty, zero);
+            Assert.assertEquals(constructor.get(), empty);
+            Assert.assertEquals(constructor.get().hashCode(), empty.hashCode());
+        }
+    }
+
+
+    @Test
+    public void testBoxedRoundTrip() throws ValueFormatException {
+        for (Supplier<AbstractPrimitiveValue<?>> constructor: EMPTY_VALUES) {
+            AbstractPrimitiveValue expected = constructor.get();
+            expected.fromString(expected instanceof BooleanValue ? "true" : "42");
+            AbstractPrimitiveValue actual = constructor.get();
+            actual.setValue(expected.getValue());
+            Assert.assertEquals(expected, actual);
+            Assert.assertEquals(expected.getValue().hashCode(), actual.hashCode());
+            Assert.assertEquals(expected.asString(), actual.asString());
+            actual.setValue(null);
+            Assert.assertFalse(actual.isPresent());
+            Assert.assertEquals(constructor.get(), actual);
+        }
+    }
+}
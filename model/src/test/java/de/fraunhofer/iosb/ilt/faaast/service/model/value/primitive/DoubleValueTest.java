@@ -92,4 +92,14 @@ public class DoubleValueTest {
         Assert.assertEquals(value, actual.asString());
     }
 
+
+    @Test
+    public void testEqualsPrimitiveAndBoxed() throws ValueFormatException {
+        Assert.assertEquals(new DoubleValue(Double.NaN), new DoubleValue(Double.valueOf(Double.NaN)));
+        Assert.assertEquals(new DoubleValue(1.5), TypedValueFactory.create(Datatype.DOUBLE, "1.5"));
+        Assert.assertEquals(new DoubleValue(1.5).hashCode(), TypedValueFactory.create(Datatype.DOUBLE, "1.5").hashCode());
+        Assert.assertNotEquals(new DoubleValue(0.0), new DoubleValue(-0.0));
+        Assert.assertNotEquals(new DoubleValue(0.0), new DoubleValue((Double) null));
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Fraunhofer IOSB, eine rechtlich nicht selbstaendige
+ * Einrichtung der Fraunhofer-Gesellschaft zur Foerderung der angewandten
+ * Forschung e.V.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.fraunhofer.iosb.ilt.faaast.service.model.value.primitive;
+
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueFormatException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.Datatype;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.TypedValueFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class IntValueTest {
+
+    @Test
+    public void testNegative() throws ValueFormatException {
+        String value = "-42";
+        TypedValue actual = TypedValueFactory.create(Datatype.INT, value);
+        Assert.assertEquals(-42, actual.getValue());
+        Assert.assertEquals(-42, ((IntValue) actual).getIntValue());
+        Assert.assertEquals(value, actual.asString());
+    }
+
+
+    @Test
+    public void testEmpty() throws ValueFormatException {
+        IntValue actual = (IntValue) TypedValueFactory.create(Datatype.INT, "");
+        Assert.assertFalse(actual.isPresent());
+        Assert.assertNull(actual.getValue());
+        Assert.assertEquals("", actual.asString());
+        Assert.assertEquals(new IntValue(), actual);
+        Assert.assertNotEquals(new IntValue(0), actual);
+    }
+
+
+    @Test
+    public void testPrimitiveAccess() {
+        IntValue actual = new IntValue();
+        actual.setIntValue(7);
+        Assert.assertTrue(actual.isPresent());
+        Assert.assertEquals(Integer.valueOf(7), actual.getValue());
+        Assert.assertEquals(new IntValue(Integer.valueOf(7)), actual);
+        Assert.assertEquals(new IntValue(Integer.valueOf(7)).hashCode(), actual.hashCode());
+        actual.setValue(null);
+        Assert.assertFalse(actual.isPresent());
+        Assert.assertEquals(0, actual.getIntValue());
+    }
+
+
+    @Test(expected = ValueFormatException.class)
+    public void testInvalid() throws ValueFormatException {
+        TypedValueFactory.create(Datatype.INT, "2147483648");
+    }
+
+}
@@ -37,18 +37,25 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.Page;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.paging.PagingInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.AssetAdministrationShellSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.ConceptDescriptionSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelElementSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.memory.PersistenceInMemory;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.memory.PersistenceInMemoryConfig;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
@@ -73,11 +80,13 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     private static final Logger LOGGER = LoggerFactory.getLogger(PersistenceFile.class);
     private static final String OPERATION_STATES_FILENAME = "operation-states.json";
     private final ObjectMapper mapper;
+    private final ThreadLocal<Batch> currentBatch;
     private PersistenceFileConfig config;
     private PersistenceInMemory persistence;
     private File operationStatesFile;
 
     public PersistenceFile() {
+        currentBatch = new ThreadLocal<>();
         mapper = new ObjectMapper();
         SimpleModule module = new SimpleModule();
         module.addKeySerializer(OperationHandle.class, new JsonSerializer<OperationHandle>() {
@@ -153,6 +162,12 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     }
 
 
+    @Override
+    public Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException {
+        return persistence.getVersion(reference);
+    }
+
+
     @Override
     public OperationResult getOperationResult(OperationHandle handle) throws ResourceNotFoundException {
         return persistence.getOperationResult(handle);
@@ -218,6 +233,14 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     }
 
 
+    @Override
+    public Map<Reference, ElementValue> updateValues(Map<Reference, ? extends ElementValue> values) throws ResourceNotFoundException, ValueMappingException {
+        Map<Reference, ElementValue> result = persistence.updateValues(values);
+        saveEnvironment();
+        return result;
+    }
+
+
     @Override
     public void save(OperationHandle handle, OperationResult result) {
         persistence.save(handle, result);
@@ -253,7 +276,63 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
     }
 
 
+    @Override
+    public void beginBatch() {
+        Batch batch = currentBatch.get();
+        if (Objects.isNull(batch)) {
+            batch = new Batch();
+            currentBatch.set(batch);
+        }
+        batch.depth++;
+    }
+
+
+    @Override
+    public void endBatch() {
+        Batch batch = currentBatch.get();
+        if (Objects.isNull(batch)) {
+            return;
+        }
+        batch.depth--;
+        if (batch.depth <= 0) {
+            currentBatch.remove();
+            if (batch.modified.get()) {
+                saveEnvironment();
+            }
+        }
+    }
+
+
+    @Override
+    public <T> Supplier<T> bindToCurrentBatch(Supplier<T> task) {
+        Batch batch = currentBatch.get();
+        if (Objects.isNull(batch)) {
+            return task;
+        }
+        return () -> {
+            Batch previous = currentBatch.get();
+            currentBatch.set(batch);
+            try {
+                return task.get();
+            }
+            finally {
+                if (Objects.isNull(previous)) {
+                    currentBatch.remove();
+                }
+                else {
+                    currentBatch.set(previous);
+                }
+            }
+        };
+    }
+
+
     private void saveEnvironment() {
+        Batch batch = currentBatch.get();
+        if (Objects.nonNull(batch)) {
+            batch.modified.set(true);
+            return;
+        }
         try {
             EnvironmentSerializationManager
                     .serializerFor(config.getDataformat())
@@ -289,4 +368,14 @@ public class PersistenceFile implements Persistence<PersistenceFileConfig> {
         }
     }
 
+    /**
+     * State of a batch. The depth is only modified by the thread that started the batch while the modified flag may
+     * also be set by other threads that execute tasks bound to the batch.
+     */
+    private static class Batch {
+
+        private int depth;
+        private final AtomicBoolean modified = new AtomicBoolean(false);
+    }
+
 }
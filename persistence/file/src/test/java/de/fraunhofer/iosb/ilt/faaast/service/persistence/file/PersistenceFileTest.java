@@ -25,13 +25,16 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundExc
 import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.AbstractPersistenceTest;
 import de.fraunhofer.iosb.ilt.faaast.service.util.FileHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.LambdaExceptionHelper;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
 import org.bouncycastle.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.junit.After;
@@ -190,6 +193,67 @@ public class PersistenceFileTest extends AbstractPersistenceTest<PersistenceFile
     }
 
 
+    @Test
+    public void testBatchWritesOnlyOnce() throws ResourceNotFoundException, ConfigurationException, IOException {
+        PersistenceFileConfig config = PersistenceFileConfig.builder()
+                .initialModelFile(modelFileJson)
+                .dataDir(tempDir.toString())
+                .keepInitial(true)
+                .build();
+        PersistenceFile persistence = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        byte[] initialContent = Files.readAllBytes(config.getFilePath());
+        persistence.beginBatch();
+        persistence.deleteAssetAdministrationShell(model.getAssetAdministrationShells().get(0).getId());
+        persistence.deleteConceptDescription(model.getConceptDescriptions().get(0).getId());
+        Assert.assertArrayEquals(initialContent, Files.readAllBytes(config.getFilePath()));
+        persistence.endBatch();
+        Assert.assertFalse(Arrays.equals(initialContent, Files.readAllBytes(config.getFilePath())));
+    }
+
+
+    @Test
+    public void testBatchDoesNotDeferWritesOfOtherThreads() throws Exception {
+        PersistenceFileConfig config = PersistenceFileConfig.builder()
+                .initialModelFile(modelFileJson)
+                .dataDir(tempDir.toString())
+                .keepInitial(true)
+                .build();
+        PersistenceFile persistence = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        byte[] initialContent = Files.readAllBytes(config.getFilePath());
+        persistence.beginBatch();
+        try {
+            CompletableFuture.supplyAsync(LambdaExceptionHelper.rethrowSupplier(() -> {
+                persistence.deleteAssetAdministrationShell(model.getAssetAdministrationShells().get(0).getId());
+                return null;
+            })).get();
+            Assert.assertFalse(Arrays.equals(initialContent, Files.readAllBytes(config.getFilePath())));
+        }
+        finally {
+            persistence.endBatch();
+        }
+    }
+
+
+    @Test
+    public void testBatchDefersWritesOfBoundTasks() throws Exception {
+        PersistenceFileConfig config = PersistenceFileConfig.builder()
+                .initialModelFile(modelFileJson)
+                .dataDir(tempDir.toString())
+                .keepInitial(true)
+                .build();
+        PersistenceFile persistence = config.newInstance(CoreConfig.DEFAULT, SERVICE_CONTEXT);
+        byte[] initialContent = Files.readAllBytes(config.getFilePath());
+        persistence.beginBatch();
+        CompletableFuture.supplyAsync(persistence.bindToCurrentBatch(LambdaExceptionHelper.rethrowSupplier(() -> {
+            persistence.deleteAssetAdministrationShell(model.getAssetAdministrationShells().get(0).getId());
+            return null;
+        }))).get();
+        Assert.assertArrayEquals(initialContent, Files.readAllBytes(config.getFilePath()));
+        persistence.endBatch();
+        Assert.assertFalse(Arrays.equals(initialContent, Files.readAllBytes(config.getFilePath())));
+    }
+
+
     @After
     public void deleteTempFiles() throws IOException {
         Files.walk(tempDir)
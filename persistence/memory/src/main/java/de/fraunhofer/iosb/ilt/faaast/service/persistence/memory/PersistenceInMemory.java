@@ -19,6 +19,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.config.CoreConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.dataformat.DeserializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.ConfigurationInitializationException;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.IdShortPath;
 import de.fraunhofer.iosb.ilt.faaast.service.model.SubmodelElementIdentifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.modifier.QueryModifier;
 import de.fraunhofer.iosb.ilt.faaast.service.model.api.operation.OperationHandle;
@@ -31,6 +32,9 @@ import de.fraunhofer.iosb.ilt.faaast.service.model.asset.GlobalAssetIdentificati
 import de.fraunhofer.iosb.ilt.faaast.service.model.asset.SpecificAssetIdentification;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotAContainerElementException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ResourceNotFoundException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValueMappingException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.ElementValue;
+import de.fraunhofer.iosb.ilt.faaast.service.model.value.mapper.ElementValueMapper;
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.AssetAdministrationShellElementWalker;
 import de.fraunhofer.iosb.ilt.faaast.service.model.visitor.DefaultAssetAdministrationShellElementVisitor;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.AssetAdministrationShellSearchCriteria;
@@ -38,23 +42,32 @@ import de.fraunhofer.iosb.ilt.faaast.service.persistence.ConceptDescriptionSearc
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.Persistence;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelElementSearchCriteria;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.SubmodelSearchCriteria;
+import de.fraunhofer.iosb.ilt.faaast.service.persistence.VersionInfo;
 import de.fraunhofer.iosb.ilt.faaast.service.persistence.util.QueryModifierHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.CollectionHelper;
-import de.fraunhofer.iosb.ilt.faaast.service.util.DeepCopyHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ElementValueHelper;
+import de.fraunhofer.iosb.ilt.faaast.service.util.EncodingHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.Ensure;
 import de.fraunhofer.iosb.ilt.faaast.service.util.EnvironmentHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceBuilder;
 import de.fraunhofer.iosb.ilt.faaast.service.util.ReferenceHelper;
 import de.fraunhofer.iosb.ilt.faaast.service.util.StringHelper;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -62,6 +75,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
 import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
@@ -88,13 +102,24 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     private static final String MSG_MODIFIER_NOT_NULL = "modifier must be non-null";
     private static final String MSG_CRITERIA_NOT_NULL = "criteria must be non-null";
     private static final String MSG_PAGING_NOT_NULL = "paging must be non-null";
+    private static final String VERSION_KEY_PREFIX_AAS = "aas:";
+    private static final String VERSION_KEY_PREFIX_CONCEPT_DESCRIPTION = "cd:";
+    private static final String VERSION_KEY_PREFIX_SUBMODEL = "sm:";
+    private static final String VERSION_KEY_SEPARATOR = "/";
+    private static final String ID_SHORT_PATH_SEPARATOR = ".";
+    private static final String ID_SHORT_PATH_INDEX_START = "[";
 
     private Environment environment;
     private PersistenceInMemoryConfig config;
     private Map<OperationHandle, OperationResult> operationStates;
+    private final NavigableMap<String, VersionInfo> versions;
+    private final AtomicLong versionCounter;
 
     public PersistenceInMemory() {
         operationStates = new ConcurrentHashMap<>();
+        versions = new ConcurrentSkipListMap<>();
+        // seeding with current time ensures versions are not re-used after a restart
+        versionCounter = new AtomicLong(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
     }
 
 
@@ -119,6 +144,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!environment.getAssetAdministrationShells().removeIf(x -> Objects.equals(x.getId(), id))) {
             throw new ResourceNotFoundException(String.format(MSG_RESOURCE_NOT_FOUND_BY_ID, id));
         }
+        versions.remove(versionKeyForAssetAdministrationShell(id));
     }
 
 
@@ -128,6 +154,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!environment.getConceptDescriptions().removeIf(x -> Objects.equals(x.getId(), id))) {
             throw new ResourceNotFoundException(String.format(MSG_RESOURCE_NOT_FOUND_BY_ID, id));
         }
+        versions.remove(versionKeyForConceptDescription(id));
     }
 
 
@@ -137,9 +164,16 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!environment.getSubmodels().removeIf(x -> Objects.equals(x.getId(), id))) {
             throw new ResourceNotFoundException(String.format(MSG_RESOURCE_NOT_FOUND_BY_ID, id));
         }
+        String versionKey = versionKeyForSubmodel(id);
+        versions.remove(versionKey);
+        removeVersionsWithPrefix(versionKey + VERSION_KEY_SEPARATOR);
         // TODO check if submodelRef inside AAS should really be deleted or this has to be done manually
         Reference submodelRef = ReferenceBuilder.forSubmodel(id);
-        environment.getAssetAdministrationShells().forEach(x -> x.getSubmodels().remove(submodelRef));
+        for (AssetAdministrationShell aas: environment.getAssetAdministrationShells()) {
+            if (aas.getSubmodels().remove(submodelRef)) {
+                versions.put(versionKeyForAssetAdministrationShell(aas.getId()), nextVersion());
+            }
+        }
     }
 
 
@@ -174,6 +208,16 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!deleted.get()) {
             throw new ResourceNotFoundException(reference);
         }
+        SubmodelElementIdentifier parentIdentifier = getParentIdentifier(identifier);
+        if (SubmodelElementList.class.isAssignableFrom(parent.getClass())) {
+            // indices of subsequent elements change
+            invalidateChildVersions(parentIdentifier);
+        }
+        else {
+            versions.remove(versionKey(identifier));
+            invalidateChildVersions(identifier);
+        }
+        updateVersions(parentIdentifier);
     }
 
 
@@ -324,6 +368,29 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     }
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Versions are kept in memory only. All identifiables are assigned a version when the model is loaded and
+     * modifying an element also creates a new version for all of its parents. Submodel elements that have not been
+     * modified since loading inherit the version of their closest versioned parent upon first request, so their
+     * last-modified timestamp reflects the load or last write time rather than the time of the first request. Looking
+     * up the version of an element that has already been requested or modified is a simple map lookup without
+     * accessing the model.
+     */
+    @Override
+    public Optional<VersionInfo> getVersion(Reference reference) throws ResourceNotFoundException {
+        Ensure.requireNonNull(reference, "reference must be non-null");
+        String key = versionKey(reference);
+        VersionInfo result = versions.get(key);
+        if (Objects.isNull(result)) {
+            EnvironmentHelper.resolve(reference, environment);
+            result = versions.computeIfAbsent(key, x -> inheritedVersion(reference));
+        }
+        return Optional.of(result);
+    }
+
+
     @Override
     public void init(CoreConfig coreConfig, PersistenceInMemoryConfig config, ServiceContext context) throws ConfigurationInitializationException {
         Ensure.requireNonNull(config, "config must be non-null");
@@ -335,6 +402,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         catch (InvalidConfigurationException | DeserializationException e) {
             throw new ConfigurationInitializationException("error initializing in-memory persistence", e);
         }
+        initVersions();
     }
 
 
@@ -372,15 +440,29 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (!acceptEmptyIdShort && StringHelper.isBlank(submodelElement.getIdShort())) {
             throw new IllegalArgumentException("idShort most be non-empty");
         }
-        CollectionHelper.put(container,
-                container.stream()
-                        .filter(StringHelper.isBlank(submodelElement.getIdShort())
-                                ? x -> false
-                                : x -> !StringHelper.isBlank(x.getIdShort())
-                                        && x.getIdShort().equalsIgnoreCase(submodelElement.getIdShort()))
-                        .findFirst()
-                        .orElse(null),
-                submodelElement);
+        SubmodelElement existing = container.stream()
+                .filter(StringHelper.isBlank(submodelElement.getIdShort())
+                        ? x -> false
+                        : x -> !StringHelper.isBlank(x.getIdShort())
+                                && x.getIdShort().equalsIgnoreCase(submodelElement.getIdShort()))
+                .findFirst()
+                .orElse(null);
+        CollectionHelper.put(container, existing, submodelElement);
+        if (acceptEmptyIdShort) {
+            invalidateChildVersions(parentIdentifier);
+        }
+        else {
+            SubmodelElementIdentifier identifier = SubmodelElementIdentifier.builder()
+                    .submodelId(parentIdentifier.getSubmodelId())
+                    .idShortPath(IdShortPath.builder()
+                            .from(parentIdentifier.getIdShortPath())
+                            .idShort(Objects.nonNull(existing) ? existing.getIdShort() : submodelElement.getIdShort())
+                            .build())
+                    .build();
+            versions.remove(versionKey(identifier));
+            invalidateChildVersions(identifier);
+        }
+        updateVersions(parentIdentifier);
     }
 
 
@@ -394,6 +476,8 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
         if (SubmodelElementList.class.isAssignableFrom(parent.getClass())) {
             int index = Integer.parseInt(identifier.getIdShortPath().getElements().get(identifier.getIdShortPath().getElements().size() - 1).substring(1, 2));
             ((SubmodelElementList) parent).getValue().set(index, submodelElement);
+            invalidateChildVersions(identifier);
+            updateVersions(identifier);
             return;
         }
 
@@ -417,24 +501,64 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
                         .findFirst()
                         .orElse(null),
                 submodelElement);
+        invalidateChildVersions(identifier);
+        updateVersions(identifier);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Values are set directly on the stored elements, i.e. elements are neither copied nor replaced, and elements are
+     * resolved by navigating along the keys of their reference instead of collecting all references of the environment.
+     */
+    @Override
+    public Map<Reference, ElementValue> updateValues(Map<Reference, ? extends ElementValue> values) throws ResourceNotFoundException, ValueMappingException {
+        Ensure.requireNonNull(values, "values must be non-null");
+        Map<Reference, SubmodelElement> elements = new LinkedHashMap<>();
+        Map<Reference, ElementValue> result = new LinkedHashMap<>();
+        Map<Referable, Map<String, SubmodelElement>> childrenByIdShort = new IdentityHashMap<>();
+        for (Map.Entry<Reference, ? extends ElementValue> entry: values.entrySet()) {
+            SubmodelElement element = resolveSubmodelElement(entry.getKey(), childrenByIdShort);
+            ElementValue oldValue = ElementValueMapper.toValue(element);
+            if (Objects.isNull(entry.getValue()) || !oldValue.getClass().isAssignableFrom(entry.getValue().getClass())) {
+                throw new ValueMappingException(String.format("value type does not match element (reference: %s, expected type: %s)",
+                        ReferenceHelper.toString(entry.getKey()),
+                        oldValue.getClass().getSimpleName()));
+            }
+            elements.put(entry.getKey(), element);
+            result.put(entry.getKey(), oldValue);
+        }
+        for (Map.Entry<Reference, SubmodelElement> entry: elements.entrySet()) {
+            ElementValueMapper.setValue(entry.getValue(), values.get(entry.getKey()));
+            SubmodelElementIdentifier identifier = SubmodelElementIdentifier.fromReference(entry.getKey());
+            invalidateChildVersions(identifier);
+            updateVersions(identifier);
+        }
+        return result;
     }
 
 
     @Override
     public void save(AssetAdministrationShell assetAdministrationShell) {
         saveOrUpdateById(environment.getAssetAdministrationShells(), assetAdministrationShell);
+        versions.put(versionKeyForAssetAdministrationShell(assetAdministrationShell.getId()), nextVersion());
     }
 
 
     @Override
     public void save(ConceptDescription conceptDescription) {
         saveOrUpdateById(environment.getConceptDescriptions(), conceptDescription);
+        versions.put(versionKeyForConceptDescription(conceptDescription.getId()), nextVersion());
     }
 
 
     @Override
     public void save(Submodel submodel) {
         saveOrUpdateById(environment.getSubmodels(), submodel);
+        String versionKey = versionKeyForSubmodel(submodel.getId());
+        removeVersionsWithPrefix(versionKey + VERSION_KEY_SEPARATOR);
+        versions.put(versionKey, nextVersion());
     }
 
 
@@ -444,6 +568,205 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
     }
 
 
+    /**
+     * Resolves a reference to a SubmodelElement by navigating along its keys starting at the submodel. References
+     * starting with an AAS are resolved via {@link EnvironmentHelper}.
+     *
+     * @param reference the reference to resolve
+     * @param childrenByIdShort index of the children of already visited elements by their idShort; will be extended by
+     *            this call so that resolving many references with the same parent only searches the parent once
+     * @return the resolved element
+     * @throws ResourceNotFoundException if the element does not exist
+     */
+    private SubmodelElement resolveSubmodelElement(Reference reference, Map<Referable, Map<String, SubmodelElement>> childrenByIdShort)
+            throws ResourceNotFoundException {
+        Ensure.requireNonNull(reference, "reference must be non-null");
+        List<Key> keys = reference.getKeys();
+        if (Objects.isNull(keys) || keys.size() < 2 || !ReferenceHelper.isKeyType(keys.get(0), Submodel.class)) {
+            return EnvironmentHelper.resolve(reference, environment, SubmodelElement.class);
+        }
+        Referable current = filterById(environment.getSubmodels().stream(), keys.get(0).getValue())
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(reference));
+        for (int i = 1; i < keys.size(); i++) {
+            String value = keys.get(i).getValue();
+            if (SubmodelElementList.class.isAssignableFrom(current.getClass())) {
+                List<SubmodelElement> elements = ((SubmodelElementList) current).getValue();
+                int index = StringHelper.isBlank(value) || !value.chars().allMatch(Character::isDigit)
+                        ? -1
+                        : Integer.parseInt(value);
+                if (index < 0 || index >= elements.size()) {
+                    throw new ResourceNotFoundException(reference);
+                }
+                current = elements.get(index);
+                continue;
+            }
+            Collection<SubmodelElement> children;
+            if (Submodel.class.isAssignableFrom(current.getClass())) {
+                children = ((Submodel) current).getSubmodelElements();
+            }
+            else if (SubmodelElementCollection.class.isAssignableFrom(current.getClass())) {
+                children = ((SubmodelElementCollection) current).getValue();
+            }
+            else {
+                throw new ResourceNotFoundException(reference);
+            }
+            current = childrenByIdShort.computeIfAbsent(current, x -> children.stream()
+                    .filter(y -> Objects.nonNull(y.getIdShort()))
+                    .collect(Collectors.toMap(SubmodelElement::getIdShort, y -> y, (y, z) -> y)))
+                    .get(value);
+            if (Objects.isNull(current)) {
+                throw new ResourceNotFoundException(reference);
+            }
+        }
+        return (SubmodelElement) current;
+    }
+
+
+    private void initVersions() {
+        versions.clear();
+        if (Objects.isNull(environment)) {
+            return;
+        }
+        VersionInfo version = nextVersion();
+        environment.getAssetAdministrationShells().forEach(x -> versions.put(versionKeyForAssetAdministrationShell(x.getId()), version));
+        environment.getSubmodels().forEach(x -> versions.put(versionKeyForSubmodel(x.getId()), version));
+        environment.getConceptDescriptions().forEach(x -> versions.put(versionKeyForConceptDescription(x.getId()), version));
+    }
+
+
+    /**
+     * Finds the version of the closest parent of an element that already has a version. This is used for elements that
+     * have not been modified since the model has been loaded.
+     *
+     * @param reference the element
+     * @return the version of the closest versioned parent or a new version if there is none
+     */
+    private VersionInfo inheritedVersion(Reference reference) {
+        Key root = reference.getKeys().get(0);
+        if (!ReferenceHelper.isKeyType(root, Submodel.class)) {
+            return nextVersion();
+        }
+        SubmodelElementIdentifier identifier = SubmodelElementIdentifier.fromReference(reference);
+        IdShortPath idShortPath = identifier.getIdShortPath();
+        while (!idShortPath.isEmpty()) {
+            idShortPath = idShortPath.getParent();
+            VersionInfo result = versions.get(versionKey(identifier.getSubmodelId(), idShortPath));
+            if (Objects.nonNull(result)) {
+                return result;
+            }
+        }
+        return nextVersion();
+    }
+
+
+    private VersionInfo nextVersion() {
+        return VersionInfo.builder()
+                .version(versionCounter.incrementAndGet())
+                .lastModified(Instant.now())
+                .build();
+    }
+
+
+    /**
+     * Creates a new version for the element and all its parents up to the submodel.
+     *
+     * @param identifier the element
+     */
+    private void updateVersions(SubmodelElementIdentifier identifier) {
+        VersionInfo version = nextVersion();
+        IdShortPath idShortPath = identifier.getIdShortPath();
+        while (!idShortPath.isEmpty()) {
+            versions.put(versionKey(identifier.getSubmodelId(), idShortPath), version);
+            idShortPath = idShortPath.getParent();
+        }
+        versions.put(versionKeyForSubmodel(identifier.getSubmodelId()), version);
+    }
+
+
+    /**
+     * Removes versions of all (direct and indirect) children of an element so they will be re-created upon next request.
+     *
+     * @param identifier the element
+     */
+    private void invalidateChildVersions(SubmodelElementIdentifier identifier) {
+        String versionKey = versionKey(identifier);
+        if (identifier.getIdShortPath().isEmpty()) {
+            removeVersionsWithPrefix(versionKey + VERSION_KEY_SEPARATOR);
+        }
+        else {
+            removeVersionsWithPrefix(versionKey + ID_SHORT_PATH_SEPARATOR);
+            removeVersionsWithPrefix(versionKey + ID_SHORT_PATH_INDEX_START);
+        }
+    }
+
+
+    private void removeVersionsWithPrefix(String prefix) {
+        versions.subMap(prefix, true, prefix + Character.MAX_VALUE, false).clear();
+    }
+
+
+    private static SubmodelElementIdentifier getParentIdentifier(SubmodelElementIdentifier identifier) {
+        return SubmodelElementIdentifier.builder()
+                .submodelId(identifier.getSubmodelId())
+                .idShortPath(identifier.getIdShortPath().getParent())
+                .build();
+    }
+
+
+    private static String versionKey(Reference reference) {
+        Ensure.require(!ReferenceHelper.isNullOrEmpty(reference), "reference must contain at least one key");
+        Key root = reference.getKeys().get(0);
+        if (reference.getKeys().size() == 1 && ReferenceHelper.isKeyType(root, AssetAdministrationShell.class)) {
+            return versionKeyForAssetAdministrationShell(root.getValue());
+        }
+        if (ReferenceHelper.isKeyType(root, ConceptDescription.class)) {
+            return versionKeyForConceptDescription(root.getValue());
+        }
+        return versionKey(SubmodelElementIdentifier.fromReference(reference));
+    }
+
+
+    private static String versionKey(SubmodelElementIdentifier identifier) {
+        return versionKey(identifier.getSubmodelId(), identifier.getIdShortPath());
+    }
+
+
+    private static String versionKey(String submodelId, IdShortPath idShortPath) {
+        // submodel id is encoded as it may contain the separator and therefore break prefix-based lookup of children
+        return idShortPath.isEmpty()
+                ? versionKeyForSubmodel(submodelId)
+                : versionKeyForSubmodel(submodelId) + VERSION_KEY_SEPARATOR + normalizeVersionKey(idShortPath.toString());
+    }
+
+
+    private static String versionKeyForSubmodel(String id) {
+        return VERSION_KEY_PREFIX_SUBMODEL + EncodingHelper.base64UrlEncode(normalizeVersionKey(id));
+    }
+
+
+    private static String versionKeyForAssetAdministrationShell(String id) {
+        return VERSION_KEY_PREFIX_AAS + normalizeVersionKey(id);
+    }
+
+
+    private static String versionKeyForConceptDescription(String id) {
+        return VERSION_KEY_PREFIX_CONCEPT_DESCRIPTION + normalizeVersionKey(id);
+    }
+
+
+    /**
+     * Ids and idShorts are matched case-insensitive when saving or inserting elements, therefore version keys must be
+     * case-insensitive as well so that different spellings of the same element share a single version.
+     *
+     * @param value the id or idShort path
+     * @return the normalized value
+     */
+    private static String normalizeVersionKey(String value) {
+        return Objects.isNull(value) ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+
     private static <T> Stream<T> filterByHasValueOnlySerialization(Stream<T> stream) {
         return stream.filter(ElementValueHelper::isValueOnlySupported);
     }
@@ -517,9 +840,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
 
 
     private static <T extends Referable> T prepareResult(T result, QueryModifier modifier) {
-        return QueryModifierHelper.applyQueryModifier(
-                DeepCopyHelper.deepCopy(result),
-                modifier);
+        return QueryModifierHelper.copyWithQueryModifier(result, modifier);
     }
 
 
@@ -574,11 +895,7 @@ public class PersistenceInMemory implements Persistence<PersistenceInMemoryConfi
 
     private static <T extends Referable> Page<T> preparePagedResult(Stream<T> input, QueryModifier modifier, PagingInfo paging) {
         Page<T> result = preparePagedResult(input, paging);
-        result.setContent(QueryModifierHelper.applyQueryModifier(
-                result.getContent().stream()
-                        .map(DeepCopyHelper::deepCopy)
-                        .collect(Collectors.toList()),
-                modifier));
+        result.setContent(QueryModifierHelper.copyWithQueryModifier(result.getContent(), modifier));
         return result;
     }
 
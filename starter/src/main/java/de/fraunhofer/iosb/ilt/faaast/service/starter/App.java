@@ -35,6 +35,7 @@ import de.fraunhofer.iosb.ilt.faaast.service.dataformat.EnvironmentSerialization
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.http.HttpEndpointConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.endpoint.opcua.OpcUaEndpointConfig;
 import de.fraunhofer.iosb.ilt.faaast.service.exception.InvalidConfigurationException;
+import de.fraunhofer.iosb.ilt.faaast.service.model.EnvironmentContext;
 import de.fraunhofer.iosb.ilt.faaast.service.model.exception.ValidationException;
 import de.fraunhofer.iosb.ilt.faaast.service.model.serialization.DataFormat;
 import de.fraunhofer.iosb.ilt.faaast.service.model.validation.ModelValidator;
@@ -286,7 +287,17 @@ public class App implements Runnable {
             return;
         }
         try {
-            model = EnvironmentSerializationManager.deserialize(config.getPersistence().getInitialModelFile()).getEnvironment();
+            if (Objects.isNull(model)) {
+                // share the parsed model with persistence and file storage so that the model file is only parsed once
+                EnvironmentContext initialModel = EnvironmentSerializationManager.deserialize(config.getPersistence().getInitialModelFile());
+                model = initialModel.getEnvironment();
+                config.getPersistence().setInitialModel(model);
+                if (Objects.nonNull(config.getFileStorage())
+                        && Objects.isNull(config.getFileStorage().getInitialModel())
+                        && Objects.equals(config.getPersistence().getInitialModelFile(), config.getFileStorage().getInitialModelFile())) {
+                    config.getFileStorage().setInitialModel(initialModel);
+                }
+            }
             ModelValidator.validate(model, config.getCore().getValidationOnLoad());
             LOGGER.info("Model successfully validated");
         }